@@ -18,43 +18,49 @@
 
 package org.apache.skywalking.apm.collector.agent.grpc.provider.handler;
 
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import org.apache.skywalking.apm.collector.analysis.segment.parser.define.AnalysisSegmentParserModule;
-import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentParseService;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentIngestService;
 import org.apache.skywalking.apm.collector.core.module.ModuleManager;
 import org.apache.skywalking.apm.collector.server.grpc.GRPCHandler;
 import org.apache.skywalking.apm.network.proto.*;
 import org.slf4j.*;
 
 /**
+ * The segments are handed over to the ingestion stage, the next segment of the stream is requested only after the
+ * previous one is accepted, so the agents are slowed down by the gRPC flow control when the ingestion queue is full.
+ *
  * @author peng-yongsheng
  */
 public class TraceSegmentServiceHandler extends TraceSegmentServiceGrpc.TraceSegmentServiceImplBase implements GRPCHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(TraceSegmentServiceHandler.class);
 
-    private final ISegmentParseService segmentParseService;
+    private final ISegmentIngestService segmentIngestService;
     private final Boolean debug;
 
     public TraceSegmentServiceHandler(ModuleManager moduleManager) {
-        this.segmentParseService = moduleManager.find(AnalysisSegmentParserModule.NAME).getService(ISegmentParseService.class);
+        this.segmentIngestService = moduleManager.find(AnalysisSegmentParserModule.NAME).getService(ISegmentIngestService.class);
         this.debug = System.getProperty("debug") != null;
     }
 
     @Override public StreamObserver<UpstreamSegment> collect(StreamObserver<Downstream> responseObserver) {
+        if (responseObserver instanceof ServerCallStreamObserver) {
+            ServerCallStreamObserver<Downstream> serverCallObserver = (ServerCallStreamObserver<Downstream>)responseObserver;
+            serverCallObserver.disableAutoInboundFlowControl();
+            serverCallObserver.request(1);
+            return new FlowControlledSegmentObserver(serverCallObserver);
+        }
+
         return new StreamObserver<UpstreamSegment>() {
             @Override public void onNext(UpstreamSegment segment) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("receive segment");
-                }
-
-                segmentParseService.parse(segment, ISegmentParseService.Source.Agent);
-
-                if (debug) {
-                    long count = SegmentCounter.INSTANCE.incrementAndGet();
-                    if (count % 100000 == 0) {
-                        logger.info("received segment count: {}", count);
-                    }
+                received();
+                try {
+                    segmentIngestService.put(segment);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.error(e.getMessage(), e);
                 }
             }
 
@@ -69,4 +75,83 @@ public class TraceSegmentServiceHandler extends TraceSegmentServiceGrpc.TraceSeg
             }
         };
     }
+
+    private void received() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("receive segment");
+        }
+
+        if (debug) {
+            long count = SegmentCounter.INSTANCE.incrementAndGet();
+            if (count % 100000 == 0) {
+                logger.info("received segment count: {}", count);
+            }
+        }
+    }
+
+    /**
+     * Keeps the segment which isn't accepted by the full queue, and offers it again when the queue has room. The
+     * capacity listener is registered outside the lock, because it may be run by the registering thread directly.
+     */
+    private class FlowControlledSegmentObserver implements StreamObserver<UpstreamSegment> {
+
+        private final ServerCallStreamObserver<Downstream> responseObserver;
+        private UpstreamSegment pending;
+        private boolean completed;
+
+        private FlowControlledSegmentObserver(ServerCallStreamObserver<Downstream> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        @Override public void onNext(UpstreamSegment segment) {
+            received();
+            synchronized (this) {
+                if (segmentIngestService.offer(segment)) {
+                    responseObserver.request(1);
+                    return;
+                }
+                pending = segment;
+            }
+            segmentIngestService.onCapacity(this::retry);
+        }
+
+        private void retry() {
+            synchronized (this) {
+                if (pending == null) {
+                    return;
+                }
+                if (segmentIngestService.offer(pending)) {
+                    pending = null;
+                    if (completed) {
+                        complete();
+                    } else {
+                        responseObserver.request(1);
+                    }
+                    return;
+                }
+            }
+            segmentIngestService.onCapacity(this::retry);
+        }
+
+        @Override public void onError(Throwable throwable) {
+            logger.error(throwable.getMessage(), throwable);
+            synchronized (this) {
+                pending = null;
+                responseObserver.onCompleted();
+            }
+        }
+
+        @Override public synchronized void onCompleted() {
+            if (pending != null) {
+                completed = true;
+            } else {
+                complete();
+            }
+        }
+
+        private void complete() {
+            responseObserver.onNext(Downstream.newBuilder().build());
+            responseObserver.onCompleted();
+        }
+    }
 }
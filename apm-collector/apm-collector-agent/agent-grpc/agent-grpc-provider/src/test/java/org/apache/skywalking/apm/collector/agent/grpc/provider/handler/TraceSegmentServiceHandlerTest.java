@@ -17,8 +17,10 @@
 
 package org.apache.skywalking.apm.collector.agent.grpc.provider.handler;
 
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
-import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentParseService;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentIngestService;
 import org.apache.skywalking.apm.collector.core.module.MockModule;
 import org.apache.skywalking.apm.collector.core.module.ModuleManager;
 import org.apache.skywalking.apm.network.proto.Downstream;
@@ -31,8 +33,13 @@ import org.mockito.internal.util.reflection.Whitebox;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.when;
 
 /**
@@ -44,7 +51,7 @@ public class TraceSegmentServiceHandlerTest {
     private TraceSegmentServiceHandler traceSegmentServiceHandler;
 
     @Mock
-    private ISegmentParseService segmentParseService;
+    private ISegmentIngestService segmentIngestService;
 
     @Before
     public void setUp() {
@@ -52,7 +59,7 @@ public class TraceSegmentServiceHandlerTest {
         ModuleManager moduleManager = mock(ModuleManager.class);
         when(moduleManager.find(anyString())).then(invocation -> new MockModule());
         traceSegmentServiceHandler = new TraceSegmentServiceHandler(moduleManager);
-        Whitebox.setInternalState(traceSegmentServiceHandler, "segmentParseService", segmentParseService);
+        Whitebox.setInternalState(traceSegmentServiceHandler, "segmentIngestService", segmentIngestService);
 
     }
 
@@ -80,4 +87,35 @@ public class TraceSegmentServiceHandlerTest {
         upstreamSegmentStreamObserver.onError(new IllegalArgumentException("exception"));
         upstreamSegmentStreamObserver.onCompleted();
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void collectWithFlowControl() {
+        ServerCallStreamObserver<Downstream> responseObserver = mock(ServerCallStreamObserver.class);
+        AtomicReference<Runnable> capacityListener = new AtomicReference<>();
+        doAnswer(invocation -> {
+            capacityListener.set(invocation.getArgumentAt(0, Runnable.class));
+            return null;
+        }).when(segmentIngestService).onCapacity(any(Runnable.class));
+
+        StreamObserver<UpstreamSegment> upstreamSegmentStreamObserver = traceSegmentServiceHandler.collect(responseObserver);
+        verify(responseObserver).disableAutoInboundFlowControl();
+        verify(responseObserver, times(1)).request(1);
+
+        UpstreamSegment upstreamSegment = UpstreamSegment.newBuilder().build();
+        when(segmentIngestService.offer(upstreamSegment)).thenReturn(true);
+        upstreamSegmentStreamObserver.onNext(upstreamSegment);
+        verify(responseObserver, times(2)).request(1);
+
+        when(segmentIngestService.offer(upstreamSegment)).thenReturn(false);
+        upstreamSegmentStreamObserver.onNext(upstreamSegment);
+        upstreamSegmentStreamObserver.onCompleted();
+        verify(responseObserver, times(2)).request(1);
+        verify(responseObserver, never()).onCompleted();
+
+        when(segmentIngestService.offer(upstreamSegment)).thenReturn(true);
+        capacityListener.get().run();
+        verify(responseObserver, times(2)).request(1);
+        verify(responseObserver).onCompleted();
+    }
+}
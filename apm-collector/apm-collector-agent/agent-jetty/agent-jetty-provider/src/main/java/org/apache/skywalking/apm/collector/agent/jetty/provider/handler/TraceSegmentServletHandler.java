@@ -24,22 +24,24 @@ import java.io.*;
 import javax.servlet.http.HttpServletRequest;
 import org.apache.skywalking.apm.collector.agent.jetty.provider.handler.reader.*;
 import org.apache.skywalking.apm.collector.analysis.segment.parser.define.AnalysisSegmentParserModule;
-import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentParseService;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentIngestService;
 import org.apache.skywalking.apm.collector.core.module.ModuleManager;
 import org.apache.skywalking.apm.collector.server.jetty.JettyJsonHandler;
 import org.slf4j.*;
 
 /**
+ * HTTP has no flow control to pause the agents, so the Jetty threads block while the ingestion queue is full.
+ *
  * @author peng-yongsheng
  */
 public class TraceSegmentServletHandler extends JettyJsonHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(TraceSegmentServletHandler.class);
 
-    private final ISegmentParseService segmentParseService;
+    private final ISegmentIngestService segmentIngestService;
 
     public TraceSegmentServletHandler(ModuleManager moduleManager) {
-        this.segmentParseService = moduleManager.find(AnalysisSegmentParserModule.NAME).getService(ISegmentParseService.class);
+        this.segmentIngestService = moduleManager.find(AnalysisSegmentParserModule.NAME).getService(ISegmentIngestService.class);
     }
 
     @Override public String pathSpec() {
@@ -73,7 +75,12 @@ public class TraceSegmentServletHandler extends JettyJsonHandler {
         reader.beginArray();
         while (reader.hasNext()) {
             TraceSegment traceSegment = jsonReader.read(reader);
-            segmentParseService.parse(traceSegment.getUpstreamSegment(), ISegmentParseService.Source.Agent);
+            try {
+                segmentIngestService.put(traceSegment.getUpstreamSegment());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getMessage());
+            }
         }
         reader.endArray();
     }
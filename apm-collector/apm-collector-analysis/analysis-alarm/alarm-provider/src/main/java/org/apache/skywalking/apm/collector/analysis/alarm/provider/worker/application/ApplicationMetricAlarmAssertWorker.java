@@ -106,10 +106,5 @@ public class ApplicationMetricAlarmAssertWorker extends AlarmAssertWorker<Applic
         public ApplicationMetricAlarmAssertWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMetricAlarmAssertWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ApplicationAlarmL
 public class ApplicationMetricAlarmListDayPersistenceWorker extends MergePersistenceWorker<ApplicationAlarmList> {
 
     public ApplicationMetricAlarmListDayPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationAlarmList::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ApplicationMetricAlarmListDayPersistenceWorker extends MergePersist
         @Override public ApplicationMetricAlarmListDayPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMetricAlarmListDayPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ApplicationAlarmL
 public class ApplicationMetricAlarmListHourPersistenceWorker extends MergePersistenceWorker<ApplicationAlarmList> {
 
     public ApplicationMetricAlarmListHourPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationAlarmList::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ApplicationMetricAlarmListHourPersistenceWorker extends MergePersis
         @Override public ApplicationMetricAlarmListHourPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMetricAlarmListHourPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ApplicationAlarmL
 public class ApplicationMetricAlarmListMinutePersistenceWorker extends MergePersistenceWorker<ApplicationAlarmList> {
 
     public ApplicationMetricAlarmListMinutePersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationAlarmList::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ApplicationMetricAlarmListMinutePersistenceWorker extends MergePers
         @Override public ApplicationMetricAlarmListMinutePersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMetricAlarmListMinutePersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
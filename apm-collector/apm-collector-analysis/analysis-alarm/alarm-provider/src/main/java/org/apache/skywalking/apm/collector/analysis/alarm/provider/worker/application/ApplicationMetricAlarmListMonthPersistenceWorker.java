@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ApplicationAlarmL
 public class ApplicationMetricAlarmListMonthPersistenceWorker extends MergePersistenceWorker<ApplicationAlarmList> {
 
     public ApplicationMetricAlarmListMonthPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationAlarmList::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ApplicationMetricAlarmListMonthPersistenceWorker extends MergePersi
         @Override public ApplicationMetricAlarmListMonthPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMetricAlarmListMonthPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
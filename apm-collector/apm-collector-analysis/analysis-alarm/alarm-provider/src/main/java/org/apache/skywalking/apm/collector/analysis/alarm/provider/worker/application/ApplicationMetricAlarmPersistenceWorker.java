@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ApplicationAlarm;
 public class ApplicationMetricAlarmPersistenceWorker extends MergePersistenceWorker<ApplicationAlarm> {
 
     public ApplicationMetricAlarmPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationAlarm::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ApplicationMetricAlarmPersistenceWorker extends MergePersistenceWor
         @Override public ApplicationMetricAlarmPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMetricAlarmPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -99,10 +99,5 @@ public class ApplicationReferenceMetricAlarmAssertWorker extends AlarmAssertWork
         @Override public ApplicationReferenceMetricAlarmAssertWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationReferenceMetricAlarmAssertWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ApplicationRefere
 public class ApplicationReferenceMetricAlarmListPersistenceWorker extends MergePersistenceWorker<ApplicationReferenceAlarmList> {
 
     public ApplicationReferenceMetricAlarmListPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationReferenceAlarmList::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class ApplicationReferenceMetricAlarmListPersistenceWorker extends MergeP
         public ApplicationReferenceMetricAlarmListPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationReferenceMetricAlarmListPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ApplicationRefere
 public class ApplicationReferenceMetricAlarmPersistenceWorker extends MergePersistenceWorker<ApplicationReferenceAlarm> {
 
     public ApplicationReferenceMetricAlarmPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationReferenceAlarm::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ApplicationReferenceMetricAlarmPersistenceWorker extends MergePersi
         @Override public ApplicationReferenceMetricAlarmPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationReferenceMetricAlarmPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -115,10 +115,5 @@ public class InstanceMetricAlarmAssertWorker extends AlarmAssertWorker<InstanceM
         public InstanceMetricAlarmAssertWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMetricAlarmAssertWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.InstanceAlarmList
 public class InstanceMetricAlarmListPersistenceWorker extends MergePersistenceWorker<InstanceAlarmList> {
 
     public InstanceMetricAlarmListPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceAlarmList::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class InstanceMetricAlarmListPersistenceWorker extends MergePersistenceWo
         @Override public InstanceMetricAlarmListPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMetricAlarmListPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.InstanceAlarm;
 public class InstanceMetricAlarmPersistenceWorker extends MergePersistenceWorker<InstanceAlarm> {
 
     public InstanceMetricAlarmPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceAlarm::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class InstanceMetricAlarmPersistenceWorker extends MergePersistenceWorker
         @Override public InstanceMetricAlarmPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMetricAlarmPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
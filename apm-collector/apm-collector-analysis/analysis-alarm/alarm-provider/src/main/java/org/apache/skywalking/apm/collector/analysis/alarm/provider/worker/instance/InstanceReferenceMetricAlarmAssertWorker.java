@@ -109,10 +109,5 @@ public class InstanceReferenceMetricAlarmAssertWorker extends AlarmAssertWorker<
         @Override public InstanceReferenceMetricAlarmAssertWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceReferenceMetricAlarmAssertWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.InstanceReference
 public class InstanceReferenceMetricAlarmListPersistenceWorker extends MergePersistenceWorker<InstanceReferenceAlarmList> {
 
     public InstanceReferenceMetricAlarmListPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceReferenceAlarmList::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class InstanceReferenceMetricAlarmListPersistenceWorker extends MergePers
         @Override public InstanceReferenceMetricAlarmListPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceReferenceMetricAlarmListPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.InstanceReference
 public class InstanceReferenceMetricAlarmPersistenceWorker extends MergePersistenceWorker<InstanceReferenceAlarm> {
 
     public InstanceReferenceMetricAlarmPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceReferenceAlarm::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class InstanceReferenceMetricAlarmPersistenceWorker extends MergePersiste
         @Override public InstanceReferenceMetricAlarmPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceReferenceMetricAlarmPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -108,10 +108,5 @@ public class ServiceMetricAlarmAssertWorker extends AlarmAssertWorker<ServiceMet
         public ServiceMetricAlarmAssertWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceMetricAlarmAssertWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ServiceAlarmList;
 public class ServiceMetricAlarmListPersistenceWorker extends MergePersistenceWorker<ServiceAlarmList> {
 
     public ServiceMetricAlarmListPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceAlarmList::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ServiceMetricAlarmListPersistenceWorker extends MergePersistenceWor
         @Override public ServiceMetricAlarmListPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceMetricAlarmListPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ServiceAlarm;
 public class ServiceMetricAlarmPersistenceWorker extends MergePersistenceWorker<ServiceAlarm> {
 
     public ServiceMetricAlarmPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceAlarm::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ServiceMetricAlarmPersistenceWorker extends MergePersistenceWorker<
         @Override public ServiceMetricAlarmPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceMetricAlarmPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -103,10 +103,5 @@ public class ServiceReferenceMetricAlarmAssertWorker extends AlarmAssertWorker<S
         @Override public ServiceReferenceMetricAlarmAssertWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceReferenceMetricAlarmAssertWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
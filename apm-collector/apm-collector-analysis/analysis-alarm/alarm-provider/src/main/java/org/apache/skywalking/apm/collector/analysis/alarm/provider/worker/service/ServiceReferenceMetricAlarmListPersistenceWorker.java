@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ServiceReferenceA
 public class ServiceReferenceMetricAlarmListPersistenceWorker extends MergePersistenceWorker<ServiceReferenceAlarmList> {
 
     public ServiceReferenceMetricAlarmListPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceReferenceAlarmList::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ServiceReferenceMetricAlarmListPersistenceWorker extends MergePersi
         @Override public ServiceReferenceMetricAlarmListPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceReferenceMetricAlarmListPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.alarm.ServiceReferenceA
 public class ServiceReferenceMetricAlarmPersistenceWorker extends MergePersistenceWorker<ServiceReferenceAlarm> {
 
     public ServiceReferenceMetricAlarmPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceReferenceAlarm::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class ServiceReferenceMetricAlarmPersistenceWorker extends MergePersisten
         @Override public ServiceReferenceMetricAlarmPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceReferenceMetricAlarmPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
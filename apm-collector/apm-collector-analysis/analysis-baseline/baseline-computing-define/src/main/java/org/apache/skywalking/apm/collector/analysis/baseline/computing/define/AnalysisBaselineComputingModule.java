@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.analysis.baseline.computing.define;
 
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.define.service.IBaselineService;
 import org.apache.skywalking.apm.collector.core.module.ModuleDefine;
 
 /**
@@ -34,6 +35,6 @@ public class AnalysisBaselineComputingModule extends ModuleDefine {
     }
 
     @Override public Class[] services() {
-        return new Class[0];
+        return new Class[] {IBaselineService.class};
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.baseline.computing.define.service;
+
+/**
+ * The response time in milliseconds and the throughput in calls per minute, the expected value and the normal range.
+ */
+public class Baseline {
+
+    private final long samples;
+    private final double responseTime;
+    private final double responseTimeUpperBound;
+    private final double throughput;
+    private final double throughputLowerBound;
+    private final double throughputUpperBound;
+
+    public Baseline(long samples, double responseTime, double responseTimeUpperBound, double throughput,
+        double throughputLowerBound, double throughputUpperBound) {
+        this.samples = samples;
+        this.responseTime = responseTime;
+        this.responseTimeUpperBound = responseTimeUpperBound;
+        this.throughput = throughput;
+        this.throughputLowerBound = throughputLowerBound;
+        this.throughputUpperBound = throughputUpperBound;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public double getResponseTime() {
+        return responseTime;
+    }
+
+    public double getResponseTimeUpperBound() {
+        return responseTimeUpperBound;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getThroughputLowerBound() {
+        return throughputLowerBound;
+    }
+
+    public double getThroughputUpperBound() {
+        return throughputUpperBound;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.baseline.computing.define.service;
+
+import org.apache.skywalking.apm.collector.core.module.Service;
+
+/**
+ * The baselines of the services and the applications, learned from the minute metrics of the same hour of the week.
+ */
+public interface IBaselineService extends Service {
+
+    /**
+     * @return null if the hour of the given minute time bucket has no history.
+     */
+    Baseline getServiceBaseline(int serviceId, long minuteTimeBucket);
+
+    /**
+     * @return null if the hour of the given minute time bucket has no history.
+     */
+    Baseline getApplicationBaseline(int applicationId, long minuteTimeBucket);
+}
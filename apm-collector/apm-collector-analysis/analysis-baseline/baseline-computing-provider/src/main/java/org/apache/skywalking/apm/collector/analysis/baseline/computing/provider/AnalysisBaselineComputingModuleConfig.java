@@ -24,4 +24,41 @@ import org.apache.skywalking.apm.collector.core.module.ModuleConfig;
  * @author peng-yongsheng
  */
 class AnalysisBaselineComputingModuleConfig extends ModuleConfig {
+
+    private double ewmaAlpha = 0.1;
+    private double weeklyDecay = 0.5;
+    private String snapshotPath = "../baseline/";
+    private int snapshotInterval = 5;
+
+    double getEwmaAlpha() {
+        return ewmaAlpha;
+    }
+
+    void setEwmaAlpha(double ewmaAlpha) {
+        this.ewmaAlpha = ewmaAlpha;
+    }
+
+    double getWeeklyDecay() {
+        return weeklyDecay;
+    }
+
+    void setWeeklyDecay(double weeklyDecay) {
+        this.weeklyDecay = weeklyDecay;
+    }
+
+    String getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    void setSnapshotPath(String snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    void setSnapshotInterval(int snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
 }
@@ -19,6 +19,11 @@
 package org.apache.skywalking.apm.collector.analysis.baseline.computing.provider;
 
 import org.apache.skywalking.apm.collector.analysis.baseline.computing.define.AnalysisBaselineComputingModule;
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.define.service.IBaselineService;
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.engine.*;
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.graph.BaselineGraph;
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.service.BaselineService;
+import org.apache.skywalking.apm.collector.analysis.metric.define.AnalysisMetricModule;
 import org.apache.skywalking.apm.collector.core.module.*;
 import org.apache.skywalking.apm.collector.core.module.ModuleDefine;
 
@@ -32,6 +37,7 @@ public class AnalysisBaselineComputingModuleProvider extends ModuleProvider {
 
     private static final String NAME = "default";
     private final AnalysisBaselineComputingModuleConfig config;
+    private BaselineEngine engine;
 
     public AnalysisBaselineComputingModuleProvider() {
         super();
@@ -50,16 +56,24 @@ public class AnalysisBaselineComputingModuleProvider extends ModuleProvider {
         return config;
     }
 
-    @Override public void prepare() {
+    @Override public void prepare() throws ServiceNotProvidedException {
+        this.engine = new BaselineEngine(config.getEwmaAlpha(), (float)config.getWeeklyDecay());
+        this.registerServiceImplementation(IBaselineService.class, new BaselineService(engine));
     }
 
     @Override public void start() {
+        BaselineSnapshot snapshot = new BaselineSnapshot(engine, config.getSnapshotPath());
+        snapshot.restore();
+
+        new BaselineGraph(engine).create();
+
+        snapshot.start(config.getSnapshotInterval());
     }
 
     @Override public void notifyAfterCompleted() {
     }
 
     @Override public String[] requiredModules() {
-        return new String[0];
+        return new String[] {AnalysisMetricModule.NAME};
     }
 }
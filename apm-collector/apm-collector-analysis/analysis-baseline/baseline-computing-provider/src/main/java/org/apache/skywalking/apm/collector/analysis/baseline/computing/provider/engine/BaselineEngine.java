@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.define.service.Baseline;
+
+/**
+ * Learns the baselines incrementally from the minute metrics, the memory is constant for each service and application,
+ * no history is read from the storage.
+ */
+public class BaselineEngine {
+
+    private final Map<Integer, EntityBaseline> services = new ConcurrentHashMap<>();
+    private final Map<Integer, EntityBaseline> applications = new ConcurrentHashMap<>();
+    private final double alpha;
+    private final float weeklyDecay;
+
+    public BaselineEngine(double alpha, float weeklyDecay) {
+        this.alpha = alpha;
+        this.weeklyDecay = weeklyDecay;
+    }
+
+    public void serviceMinute(int serviceId, long minuteTimeBucket, long calls, long durationSum) {
+        services.computeIfAbsent(serviceId, id -> new EntityBaseline()).minute(minuteTimeBucket, calls, durationSum, alpha, weeklyDecay);
+    }
+
+    public void applicationMinute(int applicationId, long minuteTimeBucket, long calls, long durationSum) {
+        applications.computeIfAbsent(applicationId, id -> new EntityBaseline()).minute(minuteTimeBucket, calls, durationSum, alpha, weeklyDecay);
+    }
+
+    public Baseline serviceBaseline(int serviceId, long minuteTimeBucket) {
+        EntityBaseline baseline = services.get(serviceId);
+        return baseline == null ? null : baseline.baseline(minuteTimeBucket);
+    }
+
+    public Baseline applicationBaseline(int applicationId, long minuteTimeBucket) {
+        EntityBaseline baseline = applications.get(applicationId);
+        return baseline == null ? null : baseline.baseline(minuteTimeBucket);
+    }
+
+    void write(DataOutput output) throws IOException {
+        write(services, output);
+        write(applications, output);
+    }
+
+    void read(DataInput input) throws IOException {
+        read(services, input);
+        read(applications, input);
+    }
+
+    private void write(Map<Integer, EntityBaseline> baselines, DataOutput output) throws IOException {
+        output.writeInt(baselines.size());
+        for (Map.Entry<Integer, EntityBaseline> entry : baselines.entrySet()) {
+            output.writeInt(entry.getKey());
+            entry.getValue().write(output);
+        }
+    }
+
+    private void read(Map<Integer, EntityBaseline> baselines, DataInput input) throws IOException {
+        int count = input.readInt();
+        for (int i = 0; i < count; i++) {
+            int id = input.readInt();
+            EntityBaseline baseline = new EntityBaseline();
+            baseline.read(input);
+            baselines.put(id, baseline);
+        }
+    }
+}
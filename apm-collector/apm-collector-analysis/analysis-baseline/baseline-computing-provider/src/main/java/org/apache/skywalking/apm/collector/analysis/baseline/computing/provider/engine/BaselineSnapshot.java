@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Saves the baselines into a local binary file periodically and restores them at startup. The file is written to a
+ * temporary file first and renamed, so a crash never leaves a broken snapshot.
+ */
+public class BaselineSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(BaselineSnapshot.class);
+
+    private static final String FILE_NAME = "baseline.snapshot";
+    private static final int VERSION = 1;
+
+    private final BaselineEngine engine;
+    private final File file;
+    private final File tempFile;
+
+    public BaselineSnapshot(BaselineEngine engine, String path) {
+        this.engine = engine;
+        this.file = new File(path, FILE_NAME);
+        this.tempFile = new File(path, FILE_NAME + ".tmp");
+    }
+
+    public void restore() {
+        if (!file.exists()) {
+            return;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (input.readInt() != VERSION) {
+                logger.warn("Baseline snapshot {} is in an unknown version, ignored.", file.getAbsolutePath());
+                return;
+            }
+            engine.read(input);
+            logger.info("Baseline snapshot restored from {}", file.getAbsolutePath());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Restore baseline snapshot failure, start with empty baselines.", e);
+        }
+    }
+
+    public void start(int intervalMinutes) {
+        Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(
+            new RunnableWithExceptionProtection(this::save,
+                t -> logger.error("Save baseline snapshot failure.", t)), intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    void save() {
+        try {
+            File directory = file.getParentFile();
+            if (directory != null && !directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Create baseline snapshot directory failure: " + directory.getAbsolutePath());
+            }
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                output.writeInt(VERSION);
+                engine.write(output);
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+}
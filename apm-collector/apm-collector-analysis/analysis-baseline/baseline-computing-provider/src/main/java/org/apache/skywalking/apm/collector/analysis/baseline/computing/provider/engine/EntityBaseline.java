@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.define.service.Baseline;
+
+/**
+ * The baseline of one service or application, one estimator for each hour of the week. The minute metrics are emitted
+ * by the persistence workers again and again with the merged values while the minute is open, so the latest values of
+ * a minute are kept and learned only when a later minute arrives.
+ */
+class EntityBaseline {
+
+    static final int SLOTS = 7 * 24;
+
+    private final SlotEstimator[] slots = new SlotEstimator[SLOTS];
+    private long pendingTimeBucket;
+    private long pendingCalls;
+    private long pendingDurationSum;
+
+    synchronized void minute(long minuteTimeBucket, long calls, long durationSum, double alpha, float weeklyDecay) {
+        if (minuteTimeBucket < pendingTimeBucket) {
+            return;
+        }
+        if (minuteTimeBucket > pendingTimeBucket) {
+            learn(alpha, weeklyDecay);
+            pendingTimeBucket = minuteTimeBucket;
+        }
+        pendingCalls = calls;
+        pendingDurationSum = durationSum;
+    }
+
+    synchronized Baseline baseline(long minuteTimeBucket) {
+        SlotEstimator slot = slots[slot(minuteTimeBucket)];
+        return slot == null ? null : slot.toBaseline();
+    }
+
+    private void learn(double alpha, float weeklyDecay) {
+        if (pendingCalls <= 0) {
+            return;
+        }
+        int slot = slot(pendingTimeBucket);
+        if (slots[slot] == null) {
+            slots[slot] = new SlotEstimator();
+        }
+        slots[slot].update((double)pendingDurationSum / pendingCalls, pendingCalls, week(pendingTimeBucket), alpha, weeklyDecay);
+    }
+
+    synchronized void write(DataOutput output) throws IOException {
+        int count = 0;
+        for (SlotEstimator slot : slots) {
+            if (slot != null) {
+                count++;
+            }
+        }
+        output.writeShort(count);
+        for (int i = 0; i < SLOTS; i++) {
+            if (slots[i] != null) {
+                output.writeShort(i);
+                slots[i].write(output);
+            }
+        }
+    }
+
+    synchronized void read(DataInput input) throws IOException {
+        int count = input.readShort();
+        for (int i = 0; i < count; i++) {
+            int slot = input.readShort();
+            slots[slot] = new SlotEstimator();
+            slots[slot].read(input);
+        }
+    }
+
+    /**
+     * @return the hour of the week, starts from Monday 00:00.
+     */
+    static int slot(long minuteTimeBucket) {
+        int hour = (int)(minuteTimeBucket / 100 % 100);
+        return (date(minuteTimeBucket).getDayOfWeek().getValue() - 1) * 24 + hour;
+    }
+
+    /**
+     * @return the number of the weeks since epoch, the weeks start from Monday.
+     */
+    static long week(long minuteTimeBucket) {
+        return Math.floorDiv(date(minuteTimeBucket).toEpochDay() + 3, 7);
+    }
+
+    private static LocalDate date(long minuteTimeBucket) {
+        long day = minuteTimeBucket / 10000;
+        return LocalDate.of((int)(day / 10000), (int)(day / 100 % 100), (int)(day % 100));
+    }
+}
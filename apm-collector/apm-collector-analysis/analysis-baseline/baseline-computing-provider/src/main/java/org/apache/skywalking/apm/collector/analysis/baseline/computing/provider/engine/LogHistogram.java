@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A fixed size histogram with exponentially growing buckets, the quantiles are estimated within the relative error of
+ * the bucket growth. The counts are float, so the history can be decayed.
+ */
+class LogHistogram {
+
+    static final int BUCKETS = 32;
+    private static final double GROWTH = 1.5;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+
+    private final float[] counts = new float[BUCKETS];
+
+    void add(double value) {
+        counts[bucket(value)]++;
+    }
+
+    void decay(float factor) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] *= factor;
+        }
+    }
+
+    double quantile(double quantile) {
+        double total = 0;
+        for (float count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double rank = quantile * total;
+        double cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] > 0 && cumulative + counts[i] >= rank) {
+                double lower = lowerBound(i);
+                return lower + (rank - cumulative) / counts[i] * (lowerBound(i + 1) - lower);
+            }
+            cumulative += counts[i];
+        }
+        return lowerBound(BUCKETS - 1);
+    }
+
+    void write(DataOutput output) throws IOException {
+        for (float count : counts) {
+            output.writeFloat(count);
+        }
+    }
+
+    void read(DataInput input) throws IOException {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = input.readFloat();
+        }
+    }
+
+    /**
+     * The bucket 0 holds the values less than 1, the bucket i holds [GROWTH ^ (i - 1), GROWTH ^ i).
+     */
+    static int bucket(double value) {
+        if (value < 1) {
+            return 0;
+        }
+        return Math.min(1 + (int)(Math.log(value) / LOG_GROWTH), BUCKETS - 1);
+    }
+
+    private static double lowerBound(int bucket) {
+        return bucket == 0 ? 0 : Math.pow(GROWTH, bucket - 1);
+    }
+}
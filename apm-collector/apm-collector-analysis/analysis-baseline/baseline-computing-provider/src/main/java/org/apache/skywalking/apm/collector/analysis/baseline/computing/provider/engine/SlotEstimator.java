@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.define.service.Baseline;
+
+/**
+ * The estimators of one hour of the week, the EWMA tracks the expected value and the histograms track the normal
+ * range. The histograms are decayed once a week, so the old weeks fade out.
+ */
+class SlotEstimator {
+
+    private static final double LOWER_QUANTILE = 0.05;
+    private static final double UPPER_QUANTILE = 0.95;
+
+    private long samples;
+    private long week;
+    private double responseTime;
+    private double throughput;
+    private final LogHistogram responseTimes = new LogHistogram();
+    private final LogHistogram throughputs = new LogHistogram();
+
+    void update(double responseTime, double throughput, long week, double alpha, float weeklyDecay) {
+        if (samples == 0) {
+            this.responseTime = responseTime;
+            this.throughput = throughput;
+        } else {
+            if (week != this.week) {
+                responseTimes.decay(weeklyDecay);
+                throughputs.decay(weeklyDecay);
+            }
+            this.responseTime += alpha * (responseTime - this.responseTime);
+            this.throughput += alpha * (throughput - this.throughput);
+        }
+        this.week = week;
+        this.samples++;
+        responseTimes.add(responseTime);
+        throughputs.add(throughput);
+    }
+
+    Baseline toBaseline() {
+        return new Baseline(samples, responseTime, responseTimes.quantile(UPPER_QUANTILE), throughput,
+            throughputs.quantile(LOWER_QUANTILE), throughputs.quantile(UPPER_QUANTILE));
+    }
+
+    void write(DataOutput output) throws IOException {
+        output.writeLong(samples);
+        output.writeLong(week);
+        output.writeDouble(responseTime);
+        output.writeDouble(throughput);
+        responseTimes.write(output);
+        throughputs.write(output);
+    }
+
+    void read(DataInput input) throws IOException {
+        samples = input.readLong();
+        week = input.readLong();
+        responseTime = input.readDouble();
+        throughput = input.readDouble();
+        responseTimes.read(input);
+        throughputs.read(input);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.graph;
+
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.define.graph.BaselineWorkerIdDefine;
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.engine.BaselineEngine;
+import org.apache.skywalking.apm.collector.analysis.metric.define.graph.MetricGraphIdDefine;
+import org.apache.skywalking.apm.collector.analysis.metric.define.graph.MetricWorkerIdDefine;
+import org.apache.skywalking.apm.collector.core.graph.GraphManager;
+import org.apache.skywalking.apm.collector.core.graph.Next;
+import org.apache.skywalking.apm.collector.core.graph.NodeProcessor;
+import org.apache.skywalking.apm.collector.storage.table.MetricSource;
+import org.apache.skywalking.apm.collector.storage.table.application.ApplicationMetric;
+import org.apache.skywalking.apm.collector.storage.table.service.ServiceMetric;
+
+/**
+ * Feeds the server side minute metrics of the services and the applications into the baseline engine, after they are
+ * merged by the minute persistence workers.
+ */
+public class BaselineGraph {
+
+    private final BaselineEngine engine;
+
+    public BaselineGraph(BaselineEngine engine) {
+        this.engine = engine;
+    }
+
+    public void create() {
+        GraphManager.INSTANCE.findGraph(MetricGraphIdDefine.SERVICE_METRIC_GRAPH_ID, ServiceMetric.class)
+            .toFinder().findNode(MetricWorkerIdDefine.SERVICE_MINUTE_METRIC_PERSISTENCE_WORKER_ID, ServiceMetric.class)
+            .addNext(new NodeProcessor<ServiceMetric, ServiceMetric>() {
+                @Override public int id() {
+                    return BaselineWorkerIdDefine.SERVICE_METRIC_BASELINE_GRAPH_BRIDGE_WORKER_ID;
+                }
+
+                @Override public void process(ServiceMetric serviceMetric, Next<ServiceMetric> next) {
+                    if (MetricSource.Callee.getValue() == serviceMetric.getSourceValue()) {
+                        engine.serviceMinute(serviceMetric.getServiceId(), serviceMetric.getTimeBucket(), serviceMetric.getTransactionCalls(), serviceMetric.getTransactionDurationSum());
+                    }
+                }
+            });
+
+        GraphManager.INSTANCE.findGraph(MetricGraphIdDefine.APPLICATION_METRIC_GRAPH_ID, ApplicationMetric.class)
+            .toFinder().findNode(MetricWorkerIdDefine.APPLICATION_MINUTE_METRIC_PERSISTENCE_WORKER_ID, ApplicationMetric.class)
+            .addNext(new NodeProcessor<ApplicationMetric, ApplicationMetric>() {
+                @Override public int id() {
+                    return BaselineWorkerIdDefine.APPLICATION_METRIC_BASELINE_GRAPH_BRIDGE_WORKER_ID;
+                }
+
+                @Override public void process(ApplicationMetric applicationMetric, Next<ApplicationMetric> next) {
+                    if (MetricSource.Callee.getValue() == applicationMetric.getSourceValue()) {
+                        engine.applicationMinute(applicationMetric.getApplicationId(), applicationMetric.getTimeBucket(), applicationMetric.getTransactionCalls(), applicationMetric.getTransactionDurationSum());
+                    }
+                }
+            });
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.baseline.computing.provider.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.apache.skywalking.apm.collector.analysis.baseline.computing.define.service.Baseline;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BaselineEngineTest {
+
+    @Test
+    public void testSlot() {
+        Assert.assertEquals(0, EntityBaseline.slot(201810150000L));
+        Assert.assertEquals(10, EntityBaseline.slot(201810151030L));
+        Assert.assertEquals(6 * 24 + 23, EntityBaseline.slot(201810212359L));
+        Assert.assertEquals(EntityBaseline.week(201810150000L), EntityBaseline.week(201810212359L));
+        Assert.assertEquals(EntityBaseline.week(201810150000L) + 1, EntityBaseline.week(201810220000L));
+    }
+
+    @Test
+    public void testLearnClosedMinutes() {
+        BaselineEngine engine = new BaselineEngine(0.5, 0.5F);
+
+        engine.serviceMinute(1, 201810151000L, 10, 1000);
+        engine.serviceMinute(1, 201810151000L, 20, 4000);
+        Assert.assertNull(engine.serviceBaseline(1, 201810151000L));
+
+        engine.serviceMinute(1, 201810151001L, 40, 4000);
+        Baseline baseline = engine.serviceBaseline(1, 201810151059L);
+        Assert.assertEquals(1, baseline.getSamples());
+        Assert.assertEquals(200, baseline.getResponseTime(), 0.001);
+        Assert.assertEquals(20, baseline.getThroughput(), 0.001);
+
+        engine.serviceMinute(1, 201810151002L, 10, 1000);
+        baseline = engine.serviceBaseline(1, 201810151000L);
+        Assert.assertEquals(2, baseline.getSamples());
+        Assert.assertEquals(150, baseline.getResponseTime(), 0.001);
+        Assert.assertEquals(30, baseline.getThroughput(), 0.001);
+        Assert.assertTrue(baseline.getThroughputLowerBound() <= baseline.getThroughputUpperBound());
+
+        Assert.assertNull(engine.serviceBaseline(1, 201810151100L));
+        Assert.assertNull(engine.applicationBaseline(1, 201810151000L));
+    }
+
+    @Test
+    public void testQuantile() {
+        LogHistogram histogram = new LogHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.add(i);
+        }
+        Assert.assertEquals(950, histogram.quantile(0.95), 950 * 0.5);
+        Assert.assertEquals(50, histogram.quantile(0.05), 50 * 0.5);
+        Assert.assertEquals(LogHistogram.BUCKETS - 1, LogHistogram.bucket(Double.MAX_VALUE));
+    }
+
+    @Test
+    public void testSnapshot() throws IOException {
+        File directory = Files.createTempDirectory("baseline").toFile();
+        try {
+            BaselineEngine engine = new BaselineEngine(0.1, 0.5F);
+            engine.applicationMinute(2, 201810151000L, 60, 6000);
+            engine.applicationMinute(2, 201810151001L, 60, 6000);
+            new BaselineSnapshot(engine, directory.getAbsolutePath()).save();
+
+            BaselineEngine restored = new BaselineEngine(0.1, 0.5F);
+            new BaselineSnapshot(restored, directory.getAbsolutePath()).restore();
+            Baseline baseline = restored.applicationBaseline(2, 201810151000L);
+            Assert.assertEquals(1, baseline.getSamples());
+            Assert.assertEquals(100, baseline.getResponseTime(), 0.001);
+            Assert.assertEquals(60, baseline.getThroughput(), 0.001);
+        } finally {
+            for (File file : directory.listFiles()) {
+                file.delete();
+            }
+            directory.delete();
+        }
+    }
+}
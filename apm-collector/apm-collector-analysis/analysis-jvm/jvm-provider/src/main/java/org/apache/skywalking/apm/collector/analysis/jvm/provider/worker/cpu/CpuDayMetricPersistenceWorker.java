@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.CpuMetric;
 public class CpuDayMetricPersistenceWorker extends MergePersistenceWorker<CpuMetric> {
 
     private CpuDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, CpuMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class CpuDayMetricPersistenceWorker extends MergePersistenceWorker<CpuMet
         @Override public CpuDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new CpuDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
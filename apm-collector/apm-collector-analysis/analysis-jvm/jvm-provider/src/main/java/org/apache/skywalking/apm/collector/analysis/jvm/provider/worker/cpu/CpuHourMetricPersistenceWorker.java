@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.CpuMetric;
 public class CpuHourMetricPersistenceWorker extends MergePersistenceWorker<CpuMetric> {
 
     private CpuHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, CpuMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class CpuHourMetricPersistenceWorker extends MergePersistenceWorker<CpuMe
         @Override public CpuHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new CpuHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
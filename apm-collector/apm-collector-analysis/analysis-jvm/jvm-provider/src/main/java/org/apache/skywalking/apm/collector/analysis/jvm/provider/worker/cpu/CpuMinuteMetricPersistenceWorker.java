@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.CpuMetric;
 public class CpuMinuteMetricPersistenceWorker extends MergePersistenceWorker<CpuMetric> {
 
     private CpuMinuteMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, CpuMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class CpuMinuteMetricPersistenceWorker extends MergePersistenceWorker<Cpu
         @Override public CpuMinuteMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new CpuMinuteMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
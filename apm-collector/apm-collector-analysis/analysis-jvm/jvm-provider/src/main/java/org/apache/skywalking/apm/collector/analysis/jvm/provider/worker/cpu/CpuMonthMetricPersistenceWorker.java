@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.CpuMetric;
 public class CpuMonthMetricPersistenceWorker extends MergePersistenceWorker<CpuMetric> {
 
     private CpuMonthMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, CpuMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class CpuMonthMetricPersistenceWorker extends MergePersistenceWorker<CpuM
         @Override public CpuMonthMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new CpuMonthMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
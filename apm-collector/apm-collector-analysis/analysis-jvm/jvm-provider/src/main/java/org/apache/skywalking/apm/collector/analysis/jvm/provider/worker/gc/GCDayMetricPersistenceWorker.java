@@ -32,7 +32,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.GCMetric;
 public class GCDayMetricPersistenceWorker extends MergePersistenceWorker<GCMetric> {
 
     private GCDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, GCMetric::new);
     }
 
     @Override public int id() {
@@ -57,10 +57,5 @@ public class GCDayMetricPersistenceWorker extends MergePersistenceWorker<GCMetri
         @Override public GCDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new GCDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.GCMetric;
 public class GCHourMetricPersistenceWorker extends MergePersistenceWorker<GCMetric> {
 
     private GCHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, GCMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class GCHourMetricPersistenceWorker extends MergePersistenceWorker<GCMetr
         @Override public GCHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new GCHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.GCMetric;
 public class GCMinuteMetricPersistenceWorker extends MergePersistenceWorker<GCMetric> {
 
     private GCMinuteMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, GCMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class GCMinuteMetricPersistenceWorker extends MergePersistenceWorker<GCMe
         @Override public GCMinuteMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new GCMinuteMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
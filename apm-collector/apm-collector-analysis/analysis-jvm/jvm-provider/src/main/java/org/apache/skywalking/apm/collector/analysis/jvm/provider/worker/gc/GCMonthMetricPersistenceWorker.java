@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.GCMetric;
 public class GCMonthMetricPersistenceWorker extends MergePersistenceWorker<GCMetric> {
 
     private GCMonthMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, GCMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class GCMonthMetricPersistenceWorker extends MergePersistenceWorker<GCMet
         @Override public GCMonthMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new GCMonthMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
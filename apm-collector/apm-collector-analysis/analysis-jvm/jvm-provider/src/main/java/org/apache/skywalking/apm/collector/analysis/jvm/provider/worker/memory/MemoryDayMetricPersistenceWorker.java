@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.MemoryMetric;
 public class MemoryDayMetricPersistenceWorker extends MergePersistenceWorker<MemoryMetric> {
 
     public MemoryDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, MemoryMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class MemoryDayMetricPersistenceWorker extends MergePersistenceWorker<Mem
         @Override public MemoryDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new MemoryDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
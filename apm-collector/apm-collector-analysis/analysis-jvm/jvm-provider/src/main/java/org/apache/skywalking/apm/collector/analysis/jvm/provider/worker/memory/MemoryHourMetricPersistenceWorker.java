@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.MemoryMetric;
 public class MemoryHourMetricPersistenceWorker extends MergePersistenceWorker<MemoryMetric> {
 
     public MemoryHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, MemoryMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class MemoryHourMetricPersistenceWorker extends MergePersistenceWorker<Me
         @Override public MemoryHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new MemoryHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.MemoryMetric;
 public class MemoryMinuteMetricPersistenceWorker extends MergePersistenceWorker<MemoryMetric> {
 
     public MemoryMinuteMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, MemoryMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class MemoryMinuteMetricPersistenceWorker extends MergePersistenceWorker<
         @Override public MemoryMinuteMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new MemoryMinuteMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.jvm.MemoryMetric;
 public class MemoryMonthMetricPersistenceWorker extends MergePersistenceWorker<MemoryMetric> {
 
     public MemoryMonthMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, MemoryMetric::new);
     }
 
     @Override public int id() {
@@ -58,10 +58,5 @@ public class MemoryMonthMetricPersistenceWorker extends MergePersistenceWorker<M
         @Override public MemoryMonthMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new MemoryMonthMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -37,7 +37,7 @@ public class MemoryPoolDayMetricPersistenceWorker extends MergePersistenceWorker
     }
 
     public MemoryPoolDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, MemoryPoolMetric::new);
     }
 
     @Override protected boolean needMergeDBData() {
@@ -58,10 +58,5 @@ public class MemoryPoolDayMetricPersistenceWorker extends MergePersistenceWorker
         @Override public MemoryPoolDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new MemoryPoolDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -37,7 +37,7 @@ public class MemoryPoolHourMetricPersistenceWorker extends MergePersistenceWorke
     }
 
     public MemoryPoolHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, MemoryPoolMetric::new);
     }
 
     @Override protected boolean needMergeDBData() {
@@ -58,10 +58,5 @@ public class MemoryPoolHourMetricPersistenceWorker extends MergePersistenceWorke
         @Override public MemoryPoolHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new MemoryPoolHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
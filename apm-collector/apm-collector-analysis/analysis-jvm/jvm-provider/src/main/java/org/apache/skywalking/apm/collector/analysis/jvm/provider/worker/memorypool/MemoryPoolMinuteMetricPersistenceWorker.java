@@ -37,7 +37,7 @@ public class MemoryPoolMinuteMetricPersistenceWorker extends MergePersistenceWor
     }
 
     public MemoryPoolMinuteMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, MemoryPoolMetric::new);
     }
 
     @Override protected boolean needMergeDBData() {
@@ -58,10 +58,5 @@ public class MemoryPoolMinuteMetricPersistenceWorker extends MergePersistenceWor
         @Override public MemoryPoolMinuteMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new MemoryPoolMinuteMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
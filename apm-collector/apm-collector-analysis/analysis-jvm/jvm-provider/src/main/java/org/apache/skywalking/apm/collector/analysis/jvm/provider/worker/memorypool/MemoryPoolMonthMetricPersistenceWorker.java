@@ -37,7 +37,7 @@ public class MemoryPoolMonthMetricPersistenceWorker extends MergePersistenceWork
     }
 
     public MemoryPoolMonthMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, MemoryPoolMetric::new);
     }
 
     @Override protected boolean needMergeDBData() {
@@ -58,10 +58,5 @@ public class MemoryPoolMonthMetricPersistenceWorker extends MergePersistenceWork
         @Override public MemoryPoolMonthMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new MemoryPoolMonthMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 }
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationComponentDayPersistenceWorker extends MergePersistenceWorker<ApplicationComponent> {
 
     private ApplicationComponentDayPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationComponent::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationComponentDayPersistenceWorker extends MergePersistenceWo
         @Override public ApplicationComponentDayPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationComponentDayPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationComponentTable.TABLE + "/day")
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationComponentHourPersistenceWorker extends MergePersistenceWorker<ApplicationComponent> {
 
     private ApplicationComponentHourPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationComponent::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationComponentHourPersistenceWorker extends MergePersistenceW
         @Override public ApplicationComponentHourPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationComponentHourPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationComponentTable.TABLE + "/hour")
@@ -49,11 +49,6 @@ public class ApplicationComponentMinuteAggregationWorker extends AggregationWork
         @Override public ApplicationComponentMinuteAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationComponentMinuteAggregationWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregation/onWork/" + ApplicationComponentTable.TABLE)
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationComponentMinutePersistenceWorker extends MergePersistenceWorker<ApplicationComponent> {
 
     private ApplicationComponentMinutePersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationComponent::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationComponentMinutePersistenceWorker extends MergePersistenc
         @Override public ApplicationComponentMinutePersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationComponentMinutePersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationComponentTable.TABLE + "/minute")
@@ -47,6 +47,10 @@ public class ApplicationComponentMinuteRemoteWorker extends AbstractRemoteWorker
         return Selector.HashCode;
     }
 
+    @Override public boolean combinable() {
+        return true;
+    }
+
     public static class Factory extends AbstractRemoteWorkerProvider<ApplicationComponent, ApplicationComponent, ApplicationComponentMinuteRemoteWorker> {
 
         public Factory(ModuleManager moduleManager, RemoteSenderService remoteSenderService, int graphId) {
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationComponentMonthPersistenceWorker extends MergePersistenceWorker<ApplicationComponent> {
 
     private ApplicationComponentMonthPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationComponent::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationComponentMonthPersistenceWorker extends MergePersistence
         @Override public ApplicationComponentMonthPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationComponentMonthPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationComponentTable.TABLE + "/month")
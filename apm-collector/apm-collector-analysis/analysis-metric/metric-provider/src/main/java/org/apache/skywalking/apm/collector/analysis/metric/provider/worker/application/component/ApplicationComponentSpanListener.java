@@ -36,7 +36,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationComponentSpanListener implements EntrySpanListener, ExitSpanListener {
 
     private final ApplicationCacheService applicationCacheService;
-    private final List<ApplicationComponent> applicationComponents = new LinkedList<>();
+    private final List<ApplicationComponent> applicationComponents = new ArrayList<>();
 
     private ApplicationComponentSpanListener(ModuleManager moduleManager) {
         this.applicationCacheService = moduleManager.find(CacheModule.NAME).getService(ApplicationCacheService.class);
@@ -74,6 +74,10 @@ public class ApplicationComponentSpanListener implements EntrySpanListener, Exit
         applicationComponents.add(applicationComponent);
     }
 
+    @Override public void reset() {
+        applicationComponents.clear();
+    }
+
     @Override public void build() {
         Graph<ApplicationComponent> graph = GraphManager.INSTANCE.findGraph(MetricGraphIdDefine.APPLICATION_COMPONENT_GRAPH_ID, ApplicationComponent.class);
         applicationComponents.forEach(graph::start);
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationMappingDayPersistenceWorker extends MergePersistenceWorker<ApplicationMapping> {
 
     private ApplicationMappingDayPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationMapping::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationMappingDayPersistenceWorker extends MergePersistenceWork
         @Override public ApplicationMappingDayPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMappingDayPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationMappingTable.TABLE + "/day")
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationMappingHourPersistenceWorker extends MergePersistenceWorker<ApplicationMapping> {
 
     private ApplicationMappingHourPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationMapping::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationMappingHourPersistenceWorker extends MergePersistenceWor
         @Override public ApplicationMappingHourPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMappingHourPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationMappingTable.TABLE + "/hour")
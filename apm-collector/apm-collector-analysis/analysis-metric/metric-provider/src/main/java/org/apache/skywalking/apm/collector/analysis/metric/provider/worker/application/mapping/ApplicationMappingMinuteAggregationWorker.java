@@ -49,11 +49,6 @@ public class ApplicationMappingMinuteAggregationWorker extends AggregationWorker
         @Override public ApplicationMappingMinuteAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMappingMinuteAggregationWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregation/onWork/" + ApplicationMappingTable.TABLE)
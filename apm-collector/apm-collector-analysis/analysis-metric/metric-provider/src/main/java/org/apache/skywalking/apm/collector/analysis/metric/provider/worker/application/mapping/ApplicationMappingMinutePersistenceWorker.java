@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationMappingMinutePersistenceWorker extends MergePersistenceWorker<ApplicationMapping> {
 
     private ApplicationMappingMinutePersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationMapping::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationMappingMinutePersistenceWorker extends MergePersistenceW
         @Override public ApplicationMappingMinutePersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMappingMinutePersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationMappingTable.TABLE + "/minute")
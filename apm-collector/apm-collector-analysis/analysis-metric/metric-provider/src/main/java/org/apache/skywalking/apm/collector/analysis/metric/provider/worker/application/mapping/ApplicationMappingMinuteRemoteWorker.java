@@ -47,6 +47,10 @@ public class ApplicationMappingMinuteRemoteWorker extends AbstractRemoteWorker<A
         return Selector.HashCode;
     }
 
+    @Override public boolean combinable() {
+        return true;
+    }
+
     public static class Factory extends AbstractRemoteWorkerProvider<ApplicationMapping, ApplicationMapping, ApplicationMappingMinuteRemoteWorker> {
         public Factory(ModuleManager moduleManager, RemoteSenderService remoteSenderService, int graphId) {
             super(moduleManager, remoteSenderService, graphId);
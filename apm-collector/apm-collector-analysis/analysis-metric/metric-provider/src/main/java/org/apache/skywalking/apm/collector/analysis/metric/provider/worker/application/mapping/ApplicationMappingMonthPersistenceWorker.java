@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationMappingMonthPersistenceWorker extends MergePersistenceWorker<ApplicationMapping> {
 
     private ApplicationMappingMonthPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationMapping::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationMappingMonthPersistenceWorker extends MergePersistenceWo
         @Override public ApplicationMappingMonthPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMappingMonthPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationMappingTable.TABLE + "/month")
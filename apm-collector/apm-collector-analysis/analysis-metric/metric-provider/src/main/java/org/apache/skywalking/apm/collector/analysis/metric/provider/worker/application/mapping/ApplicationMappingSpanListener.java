@@ -40,7 +40,7 @@ public class ApplicationMappingSpanListener implements EntrySpanListener {
     private static final Logger logger = LoggerFactory.getLogger(ApplicationMappingSpanListener.class);
 
     private final ApplicationCacheService applicationCacheService;
-    private List<ApplicationMapping> applicationMappings = new LinkedList<>();
+    private final List<ApplicationMapping> applicationMappings = new ArrayList<>();
 
     private ApplicationMappingSpanListener(ModuleManager moduleManager) {
         this.applicationCacheService = moduleManager.find(CacheModule.NAME).getService(ApplicationCacheService.class);
@@ -75,6 +75,10 @@ public class ApplicationMappingSpanListener implements EntrySpanListener {
         }
     }
 
+    @Override public void reset() {
+        applicationMappings.clear();
+    }
+
     @Override public void build() {
         if (logger.isDebugEnabled()) {
             logger.debug("application mapping listener build");
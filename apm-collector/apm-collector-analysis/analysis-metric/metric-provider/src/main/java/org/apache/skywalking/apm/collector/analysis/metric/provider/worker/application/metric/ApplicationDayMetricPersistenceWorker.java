@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationDayMetricPersistenceWorker extends MergePersistenceWorker<ApplicationMetric> {
 
     private ApplicationDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationDayMetricPersistenceWorker extends MergePersistenceWorke
         @Override public ApplicationDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationMetricTable.TABLE + "/day")
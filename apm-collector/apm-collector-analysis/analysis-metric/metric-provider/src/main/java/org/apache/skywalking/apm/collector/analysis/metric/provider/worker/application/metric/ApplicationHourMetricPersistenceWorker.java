@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationHourMetricPersistenceWorker extends MergePersistenceWorker<ApplicationMetric> {
 
     private ApplicationHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationHourMetricPersistenceWorker extends MergePersistenceWork
         @Override public ApplicationHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationMetricTable.TABLE + "/hour")
@@ -92,10 +92,6 @@ public class ApplicationMinuteMetricAggregationWorker extends AggregationWorker<
         @Override public ApplicationMinuteMetricAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMinuteMetricAggregationWorker(moduleManager);
         }
-
-        @Override public int queueSize() {
-            return 256;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregate/onWork/" + ApplicationMetricTable.TABLE)
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationMinuteMetricPersistenceWorker extends MergePersistenceWorker<ApplicationMetric> {
 
     private ApplicationMinuteMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationMinuteMetricPersistenceWorker extends MergePersistenceWo
         @Override public ApplicationMinuteMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMinuteMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationMetricTable.TABLE + "/minute")
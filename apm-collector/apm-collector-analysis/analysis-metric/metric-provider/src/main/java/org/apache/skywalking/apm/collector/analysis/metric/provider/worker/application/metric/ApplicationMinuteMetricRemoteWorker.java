@@ -47,6 +47,10 @@ public class ApplicationMinuteMetricRemoteWorker extends AbstractRemoteWorker<Ap
         return Selector.HashCode;
     }
 
+    @Override public boolean combinable() {
+        return true;
+    }
+
     public static class Factory extends AbstractRemoteWorkerProvider<ApplicationMetric, ApplicationMetric, ApplicationMinuteMetricRemoteWorker> {
         public Factory(ModuleManager moduleManager, RemoteSenderService remoteSenderService, int graphId) {
             super(moduleManager, remoteSenderService, graphId);
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationMonthMetricPersistenceWorker extends MergePersistenceWorker<ApplicationMetric> {
 
     private ApplicationMonthMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationMonthMetricPersistenceWorker extends MergePersistenceWor
         @Override public ApplicationMonthMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationMonthMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationMetricTable.TABLE + "/month")
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationReferenceDayMetricPersistenceWorker extends MergePersistenceWorker<ApplicationReferenceMetric> {
 
     private ApplicationReferenceDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationReferenceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationReferenceDayMetricPersistenceWorker extends MergePersist
         @Override public ApplicationReferenceDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationReferenceDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationReferenceMetricTable.TABLE + "/day")
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.application.Application
 public class ApplicationReferenceHourMetricPersistenceWorker extends MergePersistenceWorker<ApplicationReferenceMetric> {
 
     private ApplicationReferenceHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ApplicationReferenceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ApplicationReferenceHourMetricPersistenceWorker extends MergePersis
         @Override public ApplicationReferenceHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationReferenceHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ApplicationReferenceMetricTable.TABLE + "/hour")
@@ -108,11 +108,6 @@ public class ApplicationReferenceMinuteMetricAggregationWorker extends Aggregati
         @Override public ApplicationReferenceMinuteMetricAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationReferenceMinuteMetricAggregationWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregate/onWork/" + ApplicationReferenceMetricTable.TABLE)
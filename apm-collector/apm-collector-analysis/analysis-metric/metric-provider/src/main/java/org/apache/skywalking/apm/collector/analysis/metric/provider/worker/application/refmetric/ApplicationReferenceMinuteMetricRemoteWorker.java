@@ -47,6 +47,10 @@ public class ApplicationReferenceMinuteMetricRemoteWorker extends AbstractRemote
         return Selector.HashCode;
     }
 
+    @Override public boolean combinable() {
+        return true;
+    }
+
     public static class Factory extends AbstractRemoteWorkerProvider<ApplicationReferenceMetric, ApplicationReferenceMetric, ApplicationReferenceMinuteMetricRemoteWorker> {
         public Factory(ModuleManager moduleManager, RemoteSenderService remoteSenderService, int graphId) {
             super(moduleManager, remoteSenderService, graphId);
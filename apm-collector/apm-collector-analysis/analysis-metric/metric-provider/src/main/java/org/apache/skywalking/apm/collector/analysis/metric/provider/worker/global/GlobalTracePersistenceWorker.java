@@ -58,11 +58,6 @@ public class GlobalTracePersistenceWorker extends NonMergePersistenceWorker<Glob
         @Override public GlobalTracePersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new GlobalTracePersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + GlobalTraceTable.TABLE)
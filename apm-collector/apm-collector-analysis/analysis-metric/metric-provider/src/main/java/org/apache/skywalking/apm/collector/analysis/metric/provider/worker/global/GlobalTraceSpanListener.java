@@ -37,7 +37,7 @@ public class GlobalTraceSpanListener implements GlobalTraceIdsListener {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalTraceSpanListener.class);
 
-    private final List<String> globalTraceIds = new LinkedList<>();
+    private final List<String> globalTraceIds = new ArrayList<>();
     private SegmentCoreInfo segmentCoreInfo;
 
     @Override public boolean containsPoint(Point point) {
@@ -57,6 +57,11 @@ public class GlobalTraceSpanListener implements GlobalTraceIdsListener {
         this.segmentCoreInfo = segmentCoreInfo;
     }
 
+    @Override public void reset() {
+        globalTraceIds.clear();
+        segmentCoreInfo = null;
+    }
+
     @Override public void build() {
         if (logger.isDebugEnabled()) {
             logger.debug("global trace listener build");
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.global.ResponseTimeDist
 public class ResponseTimeDistributionDayPersistenceWorker extends MergePersistenceWorker<ResponseTimeDistribution> {
 
     private ResponseTimeDistributionDayPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ResponseTimeDistribution::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ResponseTimeDistributionDayPersistenceWorker extends MergePersisten
         @Override public ResponseTimeDistributionDayPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ResponseTimeDistributionDayPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ResponseTimeDistributionTable.TABLE + "/day")
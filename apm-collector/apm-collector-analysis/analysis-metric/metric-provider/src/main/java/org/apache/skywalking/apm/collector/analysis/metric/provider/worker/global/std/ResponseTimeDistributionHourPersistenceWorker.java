@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.global.ResponseTimeDist
 public class ResponseTimeDistributionHourPersistenceWorker extends MergePersistenceWorker<ResponseTimeDistribution> {
 
     private ResponseTimeDistributionHourPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ResponseTimeDistribution::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ResponseTimeDistributionHourPersistenceWorker extends MergePersiste
         @Override public ResponseTimeDistributionHourPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ResponseTimeDistributionHourPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ResponseTimeDistributionTable.TABLE + "/hour")
@@ -49,11 +49,6 @@ public class ResponseTimeDistributionMinuteAggregationWorker extends Aggregation
         @Override public ResponseTimeDistributionMinuteAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new ResponseTimeDistributionMinuteAggregationWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregation/onWork/" + ResponseTimeDistributionTable.TABLE)
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.global.ResponseTimeDist
 public class ResponseTimeDistributionMinutePersistenceWorker extends MergePersistenceWorker<ResponseTimeDistribution> {
 
     private ResponseTimeDistributionMinutePersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ResponseTimeDistribution::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ResponseTimeDistributionMinutePersistenceWorker extends MergePersis
         @Override public ResponseTimeDistributionMinutePersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ResponseTimeDistributionMinutePersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ResponseTimeDistributionTable.TABLE + "/minute")
@@ -47,6 +47,10 @@ public class ResponseTimeDistributionMinuteRemoteWorker extends AbstractRemoteWo
         return Selector.HashCode;
     }
 
+    @Override public boolean combinable() {
+        return true;
+    }
+
     public static class Factory extends AbstractRemoteWorkerProvider<ResponseTimeDistribution, ResponseTimeDistribution, ResponseTimeDistributionMinuteRemoteWorker> {
         public Factory(ModuleManager moduleManager, RemoteSenderService remoteSenderService, int graphId) {
             super(moduleManager, remoteSenderService, graphId);
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.global.ResponseTimeDist
 public class ResponseTimeDistributionMonthPersistenceWorker extends MergePersistenceWorker<ResponseTimeDistribution> {
 
     private ResponseTimeDistributionMonthPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ResponseTimeDistribution::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ResponseTimeDistributionMonthPersistenceWorker extends MergePersist
         @Override public ResponseTimeDistributionMonthPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ResponseTimeDistributionMonthPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ResponseTimeDistributionTable.TABLE + "/month")
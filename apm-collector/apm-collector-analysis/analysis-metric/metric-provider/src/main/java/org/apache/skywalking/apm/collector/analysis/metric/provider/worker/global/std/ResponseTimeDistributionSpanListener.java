@@ -66,6 +66,10 @@ public class ResponseTimeDistributionSpanListener implements FirstSpanListener {
         }
     }
 
+    @Override public void reset() {
+        distribution = new ResponseTimeDistribution();
+    }
+
     @Override public void build() {
         Graph<ResponseTimeDistribution> graph = GraphManager.INSTANCE.findGraph(MetricGraphIdDefine.RESPONSE_TIME_DISTRIBUTION_GRAPH_ID, ResponseTimeDistribution.class);
         graph.start(distribution);
@@ -34,7 +34,7 @@ import org.apache.skywalking.apm.collector.storage.table.register.Instance;
 public class InstHeartBeatPersistenceWorker extends MergePersistenceWorker<Instance> {
 
     private InstHeartBeatPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, Instance::new);
     }
 
     @Override public int id() {
@@ -59,11 +59,6 @@ public class InstHeartBeatPersistenceWorker extends MergePersistenceWorker<Insta
         @Override public InstHeartBeatPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstHeartBeatPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/instance/heartbeat")
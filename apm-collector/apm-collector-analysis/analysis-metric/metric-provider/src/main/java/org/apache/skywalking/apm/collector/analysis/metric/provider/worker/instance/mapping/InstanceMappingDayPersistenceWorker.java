@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMappin
 public class InstanceMappingDayPersistenceWorker extends MergePersistenceWorker<InstanceMapping> {
 
     private InstanceMappingDayPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceMapping::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceMappingDayPersistenceWorker extends MergePersistenceWorker<
         @Override public InstanceMappingDayPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMappingDayPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceMappingTable.TABLE + "/day")
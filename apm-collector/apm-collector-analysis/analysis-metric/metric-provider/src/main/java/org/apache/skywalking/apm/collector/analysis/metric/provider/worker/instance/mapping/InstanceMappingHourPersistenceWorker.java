@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMappin
 public class InstanceMappingHourPersistenceWorker extends MergePersistenceWorker<InstanceMapping> {
 
     private InstanceMappingHourPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceMapping::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceMappingHourPersistenceWorker extends MergePersistenceWorker
         @Override public InstanceMappingHourPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMappingHourPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceMappingTable.TABLE + "/hour")
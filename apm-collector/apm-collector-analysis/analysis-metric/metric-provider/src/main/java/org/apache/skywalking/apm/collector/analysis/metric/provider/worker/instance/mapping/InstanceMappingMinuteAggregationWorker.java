@@ -49,11 +49,6 @@ public class InstanceMappingMinuteAggregationWorker extends AggregationWorker<In
         @Override public InstanceMappingMinuteAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMappingMinuteAggregationWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregate/onWork/" + InstanceMappingTable.TABLE)
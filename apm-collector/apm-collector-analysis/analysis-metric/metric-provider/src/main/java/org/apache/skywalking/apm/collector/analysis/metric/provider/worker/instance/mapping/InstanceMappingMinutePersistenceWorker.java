@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMappin
 public class InstanceMappingMinutePersistenceWorker extends MergePersistenceWorker<InstanceMapping> {
 
     private InstanceMappingMinutePersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceMapping::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceMappingMinutePersistenceWorker extends MergePersistenceWork
         @Override public InstanceMappingMinutePersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMappingMinutePersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceMappingTable.TABLE + "/minute")
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMappin
 public class InstanceMappingMonthPersistenceWorker extends MergePersistenceWorker<InstanceMapping> {
 
     private InstanceMappingMonthPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceMapping::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceMappingMonthPersistenceWorker extends MergePersistenceWorke
         @Override public InstanceMappingMonthPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMappingMonthPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceMappingTable.TABLE + "/month")
@@ -36,7 +36,7 @@ public class InstanceMappingSpanListener implements EntrySpanListener {
 
     private static final Logger logger = LoggerFactory.getLogger(InstanceMappingSpanListener.class);
 
-    private List<InstanceMapping> instanceMappings = new LinkedList<>();
+    private final List<InstanceMapping> instanceMappings = new ArrayList<>();
 
     @Override public boolean containsPoint(Point point) {
         return Point.Entry.equals(point);
@@ -62,6 +62,10 @@ public class InstanceMappingSpanListener implements EntrySpanListener {
         }
     }
 
+    @Override public void reset() {
+        instanceMappings.clear();
+    }
+
     @Override public void build() {
         if (logger.isDebugEnabled()) {
             logger.debug("instance mapping listener build");
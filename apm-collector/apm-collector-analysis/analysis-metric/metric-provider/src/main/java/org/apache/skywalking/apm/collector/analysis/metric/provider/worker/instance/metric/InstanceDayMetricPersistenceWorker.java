@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMetric
 public class InstanceDayMetricPersistenceWorker extends MergePersistenceWorker<InstanceMetric> {
 
     private InstanceDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceDayMetricPersistenceWorker extends MergePersistenceWorker<I
         @Override public InstanceDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceMetricTable.TABLE + "/day")
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMetric
 public class InstanceHourMetricPersistenceWorker extends MergePersistenceWorker<InstanceMetric> {
 
     private InstanceHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceHourMetricPersistenceWorker extends MergePersistenceWorker<
         @Override public InstanceHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceMetricTable.TABLE + "/hour")
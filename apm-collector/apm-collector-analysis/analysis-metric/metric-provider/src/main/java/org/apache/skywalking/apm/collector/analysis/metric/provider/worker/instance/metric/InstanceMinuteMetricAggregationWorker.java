@@ -82,11 +82,6 @@ public class InstanceMinuteMetricAggregationWorker extends AggregationWorker<Ins
         @Override public InstanceMinuteMetricAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMinuteMetricAggregationWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregate/onWork/" + InstanceMetricTable.TABLE)
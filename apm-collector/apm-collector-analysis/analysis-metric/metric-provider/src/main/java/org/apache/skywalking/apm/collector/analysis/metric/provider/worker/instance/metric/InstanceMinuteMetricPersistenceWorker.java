@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMetric
 public class InstanceMinuteMetricPersistenceWorker extends MergePersistenceWorker<InstanceMetric> {
 
     private InstanceMinuteMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceMinuteMetricPersistenceWorker extends MergePersistenceWorke
         @Override public InstanceMinuteMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMinuteMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceMetricTable.TABLE + "/minute")
@@ -43,6 +43,10 @@ public class InstanceMinuteMetricRemoteWorker extends AbstractRemoteWorker<Insta
         return Selector.HashCode;
     }
 
+    @Override public boolean combinable() {
+        return true;
+    }
+
     @Override protected void onWork(InstanceMetric instanceMetric) {
         onNext(instanceMetric);
     }
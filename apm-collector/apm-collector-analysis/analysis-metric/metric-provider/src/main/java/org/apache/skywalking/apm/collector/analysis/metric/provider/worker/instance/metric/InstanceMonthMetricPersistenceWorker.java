@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMetric
 public class InstanceMonthMetricPersistenceWorker extends MergePersistenceWorker<InstanceMetric> {
 
     private InstanceMonthMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceMonthMetricPersistenceWorker extends MergePersistenceWorker
         @Override public InstanceMonthMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceMonthMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceMetricTable.TABLE + "/month")
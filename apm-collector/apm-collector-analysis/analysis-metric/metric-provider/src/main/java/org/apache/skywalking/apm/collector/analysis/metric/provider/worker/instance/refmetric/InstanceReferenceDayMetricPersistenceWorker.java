@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceRefere
 public class InstanceReferenceDayMetricPersistenceWorker extends MergePersistenceWorker<InstanceReferenceMetric> {
 
     private InstanceReferenceDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceReferenceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceReferenceDayMetricPersistenceWorker extends MergePersistenc
         @Override public InstanceReferenceDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceReferenceDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceReferenceMetricTable.TABLE + "/day")
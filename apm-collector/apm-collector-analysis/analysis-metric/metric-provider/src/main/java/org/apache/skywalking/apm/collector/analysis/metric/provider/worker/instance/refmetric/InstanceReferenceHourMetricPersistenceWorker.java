@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.instance.InstanceRefere
 public class InstanceReferenceHourMetricPersistenceWorker extends MergePersistenceWorker<InstanceReferenceMetric> {
 
     private InstanceReferenceHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, InstanceReferenceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class InstanceReferenceHourMetricPersistenceWorker extends MergePersisten
         @Override public InstanceReferenceHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceReferenceHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + InstanceReferenceMetricTable.TABLE + "/hour")
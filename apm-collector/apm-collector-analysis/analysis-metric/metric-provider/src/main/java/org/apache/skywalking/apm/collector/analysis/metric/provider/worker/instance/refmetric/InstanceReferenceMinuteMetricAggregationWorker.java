@@ -87,11 +87,6 @@ public class InstanceReferenceMinuteMetricAggregationWorker extends AggregationW
         @Override public InstanceReferenceMinuteMetricAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceReferenceMinuteMetricAggregationWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregate/onWork/" + InstanceReferenceMetricTable.TABLE)
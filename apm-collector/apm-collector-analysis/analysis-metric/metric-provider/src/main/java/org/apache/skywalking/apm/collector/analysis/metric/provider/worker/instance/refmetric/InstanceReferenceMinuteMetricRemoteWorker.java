@@ -43,6 +43,10 @@ public class InstanceReferenceMinuteMetricRemoteWorker extends AbstractRemoteWor
         return Selector.HashCode;
     }
 
+    @Override public boolean combinable() {
+        return true;
+    }
+
     @Override protected void onWork(InstanceReferenceMetric instanceReferenceMetric) {
         onNext(instanceReferenceMetric);
     }
@@ -58,11 +58,6 @@ public class SegmentDurationPersistenceWorker extends NonMergePersistenceWorker<
         @Override public SegmentDurationPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new SegmentDurationPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + SegmentDurationTable.TABLE)
@@ -38,9 +38,9 @@ public class SegmentDurationSpanListener implements FirstSpanListener, EntrySpan
 
     private static final Logger logger = LoggerFactory.getLogger(SegmentDurationSpanListener.class);
 
-    private final SegmentDuration segmentDuration;
+    private SegmentDuration segmentDuration;
     private final ServiceNameCacheService serviceNameCacheService;
-    private Set<Integer> entryOperationNameIds;
+    private final Set<Integer> entryOperationNameIds;
     private int firstOperationNameId = 0;
 
     private SegmentDurationSpanListener(ModuleManager moduleManager) {
@@ -74,6 +74,12 @@ public class SegmentDurationSpanListener implements FirstSpanListener, EntrySpan
         entryOperationNameIds.add(spanDecorator.getOperationNameId());
     }
 
+    @Override public void reset() {
+        segmentDuration = new SegmentDuration();
+        entryOperationNameIds.clear();
+        firstOperationNameId = 0;
+    }
+
     @Override public void build() {
         Graph<SegmentDuration> graph = GraphManager.INSTANCE.findGraph(MetricGraphIdDefine.SEGMENT_DURATION_GRAPH_ID, SegmentDuration.class);
 
@@ -47,10 +47,6 @@ public class ServiceNameAggregationWorker extends AggregationWorker<ServiceName,
         @Override public ServiceNameAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceNameAggregationWorker(moduleManager);
         }
-
-        @Override public int queueSize() {
-            return 4096;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregate/onWork/" + ServiceNameTable.TABLE)
@@ -33,7 +33,7 @@ import org.apache.skywalking.apm.collector.storage.table.register.ServiceName;
 public class ServiceNameHeartBeatPersistenceWorker extends MergePersistenceWorker<ServiceName> {
 
     private ServiceNameHeartBeatPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceName::new);
     }
 
     @Override public int id() {
@@ -58,11 +58,6 @@ public class ServiceNameHeartBeatPersistenceWorker extends MergePersistenceWorke
         @Override public ServiceNameHeartBeatPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceNameHeartBeatPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 4096;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/serviceName/heartbeat")
@@ -45,6 +45,10 @@ public class ServiceNameHeartBeatRemoteWorker extends AbstractRemoteWorker<Servi
         return Selector.HashCode;
     }
 
+    @Override public boolean combinable() {
+        return true;
+    }
+
     public static class Factory extends AbstractRemoteWorkerProvider<ServiceName, ServiceName, ServiceNameHeartBeatRemoteWorker> {
 
         public Factory(ModuleManager moduleManager, RemoteSenderService remoteSenderService, int graphId) {
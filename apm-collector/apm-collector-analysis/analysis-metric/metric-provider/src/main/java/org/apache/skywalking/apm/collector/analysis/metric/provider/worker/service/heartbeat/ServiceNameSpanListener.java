@@ -35,7 +35,7 @@ public class ServiceNameSpanListener implements EntrySpanListener, ExitSpanListe
     private final List<ServiceName> serviceNames;
 
     private ServiceNameSpanListener() {
-        this.serviceNames = new LinkedList<>();
+        this.serviceNames = new ArrayList<>();
     }
 
     @Override public boolean containsPoint(Point point) {
@@ -77,6 +77,10 @@ public class ServiceNameSpanListener implements EntrySpanListener, ExitSpanListe
         serviceNames.add(serviceName);
     }
 
+    @Override public void reset() {
+        serviceNames.clear();
+    }
+
     @Override public void build() {
         Graph<ServiceName> graph = GraphManager.INSTANCE.findGraph(MetricGraphIdDefine.SERVICE_HEART_BEAT_PERSISTENCE_GRAPH_ID, ServiceName.class);
         serviceNames.forEach(graph::start);
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.service.ServiceMetricTa
 public class ServiceDayMetricPersistenceWorker extends MergePersistenceWorker<ServiceMetric> {
 
     private ServiceDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ServiceDayMetricPersistenceWorker extends MergePersistenceWorker<Se
         @Override public ServiceDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ServiceMetricTable.TABLE + "/day")
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.service.ServiceMetricTa
 public class ServiceHourMetricPersistenceWorker extends MergePersistenceWorker<ServiceMetric> {
 
     private ServiceHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ServiceHourMetricPersistenceWorker extends MergePersistenceWorker<S
         @Override public ServiceHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ServiceMetricTable.TABLE + "/hour")
@@ -88,10 +88,6 @@ public class ServiceMetricMinuteAggregationWorker extends AggregationWorker<Serv
         @Override public ServiceMetricMinuteAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceMetricMinuteAggregationWorker(moduleManager);
         }
-
-        @Override public int queueSize() {
-            return 256;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregate/onWork/" + ServiceMetricTable.TABLE)
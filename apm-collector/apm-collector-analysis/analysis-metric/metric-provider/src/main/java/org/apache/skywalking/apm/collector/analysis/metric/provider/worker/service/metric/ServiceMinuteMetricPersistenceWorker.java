@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.service.ServiceMetricTa
 public class ServiceMinuteMetricPersistenceWorker extends MergePersistenceWorker<ServiceMetric> {
 
     private ServiceMinuteMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ServiceMinuteMetricPersistenceWorker extends MergePersistenceWorker
         @Override public ServiceMinuteMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceMinuteMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ServiceMetricTable.TABLE + "/minute")
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.service.ServiceMetricTa
 public class ServiceMonthMetricPersistenceWorker extends MergePersistenceWorker<ServiceMetric> {
 
     private ServiceMonthMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ServiceMonthMetricPersistenceWorker extends MergePersistenceWorker<
         @Override public ServiceMonthMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceMonthMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ServiceMetricTable.TABLE + "/month")
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.service.ServiceReferenc
 public class ServiceReferenceDayMetricPersistenceWorker extends MergePersistenceWorker<ServiceReferenceMetric> {
 
     private ServiceReferenceDayMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceReferenceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ServiceReferenceDayMetricPersistenceWorker extends MergePersistence
         @Override public ServiceReferenceDayMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceReferenceDayMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ServiceReferenceMetricTable.TABLE)
@@ -35,7 +35,7 @@ import org.apache.skywalking.apm.collector.storage.table.service.ServiceReferenc
 public class ServiceReferenceHourMetricPersistenceWorker extends MergePersistenceWorker<ServiceReferenceMetric> {
 
     private ServiceReferenceHourMetricPersistenceWorker(ModuleManager moduleManager) {
-        super(moduleManager);
+        super(moduleManager, ServiceReferenceMetric::new);
     }
 
     @Override public int id() {
@@ -60,11 +60,6 @@ public class ServiceReferenceHourMetricPersistenceWorker extends MergePersistenc
         @Override public ServiceReferenceHourMetricPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceReferenceHourMetricPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/persistence/onWork/" + ServiceReferenceMetricTable.TABLE + "/hour")
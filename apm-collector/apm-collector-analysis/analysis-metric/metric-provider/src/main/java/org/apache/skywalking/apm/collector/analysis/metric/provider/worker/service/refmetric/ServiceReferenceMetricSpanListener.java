@@ -45,13 +45,13 @@ public class ServiceReferenceMetricSpanListener implements EntrySpanListener, Ex
     private final InstanceCacheService instanceCacheService;
     private final ApplicationCacheService applicationCacheService;
     private final List<ServiceReferenceMetric> entryReferenceMetric;
-    private List<ServiceReferenceMetric> exitReferenceMetric;
+    private final List<ServiceReferenceMetric> exitReferenceMetric;
     private SpanDecorator entrySpanDecorator;
     private long minuteTimeBucket;
 
     private ServiceReferenceMetricSpanListener(ModuleManager moduleManager) {
-        this.entryReferenceMetric = new LinkedList<>();
-        this.exitReferenceMetric = new LinkedList<>();
+        this.entryReferenceMetric = new ArrayList<>();
+        this.exitReferenceMetric = new ArrayList<>();
         this.instanceCacheService = moduleManager.find(CacheModule.NAME).getService(InstanceCacheService.class);
         this.applicationCacheService = moduleManager.find(CacheModule.NAME).getService(ApplicationCacheService.class);
     }
@@ -151,6 +151,13 @@ public class ServiceReferenceMetricSpanListener implements EntrySpanListener, Ex
         }
     }
 
+    @Override public void reset() {
+        entryReferenceMetric.clear();
+        exitReferenceMetric.clear();
+        entrySpanDecorator = null;
+        minuteTimeBucket = 0;
+    }
+
     @Override public void build() {
         if (logger.isDebugEnabled()) {
             logger.debug("service reference listener build");
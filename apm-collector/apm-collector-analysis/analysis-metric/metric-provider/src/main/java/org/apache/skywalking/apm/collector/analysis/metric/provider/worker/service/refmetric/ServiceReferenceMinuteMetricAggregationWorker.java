@@ -49,11 +49,6 @@ public class ServiceReferenceMinuteMetricAggregationWorker extends AggregationWo
         @Override public ServiceReferenceMinuteMetricAggregationWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceReferenceMinuteMetricAggregationWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 1024;
-        }
     }
 
     @GraphComputingMetric(name = "/aggregate/onWork/" + ServiceReferenceMetricTable.TABLE)
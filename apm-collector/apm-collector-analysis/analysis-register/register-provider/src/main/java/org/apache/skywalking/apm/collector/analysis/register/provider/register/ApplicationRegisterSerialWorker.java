@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.analysis.register.provider.register;
 
+import java.util.*;
 import org.apache.skywalking.apm.collector.analysis.register.define.graph.WorkerIdDefine;
 import org.apache.skywalking.apm.collector.analysis.worker.model.base.*;
 import org.apache.skywalking.apm.collector.cache.CacheModule;
@@ -36,13 +37,18 @@ public class ApplicationRegisterSerialWorker extends AbstractLocalAsyncWorker<Ap
 
     private static final Logger logger = LoggerFactory.getLogger(ApplicationRegisterSerialWorker.class);
 
+    private static final String ADDRESS_KEY_PREFIX = "address" + Const.ID_SPLIT;
+
     private final IApplicationRegisterDAO applicationRegisterDAO;
     private final ApplicationCacheService applicationCacheService;
+    private final IdBlockAllocator applicationIdAllocator;
+    private final Map<String, Application> newApplications = new LinkedHashMap<>();
 
     private ApplicationRegisterSerialWorker(ModuleManager moduleManager) {
         super(moduleManager);
         this.applicationRegisterDAO = getModuleManager().find(StorageModule.NAME).getService(IApplicationRegisterDAO.class);
         this.applicationCacheService = getModuleManager().find(CacheModule.NAME).getService(ApplicationCacheService.class);
+        this.applicationIdAllocator = new IdBlockAllocator(applicationRegisterDAO::getMinApplicationId, applicationRegisterDAO::getMaxApplicationId, true);
     }
 
     @Override public int id() {
@@ -55,17 +61,17 @@ public class ApplicationRegisterSerialWorker extends AbstractLocalAsyncWorker<Ap
         }
 
         int applicationId;
-
+        String key;
         if (BooleanUtils.valueToBoolean(application.getIsAddress())) {
             applicationId = applicationCacheService.getApplicationIdByAddressId(application.getAddressId());
+            key = ADDRESS_KEY_PREFIX + application.getAddressId();
         } else {
             applicationId = applicationCacheService.getApplicationIdByCode(application.getApplicationCode());
+            key = application.getApplicationCode();
         }
 
-        if (applicationId == 0) {
-            Application newApplication;
-            int min = applicationRegisterDAO.getMinApplicationId();
-            if (min == 0) {
+        if (applicationId == 0 && !newApplications.containsKey(key)) {
+            if (applicationIdAllocator.isEmpty()) {
                 Application userApplication = new Application();
                 userApplication.setId(String.valueOf(Const.NONE_APPLICATION_ID));
                 userApplication.setApplicationCode(Const.USER_CODE);
@@ -73,25 +79,25 @@ public class ApplicationRegisterSerialWorker extends AbstractLocalAsyncWorker<Ap
                 userApplication.setAddressId(Const.NONE);
                 userApplication.setIsAddress(BooleanUtils.FALSE);
                 applicationRegisterDAO.save(userApplication);
+                applicationIdAllocator.use(Const.NONE_APPLICATION_ID);
+            }
+
+            applicationId = applicationIdAllocator.next();
 
-                newApplication = new Application();
-                newApplication.setId("-1");
-                newApplication.setApplicationId(-1);
-                newApplication.setApplicationCode(application.getApplicationCode());
-                newApplication.setAddressId(application.getAddressId());
-                newApplication.setIsAddress(application.getIsAddress());
-            } else {
-                int max = applicationRegisterDAO.getMaxApplicationId();
-                applicationId = IdAutoIncrement.INSTANCE.increment(min, max);
-
-                newApplication = new Application();
-                newApplication.setId(String.valueOf(applicationId));
-                newApplication.setApplicationId(applicationId);
-                newApplication.setApplicationCode(application.getApplicationCode());
-                newApplication.setAddressId(application.getAddressId());
-                newApplication.setIsAddress(application.getIsAddress());
+            Application newApplication = new Application();
+            newApplication.setId(String.valueOf(applicationId));
+            newApplication.setApplicationId(applicationId);
+            newApplication.setApplicationCode(application.getApplicationCode());
+            newApplication.setAddressId(application.getAddressId());
+            newApplication.setIsAddress(application.getIsAddress());
+            newApplications.put(key, newApplication);
+        }
+
+        if (newApplications.size() >= IdBlockAllocator.BLOCK_SIZE || application.getEndOfBatchContext().isEndOfBatch()) {
+            if (!newApplications.isEmpty()) {
+                applicationRegisterDAO.batchSave(new ArrayList<>(newApplications.values()));
+                newApplications.clear();
             }
-            applicationRegisterDAO.save(newApplication);
         }
     }
 
@@ -104,9 +110,5 @@ public class ApplicationRegisterSerialWorker extends AbstractLocalAsyncWorker<Ap
         @Override public ApplicationRegisterSerialWorker workerInstance(ModuleManager moduleManager) {
             return new ApplicationRegisterSerialWorker(moduleManager);
         }
-
-        @Override public int queueSize() {
-            return 256;
-        }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.register.provider.register;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Hands out the register ids from memory. The min and max ids are read from the storage once for every block of ids,
+ * instead of twice for every registration. The ids in memory are always ahead of the storage, because the register
+ * serial worker is the only one which allocates the ids in the cluster.
+ *
+ * Not thread safe, the allocator belongs to one register serial worker.
+ */
+public class IdBlockAllocator {
+
+    static final int BLOCK_SIZE = 100;
+
+    private final IntSupplier minIdSupplier;
+    private final IntSupplier maxIdSupplier;
+    private final boolean bidirectional;
+    private final int blockSize;
+    private int min = 0;
+    private int max = 0;
+    private int leased = 0;
+
+    /**
+     * @param bidirectional allocate the ids in both of the negative and positive directions, follow the {@link
+     * IdAutoIncrement}, or increase the max id only.
+     */
+    public IdBlockAllocator(IntSupplier minIdSupplier, IntSupplier maxIdSupplier, boolean bidirectional) {
+        this(minIdSupplier, maxIdSupplier, bidirectional, BLOCK_SIZE);
+    }
+
+    IdBlockAllocator(IntSupplier minIdSupplier, IntSupplier maxIdSupplier, boolean bidirectional, int blockSize) {
+        this.minIdSupplier = minIdSupplier;
+        this.maxIdSupplier = maxIdSupplier;
+        this.bidirectional = bidirectional;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @return true if there is no id in the storage and none has been allocated.
+     */
+    public boolean isEmpty() {
+        leaseIfNecessary();
+        return min == 0 && max == 0;
+    }
+
+    public int next() {
+        leaseIfNecessary();
+        leased--;
+
+        int id;
+        if (bidirectional) {
+            id = IdAutoIncrement.INSTANCE.increment(min, max);
+        } else {
+            id = max + 1;
+        }
+        use(id);
+        return id;
+    }
+
+    /**
+     * Marks the id, which is not allocated by this allocator, e.g. the id of the built-in user, as used.
+     */
+    public void use(int id) {
+        min = Math.min(min, id);
+        max = Math.max(max, id);
+    }
+
+    private void leaseIfNecessary() {
+        if (leased <= 0) {
+            min = Math.min(min, minIdSupplier.getAsInt());
+            max = Math.max(max, maxIdSupplier.getAsInt());
+            leased = blockSize;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.analysis.register.provider.register;
 
+import java.util.*;
 import org.apache.skywalking.apm.collector.analysis.register.define.graph.WorkerIdDefine;
 import org.apache.skywalking.apm.collector.analysis.worker.model.base.*;
 import org.apache.skywalking.apm.collector.cache.CacheModule;
@@ -36,13 +37,18 @@ public class InstanceRegisterSerialWorker extends AbstractLocalAsyncWorker<Insta
 
     private static final Logger logger = LoggerFactory.getLogger(InstanceRegisterSerialWorker.class);
 
+    private static final String ADDRESS_KEY_PREFIX = "address" + Const.ID_SPLIT;
+
     private final InstanceCacheService instanceCacheService;
     private final IInstanceRegisterDAO instanceRegisterDAO;
+    private final IdBlockAllocator instanceIdAllocator;
+    private final Map<String, Instance> newInstances = new LinkedHashMap<>();
 
     private InstanceRegisterSerialWorker(ModuleManager moduleManager) {
         super(moduleManager);
         this.instanceCacheService = getModuleManager().find(CacheModule.NAME).getService(InstanceCacheService.class);
         this.instanceRegisterDAO = getModuleManager().find(StorageModule.NAME).getService(IInstanceRegisterDAO.class);
+        this.instanceIdAllocator = new IdBlockAllocator(instanceRegisterDAO::getMinInstanceId, instanceRegisterDAO::getMaxInstanceId, false);
     }
 
     @Override public int id() {
@@ -55,18 +61,17 @@ public class InstanceRegisterSerialWorker extends AbstractLocalAsyncWorker<Insta
         }
 
         int instanceId;
+        String key;
         if (BooleanUtils.valueToBoolean(instance.getIsAddress())) {
             instanceId = instanceCacheService.getInstanceIdByAddressId(instance.getApplicationId(), instance.getAddressId());
+            key = instance.getApplicationId() + Const.ID_SPLIT + ADDRESS_KEY_PREFIX + instance.getAddressId();
         } else {
             instanceId = instanceCacheService.getInstanceIdByAgentUUID(instance.getApplicationId(), instance.getAgentUUID());
+            key = instance.getApplicationId() + Const.ID_SPLIT + instance.getAgentUUID();
         }
 
-        if (instanceId == 0) {
-            Instance newInstance;
-
-            int min = instanceRegisterDAO.getMinInstanceId();
-            int max = instanceRegisterDAO.getMaxInstanceId();
-            if (min == 0 && max == 0) {
+        if (instanceId == 0 && !newInstances.containsKey(key)) {
+            if (instanceIdAllocator.isEmpty()) {
                 Instance userInstance = new Instance();
                 userInstance.setId(String.valueOf(Const.NONE_INSTANCE_ID));
                 userInstance.setInstanceId(Const.NONE_INSTANCE_ID);
@@ -79,32 +84,30 @@ public class InstanceRegisterSerialWorker extends AbstractLocalAsyncWorker<Insta
                 userInstance.setAddressId(Const.NONE);
                 userInstance.setIsAddress(BooleanUtils.FALSE);
                 instanceRegisterDAO.save(userInstance);
+                instanceIdAllocator.use(Const.NONE_INSTANCE_ID);
+            }
 
-                newInstance = new Instance();
-                newInstance.setId("2");
-                newInstance.setInstanceId(2);
-                newInstance.setApplicationId(instance.getApplicationId());
-                newInstance.setApplicationCode(instance.getApplicationCode());
-                newInstance.setAgentUUID(instance.getAgentUUID());
-                newInstance.setHeartBeatTime(instance.getHeartBeatTime());
-                newInstance.setOsInfo(instance.getOsInfo());
-                newInstance.setRegisterTime(instance.getRegisterTime());
-                newInstance.setAddressId(instance.getAddressId());
-                newInstance.setIsAddress(instance.getIsAddress());
-            } else {
-                newInstance = new Instance();
-                newInstance.setId(String.valueOf(max + 1));
-                newInstance.setInstanceId(max + 1);
-                newInstance.setApplicationId(instance.getApplicationId());
-                newInstance.setApplicationCode(instance.getApplicationCode());
-                newInstance.setAgentUUID(instance.getAgentUUID());
-                newInstance.setHeartBeatTime(instance.getHeartBeatTime());
-                newInstance.setOsInfo(instance.getOsInfo());
-                newInstance.setRegisterTime(instance.getRegisterTime());
-                newInstance.setAddressId(instance.getAddressId());
-                newInstance.setIsAddress(instance.getIsAddress());
+            instanceId = instanceIdAllocator.next();
+
+            Instance newInstance = new Instance();
+            newInstance.setId(String.valueOf(instanceId));
+            newInstance.setInstanceId(instanceId);
+            newInstance.setApplicationId(instance.getApplicationId());
+            newInstance.setApplicationCode(instance.getApplicationCode());
+            newInstance.setAgentUUID(instance.getAgentUUID());
+            newInstance.setHeartBeatTime(instance.getHeartBeatTime());
+            newInstance.setOsInfo(instance.getOsInfo());
+            newInstance.setRegisterTime(instance.getRegisterTime());
+            newInstance.setAddressId(instance.getAddressId());
+            newInstance.setIsAddress(instance.getIsAddress());
+            newInstances.put(key, newInstance);
+        }
+
+        if (newInstances.size() >= IdBlockAllocator.BLOCK_SIZE || instance.getEndOfBatchContext().isEndOfBatch()) {
+            if (!newInstances.isEmpty()) {
+                instanceRegisterDAO.batchSave(new ArrayList<>(newInstances.values()));
+                newInstances.clear();
             }
-            instanceRegisterDAO.save(newInstance);
         }
     }
 
@@ -117,9 +120,5 @@ public class InstanceRegisterSerialWorker extends AbstractLocalAsyncWorker<Insta
         @Override public InstanceRegisterSerialWorker workerInstance(ModuleManager moduleManager) {
             return new InstanceRegisterSerialWorker(moduleManager);
         }
-
-        @Override public int queueSize() {
-            return 256;
-        }
     }
 }
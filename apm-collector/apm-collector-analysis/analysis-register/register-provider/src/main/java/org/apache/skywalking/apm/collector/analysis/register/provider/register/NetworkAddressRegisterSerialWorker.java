@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.analysis.register.provider.register;
 
+import java.util.*;
 import org.apache.skywalking.apm.collector.analysis.register.define.graph.WorkerIdDefine;
 import org.apache.skywalking.apm.collector.analysis.worker.model.base.*;
 import org.apache.skywalking.apm.collector.cache.CacheModule;
@@ -37,11 +38,14 @@ public class NetworkAddressRegisterSerialWorker extends AbstractLocalAsyncWorker
 
     private final INetworkAddressRegisterDAO networkAddressRegisterDAO;
     private final NetworkAddressCacheService networkAddressCacheService;
+    private final IdBlockAllocator networkAddressIdAllocator;
+    private final Map<String, NetworkAddress> newNetworkAddresses = new LinkedHashMap<>();
 
     private NetworkAddressRegisterSerialWorker(ModuleManager moduleManager) {
         super(moduleManager);
         this.networkAddressRegisterDAO = getModuleManager().find(StorageModule.NAME).getService(INetworkAddressRegisterDAO.class);
         this.networkAddressCacheService = getModuleManager().find(CacheModule.NAME).getService(NetworkAddressCacheService.class);
+        this.networkAddressIdAllocator = new IdBlockAllocator(networkAddressRegisterDAO::getMinNetworkAddressId, networkAddressRegisterDAO::getMaxNetworkAddressId, true);
     }
 
     @Override public int id() {
@@ -56,30 +60,26 @@ public class NetworkAddressRegisterSerialWorker extends AbstractLocalAsyncWorker
         if (networkAddress.getAddressId() == 0) {
             int addressId = networkAddressCacheService.getAddressId(networkAddress.getNetworkAddress());
 
-            if (addressId == 0) {
-                NetworkAddress newNetworkAddress;
-                int min = networkAddressRegisterDAO.getMinNetworkAddressId();
-                if (min == 0) {
-                    newNetworkAddress = new NetworkAddress();
-                    newNetworkAddress.setId("-1");
-                    newNetworkAddress.setAddressId(-1);
-                    newNetworkAddress.setSrcSpanLayer(networkAddress.getSrcSpanLayer());
-                    newNetworkAddress.setNetworkAddress(networkAddress.getNetworkAddress());
-                } else {
-                    int max = networkAddressRegisterDAO.getMaxNetworkAddressId();
-                    addressId = IdAutoIncrement.INSTANCE.increment(min, max);
+            if (addressId == 0 && !newNetworkAddresses.containsKey(networkAddress.getNetworkAddress())) {
+                addressId = networkAddressIdAllocator.next();
 
-                    newNetworkAddress = new NetworkAddress();
-                    newNetworkAddress.setId(String.valueOf(addressId));
-                    newNetworkAddress.setAddressId(addressId);
-                    newNetworkAddress.setSrcSpanLayer(networkAddress.getSrcSpanLayer());
-                    newNetworkAddress.setNetworkAddress(networkAddress.getNetworkAddress());
-                }
-                networkAddressRegisterDAO.save(newNetworkAddress);
+                NetworkAddress newNetworkAddress = new NetworkAddress();
+                newNetworkAddress.setId(String.valueOf(addressId));
+                newNetworkAddress.setAddressId(addressId);
+                newNetworkAddress.setSrcSpanLayer(networkAddress.getSrcSpanLayer());
+                newNetworkAddress.setNetworkAddress(networkAddress.getNetworkAddress());
+                newNetworkAddresses.put(networkAddress.getNetworkAddress(), newNetworkAddress);
             }
         } else {
             networkAddressRegisterDAO.update(networkAddress.getId(), networkAddress.getSrcSpanLayer(), networkAddress.getServerType());
         }
+
+        if (newNetworkAddresses.size() >= IdBlockAllocator.BLOCK_SIZE || networkAddress.getEndOfBatchContext().isEndOfBatch()) {
+            if (!newNetworkAddresses.isEmpty()) {
+                networkAddressRegisterDAO.batchSave(new ArrayList<>(newNetworkAddresses.values()));
+                newNetworkAddresses.clear();
+            }
+        }
     }
 
     public static class Factory extends AbstractLocalAsyncWorkerProvider<NetworkAddress, NetworkAddress, NetworkAddressRegisterSerialWorker> {
@@ -91,9 +91,5 @@ public class NetworkAddressRegisterSerialWorker extends AbstractLocalAsyncWorker
         @Override public NetworkAddressRegisterSerialWorker workerInstance(ModuleManager moduleManager) {
             return new NetworkAddressRegisterSerialWorker(moduleManager);
         }
-
-        @Override public int queueSize() {
-            return 256;
-        }
     }
 }
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.analysis.register.provider.register;
 
+import java.util.*;
 import org.apache.skywalking.apm.collector.analysis.register.define.graph.WorkerIdDefine;
 import org.apache.skywalking.apm.collector.analysis.worker.model.base.*;
 import org.apache.skywalking.apm.collector.cache.CacheModule;
@@ -38,11 +39,14 @@ public class ServiceNameRegisterSerialWorker extends AbstractLocalAsyncWorker<Se
 
     private final IServiceNameRegisterDAO serviceNameRegisterDAO;
     private final ServiceIdCacheService serviceIdCacheService;
+    private final IdBlockAllocator serviceIdAllocator;
+    private final Map<String, ServiceName> newServiceNames = new LinkedHashMap<>();
 
     private ServiceNameRegisterSerialWorker(ModuleManager moduleManager) {
         super(moduleManager);
         this.serviceNameRegisterDAO = getModuleManager().find(StorageModule.NAME).getService(IServiceNameRegisterDAO.class);
         this.serviceIdCacheService = getModuleManager().find(CacheModule.NAME).getService(ServiceIdCacheService.class);
+        this.serviceIdAllocator = new IdBlockAllocator(serviceNameRegisterDAO::getMinServiceId, serviceNameRegisterDAO::getMaxServiceId, true);
     }
 
     @Override public int id() {
@@ -55,12 +59,11 @@ public class ServiceNameRegisterSerialWorker extends AbstractLocalAsyncWorker<Se
         }
 
         int serviceId = serviceIdCacheService.get(serviceName.getApplicationId(), serviceName.getSrcSpanType(), serviceName.getServiceName());
-        if (serviceId == 0) {
+        String key = serviceName.getApplicationId() + Const.ID_SPLIT + serviceName.getSrcSpanType() + Const.ID_SPLIT + serviceName.getServiceName();
+        if (serviceId == 0 && !newServiceNames.containsKey(key)) {
             long now = System.currentTimeMillis();
-            ServiceName newServiceName;
 
-            int min = serviceNameRegisterDAO.getMinServiceId();
-            if (min == 0) {
+            if (serviceIdAllocator.isEmpty()) {
                 ServiceName noneServiceName = new ServiceName();
                 noneServiceName.setId("1");
                 noneServiceName.setApplicationId(Const.NONE_APPLICATION_ID);
@@ -70,29 +73,27 @@ public class ServiceNameRegisterSerialWorker extends AbstractLocalAsyncWorker<Se
                 noneServiceName.setRegisterTime(now);
                 noneServiceName.setHeartBeatTime(now);
                 serviceNameRegisterDAO.save(noneServiceName);
+                serviceIdAllocator.use(Const.NONE_SERVICE_ID);
+            }
+
+            serviceId = serviceIdAllocator.next();
+
+            ServiceName newServiceName = new ServiceName();
+            newServiceName.setId(String.valueOf(serviceId));
+            newServiceName.setApplicationId(serviceName.getApplicationId());
+            newServiceName.setServiceId(serviceId);
+            newServiceName.setSrcSpanType(serviceName.getSrcSpanType());
+            newServiceName.setServiceName(serviceName.getServiceName());
+            newServiceName.setRegisterTime(now);
+            newServiceName.setHeartBeatTime(now);
+            newServiceNames.put(key, newServiceName);
+        }
 
-                newServiceName = new ServiceName();
-                newServiceName.setId("-1");
-                newServiceName.setApplicationId(serviceName.getApplicationId());
-                newServiceName.setServiceId(-1);
-                newServiceName.setSrcSpanType(serviceName.getSrcSpanType());
-                newServiceName.setServiceName(serviceName.getServiceName());
-                newServiceName.setRegisterTime(now);
-                newServiceName.setHeartBeatTime(now);
-            } else {
-                int max = serviceNameRegisterDAO.getMaxServiceId();
-                serviceId = IdAutoIncrement.INSTANCE.increment(min, max);
-
-                newServiceName = new ServiceName();
-                newServiceName.setId(String.valueOf(serviceId));
-                newServiceName.setApplicationId(serviceName.getApplicationId());
-                newServiceName.setServiceId(serviceId);
-                newServiceName.setSrcSpanType(serviceName.getSrcSpanType());
-                newServiceName.setServiceName(serviceName.getServiceName());
-                newServiceName.setRegisterTime(now);
-                newServiceName.setHeartBeatTime(now);
+        if (newServiceNames.size() >= IdBlockAllocator.BLOCK_SIZE || serviceName.getEndOfBatchContext().isEndOfBatch()) {
+            if (!newServiceNames.isEmpty()) {
+                serviceNameRegisterDAO.batchSave(new ArrayList<>(newServiceNames.values()));
+                newServiceNames.clear();
             }
-            serviceNameRegisterDAO.save(newServiceName);
         }
     }
 
@@ -105,9 +106,5 @@ public class ServiceNameRegisterSerialWorker extends AbstractLocalAsyncWorker<Se
         @Override public ServiceNameRegisterSerialWorker workerInstance(ModuleManager moduleManager) {
             return new ServiceNameRegisterSerialWorker(moduleManager);
         }
-
-        @Override public int queueSize() {
-            return 256;
-        }
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.register.provider.register;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IdBlockAllocatorTestCase {
+
+    @Test
+    public void testBidirectional() {
+        IdBlockAllocator allocator = new IdBlockAllocator(() -> 0, () -> 0, true);
+        Assert.assertTrue(allocator.isEmpty());
+
+        allocator.use(1);
+        Assert.assertFalse(allocator.isEmpty());
+        Assert.assertEquals(-1, allocator.next());
+        Assert.assertEquals(2, allocator.next());
+        Assert.assertEquals(-2, allocator.next());
+        Assert.assertEquals(3, allocator.next());
+    }
+
+    @Test
+    public void testIncrease() {
+        IdBlockAllocator allocator = new IdBlockAllocator(() -> -3, () -> 5, false);
+        Assert.assertFalse(allocator.isEmpty());
+        Assert.assertEquals(6, allocator.next());
+        Assert.assertEquals(7, allocator.next());
+    }
+
+    @Test
+    public void testLeaseBlock() {
+        AtomicInteger queries = new AtomicInteger();
+        IdBlockAllocator allocator = new IdBlockAllocator(() -> {
+            queries.incrementAndGet();
+            return 0;
+        }, () -> 2, false, 10);
+
+        for (int i = 0; i < 10; i++) {
+            allocator.next();
+        }
+        Assert.assertEquals(1, queries.get());
+
+        Assert.assertEquals(13, allocator.next());
+        Assert.assertEquals(2, queries.get());
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.analysis.segment.parser.define;
 
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentIngestService;
 import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentParseService;
 import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentParserListenerRegister;
 import org.apache.skywalking.apm.collector.core.module.ModuleDefine;
@@ -34,6 +35,6 @@ public class AnalysisSegmentParserModule extends ModuleDefine {
     }
 
     @Override public Class[] services() {
-        return new Class[] {ISegmentParseService.class, ISegmentParserListenerRegister.class};
+        return new Class[] {ISegmentParseService.class, ISegmentIngestService.class, ISegmentParserListenerRegister.class};
     }
 }
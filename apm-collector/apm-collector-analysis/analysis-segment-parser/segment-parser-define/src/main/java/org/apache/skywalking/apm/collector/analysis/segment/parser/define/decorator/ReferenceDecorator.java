@@ -182,6 +182,14 @@ public class ReferenceDecorator implements StandardBuilder {
         referenceBuilder.setNetworkAddress(value);
     }
 
+    boolean isChanged() {
+        return !isOrigin;
+    }
+
+    TraceSegmentReference build() {
+        return isOrigin ? referenceObject : referenceBuilder.build();
+    }
+
     @Override public void toBuilder() {
         if (this.isOrigin) {
             this.isOrigin = false;
@@ -31,6 +31,24 @@ public class SegmentCoreInfo {
     private boolean isError;
     private long minuteTimeBucket;
 
+    public SegmentCoreInfo() {
+        reset();
+    }
+
+    /**
+     * Clears the info of the last parsed segment, the start and end time are reset to be compared with the spans.
+     */
+    public void reset() {
+        this.segmentId = null;
+        this.traceId = null;
+        this.applicationId = 0;
+        this.applicationInstanceId = 0;
+        this.startTime = Long.MAX_VALUE;
+        this.endTime = Long.MIN_VALUE;
+        this.isError = false;
+        this.minuteTimeBucket = 0;
+    }
+
     public String getSegmentId() {
         return segmentId;
     }
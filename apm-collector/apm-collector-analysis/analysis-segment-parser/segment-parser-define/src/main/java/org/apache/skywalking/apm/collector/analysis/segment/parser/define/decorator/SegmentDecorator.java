@@ -18,10 +18,17 @@
 
 package org.apache.skywalking.apm.collector.analysis.segment.parser.define.decorator;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import java.io.IOException;
+import org.apache.skywalking.apm.network.proto.SpanObject;
 import org.apache.skywalking.apm.network.proto.TraceSegmentObject;
 import org.apache.skywalking.apm.network.proto.UniqueId;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * @author peng-yongsheng
@@ -29,11 +36,20 @@ import static java.util.Objects.isNull;
 public class SegmentDecorator implements StandardBuilder {
     private boolean isOrigin = true;
     private final TraceSegmentObject segmentObject;
-    private TraceSegmentObject.Builder segmentBuilder;
+    private final ByteString originBinary;
     private final SpanDecorator[] spanDecorators;
 
     public SegmentDecorator(TraceSegmentObject segmentObject) {
+        this(segmentObject, null);
+    }
+
+    /**
+     * @param originBinary the binary which the segment object is parsed from. It is stored as it is when no id is
+     * exchanged, otherwise only the exchanged spans are encoded again.
+     */
+    public SegmentDecorator(TraceSegmentObject segmentObject, ByteString originBinary) {
         this.segmentObject = segmentObject;
+        this.originBinary = originBinary;
         this.spanDecorators = new SpanDecorator[segmentObject.getSpansCount()];
     }
 
@@ -55,27 +71,69 @@ public class SegmentDecorator implements StandardBuilder {
 
     public SpanDecorator getSpans(int index) {
         if (isNull(spanDecorators[index])) {
-            if (isOrigin) {
-                spanDecorators[index] = new SpanDecorator(segmentObject.getSpans(index), this);
-            } else {
-                spanDecorators[index] = new SpanDecorator(segmentBuilder.getSpansBuilder(index), this);
-            }
+            spanDecorators[index] = new SpanDecorator(segmentObject.getSpans(index), this);
         }
         return spanDecorators[index];
     }
 
     public byte[] toByteArray() {
         if (isOrigin) {
-            return segmentObject.toByteArray();
-        } else {
-            return segmentBuilder.build().toByteArray();
+            return isNull(originBinary) ? segmentObject.toByteArray() : originBinary.toByteArray();
+        } else if (isNull(originBinary)) {
+            return build().toByteArray();
+        }
+
+        try {
+            return patch();
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
         }
     }
 
-    @Override public void toBuilder() {
-        if (isOrigin) {
-            this.isOrigin = false;
-            this.segmentBuilder = segmentObject.toBuilder();
+    private TraceSegmentObject build() {
+        TraceSegmentObject.Builder segmentBuilder = segmentObject.toBuilder();
+        for (int i = 0; i < spanDecorators.length; i++) {
+            if (nonNull(spanDecorators[i]) && spanDecorators[i].isChanged()) {
+                segmentBuilder.setSpans(i, spanDecorators[i].build());
+            }
         }
+        return segmentBuilder.build();
+    }
+
+    /**
+     * Copies the fields of the origin binary as they are, except the exchanged spans which are encoded again.
+     */
+    private byte[] patch() throws IOException {
+        SpanObject[] changedSpans = new SpanObject[spanDecorators.length];
+        int size = originBinary.size();
+        for (int i = 0; i < spanDecorators.length; i++) {
+            if (nonNull(spanDecorators[i]) && spanDecorators[i].isChanged()) {
+                changedSpans[i] = spanDecorators[i].build();
+                size += CodedOutputStream.computeMessageSize(TraceSegmentObject.SPANS_FIELD_NUMBER, changedSpans[i]);
+                size -= CodedOutputStream.computeMessageSize(TraceSegmentObject.SPANS_FIELD_NUMBER, segmentObject.getSpans(i));
+            }
+        }
+
+        byte[] binary = new byte[size];
+        CodedOutputStream output = CodedOutputStream.newInstance(binary);
+        CodedInputStream input = originBinary.newCodedInput();
+        int spanIndex = 0;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            int start = input.getTotalBytesRead() - CodedOutputStream.computeUInt32SizeNoTag(tag);
+            input.skipField(tag);
+
+            if (WireFormat.getTagFieldNumber(tag) == TraceSegmentObject.SPANS_FIELD_NUMBER && nonNull(changedSpans[spanIndex++])) {
+                output.writeMessage(TraceSegmentObject.SPANS_FIELD_NUMBER, changedSpans[spanIndex - 1]);
+            } else {
+                output.writeRawBytes(originBinary.substring(start, input.getTotalBytesRead()));
+            }
+        }
+        output.checkNoSpaceLeft();
+        return binary;
+    }
+
+    @Override public void toBuilder() {
+        this.isOrigin = false;
     }
 }
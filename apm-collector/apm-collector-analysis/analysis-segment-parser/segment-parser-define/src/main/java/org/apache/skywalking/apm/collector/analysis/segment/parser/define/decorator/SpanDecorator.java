@@ -21,6 +21,7 @@ package org.apache.skywalking.apm.collector.analysis.segment.parser.define.decor
 import org.apache.skywalking.apm.network.proto.*;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * @author peng-yongsheng
@@ -217,7 +218,7 @@ public class SpanDecorator implements StandardBuilder {
 
     public ReferenceDecorator getRefs(int index) {
         if (isNull(referenceDecorators[index])) {
-            if (isOrigin) {
+            if (nonNull(spanObject)) {
                 referenceDecorators[index] = new ReferenceDecorator(spanObject.getRefs(index), this);
             } else {
                 referenceDecorators[index] = new ReferenceDecorator(spanBuilder.getRefsBuilder(index), this);
@@ -226,6 +227,26 @@ public class SpanDecorator implements StandardBuilder {
         return referenceDecorators[index];
     }
 
+    boolean isChanged() {
+        return !isOrigin;
+    }
+
+    /**
+     * @return the span with the exchanged ids of its references.
+     */
+    SpanObject build() {
+        if (isOrigin) {
+            return spanObject;
+        }
+
+        for (int i = 0; i < referenceDecorators.length; i++) {
+            if (nonNull(referenceDecorators[i]) && referenceDecorators[i].isChanged()) {
+                spanBuilder.setRefs(i, referenceDecorators[i].build());
+            }
+        }
+        return spanBuilder.build();
+    }
+
     @Override public void toBuilder() {
         if (this.isOrigin) {
             this.isOrigin = false;
@@ -26,6 +26,12 @@ public interface SpanListener {
 
     boolean containsPoint(Point point);
 
+    /**
+     * Clears the state of the last parsed segment, the listener is reused by the next segment parsed in the same
+     * thread. The objects which were sent to the graphs must not be reused.
+     */
+    void reset();
+
     enum Point {
         Entry, Exit, Local, First, GlobalTraceIds
     }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.define.service;
+
+import org.apache.skywalking.apm.collector.core.module.Service;
+import org.apache.skywalking.apm.network.proto.UpstreamSegment;
+
+/**
+ * The bounded ingestion stage between the receivers and the segment parse, the segments received from the agents are
+ * queued and parsed by the ingestion threads, so the slow parse never stalls the transport threads.
+ */
+public interface ISegmentIngestService extends Service {
+
+    /**
+     * @return false if the queue is full, the segment isn't accepted.
+     */
+    boolean offer(UpstreamSegment segment);
+
+    /**
+     * Runs the listener once when the queue has room again, for the receivers which stop reading instead of blocking
+     * when the queue is full.
+     */
+    void onCapacity(Runnable listener);
+
+    /**
+     * Blocks until the segment is accepted.
+     */
+    void put(UpstreamSegment segment) throws InterruptedException;
+}
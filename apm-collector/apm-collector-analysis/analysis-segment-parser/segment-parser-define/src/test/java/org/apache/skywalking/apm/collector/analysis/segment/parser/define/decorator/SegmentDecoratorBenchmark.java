@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.define.decorator;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.network.proto.TraceSegmentObject;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Segments per second of parsing a segment with hundreds of JDBC spans, exchanging the ids and getting the binary to
+ * store. The re-encode benchmarks are the way before the exchanged spans were patched into the origin binary.
+ *
+ * Run by {@link #main(String[])}, it is not a part of the unit tests.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SegmentDecoratorBenchmark {
+
+    @Param({"10", "300"})
+    private int exitSpans;
+
+    private ByteString binary;
+
+    @Setup
+    public void setUp() {
+        binary = SegmentObjects.newSegment(exitSpans).toByteString();
+    }
+
+    @Benchmark
+    public byte[] unchangedReencode() throws InvalidProtocolBufferException {
+        return TraceSegmentObject.parseFrom(binary).toByteArray();
+    }
+
+    @Benchmark
+    public byte[] unchanged() throws InvalidProtocolBufferException {
+        return new SegmentDecorator(TraceSegmentObject.parseFrom(binary), binary).toByteArray();
+    }
+
+    @Benchmark
+    public byte[] exchangedReencode() throws InvalidProtocolBufferException {
+        return exchange(new SegmentDecorator(TraceSegmentObject.parseFrom(binary))).toByteArray();
+    }
+
+    @Benchmark
+    public byte[] exchanged() throws InvalidProtocolBufferException {
+        return exchange(new SegmentDecorator(TraceSegmentObject.parseFrom(binary), binary)).toByteArray();
+    }
+
+    /**
+     * Exchanges the reference of the entry span, and the peer of the first exit span.
+     */
+    private SegmentDecorator exchange(SegmentDecorator segmentDecorator) {
+        ReferenceDecorator referenceDecorator = segmentDecorator.getSpans(0).getRefs(0);
+        referenceDecorator.setEntryServiceId(10);
+        referenceDecorator.setEntryServiceName("");
+
+        SpanDecorator spanDecorator = segmentDecorator.getSpans(1);
+        spanDecorator.setPeerId(12);
+        spanDecorator.setPeer("");
+        return segmentDecorator;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(SegmentDecoratorBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
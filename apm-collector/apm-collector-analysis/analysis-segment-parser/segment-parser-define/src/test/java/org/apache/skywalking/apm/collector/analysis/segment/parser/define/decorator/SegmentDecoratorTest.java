@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.define.decorator;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.apache.skywalking.apm.network.proto.TraceSegmentObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SegmentDecoratorTest {
+
+    @Test
+    public void testUnchangedKeepsOriginBinary() throws InvalidProtocolBufferException {
+        ByteString binary = SegmentObjects.newSegment(5).toByteString();
+        SegmentDecorator segmentDecorator = new SegmentDecorator(TraceSegmentObject.parseFrom(binary), binary);
+        for (int i = 0; i < segmentDecorator.getSpansCount(); i++) {
+            segmentDecorator.getSpans(i).getRefsCount();
+        }
+
+        Assert.assertArrayEquals(binary.toByteArray(), segmentDecorator.toByteArray());
+    }
+
+    @Test
+    public void testPatchExchangedSpans() throws InvalidProtocolBufferException {
+        ByteString binary = SegmentObjects.newSegment(5).toByteString();
+        SegmentDecorator patched = new SegmentDecorator(TraceSegmentObject.parseFrom(binary), binary);
+        SegmentDecorator rebuilt = new SegmentDecorator(TraceSegmentObject.parseFrom(binary));
+
+        for (SegmentDecorator segmentDecorator : new SegmentDecorator[] {patched, rebuilt}) {
+            ReferenceDecorator referenceDecorator = segmentDecorator.getSpans(0).getRefs(0);
+            referenceDecorator.setEntryServiceId(10);
+            referenceDecorator.setEntryServiceName("");
+            referenceDecorator.setNetworkAddressId(11);
+            referenceDecorator.setNetworkAddress("");
+
+            SpanDecorator spanDecorator = segmentDecorator.getSpans(3);
+            spanDecorator.setPeerId(12);
+            spanDecorator.setPeer("");
+        }
+
+        TraceSegmentObject segmentObject = TraceSegmentObject.parseFrom(patched.toByteArray());
+        Assert.assertEquals(TraceSegmentObject.parseFrom(rebuilt.toByteArray()), segmentObject);
+        Assert.assertEquals(10, segmentObject.getSpans(0).getRefs(0).getEntryServiceId());
+        Assert.assertEquals(11, segmentObject.getSpans(0).getRefs(0).getNetworkAddressId());
+        Assert.assertEquals(12, segmentObject.getSpans(3).getPeerId());
+        Assert.assertEquals("", segmentObject.getSpans(3).getPeer());
+        Assert.assertEquals("localhost:3306", segmentObject.getSpans(2).getPeer());
+        Assert.assertEquals(6, segmentObject.getSpansCount());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.define.decorator;
+
+import org.apache.skywalking.apm.network.proto.KeyWithStringValue;
+import org.apache.skywalking.apm.network.proto.RefType;
+import org.apache.skywalking.apm.network.proto.SpanLayer;
+import org.apache.skywalking.apm.network.proto.SpanObject;
+import org.apache.skywalking.apm.network.proto.SpanType;
+import org.apache.skywalking.apm.network.proto.TraceSegmentObject;
+import org.apache.skywalking.apm.network.proto.TraceSegmentReference;
+import org.apache.skywalking.apm.network.proto.UniqueId;
+
+class SegmentObjects {
+
+    private SegmentObjects() {
+    }
+
+    /**
+     * A segment with an entry span which has a reference, and exit spans with the peer and the operation name not
+     * exchanged.
+     */
+    static TraceSegmentObject newSegment(int exitSpans) {
+        TraceSegmentObject.Builder segment = TraceSegmentObject.newBuilder();
+        segment.setTraceSegmentId(UniqueId.newBuilder().addIdParts(1L).addIdParts(2L).addIdParts(3L));
+        segment.setApplicationId(2);
+        segment.setApplicationInstanceId(3);
+
+        SpanObject.Builder entrySpan = SpanObject.newBuilder();
+        entrySpan.setSpanId(0);
+        entrySpan.setParentSpanId(-1);
+        entrySpan.setSpanType(SpanType.Entry);
+        entrySpan.setSpanLayer(SpanLayer.Http);
+        entrySpan.setStartTime(1539846000000L);
+        entrySpan.setEndTime(1539846000500L);
+        entrySpan.setComponentId(1);
+        entrySpan.setOperationName("/dubbox-case/case/dubbox-rest");
+        entrySpan.addRefs(TraceSegmentReference.newBuilder()
+            .setRefType(RefType.CrossProcess)
+            .setParentTraceSegmentId(UniqueId.newBuilder().addIdParts(4L).addIdParts(5L).addIdParts(6L))
+            .setParentSpanId(1)
+            .setParentApplicationInstanceId(7)
+            .setNetworkAddress("172.25.0.4:20880")
+            .setEntryApplicationInstanceId(7)
+            .setEntryServiceName("/dubbox-case/case/dubbox-rest")
+            .setParentServiceName("/dubbox-case/case/dubbox-rest"));
+        segment.addSpans(entrySpan);
+
+        for (int i = 1; i <= exitSpans; i++) {
+            SpanObject.Builder exitSpan = SpanObject.newBuilder();
+            exitSpan.setSpanId(i);
+            exitSpan.setParentSpanId(0);
+            exitSpan.setSpanType(SpanType.Exit);
+            exitSpan.setSpanLayer(SpanLayer.Database);
+            exitSpan.setStartTime(1539846000000L + i);
+            exitSpan.setEndTime(1539846000010L + i);
+            exitSpan.setComponentId(5);
+            exitSpan.setOperationName("Mysql/JDBI/PreparedStatement/executeQuery");
+            exitSpan.setPeer("localhost:3306");
+            exitSpan.addTags(KeyWithStringValue.newBuilder().setKey("db.statement").setValue("select * from orders where id = ?"));
+            segment.addSpans(exitSpan);
+        }
+        return segment.build();
+    }
+}
@@ -29,6 +29,9 @@ public class AnalysisSegmentParserModuleConfig extends ModuleConfig {
     private String bufferOffsetMaxFileSize;
     private String bufferSegmentMaxFileSize;
     private boolean bufferFileCleanWhenRestart;
+    private boolean bufferFileMemoryMapped;
+    private int ingestThreadNum = Runtime.getRuntime().availableProcessors();
+    private int ingestQueueSize = 10000;
 
     public String getBufferFilePath() {
         return bufferFilePath;
@@ -61,4 +64,28 @@ public class AnalysisSegmentParserModuleConfig extends ModuleConfig {
     public void setBufferFileCleanWhenRestart(boolean bufferFileCleanWhenRestart) {
         this.bufferFileCleanWhenRestart = bufferFileCleanWhenRestart;
     }
+
+    public boolean isBufferFileMemoryMapped() {
+        return bufferFileMemoryMapped;
+    }
+
+    public void setBufferFileMemoryMapped(boolean bufferFileMemoryMapped) {
+        this.bufferFileMemoryMapped = bufferFileMemoryMapped;
+    }
+
+    public int getIngestThreadNum() {
+        return ingestThreadNum;
+    }
+
+    public void setIngestThreadNum(int ingestThreadNum) {
+        this.ingestThreadNum = ingestThreadNum;
+    }
+
+    public int getIngestQueueSize() {
+        return ingestQueueSize;
+    }
+
+    public void setIngestQueueSize(int ingestQueueSize) {
+        this.ingestQueueSize = ingestQueueSize;
+    }
 }
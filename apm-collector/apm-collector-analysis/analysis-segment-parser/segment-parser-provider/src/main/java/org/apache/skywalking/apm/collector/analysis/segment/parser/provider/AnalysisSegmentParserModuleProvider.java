@@ -40,6 +40,7 @@ public class AnalysisSegmentParserModuleProvider extends ModuleProvider {
     private static final String NAME = "default";
     private final AnalysisSegmentParserModuleConfig config;
     private SegmentParserListenerManager listenerManager;
+    private SegmentIngestService segmentIngestService;
 
     public AnalysisSegmentParserModuleProvider() {
         super();
@@ -61,7 +62,11 @@ public class AnalysisSegmentParserModuleProvider extends ModuleProvider {
     @Override public void prepare() throws ServiceNotProvidedException {
         this.listenerManager = new SegmentParserListenerManager();
         this.registerServiceImplementation(ISegmentParserListenerRegister.class, new SegmentParserListenerRegister(listenerManager));
-        this.registerServiceImplementation(ISegmentParseService.class, new SegmentParseService(getManager(), listenerManager));
+        SegmentParseService segmentParseService = new SegmentParseService(getManager(), listenerManager);
+        this.registerServiceImplementation(ISegmentParseService.class, segmentParseService);
+
+        this.segmentIngestService = new SegmentIngestService(segmentParseService, config.getIngestThreadNum(), config.getIngestQueueSize());
+        this.registerServiceImplementation(ISegmentIngestService.class, segmentIngestService);
 
         BufferFileConfig.Parser parser = new BufferFileConfig.Parser();
         parser.parse(config);
@@ -74,7 +79,10 @@ public class AnalysisSegmentParserModuleProvider extends ModuleProvider {
 
         PersistenceTimer.INSTANCE.start(getManager(), workerCreateListener.getPersistenceWorkers());
 
-        SegmentBufferReader.INSTANCE.setSegmentParserListenerManager(listenerManager);
+        BufferFileConfig.segmentBuffer().setSegmentParserListenerManager(listenerManager);
+
+        segmentIngestService.start();
+        SegmentParseMetric.INSTANCE.start();
     }
 
     @Override public void notifyAfterCompleted() {
@@ -29,6 +29,15 @@ public class BufferFileConfig {
     static int BUFFER_SEGMENT_MAX_FILE_SIZE = 10 * 1024 * 1024;
     static String BUFFER_PATH = "../buffer/";
     static boolean BUFFER_FILE_CLEAN_WHEN_RESTART = false;
+    static boolean BUFFER_FILE_MEMORY_MAPPED = false;
+
+    public static ISegmentBuffer segmentBuffer() {
+        if (BUFFER_FILE_MEMORY_MAPPED) {
+            return MappedSegmentBufferManager.INSTANCE;
+        } else {
+            return SegmentBufferManager.INSTANCE;
+        }
+    }
 
     public static class Parser {
 
@@ -80,6 +89,7 @@ public class BufferFileConfig {
             }
 
             BUFFER_FILE_CLEAN_WHEN_RESTART = config.isBufferFileCleanWhenRestart();
+            BUFFER_FILE_MEMORY_MAPPED = config.isBufferFileMemoryMapped();
         }
     }
 }
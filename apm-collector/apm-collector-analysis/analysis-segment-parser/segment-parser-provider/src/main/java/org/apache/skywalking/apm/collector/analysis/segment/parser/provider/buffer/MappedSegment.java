@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.buffer;
+
+import com.google.protobuf.CodedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.skywalking.apm.network.proto.UpstreamSegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pre-allocated, memory mapped segment buffer file.
+ *
+ * Every record is a 4 bytes header followed by the serialized segment. A positive header is the length of the
+ * segment, a negative header is a hole of that length left by a failed write, and zero means no more records.
+ *
+ * Writers reserve space by moving the append cursor with CAS, then copy the segment into the mapping concurrently.
+ * The committed position is moved forward in the order of the reservations, so all bytes before it are readable.
+ */
+class MappedSegment {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedSegment.class);
+
+    static final int HEADER_SIZE = 4;
+    private static final int SPIN_TIMES = 100;
+
+    private final File file;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicInteger reserved;
+    private final AtomicInteger committed;
+    private volatile int sealedPosition = -1;
+
+    private MappedSegment(File file, MappedByteBuffer buffer, int position) {
+        this.file = file;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+        this.reserved = new AtomicInteger(position);
+        this.committed = new AtomicInteger(position);
+    }
+
+    static MappedSegment create(File file, int capacity) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(capacity);
+            return new MappedSegment(file, randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity), 0);
+        }
+    }
+
+    /**
+     * Maps an existing file to continue writing. The offset is the last committed position recorded in the offset
+     * file, records written after it are recovered by scanning the headers.
+     */
+    static MappedSegment open(File file, long offset) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            MappedByteBuffer buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, randomAccessFile.length());
+
+            int position = (int)Math.min(offset, buffer.capacity());
+            int header;
+            while ((header = header(buffer, position, buffer.capacity())) != 0) {
+                position = position + HEADER_SIZE + Math.abs(header);
+            }
+            return new MappedSegment(file, buffer, position);
+        }
+    }
+
+    static ByteBuffer mapReadOnly(File file) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length());
+        }
+    }
+
+    /**
+     * @return the header of the record which starts at the given position, 0 if there is no complete record between
+     * the position and the end.
+     */
+    static int header(ByteBuffer buffer, int position, int end) {
+        if (position + HEADER_SIZE > end) {
+            return 0;
+        }
+        int header = buffer.getInt(position);
+        if (header == Integer.MIN_VALUE || Math.abs(header) > end - position - HEADER_SIZE) {
+            return 0;
+        }
+        return header;
+    }
+
+    /**
+     * @return the position of the reserved space, -1 if this file has no enough space left.
+     */
+    int reserve(int size) {
+        while (true) {
+            int position = reserved.get();
+            if (position + size > capacity || position + size < 0) {
+                return -1;
+            }
+            if (reserved.compareAndSet(position, position + size)) {
+                return position;
+            }
+        }
+    }
+
+    void write(int position, UpstreamSegment segment, int size) {
+        ByteBuffer target = buffer.duplicate();
+        target.position(position + HEADER_SIZE);
+        boolean success = false;
+        try {
+            CodedOutputStream outputStream = CodedOutputStream.newInstance(target);
+            segment.writeTo(outputStream);
+            outputStream.flush();
+            success = true;
+        } catch (IOException | RuntimeException e) {
+            logger.error(e.getMessage(), e);
+        } finally {
+            target.putInt(position, success ? size : -size);
+            commit(position, HEADER_SIZE + size);
+        }
+    }
+
+    private void commit(int position, int size) {
+        int spin = 0;
+        while (committed.get() != position) {
+            if (++spin > SPIN_TIMES) {
+                Thread.yield();
+            }
+        }
+        committed.set(position + size);
+    }
+
+    /**
+     * Stops new reservations, the space after the last reservation is left as zero.
+     */
+    void seal() {
+        sealedPosition = reserved.getAndSet(capacity);
+    }
+
+    /**
+     * @return true if this file has been sealed and all the reserved records are committed.
+     */
+    boolean isDrained() {
+        int sealed = sealedPosition;
+        return sealed >= 0 && committed.get() == sealed;
+    }
+
+    int committed() {
+        return committed.get();
+    }
+
+    ByteBuffer readView() {
+        return buffer.duplicate();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    String getName() {
+        return file.getName();
+    }
+}
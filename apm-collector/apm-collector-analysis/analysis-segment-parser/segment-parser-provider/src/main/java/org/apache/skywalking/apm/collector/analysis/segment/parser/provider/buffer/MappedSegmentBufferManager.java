@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.buffer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.channels.FileLock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.provider.parser.SegmentParserListenerManager;
+import org.apache.skywalking.apm.collector.core.module.ModuleManager;
+import org.apache.skywalking.apm.collector.core.util.Const;
+import org.apache.skywalking.apm.collector.core.util.StringUtils;
+import org.apache.skywalking.apm.collector.core.util.TimeBucketUtils;
+import org.apache.skywalking.apm.network.proto.UpstreamSegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The segment buffer based on memory mapped files, the writers append without lock. The write offset is committed
+ * into the {@link OffsetManager} when flushing, not for every segment.
+ */
+public enum MappedSegmentBufferManager implements ISegmentBuffer {
+    INSTANCE;
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedSegmentBufferManager.class);
+
+    public static final String DATA_FILE_PREFIX = "mapped";
+    private final Map<String, MappedSegment> segments = new ConcurrentHashMap<>();
+    private volatile MappedSegment current;
+    private long lastFileId = 0;
+
+    @Override public synchronized void initialize(ModuleManager moduleManager) {
+        logger.info("mapped segment buffer initialize");
+        try {
+            OffsetManager.INSTANCE.initialize();
+            if (!new File(BufferFileConfig.BUFFER_PATH).mkdirs() && BufferFileConfig.BUFFER_FILE_CLEAN_WHEN_RESTART) {
+                deleteFiles();
+                OffsetManager.INSTANCE.setReadOffset(Const.EMPTY_STRING, 0);
+            }
+            tryLock();
+
+            lastFileId = lastFileId();
+            String writeFileName = OffsetManager.INSTANCE.getWriteFileName();
+            File dataFile = new File(BufferFileConfig.BUFFER_PATH + writeFileName);
+            if (isDataFile(writeFileName) && dataFile.exists()) {
+                current = MappedSegment.open(dataFile, OffsetManager.INSTANCE.getWriteFileOffset());
+                segments.put(writeFileName, current);
+            } else {
+                current = newDataFile(BufferFileConfig.BUFFER_SEGMENT_MAX_FILE_SIZE);
+            }
+            MappedSegmentBufferReader.INSTANCE.initialize(moduleManager);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    @Override public void setSegmentParserListenerManager(SegmentParserListenerManager listenerManager) {
+        MappedSegmentBufferReader.INSTANCE.setSegmentParserListenerManager(listenerManager);
+    }
+
+    @Override public void writeBuffer(UpstreamSegment segment) {
+        int size = segment.getSerializedSize();
+        MappedSegment writing = current;
+        int position;
+        while ((position = writing.reserve(MappedSegment.HEADER_SIZE + size)) < 0) {
+            writing = nextDataFile(writing, MappedSegment.HEADER_SIZE + size);
+            if (writing == null) {
+                return;
+            }
+        }
+        writing.write(position, segment, size);
+    }
+
+    /**
+     * Commits the write offset and forces the written segments to the disk.
+     */
+    @Override public synchronized void flush() {
+        MappedSegment writing = current;
+        if (writing != null) {
+            OffsetManager.INSTANCE.setWriteOffset(writing.getName(), writing.committed());
+            writing.force();
+        }
+    }
+
+    MappedSegment segment(String fileName) {
+        return segments.get(fileName);
+    }
+
+    void release(String fileName) {
+        segments.remove(fileName);
+    }
+
+    private synchronized MappedSegment nextDataFile(MappedSegment full, int requiredSize) {
+        if (current != full) {
+            return current;
+        }
+
+        full.seal();
+        try {
+            current = newDataFile(Math.max(BufferFileConfig.BUFFER_SEGMENT_MAX_FILE_SIZE, requiredSize));
+            OffsetManager.INSTANCE.setWriteOffset(current.getName(), 0);
+            return current;
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private MappedSegment newDataFile(int capacity) throws IOException {
+        if (logger.isDebugEnabled()) {
+            logger.debug("create new mapped segment buffer file");
+        }
+
+        lastFileId = Math.max(TimeBucketUtils.INSTANCE.getSecondTimeBucket(System.currentTimeMillis()), lastFileId + 1);
+        String writeFileName = DATA_FILE_PREFIX + "_" + lastFileId + "." + Const.FILE_SUFFIX;
+        MappedSegment segment = MappedSegment.create(new File(BufferFileConfig.BUFFER_PATH + writeFileName), capacity);
+        segments.put(writeFileName, segment);
+        return segment;
+    }
+
+    private long lastFileId() {
+        long fileId = Math.max(fileId(OffsetManager.INSTANCE.getReadFileName()), fileId(OffsetManager.INSTANCE.getWriteFileName()));
+        File[] dataFiles = new File(BufferFileConfig.BUFFER_PATH).listFiles(new PrefixFileNameFilter());
+        if (dataFiles != null) {
+            for (File dataFile : dataFiles) {
+                fileId = Math.max(fileId, fileId(dataFile.getName()));
+            }
+        }
+        return fileId;
+    }
+
+    static boolean isDataFile(String fileName) {
+        return StringUtils.isNotEmpty(fileName) && fileName.startsWith(DATA_FILE_PREFIX + "_");
+    }
+
+    static long fileId(String fileName) {
+        if (!isDataFile(fileName)) {
+            return 0;
+        }
+        fileName = fileName.replace(DATA_FILE_PREFIX + "_", Const.EMPTY_STRING);
+        fileName = fileName.replace("." + Const.FILE_SUFFIX, Const.EMPTY_STRING);
+        return Long.valueOf(fileName);
+    }
+
+    private void tryLock() {
+        logger.info("try to lock buffer directory.");
+        FileLock lock = null;
+
+        try {
+            lock = new FileOutputStream(BufferFileConfig.BUFFER_PATH + "lock").getChannel().tryLock();
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+
+        if (lock == null) {
+            throw new RuntimeException("The buffer directory is reading or writing by another thread.");
+        }
+    }
+
+    private void deleteFiles() {
+        File[] dataFiles = new File(BufferFileConfig.BUFFER_PATH).listFiles(new PrefixFileNameFilter());
+        if (dataFiles != null) {
+            for (File dataFile : dataFiles) {
+                if (!dataFile.delete()) {
+                    logger.info("Buffer file {} is not deleted", dataFile.getName());
+                }
+            }
+        }
+    }
+
+    static class PrefixFileNameFilter implements FilenameFilter {
+        @Override public boolean accept(File dir, String name) {
+            return isDataFile(name);
+        }
+    }
+}
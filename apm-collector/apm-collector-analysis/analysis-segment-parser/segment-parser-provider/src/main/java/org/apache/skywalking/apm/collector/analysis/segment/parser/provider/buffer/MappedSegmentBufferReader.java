@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.buffer;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentParseService;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.provider.parser.SegmentParse;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.provider.parser.SegmentParserListenerManager;
+import org.apache.skywalking.apm.collector.core.module.ModuleManager;
+import org.apache.skywalking.apm.network.proto.UpstreamSegment;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the memory mapped segment buffer files in the order of creation, the segments are parsed from the mapping
+ * directly.
+ */
+public enum MappedSegmentBufferReader {
+    INSTANCE;
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedSegmentBufferReader.class);
+    private ModuleManager moduleManager;
+    private SegmentParserListenerManager listenerManager;
+
+    public void initialize(ModuleManager moduleManager) {
+        this.moduleManager = moduleManager;
+        Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(
+            new RunnableWithExceptionProtection(this::preRead,
+                t -> logger.error("Mapped segment buffer pre read failure.", t)), 3, 3, TimeUnit.SECONDS);
+    }
+
+    public void setSegmentParserListenerManager(SegmentParserListenerManager listenerManager) {
+        this.listenerManager = listenerManager;
+    }
+
+    private void preRead() {
+        File[] dataFiles = new File(BufferFileConfig.BUFFER_PATH).listFiles(new MappedSegmentBufferManager.PrefixFileNameFilter());
+        if (dataFiles == null) {
+            return;
+        }
+        Arrays.sort(dataFiles, (first, second) -> Long.compare(MappedSegmentBufferManager.fileId(first.getName()), MappedSegmentBufferManager.fileId(second.getName())));
+
+        String readFileName = OffsetManager.INSTANCE.getReadFileName();
+        long readFileId = MappedSegmentBufferManager.fileId(readFileName);
+        for (File dataFile : dataFiles) {
+            long fileId = MappedSegmentBufferManager.fileId(dataFile.getName());
+            if (fileId < readFileId) {
+                MappedSegmentBufferManager.INSTANCE.release(dataFile.getName());
+                dataFile.delete();
+            } else {
+                int readFileOffset = fileId == readFileId ? (int)OffsetManager.INSTANCE.getReadFileOffset() : 0;
+                if (!read(dataFile, readFileOffset)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if all the segments in this file have been parsed and the file is deleted.
+     */
+    private boolean read(File dataFile, int readFileOffset) {
+        String fileName = dataFile.getName();
+        MappedSegment segment = MappedSegmentBufferManager.INSTANCE.segment(fileName);
+
+        ByteBuffer buffer;
+        int end;
+        boolean drained;
+        if (segment != null) {
+            drained = segment.isDrained();
+            end = segment.committed();
+            buffer = segment.readView();
+        } else {
+            try {
+                buffer = MappedSegment.mapReadOnly(dataFile);
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+                return false;
+            }
+            end = buffer.capacity();
+            drained = true;
+        }
+
+        OffsetManager.INSTANCE.setReadOffset(fileName, readFileOffset);
+        int header;
+        while ((header = MappedSegment.header(buffer, readFileOffset, end)) != 0) {
+            int recordEnd = readFileOffset + MappedSegment.HEADER_SIZE + Math.abs(header);
+            if (header > 0) {
+                buffer.limit(recordEnd).position(readFileOffset + MappedSegment.HEADER_SIZE);
+                try {
+                    UpstreamSegment upstreamSegment = UpstreamSegment.parser().parseFrom(buffer);
+                    SegmentParse parse = SegmentParse.get(moduleManager, listenerManager);
+                    if (!parse.parse(upstreamSegment, ISegmentParseService.Source.Buffer)) {
+                        return false;
+                    }
+                } catch (InvalidProtocolBufferException e) {
+                    logger.error("Broken segment in buffer file: {}, offset: {}", fileName, readFileOffset, e);
+                } finally {
+                    buffer.clear();
+                }
+            }
+            readFileOffset = recordEnd;
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("read mapped segment buffer from file: {}, offset: {}", fileName, readFileOffset);
+            }
+            OffsetManager.INSTANCE.setReadOffset(readFileOffset);
+        }
+
+        if (drained) {
+            MappedSegmentBufferManager.INSTANCE.release(fileName);
+            dataFile.delete();
+        }
+        return drained;
+    }
+}
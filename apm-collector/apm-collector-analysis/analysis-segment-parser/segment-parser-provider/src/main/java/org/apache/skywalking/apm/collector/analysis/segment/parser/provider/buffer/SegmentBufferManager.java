@@ -20,6 +20,7 @@ package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.buf
 
 import java.io.*;
 import java.nio.channels.FileLock;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.provider.parser.SegmentParserListenerManager;
 import org.apache.skywalking.apm.collector.core.module.ModuleManager;
 import org.apache.skywalking.apm.collector.core.util.*;
 import org.apache.skywalking.apm.network.proto.UpstreamSegment;
@@ -28,7 +29,7 @@ import org.slf4j.*;
 /**
  * @author peng-yongsheng
  */
-public enum SegmentBufferManager {
+public enum SegmentBufferManager implements ISegmentBuffer {
     INSTANCE;
 
     private static final Logger logger = LoggerFactory.getLogger(SegmentBufferManager.class);
@@ -36,7 +37,7 @@ public enum SegmentBufferManager {
     public static final String DATA_FILE_PREFIX = "data";
     private FileOutputStream outputStream;
 
-    public synchronized void initialize(ModuleManager moduleManager) {
+    @Override public synchronized void initialize(ModuleManager moduleManager) {
         logger.info("segment buffer initialize");
         try {
             OffsetManager.INSTANCE.initialize();
@@ -67,7 +68,11 @@ public enum SegmentBufferManager {
         }
     }
 
-    public synchronized void writeBuffer(UpstreamSegment segment) {
+    @Override public void setSegmentParserListenerManager(SegmentParserListenerManager listenerManager) {
+        SegmentBufferReader.INSTANCE.setSegmentParserListenerManager(listenerManager);
+    }
+
+    @Override public synchronized void writeBuffer(UpstreamSegment segment) {
         try {
             segment.writeDelimitedTo(outputStream);
             long position = outputStream.getChannel().position();
@@ -131,6 +136,6 @@ public enum SegmentBufferManager {
         }
     }
 
-    public synchronized void flush() {
+    @Override public synchronized void flush() {
     }
 }
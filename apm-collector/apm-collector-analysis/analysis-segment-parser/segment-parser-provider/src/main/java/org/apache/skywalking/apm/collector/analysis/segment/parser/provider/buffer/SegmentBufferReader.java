@@ -135,7 +135,7 @@ public enum SegmentBufferReader {
 
             while (readFile.length() > readFileOffset && readFileOffset < endPoint) {
                 UpstreamSegment upstreamSegment = UpstreamSegment.parser().parseDelimitedFrom(inputStream);
-                SegmentParse parse = new SegmentParse(moduleManager, listenerManager);
+                SegmentParse parse = SegmentParse.get(moduleManager, listenerManager);
                 if (!parse.parse(upstreamSegment, ISegmentParseService.Source.Buffer)) {
                     return false;
                 }
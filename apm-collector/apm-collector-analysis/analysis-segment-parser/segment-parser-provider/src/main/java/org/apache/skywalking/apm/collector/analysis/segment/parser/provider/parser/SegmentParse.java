@@ -33,6 +33,8 @@ import org.apache.skywalking.apm.collector.storage.table.segment.Segment;
 import org.apache.skywalking.apm.network.proto.*;
 import org.slf4j.*;
 
+import static java.util.Objects.isNull;
+
 /**
  * @author peng-yongsheng
  */
@@ -40,29 +42,60 @@ public class SegmentParse {
 
     private static final Logger logger = LoggerFactory.getLogger(SegmentParse.class);
 
+    private static final ThreadLocal<SegmentParse> PARSES = new ThreadLocal<>();
+
     private final ModuleManager moduleManager;
-    private final List<SpanListener> spanListeners;
     private final SegmentParserListenerManager listenerManager;
+    private final List<SpanListener> spanListeners;
+    private final List<EntrySpanListener> entrySpanListeners;
+    private final List<ExitSpanListener> exitSpanListeners;
+    private final List<LocalSpanListener> localSpanListeners;
+    private final List<FirstSpanListener> firstSpanListeners;
+    private final List<GlobalTraceIdsListener> globalTraceIdsListeners;
     private final SegmentCoreInfo segmentCoreInfo;
+    private boolean parsing;
+
+    /**
+     * The parse and its listeners are reused by the segments parsed in the same thread, they are reset before every
+     * segment.
+     *
+     * @return the parse confined to the current thread, or a new one when the parse of the current thread is in use.
+     */
+    public static SegmentParse get(ModuleManager moduleManager, SegmentParserListenerManager listenerManager) {
+        SegmentParse segmentParse = PARSES.get();
+        if (isNull(segmentParse)) {
+            segmentParse = new SegmentParse(moduleManager, listenerManager);
+            PARSES.set(segmentParse);
+        } else if (segmentParse.parsing) {
+            segmentParse = new SegmentParse(moduleManager, listenerManager);
+        }
+        return segmentParse;
+    }
 
     public SegmentParse(ModuleManager moduleManager, SegmentParserListenerManager listenerManager) {
         this.moduleManager = moduleManager;
         this.listenerManager = listenerManager;
-        this.spanListeners = new LinkedList<>();
+        this.spanListeners = new ArrayList<>();
+        this.entrySpanListeners = new ArrayList<>();
+        this.exitSpanListeners = new ArrayList<>();
+        this.localSpanListeners = new ArrayList<>();
+        this.firstSpanListeners = new ArrayList<>();
+        this.globalTraceIdsListeners = new ArrayList<>();
         this.segmentCoreInfo = new SegmentCoreInfo();
-        this.segmentCoreInfo.setStartTime(Long.MAX_VALUE);
-        this.segmentCoreInfo.setEndTime(Long.MIN_VALUE);
+        createSpanListeners();
     }
 
     @GraphComputingMetric(name = "/segment/parse")
     public boolean parse(UpstreamSegment segment, ISegmentParseService.Source source) {
-        createSpanListeners();
-
+        long allocatedBytes = SegmentParseMetric.INSTANCE.allocatedBytes();
+        parsing = true;
         try {
+            reset();
+
             List<UniqueId> traceIds = segment.getGlobalTraceIdsList();
             TraceSegmentObject segmentObject = parseBinarySegment(segment);
 
-            SegmentDecorator segmentDecorator = new SegmentDecorator(segmentObject);
+            SegmentDecorator segmentDecorator = new SegmentDecorator(segmentObject, segment.getSegment());
 
             if (!preBuild(traceIds, segmentDecorator)) {
                 if (logger.isDebugEnabled()) {
@@ -85,6 +118,16 @@ public class SegmentParse {
         } catch (Throwable e) {
             logger.error(e.getMessage(), e);
             return true;
+        } finally {
+            parsing = false;
+            SegmentParseMetric.INSTANCE.parsed(allocatedBytes);
+        }
+    }
+
+    private void reset() {
+        segmentCoreInfo.reset();
+        for (SpanListener listener : spanListeners) {
+            listener.reset();
         }
     }
 
@@ -189,51 +232,60 @@ public class SegmentParse {
 
     @GraphComputingMetric(name = "/segment/parse/notifyExitListener")
     private void notifyExitListener(SpanDecorator spanDecorator) {
-        spanListeners.forEach(listener -> {
-            if (listener.containsPoint(SpanListener.Point.Exit)) {
-                ((ExitSpanListener)listener).parseExit(spanDecorator, segmentCoreInfo);
-            }
-        });
+        for (ExitSpanListener listener : exitSpanListeners) {
+            listener.parseExit(spanDecorator, segmentCoreInfo);
+        }
     }
 
     @GraphComputingMetric(name = "/segment/parse/notifyEntryListener")
     private void notifyEntryListener(SpanDecorator spanDecorator) {
-        spanListeners.forEach(listener -> {
-            if (listener.containsPoint(SpanListener.Point.Entry)) {
-                ((EntrySpanListener)listener).parseEntry(spanDecorator, segmentCoreInfo);
-            }
-        });
+        for (EntrySpanListener listener : entrySpanListeners) {
+            listener.parseEntry(spanDecorator, segmentCoreInfo);
+        }
     }
 
     @GraphComputingMetric(name = "/segment/parse/notifyLocalListener")
     private void notifyLocalListener(SpanDecorator spanDecorator) {
-        spanListeners.forEach(listener -> {
-            if (listener.containsPoint(SpanListener.Point.Local)) {
-                ((LocalSpanListener)listener).parseLocal(spanDecorator, segmentCoreInfo);
-            }
-        });
+        for (LocalSpanListener listener : localSpanListeners) {
+            listener.parseLocal(spanDecorator, segmentCoreInfo);
+        }
     }
 
     @GraphComputingMetric(name = "/segment/parse/notifyFirstListener")
     private void notifyFirstListener(SpanDecorator spanDecorator) {
-        spanListeners.forEach(listener -> {
-            if (listener.containsPoint(SpanListener.Point.First)) {
-                ((FirstSpanListener)listener).parseFirst(spanDecorator, segmentCoreInfo);
-            }
-        });
+        for (FirstSpanListener listener : firstSpanListeners) {
+            listener.parseFirst(spanDecorator, segmentCoreInfo);
+        }
     }
 
     @GraphComputingMetric(name = "/segment/parse/notifyGlobalsListener")
     private void notifyGlobalsListener(UniqueId uniqueId) {
-        spanListeners.forEach(listener -> {
-            if (listener.containsPoint(SpanListener.Point.GlobalTraceIds)) {
-                ((GlobalTraceIdsListener)listener).parseGlobalTraceId(uniqueId, segmentCoreInfo);
-            }
-        });
+        for (GlobalTraceIdsListener listener : globalTraceIdsListeners) {
+            listener.parseGlobalTraceId(uniqueId, segmentCoreInfo);
+        }
     }
 
     @GraphComputingMetric(name = "/segment/parse/createSpanListeners")
     private void createSpanListeners() {
-        listenerManager.getSpanListenerFactories().forEach(spanListenerFactory -> spanListeners.add(spanListenerFactory.create(moduleManager)));
+        listenerManager.getSpanListenerFactories().forEach(spanListenerFactory -> {
+            SpanListener listener = spanListenerFactory.create(moduleManager);
+            spanListeners.add(listener);
+
+            if (listener.containsPoint(SpanListener.Point.Entry)) {
+                entrySpanListeners.add((EntrySpanListener)listener);
+            }
+            if (listener.containsPoint(SpanListener.Point.Exit)) {
+                exitSpanListeners.add((ExitSpanListener)listener);
+            }
+            if (listener.containsPoint(SpanListener.Point.Local)) {
+                localSpanListeners.add((LocalSpanListener)listener);
+            }
+            if (listener.containsPoint(SpanListener.Point.First)) {
+                firstSpanListeners.add((FirstSpanListener)listener);
+            }
+            if (listener.containsPoint(SpanListener.Point.GlobalTraceIds)) {
+                globalTraceIdsListeners.add((GlobalTraceIdsListener)listener);
+            }
+        });
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.parser;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.isNull;
+
+/**
+ * The throughput and the allocation rate of the segment parse, reported to the log every minute. The allocated bytes
+ * are measured by the parsing threads, they are always 0 on the JVMs which don't support the thread allocated memory.
+ * The queue depth and the latencies of the ingestion stage are reported in the same line.
+ */
+public enum SegmentParseMetric {
+    INSTANCE;
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentParseMetric.class);
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final LongAdder segments = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder ingestedSegments = new LongAdder();
+    private final LongAdder queuedNanos = new LongAdder();
+    private final LongAdder ingestParseNanos = new LongAdder();
+    private volatile IntSupplier queueDepth = () -> 0;
+    private long lastSegments;
+    private long lastAllocatedBytes;
+    private long lastIngestedSegments;
+    private long lastQueuedNanos;
+    private long lastIngestParseNanos;
+    private long lastReportTime;
+
+    SegmentParseMetric() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean)threadMXBean).isThreadAllocatedMemorySupported()) {
+            this.threadMXBean = (com.sun.management.ThreadMXBean)threadMXBean;
+            this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.threadMXBean = null;
+        }
+    }
+
+    public void start() {
+        lastReportTime = System.currentTimeMillis();
+        Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(
+            new RunnableWithExceptionProtection(this::report,
+                t -> logger.error("Report segment parse metric failure.", t)), 60, 60, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return the bytes allocated by the current thread, passed to {@link #parsed(long)} after the segment parsed.
+     */
+    long allocatedBytes() {
+        return isNull(threadMXBean) ? 0 : threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    void parsed(long allocatedBytesBefore) {
+        segments.increment();
+        if (!isNull(threadMXBean)) {
+            allocatedBytes.add(allocatedBytes() - allocatedBytesBefore);
+        }
+    }
+
+    public void setQueueDepth(IntSupplier queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public void ingested(long queuedNanos, long parseNanos) {
+        this.ingestedSegments.increment();
+        this.queuedNanos.add(queuedNanos);
+        this.ingestParseNanos.add(parseNanos);
+    }
+
+    private void report() {
+        long reportTime = System.currentTimeMillis();
+        long segments = this.segments.sum();
+        long allocatedBytes = this.allocatedBytes.sum();
+
+        long parsedSegments = segments - lastSegments;
+        long parsedAllocatedBytes = allocatedBytes - lastAllocatedBytes;
+        double seconds = Math.max(reportTime - lastReportTime, 1) / 1000D;
+
+        long ingestedSegments = this.ingestedSegments.sum();
+        long queuedNanos = this.queuedNanos.sum();
+        long ingestParseNanos = this.ingestParseNanos.sum();
+        long intervalSegments = ingestedSegments - lastIngestedSegments;
+
+        logger.info("segment parse: {} segments/s, {} KB/s allocated, {} bytes per segment, ingest queue depth {}, {} us queued, {} us parse per segment",
+            (long)(parsedSegments / seconds), (long)(parsedAllocatedBytes / seconds / 1024), parsedSegments == 0 ? 0 : parsedAllocatedBytes / parsedSegments,
+            queueDepth.getAsInt(), intervalSegments == 0 ? 0 : (queuedNanos - lastQueuedNanos) / intervalSegments / 1000,
+            intervalSegments == 0 ? 0 : (ingestParseNanos - lastIngestParseNanos) / intervalSegments / 1000);
+
+        this.lastSegments = segments;
+        this.lastAllocatedBytes = allocatedBytes;
+        this.lastIngestedSegments = ingestedSegments;
+        this.lastQueuedNanos = queuedNanos;
+        this.lastIngestParseNanos = ingestParseNanos;
+        this.lastReportTime = reportTime;
+    }
+}
@@ -56,10 +56,5 @@ public class SegmentPersistenceWorker extends NonMergePersistenceWorker<Segment>
         @Override public SegmentPersistenceWorker workerInstance(ModuleManager moduleManager) {
             return new SegmentPersistenceWorker(moduleManager);
         }
-
-        @Override
-        public int queueSize() {
-            return 2048;
-        }
     }
 }
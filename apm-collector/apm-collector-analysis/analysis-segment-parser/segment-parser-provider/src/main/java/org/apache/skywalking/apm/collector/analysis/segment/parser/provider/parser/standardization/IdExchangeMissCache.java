@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.parser.standardization;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import org.apache.skywalking.apm.collector.core.util.Const;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Guards the id exchange of the names which are not registered yet. A registration takes a few seconds to be done,
+ * and before that every segment which references the name asks the storage and requests the registration again.
+ *
+ * The concurrent exchanges of one name share a single in flight lookup, and a failed lookup is remembered for a short
+ * while, during which the exchanges of the name fail fast without touching the storage.
+ */
+class IdExchangeMissCache {
+
+    private static final long MISS_TTL = 3000;
+    private static final int MAX_MISSES = 100000;
+
+    static final IdExchangeMissCache INSTANCE = new IdExchangeMissCache(MISS_TTL);
+
+    private final long missTTL;
+    private final Map<String, Long> misses = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Integer>> inFlights = new ConcurrentHashMap<>();
+
+    IdExchangeMissCache(long missTTL) {
+        this.missTTL = missTTL;
+    }
+
+    /**
+     * @param key the name to exchange, unique in all the kinds of ids.
+     * @param getOrCreate looks up the id, requests the registration when absent.
+     * @return the id, 0 if not registered yet.
+     */
+    int exchange(String key, IntSupplier getOrCreate) {
+        long now = System.currentTimeMillis();
+        Long expireTime = misses.get(key);
+        if (nonNull(expireTime)) {
+            if (expireTime > now) {
+                return 0;
+            }
+            misses.remove(key, expireTime);
+        }
+
+        CompletableFuture<Integer> inFlight = new CompletableFuture<>();
+        CompletableFuture<Integer> leader = inFlights.putIfAbsent(key, inFlight);
+        if (nonNull(leader)) {
+            return leader.join();
+        }
+
+        int id = 0;
+        try {
+            id = getOrCreate.getAsInt();
+            if (id == 0) {
+                miss(key, now);
+            }
+        } finally {
+            inFlights.remove(key, inFlight);
+            inFlight.complete(id);
+        }
+        return id;
+    }
+
+    static String networkAddress(String networkAddress) {
+        return "address" + Const.ID_SPLIT + networkAddress;
+    }
+
+    static String serviceName(int applicationId, int srcSpanType, String serviceName) {
+        return applicationId + Const.ID_SPLIT + srcSpanType + Const.ID_SPLIT + serviceName;
+    }
+
+    private void miss(String key, long now) {
+        if (misses.size() >= MAX_MISSES) {
+            misses.values().removeIf(expireTime -> expireTime <= now);
+        }
+        misses.put(key, now + missTTL);
+    }
+}
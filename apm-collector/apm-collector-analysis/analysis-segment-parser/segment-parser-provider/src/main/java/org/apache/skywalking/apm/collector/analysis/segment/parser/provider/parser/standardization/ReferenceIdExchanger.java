@@ -43,6 +43,7 @@ public class ReferenceIdExchanger implements IdExchanger<ReferenceDecorator> {
     private final IServiceNameService serviceNameService;
     private final InstanceCacheService instanceCacheService;
     private final INetworkAddressIDService networkAddressIDService;
+    private final IdExchangeMissCache missCache;
 
     public static ReferenceIdExchanger getInstance(ModuleManager moduleManager) {
         if (EXCHANGER == null) {
@@ -55,17 +56,18 @@ public class ReferenceIdExchanger implements IdExchanger<ReferenceDecorator> {
         this.serviceNameService = moduleManager.find(AnalysisRegisterModule.NAME).getService(IServiceNameService.class);
         this.networkAddressIDService = moduleManager.find(AnalysisRegisterModule.NAME).getService(INetworkAddressIDService.class);
         this.instanceCacheService = moduleManager.find(CacheModule.NAME).getService(InstanceCacheService.class);
+        this.missCache = IdExchangeMissCache.INSTANCE;
     }
 
     @GraphComputingMetric(name = "/segment/parse/exchange/referenceIdExchanger")
     @Override public boolean exchange(ReferenceDecorator standardBuilder, int applicationId) {
         if (standardBuilder.getEntryServiceId() == 0) {
             String entryServiceName = StringUtils.isNotEmpty(standardBuilder.getEntryServiceName()) ? standardBuilder.getEntryServiceName() : Const.DOMAIN_OPERATION_NAME;
-            int entryServiceId = serviceNameService.getOrCreate(instanceCacheService.getApplicationId(standardBuilder.getEntryApplicationInstanceId()), SpanType.Entry_VALUE, entryServiceName);
+            int entryApplicationId = instanceCacheService.getApplicationId(standardBuilder.getEntryApplicationInstanceId());
+            int entryServiceId = missCache.exchange(IdExchangeMissCache.serviceName(entryApplicationId, SpanType.Entry_VALUE, entryServiceName), () -> serviceNameService.getOrCreate(entryApplicationId, SpanType.Entry_VALUE, entryServiceName));
 
             if (entryServiceId == 0) {
                 if (logger.isDebugEnabled()) {
-                    int entryApplicationId = instanceCacheService.getApplicationId(standardBuilder.getEntryApplicationInstanceId());
                     logger.debug("entry service name: {} from application id: {} exchange failed", entryServiceName, entryApplicationId);
                 }
                 return false;
@@ -78,11 +80,11 @@ public class ReferenceIdExchanger implements IdExchanger<ReferenceDecorator> {
 
         if (standardBuilder.getParentServiceId() == 0) {
             String parentServiceName = StringUtils.isNotEmpty(standardBuilder.getParentServiceName()) ? standardBuilder.getParentServiceName() : Const.DOMAIN_OPERATION_NAME;
-            int parentServiceId = serviceNameService.getOrCreate(instanceCacheService.getApplicationId(standardBuilder.getParentApplicationInstanceId()), SpanType.Entry_VALUE, parentServiceName);
+            int parentApplicationId = instanceCacheService.getApplicationId(standardBuilder.getParentApplicationInstanceId());
+            int parentServiceId = missCache.exchange(IdExchangeMissCache.serviceName(parentApplicationId, SpanType.Entry_VALUE, parentServiceName), () -> serviceNameService.getOrCreate(parentApplicationId, SpanType.Entry_VALUE, parentServiceName));
 
             if (parentServiceId == 0) {
                 if (logger.isDebugEnabled()) {
-                    int parentApplicationId = instanceCacheService.getApplicationId(standardBuilder.getParentApplicationInstanceId());
                     logger.debug("parent service name: {} from application id: {} exchange failed", parentServiceName, parentApplicationId);
                 }
                 return false;
@@ -94,7 +96,8 @@ public class ReferenceIdExchanger implements IdExchanger<ReferenceDecorator> {
         }
 
         if (standardBuilder.getNetworkAddressId() == 0 && StringUtils.isNotEmpty(standardBuilder.getNetworkAddress())) {
-            int networkAddressId = networkAddressIDService.getOrCreate(standardBuilder.getNetworkAddress());
+            String networkAddress = standardBuilder.getNetworkAddress();
+            int networkAddressId = missCache.exchange(IdExchangeMissCache.networkAddress(networkAddress), () -> networkAddressIDService.getOrCreate(networkAddress));
 
             if (networkAddressId == 0) {
                 if (logger.isDebugEnabled()) {
@@ -21,7 +21,8 @@ package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.par
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.apache.skywalking.apm.collector.analysis.segment.parser.define.graph.WorkerIdDefine;
-import org.apache.skywalking.apm.collector.analysis.segment.parser.provider.buffer.SegmentBufferManager;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.provider.buffer.BufferFileConfig;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.provider.buffer.ISegmentBuffer;
 import org.apache.skywalking.apm.collector.analysis.worker.model.base.AbstractLocalAsyncWorker;
 import org.apache.skywalking.apm.collector.analysis.worker.model.base.AbstractLocalAsyncWorkerProvider;
 import org.apache.skywalking.apm.collector.analysis.worker.model.base.WorkerException;
@@ -37,9 +38,12 @@ public class SegmentStandardizationWorker extends AbstractLocalAsyncWorker<Segme
 
     private static final Logger logger = LoggerFactory.getLogger(SegmentStandardizationWorker.class);
 
+    private final ISegmentBuffer segmentBuffer;
+
     private SegmentStandardizationWorker(ModuleManager moduleManager) {
         super(moduleManager);
-        SegmentBufferManager.INSTANCE.initialize(moduleManager);
+        this.segmentBuffer = BufferFileConfig.segmentBuffer();
+        this.segmentBuffer.initialize(moduleManager);
     }
 
     @Override public int id() {
@@ -47,11 +51,11 @@ public class SegmentStandardizationWorker extends AbstractLocalAsyncWorker<Segme
     }
 
     @Override protected void onWork(SegmentStandardization segmentStandardization) throws WorkerException {
-        SegmentBufferManager.INSTANCE.writeBuffer(segmentStandardization.getUpstreamSegment());
+        segmentBuffer.writeBuffer(segmentStandardization.getUpstreamSegment());
     }
 
     public final void flushAndSwitch() {
-        SegmentBufferManager.INSTANCE.flush();
+        segmentBuffer.flush();
     }
 
     public static class Factory extends AbstractLocalAsyncWorkerProvider<SegmentStandardization, SegmentStandardization, SegmentStandardizationWorker> {
@@ -66,10 +70,6 @@ public class SegmentStandardizationWorker extends AbstractLocalAsyncWorker<Segme
             return standardizationWorker;
         }
 
-        @Override public int queueSize() {
-            return 1024;
-        }
-
         private void startTimer(SegmentStandardizationWorker standardizationWorker) {
             Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(
                 new RunnableWithExceptionProtection(standardizationWorker::flushAndSwitch,
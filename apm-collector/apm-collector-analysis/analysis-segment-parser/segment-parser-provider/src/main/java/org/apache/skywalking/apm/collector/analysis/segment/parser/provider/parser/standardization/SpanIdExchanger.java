@@ -42,6 +42,7 @@ public class SpanIdExchanger implements IdExchanger<SpanDecorator> {
     private final IServiceNameService serviceNameService;
     private final INetworkAddressIDService networkAddressIDService;
     private final IComponentLibraryCatalogService componentLibraryCatalogService;
+    private final IdExchangeMissCache missCache;
 
     public static SpanIdExchanger getInstance(ModuleManager moduleManager) {
         if (EXCHANGER == null) {
@@ -54,6 +55,7 @@ public class SpanIdExchanger implements IdExchanger<SpanDecorator> {
         this.serviceNameService = moduleManager.find(AnalysisRegisterModule.NAME).getService(IServiceNameService.class);
         this.networkAddressIDService = moduleManager.find(AnalysisRegisterModule.NAME).getService(INetworkAddressIDService.class);
         this.componentLibraryCatalogService = moduleManager.find(ConfigurationModule.NAME).getService(IComponentLibraryCatalogService.class);
+        this.missCache = IdExchangeMissCache.INSTANCE;
     }
 
     @GraphComputingMetric(name = "/segment/parse/exchange/spanIdExchanger")
@@ -74,7 +76,8 @@ public class SpanIdExchanger implements IdExchanger<SpanDecorator> {
         }
 
         if (standardBuilder.getPeerId() == 0 && StringUtils.isNotEmpty(standardBuilder.getPeer())) {
-            int peerId = networkAddressIDService.getOrCreate(standardBuilder.getPeer());
+            String peer = standardBuilder.getPeer();
+            int peerId = missCache.exchange(IdExchangeMissCache.networkAddress(peer), () -> networkAddressIDService.getOrCreate(peer));
 
             if (peerId == 0) {
                 if (logger.isDebugEnabled()) {
@@ -94,7 +97,8 @@ public class SpanIdExchanger implements IdExchanger<SpanDecorator> {
 
         if (standardBuilder.getOperationNameId() == 0) {
             String operationName = StringUtils.isNotEmpty(standardBuilder.getOperationName()) ? standardBuilder.getOperationName() : Const.DOMAIN_OPERATION_NAME;
-            int operationNameId = serviceNameService.getOrCreate(applicationId, standardBuilder.getSpanTypeValue(), operationName);
+            int spanType = standardBuilder.getSpanTypeValue();
+            int operationNameId = missCache.exchange(IdExchangeMissCache.serviceName(applicationId, spanType, operationName), () -> serviceNameService.getOrCreate(applicationId, spanType, operationName));
 
             if (operationNameId == 0) {
                 if (logger.isDebugEnabled()) {
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.service;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentIngestService;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentParseService;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.provider.parser.SegmentParseMetric;
+import org.apache.skywalking.apm.network.proto.UpstreamSegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The segments are queued in a bounded queue and parsed by a fixed number of ingestion threads. The queue depth, the
+ * time waited in the queue and the parse latency are reported by {@link SegmentParseMetric}.
+ */
+public class SegmentIngestService implements ISegmentIngestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentIngestService.class);
+
+    private final ISegmentParseService segmentParseService;
+    private final int threadNum;
+    private final BlockingQueue<IngestTask> queue;
+    private final Queue<Runnable> capacityListeners = new ConcurrentLinkedQueue<>();
+
+    public SegmentIngestService(ISegmentParseService segmentParseService, int threadNum, int queueSize) {
+        this.segmentParseService = segmentParseService;
+        this.threadNum = threadNum;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    public void start() {
+        SegmentParseMetric.INSTANCE.setQueueDepth(queue::size);
+        for (int i = 0; i < threadNum; i++) {
+            Thread thread = new Thread(this::consume, "SegmentIngest-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    @Override public boolean offer(UpstreamSegment segment) {
+        return queue.offer(new IngestTask(segment));
+    }
+
+    @Override public void onCapacity(Runnable listener) {
+        capacityListeners.add(listener);
+        if (queue.remainingCapacity() > 0) {
+            notifyCapacity();
+        }
+    }
+
+    @Override public void put(UpstreamSegment segment) throws InterruptedException {
+        queue.put(new IngestTask(segment));
+    }
+
+    private void consume() {
+        while (!Thread.currentThread().isInterrupted()) {
+            IngestTask task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            notifyCapacity();
+
+            long startTime = System.nanoTime();
+            try {
+                segmentParseService.parse(task.segment, ISegmentParseService.Source.Agent);
+            } catch (Throwable t) {
+                logger.error(t.getMessage(), t);
+            }
+            long endTime = System.nanoTime();
+            SegmentParseMetric.INSTANCE.ingested(startTime - task.queuedTime, endTime - startTime);
+        }
+    }
+
+    private void notifyCapacity() {
+        Runnable listener = capacityListeners.poll();
+        if (listener != null) {
+            try {
+                listener.run();
+            } catch (Throwable t) {
+                logger.error(t.getMessage(), t);
+            }
+        }
+    }
+
+    private static class IngestTask {
+        private final UpstreamSegment segment;
+        private final long queuedTime;
+
+        private IngestTask(UpstreamSegment segment) {
+            this.segment = segment;
+            this.queuedTime = System.nanoTime();
+        }
+    }
+}
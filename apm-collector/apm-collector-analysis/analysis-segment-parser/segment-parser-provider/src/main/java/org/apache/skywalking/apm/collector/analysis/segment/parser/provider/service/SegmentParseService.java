@@ -38,7 +38,7 @@ public class SegmentParseService implements ISegmentParseService {
     }
 
     @Override public void parse(UpstreamSegment segment, Source source) {
-        SegmentParse segmentParse = new SegmentParse(moduleManager, listenerManager);
+        SegmentParse segmentParse = SegmentParse.get(moduleManager, listenerManager);
         segmentParse.parse(segment, source);
     }
 }
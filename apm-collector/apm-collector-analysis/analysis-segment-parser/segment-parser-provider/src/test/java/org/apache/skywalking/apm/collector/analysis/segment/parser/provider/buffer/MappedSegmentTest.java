@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.buffer;
+
+import com.google.protobuf.ByteString;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.skywalking.apm.network.proto.UpstreamSegment;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappedSegmentTest {
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("mapped_", ".sw");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testConcurrentWrite() throws Exception {
+        MappedSegment segment = MappedSegment.create(file, 1024 * 1024);
+
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            final int thread = i;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    write(segment, thread + "-" + j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Set<String> segments = read(segment.readView(), 0, segment.committed());
+        Assert.assertEquals(4000, segments.size());
+        Assert.assertTrue(segments.contains("3-999"));
+    }
+
+    @Test
+    public void testSealAndReopen() throws Exception {
+        MappedSegment segment = MappedSegment.create(file, 64);
+        Assert.assertTrue(write(segment, "first"));
+        Assert.assertTrue(write(segment, "second"));
+        int committed = segment.committed();
+        Assert.assertFalse(segment.isDrained());
+
+        segment.seal();
+        Assert.assertTrue(segment.isDrained());
+        Assert.assertFalse(write(segment, "third"));
+
+        MappedSegment reopened = MappedSegment.open(file, 0);
+        Assert.assertEquals(committed, reopened.committed());
+        Assert.assertEquals(2, read(MappedSegment.mapReadOnly(file), 0, 64).size());
+    }
+
+    private boolean write(MappedSegment segment, String value) {
+        UpstreamSegment upstreamSegment = UpstreamSegment.newBuilder().setSegment(ByteString.copyFromUtf8(value)).build();
+        int size = upstreamSegment.getSerializedSize();
+        int position = segment.reserve(MappedSegment.HEADER_SIZE + size);
+        if (position < 0) {
+            return false;
+        }
+        segment.write(position, upstreamSegment, size);
+        return true;
+    }
+
+    private Set<String> read(ByteBuffer buffer, int position, int end) throws IOException {
+        Set<String> segments = new HashSet<>();
+        int header;
+        while ((header = MappedSegment.header(buffer, position, end)) > 0) {
+            buffer.limit(position + MappedSegment.HEADER_SIZE + header).position(position + MappedSegment.HEADER_SIZE);
+            segments.add(UpstreamSegment.parser().parseFrom(buffer).getSegment().toStringUtf8());
+            buffer.clear();
+            position = position + MappedSegment.HEADER_SIZE + header;
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.parser;
+
+import java.util.*;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.decorator.*;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.graph.GraphIdDefine;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.listener.*;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentParseService;
+import org.apache.skywalking.apm.collector.core.graph.*;
+import org.apache.skywalking.apm.collector.core.module.*;
+import org.apache.skywalking.apm.collector.storage.table.segment.Segment;
+import org.apache.skywalking.apm.network.proto.*;
+import org.junit.*;
+
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class SegmentParseTest {
+
+    private ModuleManager moduleManager;
+    private SegmentParserListenerManager listenerManager;
+    private List<RecordingSpanListener> listeners;
+    private List<Segment> segments;
+
+    @Before
+    public void setUp() {
+        moduleManager = mock(ModuleManager.class);
+        when(moduleManager.find(anyString())).then(invocation -> new MockModule());
+
+        listeners = new ArrayList<>();
+        listenerManager = new SegmentParserListenerManager();
+        listenerManager.add(manager -> {
+            RecordingSpanListener listener = new RecordingSpanListener();
+            listeners.add(listener);
+            return listener;
+        });
+
+        segments = new ArrayList<>();
+        Graph<Segment> graph = GraphManager.INSTANCE.createIfAbsent(GraphIdDefine.SEGMENT_PERSISTENCE_GRAPH_ID, Segment.class);
+        graph.addNode(new NodeProcessor<Segment, Segment>() {
+            @Override public int id() {
+                return 0;
+            }
+
+            @Override public void process(Segment segment, Next<Segment> next) {
+                segments.add(segment);
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        GraphManager.INSTANCE.reset();
+    }
+
+    @Test
+    public void testReusedParseStartsClean() {
+        SegmentParse firstParse = SegmentParse.get(moduleManager, listenerManager);
+        Assert.assertTrue(firstParse.parse(segment("1.1.1", "trace.1", 2, 1535000000000L, true), ISegmentParseService.Source.Agent));
+
+        SegmentParse secondParse = SegmentParse.get(moduleManager, listenerManager);
+        Assert.assertSame(firstParse, secondParse);
+        Assert.assertTrue(secondParse.parse(segment("2.2.2", "trace.2", 1, 1536000000000L, false), ISegmentParseService.Source.Agent));
+
+        Assert.assertEquals(1, listeners.size());
+        RecordingSpanListener listener = listeners.get(0);
+        Assert.assertEquals(2, listener.builds.size());
+
+        Record first = listener.builds.get(0);
+        Assert.assertEquals(Collections.singletonList("trace.1"), first.traceIds);
+        Assert.assertEquals(2, first.entrySpans);
+        Assert.assertTrue(first.error);
+
+        Record second = listener.builds.get(1);
+        Assert.assertEquals(Collections.singletonList("trace.2"), second.traceIds);
+        Assert.assertEquals(1, second.entrySpans);
+        Assert.assertEquals("2.2.2", second.segmentId);
+        Assert.assertEquals(1536000000000L, second.startTime);
+        Assert.assertFalse(second.error);
+
+        Assert.assertEquals(2, segments.size());
+        Assert.assertEquals("2.2.2", segments.get(1).getId());
+    }
+
+    private UpstreamSegment segment(String segmentId, String traceId, int spanCount, long startTime,
+        boolean error) {
+        UniqueId.Builder segmentIdBuilder = UniqueId.newBuilder();
+        for (String part : segmentId.split("\\.")) {
+            segmentIdBuilder.addIdParts(Long.parseLong(part));
+        }
+
+        TraceSegmentObject.Builder segmentBuilder = TraceSegmentObject.newBuilder()
+            .setTraceSegmentId(segmentIdBuilder)
+            .setApplicationId(1)
+            .setApplicationInstanceId(1);
+        for (int i = 0; i < spanCount; i++) {
+            segmentBuilder.addSpans(SpanObject.newBuilder()
+                .setSpanId(i)
+                .setParentSpanId(i - 1)
+                .setSpanType(SpanType.Entry)
+                .setComponentId(1)
+                .setOperationNameId(1)
+                .setStartTime(startTime)
+                .setEndTime(startTime + 10)
+                .setIsError(error));
+        }
+
+        UniqueId.Builder traceIdBuilder = UniqueId.newBuilder();
+        for (String part : traceId.split("\\.")) {
+            if (!part.equals("trace")) {
+                traceIdBuilder.addIdParts(Long.parseLong(part));
+            }
+        }
+        return UpstreamSegment.newBuilder()
+            .addGlobalTraceIds(traceIdBuilder)
+            .setSegment(segmentBuilder.build().toByteString())
+            .build();
+    }
+
+    class Record {
+        private final List<String> traceIds = new ArrayList<>();
+        private int entrySpans;
+        private String segmentId;
+        private long startTime;
+        private boolean error;
+    }
+
+    class RecordingSpanListener implements EntrySpanListener, GlobalTraceIdsListener {
+        private final List<Record> builds = new ArrayList<>();
+        private final List<String> traceIds = new ArrayList<>();
+        private int entrySpans;
+        private SegmentCoreInfo segmentCoreInfo;
+
+        @Override public void parseEntry(SpanDecorator spanDecorator, SegmentCoreInfo segmentCoreInfo) {
+            entrySpans++;
+            this.segmentCoreInfo = segmentCoreInfo;
+        }
+
+        @Override public void parseGlobalTraceId(UniqueId uniqueId, SegmentCoreInfo segmentCoreInfo) {
+            StringBuilder traceId = new StringBuilder("trace");
+            uniqueId.getIdPartsList().forEach(part -> traceId.append(".").append(part));
+            traceIds.add(traceId.toString());
+        }
+
+        @Override public void build() {
+            Record record = new Record();
+            record.traceIds.addAll(traceIds);
+            record.entrySpans = entrySpans;
+            record.segmentId = segmentCoreInfo.getSegmentId();
+            record.startTime = segmentCoreInfo.getStartTime();
+            record.error = segmentCoreInfo.isError();
+            builds.add(record);
+        }
+
+        @Override public boolean containsPoint(Point point) {
+            return Point.Entry.equals(point) || Point.GlobalTraceIds.equals(point);
+        }
+
+        @Override public void reset() {
+            traceIds.clear();
+            entrySpans = 0;
+            segmentCoreInfo = null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.parser.standardization;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IdExchangeMissCacheTest {
+
+    @Test
+    public void testMissIsRemembered() throws InterruptedException {
+        IdExchangeMissCache cache = new IdExchangeMissCache(100);
+        AtomicInteger lookups = new AtomicInteger();
+
+        Assert.assertEquals(1, cache.exchange("a", lookups::incrementAndGet));
+        Assert.assertEquals(0, cache.exchange("b", () -> {
+            lookups.incrementAndGet();
+            return 0;
+        }));
+        Assert.assertEquals(0, cache.exchange("b", () -> {
+            lookups.incrementAndGet();
+            return 10;
+        }));
+        Assert.assertEquals(2, lookups.get());
+
+        Thread.sleep(150);
+        Assert.assertEquals(10, cache.exchange("b", () -> {
+            lookups.incrementAndGet();
+            return 10;
+        }));
+        Assert.assertEquals(3, lookups.get());
+    }
+
+    @Test
+    public void testConcurrentExchangesShareOneLookup() throws Exception {
+        IdExchangeMissCache cache = new IdExchangeMissCache(100);
+        AtomicInteger lookups = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Integer> leader = executor.submit(() -> cache.exchange("c", () -> {
+                lookups.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 7;
+            }));
+            started.await();
+
+            Future<Integer> follower1 = executor.submit(() -> cache.exchange("c", lookups::incrementAndGet));
+            Future<Integer> follower2 = executor.submit(() -> cache.exchange("c", lookups::incrementAndGet));
+            Thread.sleep(50);
+            release.countDown();
+
+            Assert.assertEquals(7, leader.get(1, TimeUnit.SECONDS).intValue());
+            Assert.assertEquals(7, follower1.get(1, TimeUnit.SECONDS).intValue());
+            Assert.assertEquals(7, follower2.get(1, TimeUnit.SECONDS).intValue());
+            Assert.assertEquals(1, lookups.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.segment.parser.provider.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.collector.analysis.segment.parser.define.service.ISegmentParseService;
+import org.apache.skywalking.apm.network.proto.UpstreamSegment;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SegmentIngestServiceTest {
+
+    @Test
+    public void testOfferWhenFull() throws InterruptedException {
+        CountDownLatch parsing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch parsed = new CountDownLatch(3);
+        ISegmentParseService parseService = (segment, source) -> {
+            parsing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            parsed.countDown();
+        };
+
+        SegmentIngestService ingestService = new SegmentIngestService(parseService, 1, 1);
+        ingestService.start();
+
+        UpstreamSegment segment = UpstreamSegment.newBuilder().build();
+        Assert.assertTrue(ingestService.offer(segment));
+        Assert.assertTrue(parsing.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(ingestService.offer(segment));
+        Assert.assertFalse(ingestService.offer(segment));
+
+        CountDownLatch capacity = new CountDownLatch(1);
+        ingestService.onCapacity(() -> {
+            Assert.assertTrue(ingestService.offer(segment));
+            capacity.countDown();
+        });
+        Assert.assertEquals(1, capacity.getCount());
+
+        release.countDown();
+        Assert.assertTrue(capacity.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(parsed.await(10, TimeUnit.SECONDS));
+    }
+}
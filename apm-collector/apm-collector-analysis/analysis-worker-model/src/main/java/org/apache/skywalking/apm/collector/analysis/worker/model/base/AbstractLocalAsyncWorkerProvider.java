@@ -27,8 +27,6 @@ import org.apache.skywalking.apm.commons.datacarrier.DataCarrier;
  */
 public abstract class AbstractLocalAsyncWorkerProvider<INPUT extends QueueData, OUTPUT extends QueueData, WORKER_TYPE extends AbstractLocalAsyncWorker<INPUT, OUTPUT>> extends AbstractWorkerProvider<INPUT, OUTPUT, WORKER_TYPE> {
 
-    public abstract int queueSize();
-
     public AbstractLocalAsyncWorkerProvider(ModuleManager moduleManager) {
         super(moduleManager);
     }
@@ -39,9 +37,8 @@ public abstract class AbstractLocalAsyncWorkerProvider<INPUT extends QueueData,
         workerCreateListener.addWorker(localAsyncWorker);
 
         LocalAsyncWorkerRef<INPUT, OUTPUT> localAsyncWorkerRef = new LocalAsyncWorkerRef<>(localAsyncWorker);
-        DataCarrier<INPUT> dataCarrier = new DataCarrier<>(1, 10000);
+        DataCarrier<INPUT> dataCarrier = LocalAsyncWorkerExecutor.INSTANCE.createQueue(getModuleManager(), localAsyncWorker.getClass().getSimpleName(), localAsyncWorkerRef);
         localAsyncWorkerRef.setQueueEventHandler(dataCarrier);
-        dataCarrier.consume(localAsyncWorkerRef, 1);
         return localAsyncWorkerRef;
     }
 }
@@ -38,4 +38,12 @@ public abstract class AbstractRemoteWorker<INPUT extends RemoteData, OUTPUT exte
     }
 
     public abstract Selector selector();
+
+    /**
+     * @return true if the next workers merge the data by id, then the data with the same id are merged before sending
+     * to the remote collector.
+     */
+    public boolean combinable() {
+        return false;
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.worker.model.base;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.collector.configuration.ConfigurationModule;
+import org.apache.skywalking.apm.collector.configuration.service.ILocalAsyncWorkerConfig;
+import org.apache.skywalking.apm.collector.core.data.QueueData;
+import org.apache.skywalking.apm.collector.core.module.ModuleManager;
+import org.apache.skywalking.apm.commons.datacarrier.DataCarrier;
+import org.apache.skywalking.apm.commons.datacarrier.buffer.BufferType;
+import org.apache.skywalking.apm.commons.datacarrier.consumer.BackoffIdleStrategy;
+import org.apache.skywalking.apm.commons.datacarrier.consumer.BulkConsumePool;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.slf4j.*;
+
+/**
+ * Collector wide executor of the local async workers. The queues of all workers, in all graphs, are consumed by one
+ * {@link BulkConsumePool}, whose size is configured by {@link ILocalAsyncWorkerConfig}. Each queue is consumed by one
+ * thread only, so the order of the data of a worker is kept. A worker never blocks when it sends data to the next
+ * worker, the data goes into the overflow queue of the next worker if its queue is full, see {@link
+ * DataCarrier#getOverflowCount()}.
+ */
+public enum LocalAsyncWorkerExecutor {
+    INSTANCE;
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalAsyncWorkerExecutor.class);
+
+    private static final int REPORT_PERIOD_SECONDS = 60;
+
+    private BulkConsumePool consumePool;
+    private int queueSize;
+    private final Map<String, DataCarrier<?>> queues = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastOverflowCounts = new HashMap<>();
+
+    /**
+     * @param name of the worker, the queue is reported by it, with a sequence suffix if the name is taken.
+     */
+    synchronized <INPUT extends QueueData> DataCarrier<INPUT> createQueue(ModuleManager moduleManager, String name,
+        LocalAsyncWorkerRef<INPUT, ?> workerRef) {
+        if (consumePool == null) {
+            ILocalAsyncWorkerConfig config = moduleManager.find(ConfigurationModule.NAME).getService(ILocalAsyncWorkerConfig.class);
+            queueSize = config.queueSize();
+            logger.info("local async worker executor start, consumer threads: {}, queue size: {}", config.consumerThreadNum(), queueSize);
+
+            consumePool = new BulkConsumePool("LocalAsyncWorker", config.consumerThreadNum(), new BackoffIdleStrategy());
+            consumePool.begin();
+
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "LocalAsyncWorkerReport")).scheduleAtFixedRate(
+                new RunnableWithExceptionProtection(this::report,
+                    t -> logger.error("Report local async worker queues failure.", t)), REPORT_PERIOD_SECONDS, REPORT_PERIOD_SECONDS, TimeUnit.SECONDS);
+        }
+
+        DataCarrier<INPUT> dataCarrier = new DataCarrier<>(1, queueSize, BufferType.RING);
+        dataCarrier.consume(consumePool, workerRef);
+        String queueName = name;
+        for (int i = 2; queues.containsKey(queueName); i++) {
+            queueName = name + "#" + i;
+        }
+        queues.put(queueName, dataCarrier);
+        return dataCarrier;
+    }
+
+    /**
+     * Reports the busy and idle cycles of the consumer threads, and of each worker queue. The queues which overflowed
+     * in the last period are reported as warnings, the others only in debug.
+     */
+    private void report() {
+        consumePool.statistics().forEach(statistics ->
+            logger.info("local async worker consumer {}, busy cycles: {}, idle cycles: {}", statistics.getConsumerName(), statistics.getBusyCycles(), statistics.getIdleCycles()));
+
+        queues.forEach((name, queue) -> {
+            long overflowCount = queue.getOverflowCount();
+            Long lastOverflowCount = lastOverflowCounts.put(name, overflowCount);
+            long overflowed = overflowCount - (lastOverflowCount == null ? 0 : lastOverflowCount);
+            if (overflowed > 0 || logger.isDebugEnabled()) {
+                queue.getConsumerStatistics().forEach(statistics -> {
+                    String message = "local async worker queue {}, consumer: {}, busy cycles: {}, idle cycles: {}, overflowed in last {}s: {}";
+                    Object[] arguments = {name, statistics.getConsumerName(), statistics.getBusyCycles(), statistics.getIdleCycles(), REPORT_PERIOD_SECONDS, overflowed};
+                    if (overflowed > 0) {
+                        logger.warn(message, arguments);
+                    } else {
+                        logger.debug(message, arguments);
+                    }
+                });
+            }
+        });
+    }
+}
@@ -24,13 +24,14 @@ import org.apache.skywalking.apm.collector.core.data.QueueData;
 import org.apache.skywalking.apm.collector.core.graph.NodeProcessor;
 import org.apache.skywalking.apm.collector.core.queue.EndOfBatchContext;
 import org.apache.skywalking.apm.commons.datacarrier.DataCarrier;
-import org.apache.skywalking.apm.commons.datacarrier.consumer.IConsumer;
+import org.apache.skywalking.apm.commons.datacarrier.common.DataBatch;
+import org.apache.skywalking.apm.commons.datacarrier.consumer.IBatchConsumer;
 import org.slf4j.*;
 
 /**
  * @author peng-yongsheng
  */
-public class LocalAsyncWorkerRef<INPUT extends QueueData, OUTPUT extends QueueData> extends WorkerRef<INPUT, OUTPUT> implements IConsumer<INPUT> {
+public class LocalAsyncWorkerRef<INPUT extends QueueData, OUTPUT extends QueueData> extends WorkerRef<INPUT, OUTPUT> implements IBatchConsumer<INPUT> {
 
     private static final Logger logger = LoggerFactory.getLogger(LocalAsyncWorkerRef.class);
 
@@ -44,6 +45,18 @@ public class LocalAsyncWorkerRef<INPUT extends QueueData, OUTPUT extends QueueDa
         this.dataCarrier = dataCarrier;
     }
 
+    @Override
+    public void consume(@BatchParameter DataBatch<INPUT> batch) {
+        int size = batch.size();
+        for (int i = 0; i < size; i++) {
+            INPUT input = batch.get(i);
+            if (i == size - 1) {
+                input.getEndOfBatchContext().setEndOfBatch(true);
+            }
+            out(input);
+        }
+    }
+
     @Override
     public void consume(@BatchParameter List<INPUT> data) {
         Iterator<INPUT> inputIterator = data.iterator();
@@ -71,7 +84,9 @@ public class LocalAsyncWorkerRef<INPUT extends QueueData, OUTPUT extends QueueDa
 
     @Override protected void in(INPUT input) {
         input.setEndOfBatchContext(new EndOfBatchContext(false));
-        dataCarrier.produce(input);
+        if (!dataCarrier.produce(input)) {
+            logger.warn("local async worker stopped, data abandoned");
+        }
     }
 
     @Override protected void out(INPUT input) {
@@ -19,6 +19,7 @@
 package org.apache.skywalking.apm.collector.analysis.worker.model.base;
 
 import org.apache.skywalking.apm.collector.core.data.RemoteData;
+import org.apache.skywalking.apm.collector.core.data.StreamData;
 import org.apache.skywalking.apm.collector.remote.service.RemoteSenderService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +45,12 @@ public class RemoteWorkerRef<INPUT extends RemoteData, OUTPUT extends RemoteData
 
     @Override protected void in(INPUT message) {
         try {
-            RemoteSenderService.Mode mode = remoteSenderService.send(this.graphId, this.remoteWorker.id(), message, this.remoteWorker.selector());
+            RemoteSenderService.Mode mode;
+            if (remoteWorker.combinable() && message instanceof StreamData) {
+                mode = remoteSenderService.combineAndSend(this.graphId, this.remoteWorker.id(), (StreamData)message, this.remoteWorker.selector());
+            } else {
+                mode = remoteSenderService.send(this.graphId, this.remoteWorker.id(), message, this.remoteWorker.selector());
+            }
             if (mode.equals(RemoteSenderService.Mode.Local)) {
                 out(message);
             }
@@ -58,13 +58,6 @@ public abstract class AggregationWorker<INPUT extends StreamData, OUTPUT extends
 
     private void sendToNext() throws WorkerException {
         mergeDataCache.switchPointer();
-        while (mergeDataCache.getLast().isWriting()) {
-            try {
-                Thread.sleep(10);
-            } catch (InterruptedException e) {
-                throw new WorkerException(e.getMessage(), e);
-            }
-        }
 
         mergeDataCache.getLast().collection().forEach((String id, OUTPUT data) -> {
             if (logger.isDebugEnabled()) {
@@ -78,12 +71,15 @@ public abstract class AggregationWorker<INPUT extends StreamData, OUTPUT extends
 
     private void aggregate(OUTPUT message) {
         mergeDataCache.writing();
-        if (mergeDataCache.containsKey(message.getId())) {
-            mergeDataCache.get(message.getId()).mergeAndFormulaCalculateData(message);
-        } else {
-            message.calculateFormula();
-            mergeDataCache.put(message.getId(), message);
+        try {
+            if (mergeDataCache.containsKey(message.getId())) {
+                mergeDataCache.get(message.getId()).mergeAndFormulaCalculateData(message);
+            } else {
+                message.calculateFormula();
+                mergeDataCache.put(message.getId(), message);
+            }
+        } finally {
+            mergeDataCache.finishWriting();
         }
-        mergeDataCache.finishWriting();
     }
 }
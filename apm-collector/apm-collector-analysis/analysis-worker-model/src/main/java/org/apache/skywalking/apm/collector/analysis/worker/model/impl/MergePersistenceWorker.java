@@ -19,10 +19,14 @@
 package org.apache.skywalking.apm.collector.analysis.worker.model.impl;
 
 import java.util.*;
+import java.util.function.Supplier;
 import org.apache.skywalking.apm.collector.analysis.worker.model.impl.data.*;
+import org.apache.skywalking.apm.collector.configuration.ConfigurationModule;
+import org.apache.skywalking.apm.collector.configuration.service.IPersistedDataCacheConfig;
 import org.apache.skywalking.apm.collector.core.cache.Window;
 import org.apache.skywalking.apm.collector.core.data.StreamData;
 import org.apache.skywalking.apm.collector.core.module.ModuleManager;
+import org.apache.skywalking.apm.collector.storage.StorageMultiGetException;
 import org.slf4j.*;
 
 import static java.util.Objects.nonNull;
@@ -34,11 +38,28 @@ public abstract class MergePersistenceWorker<INPUT_AND_OUTPUT extends StreamData
 
     private static final Logger logger = LoggerFactory.getLogger(MergePersistenceWorker.class);
 
+    /**
+     * The max count of ids in one multi get request when merging with the stored rows.
+     */
+    private static final int MULTI_GET_SIZE = 500;
+
     private final MergeDataCache<INPUT_AND_OUTPUT> mergeDataCache;
+    private final PersistedDataCache<INPUT_AND_OUTPUT> persistedDataCache;
+    private final Map<List<?>, Map<String, INPUT_AND_OUTPUT>> persistingData;
+    private final Map<String, INPUT_AND_OUTPUT> unreadData;
+    private final Supplier<INPUT_AND_OUTPUT> dataSupplier;
 
-    public MergePersistenceWorker(ModuleManager moduleManager) {
+    /**
+     * @param dataSupplier creates the empty data to copy into
+     */
+    public MergePersistenceWorker(ModuleManager moduleManager, Supplier<INPUT_AND_OUTPUT> dataSupplier) {
         super(moduleManager);
+        this.dataSupplier = dataSupplier;
         this.mergeDataCache = new MergeDataCache<>();
+        int persistedDataCacheSize = moduleManager.find(ConfigurationModule.NAME).getService(IPersistedDataCacheConfig.class).cacheSize();
+        this.persistedDataCache = new PersistedDataCache<>(persistedDataCacheSize);
+        this.persistingData = Collections.synchronizedMap(new IdentityHashMap<>());
+        this.unreadData = new HashMap<>();
     }
 
     @Override protected Window<MergeDataCollection<INPUT_AND_OUTPUT>> getCache() {
@@ -47,47 +68,148 @@ public abstract class MergePersistenceWorker<INPUT_AND_OUTPUT extends StreamData
 
     @Override protected List<Object> prepareBatch(MergeDataCollection<INPUT_AND_OUTPUT> collection) {
         List<Object> batchCollection = new LinkedList<>();
-        collection.collection().forEach((id, data) -> {
-            if (needMergeDBData()) {
-                INPUT_AND_OUTPUT dbData = persistenceDAO().get(id);
-                if (nonNull(dbData)) {
-                    dbData.mergeAndFormulaCalculateData(data);
-                    try {
-                        batchCollection.add(persistenceDAO().prepareBatchUpdate(dbData));
-                        onNext(dbData);
-                    } catch (Throwable t) {
-                        logger.error(t.getMessage(), t);
-                    }
+        if (needMergeDBData()) {
+            // the rows which failed to read from the storage last time, merge them with the new data and read again.
+            unreadData.forEach((id, data) -> {
+                INPUT_AND_OUTPUT newData = collection.collection().get(id);
+                if (newData != null) {
+                    newData.mergeAndFormulaCalculateData(data);
                 } else {
-                    try {
-                        batchCollection.add(persistenceDAO().prepareBatchInsert(data));
-                        onNext(data);
-                    } catch (Throwable t) {
-                        logger.error(t.getMessage(), t);
-                    }
+                    collection.collection().put(id, data);
                 }
-            } else {
+            });
+            unreadData.clear();
+
+            Map<String, INPUT_AND_OUTPUT> persistedRows = new HashMap<>();
+            List<String> ids = new ArrayList<>(collection.collection().keySet());
+            for (int fromIndex = 0; fromIndex < ids.size(); fromIndex += MULTI_GET_SIZE) {
+                List<String> chunkIds = ids.subList(fromIndex, Math.min(fromIndex + MULTI_GET_SIZE, ids.size()));
+
+                List<String> uncachedIds = new ArrayList<>();
+                chunkIds.forEach(id -> {
+                    if (persistedDataCache.get(id) == null) {
+                        uncachedIds.add(id);
+                    }
+                });
+                Map<String, INPUT_AND_OUTPUT> dbDataMap;
                 try {
-                    batchCollection.add(persistenceDAO().prepareBatchInsert(data));
-                    onNext(data);
-                } catch (Throwable t) {
-                    logger.error(t.getMessage(), t);
+                    dbDataMap = uncachedIds.isEmpty() ? Collections.emptyMap() : persistenceDAO().multiGet(uncachedIds);
+                } catch (StorageMultiGetException e) {
+                    // don't take the rows as absent, an insert would overwrite the stored ones.
+                    logger.error(e.getMessage(), e);
+                    dbDataMap = null;
                 }
+
+                for (String id : chunkIds) {
+                    INPUT_AND_OUTPUT data = collection.collection().get(id);
+                    INPUT_AND_OUTPUT dbData = persistedDataCache.get(id);
+                    if (dbData != null) {
+                        // the cached row must stay as it is stored, merge into a copy of it.
+                        dbData = copy(dbData);
+                    } else if (dbDataMap != null) {
+                        dbData = dbDataMap.get(id);
+                    } else {
+                        unreadData.put(id, data);
+                        continue;
+                    }
+
+                    INPUT_AND_OUTPUT persistedData;
+                    boolean prepared;
+                    if (nonNull(dbData)) {
+                        dbData.mergeAndFormulaCalculateData(data);
+                        persistedData = dbData;
+                        prepared = prepareUpdate(batchCollection, dbData);
+                    } else {
+                        persistedData = data;
+                        prepared = prepareInsert(batchCollection, data);
+                    }
+
+                    if (prepared) {
+                        onNext(copy(persistedData));
+                        persistedRows.put(id, persistedData);
+                    } else {
+                        persistedDataCache.remove(id);
+                    }
+                }
+            }
+
+            if (!persistedRows.isEmpty()) {
+                persistingData.put(batchCollection, persistedRows);
             }
-        });
+        } else {
+            collection.collection().forEach((id, data) -> {
+                if (prepareInsert(batchCollection, data)) {
+                    onNext(data);
+                }
+            });
+        }
 
         return batchCollection;
     }
 
-    @Override protected void cacheData(INPUT_AND_OUTPUT input) {
-        mergeDataCache.writing();
-        if (mergeDataCache.containsKey(input.getId())) {
-            mergeDataCache.get(input.getId()).mergeAndFormulaCalculateData(input);
+    /**
+     * Cache the rows of the batch only when it has been written, otherwise the cache would be ahead of the storage.
+     */
+    @Override protected void afterPersist(List<?> batchCollection, boolean success) {
+        Map<String, INPUT_AND_OUTPUT> persistedRows = persistingData.remove(batchCollection);
+        if (persistedRows == null) {
+            return;
+        }
+
+        if (success) {
+            persistedRows.forEach(persistedDataCache::put);
         } else {
-            input.calculateFormula();
-            mergeDataCache.put(input.getId(), input);
+            persistedRows.keySet().forEach(persistedDataCache::remove);
+        }
+    }
+
+    private boolean prepareInsert(List<Object> batchCollection, INPUT_AND_OUTPUT data) {
+        try {
+            batchCollection.add(persistenceDAO().prepareBatchInsert(data));
+            return true;
+        } catch (Throwable t) {
+            logger.error(t.getMessage(), t);
+            return false;
+        }
+    }
+
+    private boolean prepareUpdate(List<Object> batchCollection, INPUT_AND_OUTPUT data) {
+        try {
+            batchCollection.add(persistenceDAO().prepareBatchUpdate(data));
+            return true;
+        } catch (Throwable t) {
+            logger.error(t.getMessage(), t);
+            return false;
         }
+    }
+
+    /**
+     * The next workers receive a copy, so the row kept by this worker is never shared with other threads.
+     */
+    private INPUT_AND_OUTPUT copy(INPUT_AND_OUTPUT data) {
+        INPUT_AND_OUTPUT copy = dataSupplier.get();
+        copy.copyFrom(data);
+        return copy;
+    }
+
+    /**
+     * The rows of an id may be written by another collector after the cluster changed, don't trust the cache anymore.
+     */
+    void clearPersistedDataCache() {
+        persistedDataCache.clear();
+    }
 
-        mergeDataCache.finishWriting();
+    @Override protected void cacheData(INPUT_AND_OUTPUT input) {
+        mergeDataCache.writing();
+        try {
+            if (mergeDataCache.containsKey(input.getId())) {
+                mergeDataCache.get(input.getId()).mergeAndFormulaCalculateData(input);
+            } else {
+                input.calculateFormula();
+                mergeDataCache.put(input.getId(), input);
+            }
+        } finally {
+            mergeDataCache.finishWriting();
+        }
     }
 }
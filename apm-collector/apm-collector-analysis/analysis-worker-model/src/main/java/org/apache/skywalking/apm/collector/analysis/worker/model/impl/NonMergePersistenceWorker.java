@@ -45,8 +45,11 @@ public abstract class NonMergePersistenceWorker<INPUT_AND_OUTPUT extends StreamD
 
     @Override protected void cacheData(INPUT_AND_OUTPUT input) {
         mergeDataCache.writing();
-        mergeDataCache.add(input);
-        mergeDataCache.finishWriting();
+        try {
+            mergeDataCache.add(input);
+        } finally {
+            mergeDataCache.finishWriting();
+        }
     }
 
     @Override protected List<Object> prepareBatch(NonMergeDataCollection<INPUT_AND_OUTPUT> collection) {
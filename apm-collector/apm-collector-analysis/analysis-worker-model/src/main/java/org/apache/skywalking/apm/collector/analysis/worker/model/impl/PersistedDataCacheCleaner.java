@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.worker.model.impl;
+
+import java.util.List;
+import org.apache.skywalking.apm.collector.cluster.ClusterModuleListener;
+import org.apache.skywalking.apm.collector.remote.RemoteModule;
+import org.slf4j.*;
+
+/**
+ * The metric ids are routed to the collectors by the remote module, when a collector joins or quits, an id may be
+ * routed to another collector, which writes the row from then on. So the persisted data cache of every merge
+ * persistence worker is cleared, the rows are read from the storage again.
+ */
+public class PersistedDataCacheCleaner extends ClusterModuleListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistedDataCacheCleaner.class);
+
+    /**
+     * The collectors register their remote gRPC servers under this path.
+     */
+    private static final String PATH = "/" + RemoteModule.NAME + "/gRPC";
+
+    private final List<PersistenceWorker> persistenceWorkers;
+
+    public PersistedDataCacheCleaner(List<PersistenceWorker> persistenceWorkers) {
+        this.persistenceWorkers = persistenceWorkers;
+    }
+
+    @Override public String path() {
+        return PATH;
+    }
+
+    @Override public void serverJoinNotify(String serverAddress) {
+        logger.info("collector {} joined, clear the persisted data cache", serverAddress);
+        clear();
+    }
+
+    @Override public void serverQuitNotify(String serverAddress) {
+        logger.info("collector {} quit, clear the persisted data cache", serverAddress);
+        clear();
+    }
+
+    private void clear() {
+        persistenceWorkers.forEach(worker -> {
+            if (worker instanceof MergePersistenceWorker) {
+                ((MergePersistenceWorker)worker).clearPersistedDataCache();
+            }
+        });
+    }
+}
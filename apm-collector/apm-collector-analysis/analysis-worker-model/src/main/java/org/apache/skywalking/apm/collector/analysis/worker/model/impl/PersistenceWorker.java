@@ -22,22 +22,19 @@ import java.util.*;
 import org.apache.skywalking.apm.collector.analysis.worker.model.base.AbstractLocalAsyncWorker;
 import org.apache.skywalking.apm.collector.configuration.ConfigurationModule;
 import org.apache.skywalking.apm.collector.configuration.service.IWorkerCacheSizeConfig;
-import org.apache.skywalking.apm.collector.core.annotations.trace.GraphComputingMetric;
+import org.apache.skywalking.apm.collector.core.annotations.trace.*;
 import org.apache.skywalking.apm.collector.core.cache.Collection;
 import org.apache.skywalking.apm.collector.core.cache.*;
 import org.apache.skywalking.apm.collector.core.data.StreamData;
 import org.apache.skywalking.apm.collector.core.module.ModuleManager;
 import org.apache.skywalking.apm.collector.storage.StorageModule;
 import org.apache.skywalking.apm.collector.storage.base.dao.*;
-import org.slf4j.*;
 
 /**
  * @author peng-yongsheng
  */
 public abstract class PersistenceWorker<INPUT_AND_OUTPUT extends StreamData, COLLECTION extends Collection> extends AbstractLocalAsyncWorker<INPUT_AND_OUTPUT, INPUT_AND_OUTPUT> {
 
-    private static final Logger logger = LoggerFactory.getLogger(PersistenceWorker.class);
-
     private final IBatchDAO batchDAO;
     private final int blockBatchPersistenceSize;
 
@@ -66,7 +63,7 @@ public abstract class PersistenceWorker<INPUT_AND_OUTPUT extends StreamData, COL
                     getCache().switchPointer();
 
                     List<?> collection = buildBatchCollection();
-                    batchDAO.batchPersistence(collection);
+                    persist(collection);
                 }
             } finally {
                 getCache().trySwitchPointerFinally();
@@ -75,18 +72,10 @@ public abstract class PersistenceWorker<INPUT_AND_OUTPUT extends StreamData, COL
         cacheData(input);
     }
 
-    @GraphComputingMetric(name = "/persistence/buildBatchCollection/")
+    @GraphComputingMetric(name = "/persistence/buildBatchCollection/", byClass = true)
     public final List<?> buildBatchCollection() {
         List<?> batchCollection = new LinkedList<>();
         try {
-            while (getCache().getLast().isWriting()) {
-                try {
-                    Thread.sleep(10);
-                } catch (InterruptedException e) {
-                    logger.warn("thread wake up");
-                }
-            }
-
             if (getCache().getLast().collection() != null) {
                 batchCollection = prepareBatch(getCache().getLast());
             }
@@ -96,6 +85,26 @@ public abstract class PersistenceWorker<INPUT_AND_OUTPUT extends StreamData, COL
         return batchCollection;
     }
 
+    @GraphComputingMetric(name = "/persistence/persist/", byClass = true)
+    public final void persist(@BatchParameter List<?> batchCollection) {
+        try {
+            batchDAO.batchPersistence(batchCollection, success -> afterPersist(batchCollection, success));
+        } catch (Throwable t) {
+            afterPersist(batchCollection, false);
+            throw t;
+        }
+    }
+
+    /**
+     * Called after the batch built by {@link #buildBatchCollection()} has been written to the storage, in the thread
+     * of the storage if it writes asynchronously.
+     *
+     * @param batchCollection the batch
+     * @param success false if the storage failed to write the batch
+     */
+    protected void afterPersist(List<?> batchCollection, boolean success) {
+    }
+
     protected abstract List<Object> prepareBatch(COLLECTION collection);
 
     protected abstract Window<COLLECTION> getCache();
@@ -19,6 +19,7 @@
 package org.apache.skywalking.apm.collector.analysis.worker.model.impl.data;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.skywalking.apm.collector.core.cache.Collection;
 import org.apache.skywalking.apm.collector.core.data.StreamData;
 
@@ -27,25 +28,25 @@ import org.apache.skywalking.apm.collector.core.data.StreamData;
  */
 public class MergeDataCollection<STREAM_DATA extends StreamData> implements Collection<Map<String, STREAM_DATA>> {
     private Map<String, STREAM_DATA> data;
-    private volatile boolean writing;
+    private final AtomicInteger writers;
     private volatile boolean reading;
 
     MergeDataCollection() {
         this.data = new LinkedHashMap<>();
-        this.writing = false;
+        this.writers = new AtomicInteger(0);
         this.reading = false;
     }
 
     public void finishWriting() {
-        writing = false;
+        writers.decrementAndGet();
     }
 
     @Override public void writing() {
-        writing = true;
+        writers.incrementAndGet();
     }
 
     @Override public boolean isWriting() {
-        return writing;
+        return writers.get() > 0;
     }
 
     @Override public void finishReading() {
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.worker.model.impl.data;
+
+import java.util.*;
+import org.apache.skywalking.apm.collector.core.data.StreamData;
+import org.apache.skywalking.apm.collector.core.util.Const;
+
+/**
+ * Cache of the last persisted rows of the time bucket metrics, the id of which starts with the time bucket, such as
+ * <code>201810181459_xxx</code>. The merge persistence worker merges the new data into the cached row instead of
+ * reading it from the storage, because a metric id is always routed to the same collector.
+ *
+ * Only the rows of the latest two time buckets are kept, the older buckets are evicted when a newer bucket comes,
+ * the previous one is kept for the late arrived data. Beyond the max size, the rows are not cached, and fall back to
+ * the storage.
+ *
+ * The cached rows are never modified, the worker merges into a copy of the cached row, and caches the merged row
+ * after its batch is written.
+ */
+public class PersistedDataCache<STREAM_DATA extends StreamData> {
+
+    private static final int KEPT_TIME_BUCKETS = 2;
+
+    private final int maxSize;
+    private final TreeMap<Long, Map<String, STREAM_DATA>> timeBuckets;
+    private int size;
+
+    public PersistedDataCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.timeBuckets = new TreeMap<>();
+        this.size = 0;
+    }
+
+    public synchronized STREAM_DATA get(String id) {
+        Long timeBucket = timeBucketOf(id);
+        if (timeBucket == null) {
+            return null;
+        }
+
+        Map<String, STREAM_DATA> rows = timeBuckets.get(timeBucket);
+        return rows == null ? null : rows.get(id);
+    }
+
+    public synchronized void put(String id, STREAM_DATA data) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        Long timeBucket = timeBucketOf(id);
+        if (timeBucket == null) {
+            return;
+        }
+
+        Map<String, STREAM_DATA> rows = timeBuckets.get(timeBucket);
+        if (rows == null) {
+            if (timeBuckets.size() >= KEPT_TIME_BUCKETS && timeBucket < timeBuckets.firstKey()) {
+                return;
+            }
+
+            rows = new HashMap<>();
+            timeBuckets.put(timeBucket, rows);
+            while (timeBuckets.size() > KEPT_TIME_BUCKETS) {
+                size -= timeBuckets.pollFirstEntry().getValue().size();
+            }
+        }
+
+        if (!rows.containsKey(id)) {
+            if (size >= maxSize) {
+                return;
+            }
+            size++;
+        }
+        rows.put(id, data);
+    }
+
+    public synchronized void remove(String id) {
+        Long timeBucket = timeBucketOf(id);
+        if (timeBucket == null) {
+            return;
+        }
+
+        Map<String, STREAM_DATA> rows = timeBuckets.get(timeBucket);
+        if (rows != null && rows.remove(id) != null) {
+            size--;
+        }
+    }
+
+    public synchronized void clear() {
+        timeBuckets.clear();
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    static Long timeBucketOf(String id) {
+        int index = id.indexOf(Const.ID_SPLIT);
+        if (index <= 0) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(id.substring(0, index));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
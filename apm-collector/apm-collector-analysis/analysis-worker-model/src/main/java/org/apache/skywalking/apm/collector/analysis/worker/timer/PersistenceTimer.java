@@ -20,14 +20,22 @@ package org.apache.skywalking.apm.collector.analysis.worker.timer;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.skywalking.apm.collector.analysis.worker.model.impl.PersistedDataCacheCleaner;
 import org.apache.skywalking.apm.collector.analysis.worker.model.impl.PersistenceWorker;
+import org.apache.skywalking.apm.collector.cluster.ClusterModule;
+import org.apache.skywalking.apm.collector.cluster.service.ModuleListenerService;
+import org.apache.skywalking.apm.collector.configuration.ConfigurationModule;
+import org.apache.skywalking.apm.collector.configuration.service.IPersistenceTimerConfig;
 import org.apache.skywalking.apm.collector.core.module.ModuleManager;
-import org.apache.skywalking.apm.collector.storage.StorageModule;
-import org.apache.skywalking.apm.collector.storage.base.dao.IBatchDAO;
 import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
 import org.slf4j.*;
 
 /**
+ * Flush the persistence workers at the configured interval. Each worker is flushed by the bounded thread pool, and
+ * its batch is sent to storage as soon as it is built, so a slow worker doesn't delay the others. A worker is skipped
+ * when its previous flush isn't finished.
+ *
  * @author peng-yongsheng
  */
 public enum PersistenceTimer {
@@ -36,7 +44,9 @@ public enum PersistenceTimer {
     private static final Logger logger = LoggerFactory.getLogger(PersistenceTimer.class);
 
     private Boolean isStarted = false;
-    private List<PersistenceWorker> persistenceWorkers = new LinkedList<>();
+    private final List<PersistenceWorker> persistenceWorkers = new CopyOnWriteArrayList<>();
+    private final Set<PersistenceWorker> flushingWorkers = ConcurrentHashMap.newKeySet();
+    private ExecutorService flushExecutor;
     private final Boolean debug;
 
     PersistenceTimer() {
@@ -46,58 +56,78 @@ public enum PersistenceTimer {
     public void start(ModuleManager moduleManager, List<PersistenceWorker> persistenceWorkers) {
         logger.info("persistence timer start");
         this.persistenceWorkers.addAll(persistenceWorkers);
-        //TODO timer value config
-//        final long timeInterval = EsConfig.Es.Persistence.Timer.VALUE * 1000;
-        final long timeInterval = 3;
-        IBatchDAO batchDAO = moduleManager.find(StorageModule.NAME).getService(IBatchDAO.class);
 
         if (!isStarted) {
-            Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(
-                new RunnableWithExceptionProtection(() -> extractDataAndSave(batchDAO, this.persistenceWorkers),
-                    t -> logger.error("Extract data and save failure.", t)), 1, timeInterval, TimeUnit.SECONDS);
+            IPersistenceTimerConfig config = moduleManager.find(ConfigurationModule.NAME).getService(IPersistenceTimerConfig.class);
+            AtomicInteger flushThreadSeq = new AtomicInteger(0);
+            this.flushExecutor = Executors.newFixedThreadPool(config.threadNum(),
+                runnable -> new Thread(runnable, "PersistenceTimer-Flush-" + flushThreadSeq.getAndIncrement()));
+
+            ModuleListenerService moduleListenerService = moduleManager.find(ClusterModule.NAME).getService(ModuleListenerService.class);
+            moduleListenerService.addListener(new PersistedDataCacheCleaner(this.persistenceWorkers));
+
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "PersistenceTimer")).scheduleAtFixedRate(
+                new RunnableWithExceptionProtection(this::extractDataAndSave,
+                    t -> logger.error("Extract data and save failure.", t)), 1, config.interval(), TimeUnit.SECONDS);
 
             this.isStarted = true;
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void extractDataAndSave(IBatchDAO batchDAO, List<PersistenceWorker> persistenceWorkers) {
+    private void extractDataAndSave() {
         if (logger.isDebugEnabled()) {
             logger.debug("Extract data and save");
         }
 
+        persistenceWorkers.forEach(worker -> {
+            if (flushingWorkers.add(worker)) {
+                try {
+                    flushExecutor.execute(() -> {
+                        try {
+                            extractDataAndSave(worker);
+                        } finally {
+                            flushingWorkers.remove(worker);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    flushingWorkers.remove(worker);
+                    logger.error(e.getMessage(), e);
+                }
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("{} worker is still flushing, skip it", worker.getClass().getName());
+            }
+        });
+    }
+
+    private void extractDataAndSave(PersistenceWorker worker) {
         long startTime = System.currentTimeMillis();
         try {
-            List batchAllCollection = new LinkedList();
-            persistenceWorkers.forEach((PersistenceWorker worker) -> {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("extract {} worker data and save", worker.getClass().getName());
-                }
+            if (logger.isDebugEnabled()) {
+                logger.debug("extract {} worker data and save", worker.getClass().getName());
+            }
 
-                if (worker.flushAndSwitch()) {
-                    List<?> batchCollection = worker.buildBatchCollection();
+            if (worker.flushAndSwitch()) {
+                List<?> batchCollection = worker.buildBatchCollection();
 
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("extract {} worker data size: {}", worker.getClass().getName(), batchCollection.size());
-                    }
-                    batchAllCollection.addAll(batchCollection);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("extract {} worker data size: {}", worker.getClass().getName(), batchCollection.size());
+                }
+                if (debug) {
+                    logger.info("build {} worker batch persistence duration: {} ms", worker.getClass().getSimpleName(), System.currentTimeMillis() - startTime);
                 }
-            });
 
-            if (debug) {
-                logger.info("build batch persistence duration: {} ms", System.currentTimeMillis() - startTime);
+                worker.persist(batchCollection);
             }
-            batchDAO.batchPersistence(batchAllCollection);
         } catch (Throwable e) {
             logger.error(e.getMessage(), e);
         } finally {
             if (logger.isDebugEnabled()) {
-                logger.debug("persistence data save finish");
+                logger.debug("{} worker persistence data save finish", worker.getClass().getName());
             }
         }
 
         if (debug) {
-            logger.info("batch persistence duration: {} ms", System.currentTimeMillis() - startTime);
+            logger.info("{} worker batch persistence duration: {} ms", worker.getClass().getSimpleName(), System.currentTimeMillis() - startTime);
         }
     }
 }
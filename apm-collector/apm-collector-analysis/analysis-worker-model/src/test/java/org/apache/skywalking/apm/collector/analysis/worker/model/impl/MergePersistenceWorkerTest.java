@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.worker.model.impl;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Consumer;
+import org.apache.skywalking.apm.collector.analysis.worker.model.impl.data.PersistedDataCache;
+import org.apache.skywalking.apm.collector.core.graph.Next;
+import org.apache.skywalking.apm.collector.core.module.*;
+import org.apache.skywalking.apm.collector.storage.StorageMultiGetException;
+import org.apache.skywalking.apm.collector.storage.base.dao.*;
+import org.apache.skywalking.apm.collector.storage.table.application.ApplicationMetric;
+import org.junit.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.internal.util.reflection.Whitebox;
+import org.mockito.stubbing.Answer;
+
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class MergePersistenceWorkerTest {
+
+    private IBatchDAO batchDAO;
+    private boolean batchWritten;
+    private boolean asyncWrite;
+    private List<Consumer<Boolean>> pendingCallbacks;
+    private PersistedDataCache<ApplicationMetric> persistedDataCache;
+    private IPersistenceDAO<Object, Object, ApplicationMetric> persistenceDAO;
+    private Map<String, ApplicationMetric> storedRows;
+    private Answer<Map<String, ApplicationMetric>> readStoredRows;
+    private List<ApplicationMetric> inserted;
+    private List<ApplicationMetric> updated;
+    private List<ApplicationMetric> emitted;
+    private Next<ApplicationMetric> next;
+    private TestMergePersistenceWorker worker;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException, StorageMultiGetException {
+        ModuleManager moduleManager = mock(ModuleManager.class);
+        when(moduleManager.find(anyString())).then(invocation -> new MockModule());
+
+        batchDAO = mock(IBatchDAO.class);
+        batchWritten = true;
+        pendingCallbacks = new ArrayList<>();
+        doAnswer(invocation -> {
+            Consumer<Boolean> callback = invocation.getArgumentAt(1, Consumer.class);
+            if (asyncWrite) {
+                pendingCallbacks.add(callback);
+            } else {
+                callback.accept(batchWritten);
+            }
+            return null;
+        }).when(batchDAO).batchPersistence(anyList(), any(Consumer.class));
+
+        storedRows = new HashMap<>();
+        inserted = new ArrayList<>();
+        updated = new ArrayList<>();
+        persistenceDAO = mock(IPersistenceDAO.class);
+        readStoredRows = invocation -> {
+            Map<String, ApplicationMetric> rows = new HashMap<>();
+            for (String id : (List<String>)invocation.getArgumentAt(0, List.class)) {
+                if (storedRows.containsKey(id)) {
+                    ApplicationMetric row = new ApplicationMetric();
+                    row.copyFrom(storedRows.get(id));
+                    rows.put(id, row);
+                }
+            }
+            return rows;
+        };
+        when(persistenceDAO.multiGet(anyList())).then(readStoredRows);
+        when(persistenceDAO.prepareBatchInsert(any(ApplicationMetric.class))).then(invocation -> {
+            inserted.add(invocation.getArgumentAt(0, ApplicationMetric.class));
+            return new Object();
+        });
+        when(persistenceDAO.prepareBatchUpdate(any(ApplicationMetric.class))).then(invocation -> {
+            updated.add(invocation.getArgumentAt(0, ApplicationMetric.class));
+            return new Object();
+        });
+
+        emitted = new ArrayList<>();
+        next = mock(Next.class);
+        doAnswer(invocation -> emitted.add(invocation.getArgumentAt(0, ApplicationMetric.class))).when(next).execute(any());
+
+        worker = new TestMergePersistenceWorker(moduleManager, persistenceDAO);
+        Whitebox.setInternalState(worker, "batchDAO", batchDAO);
+        Whitebox.setInternalState(worker, "blockBatchPersistenceSize", Integer.MAX_VALUE);
+        persistedDataCache = new PersistedDataCache<>(10000);
+        Whitebox.setInternalState(worker, "persistedDataCache", persistedDataCache);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMultiGetInChunks() throws StorageMultiGetException {
+        List<ApplicationMetric> metrics = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            String id = "201810181459_" + i;
+            metrics.add(metric(id, 1));
+            if (i % 2 == 0) {
+                storedRows.put(id, metric(id, 10));
+            }
+        }
+        flush(metrics.toArray(new ApplicationMetric[0]));
+
+        ArgumentCaptor<List> ids = ArgumentCaptor.forClass(List.class);
+        verify(persistenceDAO, times(3)).multiGet(ids.capture());
+        Assert.assertEquals(500, ids.getAllValues().get(0).size());
+        Assert.assertEquals(500, ids.getAllValues().get(1).size());
+        Assert.assertEquals(1, ids.getAllValues().get(2).size());
+
+        Set<Object> allIds = new HashSet<>();
+        ids.getAllValues().forEach(allIds::addAll);
+        Assert.assertEquals(1001, allIds.size());
+
+        Assert.assertEquals(500, inserted.size());
+        inserted.forEach(row -> {
+            Assert.assertFalse(storedRows.containsKey(row.getId()));
+            Assert.assertEquals(1L, row.getTransactionCalls().longValue());
+        });
+        Assert.assertEquals(501, updated.size());
+        updated.forEach(row -> {
+            Assert.assertTrue(storedRows.containsKey(row.getId()));
+            Assert.assertEquals(11L, row.getTransactionCalls().longValue());
+        });
+        Assert.assertEquals(1001, emitted.size());
+    }
+
+    @Test
+    public void testMergeWithCachedRowAfterSuccessfulBatch() throws StorageMultiGetException {
+        flush(metric("201810181459_1", 1));
+        Assert.assertEquals(1, inserted.size());
+
+        flush(metric("201810181459_1", 2));
+        Assert.assertEquals(1, updated.size());
+        Assert.assertEquals(3L, updated.get(0).getTransactionCalls().longValue());
+        verify(persistenceDAO, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    public void testNotCachedWhenBatchFailed() throws StorageMultiGetException {
+        batchWritten = false;
+        flush(metric("201810181459_1", 1));
+
+        batchWritten = true;
+        flush(metric("201810181459_1", 2));
+        Assert.assertEquals(2, inserted.size());
+        verify(persistenceDAO, times(2)).multiGet(anyList());
+    }
+
+    @Test
+    public void testCachedOnlyAfterAsyncBatchWritten() {
+        asyncWrite = true;
+        flush(metric("201810181459_1", 1));
+        flush(metric("201810181459_2", 1));
+        Assert.assertEquals(2, pendingCallbacks.size());
+        // the batches are accepted, but not written yet.
+        Assert.assertEquals(0, persistedDataCache.size());
+
+        pendingCallbacks.get(0).accept(true);
+        pendingCallbacks.get(1).accept(false);
+        Assert.assertEquals(1, persistedDataCache.size());
+        Assert.assertNotNull(persistedDataCache.get("201810181459_1"));
+    }
+
+    @Test
+    public void testCacheClearedWhenClusterChanged() throws StorageMultiGetException {
+        flush(metric("201810181459_1", 1));
+
+        new PersistedDataCacheCleaner(Collections.singletonList(worker)).serverJoinNotify("10.0.0.2:11800");
+        storedRows.put("201810181459_1", metric("201810181459_1", 5));
+        flush(metric("201810181459_1", 2));
+        Assert.assertEquals(7L, updated.get(0).getTransactionCalls().longValue());
+        verify(persistenceDAO, times(2)).multiGet(anyList());
+    }
+
+    @Test
+    public void testRetryRowsFailedToRead() throws StorageMultiGetException {
+        storedRows.put("201810181459_1", metric("201810181459_1", 5));
+        when(persistenceDAO.multiGet(anyList())).thenThrow(new StorageMultiGetException("timeout")).then(readStoredRows);
+
+        flush(metric("201810181459_1", 1));
+        Assert.assertEquals(0, inserted.size());
+        Assert.assertEquals(0, updated.size());
+        Assert.assertEquals(0, emitted.size());
+
+        flush(metric("201810181459_1", 2));
+        Assert.assertEquals(0, inserted.size());
+        Assert.assertEquals(1, updated.size());
+        Assert.assertEquals(8L, updated.get(0).getTransactionCalls().longValue());
+        Assert.assertEquals(1, emitted.size());
+    }
+
+    @Test
+    public void testEmittedRowsAreCopies() {
+        flush(metric("201810181459_1", 1));
+        flush(metric("201810181459_1", 2));
+
+        Assert.assertEquals(2, emitted.size());
+        Assert.assertEquals(1L, emitted.get(0).getTransactionCalls().longValue());
+        Assert.assertEquals(3L, emitted.get(1).getTransactionCalls().longValue());
+        Assert.assertNotSame(inserted.get(0), emitted.get(0));
+        Assert.assertNotSame(updated.get(0), emitted.get(1));
+    }
+
+    private void flush(ApplicationMetric... metrics) {
+        for (ApplicationMetric metric : metrics) {
+            worker.process(metric, next);
+        }
+        Assert.assertTrue(worker.flushAndSwitch());
+        worker.persist(worker.buildBatchCollection());
+    }
+
+    private ApplicationMetric metric(String id, long calls) {
+        ApplicationMetric metric = new ApplicationMetric();
+        metric.setId(id);
+        metric.setMetricId(id);
+        metric.setTransactionCalls(calls);
+        return metric;
+    }
+
+    class TestMergePersistenceWorker extends MergePersistenceWorker<ApplicationMetric> {
+
+        private final IPersistenceDAO<?, ?, ApplicationMetric> persistenceDAO;
+
+        TestMergePersistenceWorker(ModuleManager moduleManager,
+            IPersistenceDAO<?, ?, ApplicationMetric> persistenceDAO) {
+            super(moduleManager, ApplicationMetric::new);
+            this.persistenceDAO = persistenceDAO;
+        }
+
+        @Override public int id() {
+            return 0;
+        }
+
+        @Override protected IPersistenceDAO<?, ?, ApplicationMetric> persistenceDAO() {
+            return persistenceDAO;
+        }
+
+        @Override protected boolean needMergeDBData() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.worker.model.impl.data;
+
+import org.apache.skywalking.apm.collector.storage.table.application.ApplicationMapping;
+import org.junit.*;
+
+public class PersistedDataCacheTest {
+
+    @Test
+    public void testEvictClosedTimeBuckets() {
+        PersistedDataCache<ApplicationMapping> cache = new PersistedDataCache<>(100);
+        cache.put("201810181458_1", new ApplicationMapping());
+        cache.put("201810181459_1", new ApplicationMapping());
+        cache.put("201810181459_2", new ApplicationMapping());
+        Assert.assertEquals(3, cache.size());
+
+        cache.put("201810181500_1", new ApplicationMapping());
+        Assert.assertEquals(3, cache.size());
+        Assert.assertNull(cache.get("201810181458_1"));
+        Assert.assertNotNull(cache.get("201810181459_2"));
+        Assert.assertNotNull(cache.get("201810181500_1"));
+
+        cache.put("201810181458_2", new ApplicationMapping());
+        Assert.assertNull(cache.get("201810181458_2"));
+    }
+
+    @Test
+    public void testMaxSize() {
+        PersistedDataCache<ApplicationMapping> cache = new PersistedDataCache<>(2);
+        cache.put("2018101814_1", new ApplicationMapping());
+        cache.put("2018101814_2", new ApplicationMapping());
+        cache.put("2018101814_3", new ApplicationMapping());
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNull(cache.get("2018101814_3"));
+
+        cache.remove("2018101814_1");
+        cache.put("2018101814_3", new ApplicationMapping());
+        Assert.assertNotNull(cache.get("2018101814_3"));
+
+        cache.put("not_a_time_bucket", new ApplicationMapping());
+        Assert.assertNull(cache.get("not_a_time_bucket"));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.analysis.worker.timer;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.skywalking.apm.collector.analysis.worker.model.impl.PersistenceWorker;
+import org.apache.skywalking.apm.collector.configuration.service.IPersistenceTimerConfig;
+import org.apache.skywalking.apm.collector.core.module.*;
+import org.junit.*;
+
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class PersistenceTimerTest {
+
+    @Test
+    public void testFailingWorkerNotBlockOthers() throws InterruptedException {
+        IPersistenceTimerConfig config = mock(IPersistenceTimerConfig.class);
+        when(config.interval()).thenReturn(1);
+        when(config.threadNum()).thenReturn(2);
+        ModuleManager moduleManager = mock(ModuleManager.class);
+        when(moduleManager.find(anyString())).then(invocation -> new MockModule(config));
+
+        AtomicInteger failingFlushes = new AtomicInteger(0);
+        PersistenceWorker failingWorker = mock(PersistenceWorker.class);
+        when(failingWorker.flushAndSwitch()).then(invocation -> {
+            failingFlushes.incrementAndGet();
+            throw new RuntimeException("flush failure");
+        });
+
+        AtomicInteger stuckFlushes = new AtomicInteger(0);
+        CountDownLatch release = new CountDownLatch(1);
+        PersistenceWorker stuckWorker = mock(PersistenceWorker.class);
+        when(stuckWorker.flushAndSwitch()).then(invocation -> {
+            stuckFlushes.incrementAndGet();
+            release.await();
+            return false;
+        });
+
+        AtomicInteger normalFlushes = new AtomicInteger(0);
+        Set<String> flushThreads = ConcurrentHashMap.newKeySet();
+        PersistenceWorker normalWorker = mock(PersistenceWorker.class);
+        when(normalWorker.flushAndSwitch()).then(invocation -> {
+            flushThreads.add(Thread.currentThread().getName());
+            normalFlushes.incrementAndGet();
+            return false;
+        });
+
+        PersistenceTimer.INSTANCE.start(moduleManager, Arrays.asList(stuckWorker, failingWorker, normalWorker));
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while ((normalFlushes.get() < 3 || failingFlushes.get() < 3) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        release.countDown();
+
+        Assert.assertTrue(normalFlushes.get() >= 3);
+        Assert.assertTrue(failingFlushes.get() >= 3);
+        // the stuck worker is skipped until its flush finishes.
+        Assert.assertEquals(1, stuckFlushes.get());
+        flushThreads.forEach(name -> Assert.assertTrue(name.startsWith("PersistenceTimer-Flush-")));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.collector.cache.CacheModule;
+import org.apache.skywalking.apm.collector.cache.dictionary.service.AbstractDictionaryCacheService;
+import org.apache.skywalking.apm.collector.cache.dictionary.service.ApplicationCacheDictionaryService;
+import org.apache.skywalking.apm.collector.cache.dictionary.service.InstanceCacheDictionaryService;
+import org.apache.skywalking.apm.collector.cache.dictionary.service.NetworkAddressCacheDictionaryService;
+import org.apache.skywalking.apm.collector.cache.dictionary.service.ServiceIdCacheDictionaryService;
+import org.apache.skywalking.apm.collector.cache.dictionary.service.ServiceNameCacheDictionaryService;
+import org.apache.skywalking.apm.collector.cache.service.ApplicationCacheService;
+import org.apache.skywalking.apm.collector.cache.service.InstanceCacheService;
+import org.apache.skywalking.apm.collector.cache.service.NetworkAddressCacheService;
+import org.apache.skywalking.apm.collector.cache.service.ServiceIdCacheService;
+import org.apache.skywalking.apm.collector.cache.service.ServiceNameCacheService;
+import org.apache.skywalking.apm.collector.core.module.ModuleConfig;
+import org.apache.skywalking.apm.collector.core.module.ModuleDefine;
+import org.apache.skywalking.apm.collector.core.module.ModuleProvider;
+import org.apache.skywalking.apm.collector.core.module.ServiceNotProvidedException;
+import org.apache.skywalking.apm.collector.storage.StorageModule;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The cache provider which keeps all the registered ids in never expired dictionaries, preloaded from the storage at
+ * startup.
+ */
+public class CacheModuleDictionaryProvider extends ModuleProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheModuleDictionaryProvider.class);
+
+    private final CacheModuleDictionaryConfig config;
+    private final List<AbstractDictionaryCacheService> services;
+
+    public CacheModuleDictionaryProvider() {
+        super();
+        this.config = new CacheModuleDictionaryConfig();
+        this.services = new LinkedList<>();
+    }
+
+    @Override public String name() {
+        return "dictionary";
+    }
+
+    @Override public Class<? extends ModuleDefine> module() {
+        return CacheModule.class;
+    }
+
+    @Override public ModuleConfig createConfigBeanIfAbsent() {
+        return config;
+    }
+
+    @Override public void prepare() throws ServiceNotProvidedException {
+        ApplicationCacheDictionaryService applicationCacheService = new ApplicationCacheDictionaryService(getManager());
+        InstanceCacheDictionaryService instanceCacheService = new InstanceCacheDictionaryService(getManager());
+        ServiceIdCacheDictionaryService serviceIdCacheService = new ServiceIdCacheDictionaryService(getManager());
+        ServiceNameCacheDictionaryService serviceNameCacheService = new ServiceNameCacheDictionaryService(getManager());
+        NetworkAddressCacheDictionaryService networkAddressCacheService = new NetworkAddressCacheDictionaryService(getManager());
+
+        this.registerServiceImplementation(ApplicationCacheService.class, applicationCacheService);
+        this.registerServiceImplementation(InstanceCacheService.class, instanceCacheService);
+        this.registerServiceImplementation(ServiceIdCacheService.class, serviceIdCacheService);
+        this.registerServiceImplementation(ServiceNameCacheService.class, serviceNameCacheService);
+        this.registerServiceImplementation(NetworkAddressCacheService.class, networkAddressCacheService);
+
+        services.add(applicationCacheService);
+        services.add(instanceCacheService);
+        services.add(serviceIdCacheService);
+        services.add(serviceNameCacheService);
+        services.add(networkAddressCacheService);
+    }
+
+    /**
+     * The storage module starts before this one, so the tables are ready to be preloaded. A failed preload is not
+     * fatal, the dictionaries are filled by the misses then.
+     */
+    @Override public void start() {
+        services.forEach(service -> {
+            long startTime = System.currentTimeMillis();
+            try {
+                int count = service.preload();
+                logger.info("{} dictionary preloaded {} rows in {} ms", service.getMetric().getName(), count, System.currentTimeMillis() - startTime);
+            } catch (Throwable t) {
+                logger.error(service.getMetric().getName() + " dictionary preload failure.", t);
+            }
+        });
+
+        Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(
+            new RunnableWithExceptionProtection(this::report,
+                t -> logger.error("Report dictionary metrics failure.", t)), 60, 60, TimeUnit.SECONDS);
+    }
+
+    private void report() {
+        services.forEach(service -> logger.info("dictionary cache {}", service.getMetric()));
+    }
+
+    @Override public void notifyAfterCompleted() {
+    }
+
+    @Override public String[] requiredModules() {
+        return new String[] {StorageModule.NAME};
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The hit, miss and load counts of a dictionary cache service. A miss is a lookup which is not in the dictionary, it
+ * is counted as a load too when the id is found in the storage and added into the dictionary.
+ */
+public class DictionaryMetric {
+
+    private final String name;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private volatile long preloaded;
+
+    public DictionaryMetric(String name) {
+        this.name = name;
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public void load() {
+        loads.increment();
+    }
+
+    public void preloaded(long count) {
+        this.preloaded = count;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getPreloaded() {
+        return preloaded;
+    }
+
+    @Override public String toString() {
+        return name + ": preloaded=" + preloaded + ", hits=" + getHits() + ", misses=" + getMisses() + ", loads=" + getLoads();
+    }
+}
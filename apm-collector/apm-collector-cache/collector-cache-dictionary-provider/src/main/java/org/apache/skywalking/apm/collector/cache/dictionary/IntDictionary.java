@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * An int to object hash map for the id dictionaries, by open addressing with linear probing. The entries are never
+ * removed, the reads are lock free and the writes are serialized.
+ *
+ * 0 is not a valid key, it means none in the register ids.
+ */
+public class IntDictionary<V> {
+
+    private volatile Table table;
+    private volatile int size;
+
+    public IntDictionary(int initialCapacity) {
+        this.table = new Table(Tables.capacityOf(initialCapacity));
+    }
+
+    /**
+     * @return the value of the key, null if absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        Table current = table;
+        int index = current.indexOf(key);
+        return index < 0 ? null : (V)current.values[index];
+    }
+
+    public synchronized void put(int key, V value) {
+        if (key == Tables.EMPTY || value == null) {
+            return;
+        }
+
+        Table current = table;
+        int index = current.indexOf(key);
+        if (index >= 0) {
+            current.values[index] = value;
+            return;
+        }
+
+        if (Tables.isFull(size + 1, current.values.length)) {
+            current = current.resize();
+            table = current;
+        }
+        current.insert(key, value);
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static class Table {
+        private final AtomicIntegerArray keys;
+        private final Object[] values;
+        private final int mask;
+
+        private Table(int capacity) {
+            this.keys = new AtomicIntegerArray(capacity);
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private int indexOf(int key) {
+            int index = Tables.hash(key) & mask;
+            while (true) {
+                int current = keys.get(index);
+                if (current == key) {
+                    return index;
+                } else if (current == Tables.EMPTY) {
+                    return -1;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        /**
+         * The value is written before the key, the readers which see the key see the value.
+         */
+        private void insert(int key, Object value) {
+            int index = Tables.hash(key) & mask;
+            while (keys.get(index) != Tables.EMPTY) {
+                index = (index + 1) & mask;
+            }
+            values[index] = value;
+            keys.set(index, key);
+        }
+
+        private Table resize() {
+            Table newTable = new Table(values.length << 1);
+            for (int i = 0; i < values.length; i++) {
+                int key = keys.get(i);
+                if (key != Tables.EMPTY) {
+                    newTable.insert(key, values[i]);
+                }
+            }
+            return newTable;
+        }
+    }
+}
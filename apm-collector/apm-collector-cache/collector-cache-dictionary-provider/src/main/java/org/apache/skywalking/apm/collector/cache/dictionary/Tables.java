@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary;
+
+class Tables {
+
+    static final int EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private Tables() {
+    }
+
+    static int capacityOf(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (isFull(expectedSize, capacity)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Keeps the load factor under 0.75.
+     */
+    static boolean isFull(int size, int capacity) {
+        return size * 4L > capacity * 3L;
+    }
+
+    static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
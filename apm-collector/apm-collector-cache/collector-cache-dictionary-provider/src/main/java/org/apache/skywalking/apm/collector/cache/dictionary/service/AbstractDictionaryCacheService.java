@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary.service;
+
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import org.apache.skywalking.apm.collector.cache.dictionary.DictionaryMetric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * The base of the dictionary cache services. The dictionaries are preloaded from the storage at startup, the entries
+ * are never expired because the register ids never change once they are allocated, so only a miss goes to the
+ * storage.
+ */
+public abstract class AbstractDictionaryCacheService {
+
+    private final Logger logger = LoggerFactory.getLogger(AbstractDictionaryCacheService.class);
+
+    private final DictionaryMetric metric;
+
+    AbstractDictionaryCacheService(String name) {
+        this.metric = new DictionaryMetric(name);
+    }
+
+    /**
+     * Loads all the registered rows from the storage into the dictionaries.
+     *
+     * @return the count of the preloaded rows.
+     */
+    public abstract int preload();
+
+    public DictionaryMetric getMetric() {
+        return metric;
+    }
+
+    final void hit() {
+        metric.hit();
+    }
+
+    final int loadId(IntSupplier loader) {
+        metric.miss();
+        int id = 0;
+        try {
+            id = loader.getAsInt();
+        } catch (Throwable e) {
+            logger.error(e.getMessage(), e);
+        }
+
+        if (id != 0) {
+            metric.load();
+        }
+        return id;
+    }
+
+    final <T> T load(Supplier<T> loader) {
+        metric.miss();
+        T value = null;
+        try {
+            value = loader.get();
+        } catch (Throwable e) {
+            logger.error(e.getMessage(), e);
+        }
+
+        if (nonNull(value)) {
+            metric.load();
+        }
+        return value;
+    }
+
+    final void preloaded(int count) {
+        metric.preloaded(count);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.skywalking.apm.collector.cache.dictionary.IntDictionary;
+import org.apache.skywalking.apm.collector.cache.dictionary.IntIntDictionary;
+import org.apache.skywalking.apm.collector.cache.service.ApplicationCacheService;
+import org.apache.skywalking.apm.collector.core.module.ModuleManager;
+import org.apache.skywalking.apm.collector.core.util.BooleanUtils;
+import org.apache.skywalking.apm.collector.storage.StorageModule;
+import org.apache.skywalking.apm.collector.storage.dao.cache.IApplicationCacheDAO;
+import org.apache.skywalking.apm.collector.storage.table.register.Application;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class ApplicationCacheDictionaryService extends AbstractDictionaryCacheService implements ApplicationCacheService {
+
+    private final Map<String, Integer> codeDictionary = new ConcurrentHashMap<>();
+    private final IntDictionary<Application> applicationDictionary = new IntDictionary<>(1000);
+    private final IntIntDictionary addressIdDictionary = new IntIntDictionary(1000);
+
+    private final ModuleManager moduleManager;
+    private IApplicationCacheDAO applicationCacheDAO;
+
+    public ApplicationCacheDictionaryService(ModuleManager moduleManager) {
+        super("application");
+        this.moduleManager = moduleManager;
+    }
+
+    private IApplicationCacheDAO getApplicationCacheDAO() {
+        if (isNull(applicationCacheDAO)) {
+            this.applicationCacheDAO = moduleManager.find(StorageModule.NAME).getService(IApplicationCacheDAO.class);
+        }
+        return this.applicationCacheDAO;
+    }
+
+    @Override public int preload() {
+        List<Application> applications = getApplicationCacheDAO().loadAll();
+        applications.forEach(application -> {
+            applicationDictionary.put(application.getApplicationId(), application);
+            if (application.getIsAddress() == BooleanUtils.TRUE) {
+                addressIdDictionary.put(application.getAddressId(), application.getApplicationId());
+            } else {
+                codeDictionary.put(application.getApplicationCode(), application.getApplicationId());
+            }
+        });
+        preloaded(applications.size());
+        return applications.size();
+    }
+
+    @Override public int getApplicationIdByCode(String applicationCode) {
+        Integer applicationId = codeDictionary.get(applicationCode);
+        if (nonNull(applicationId)) {
+            hit();
+            return applicationId;
+        }
+
+        int id = loadId(() -> getApplicationCacheDAO().getApplicationIdByCode(applicationCode));
+        if (id != 0) {
+            codeDictionary.put(applicationCode, id);
+        }
+        return id;
+    }
+
+    @Override public Application getApplicationById(int applicationId) {
+        Application application = applicationDictionary.get(applicationId);
+        if (nonNull(application)) {
+            hit();
+            return application;
+        }
+
+        application = load(() -> getApplicationCacheDAO().getApplication(applicationId));
+        applicationDictionary.put(applicationId, application);
+        return application;
+    }
+
+    @Override public int getApplicationIdByAddressId(int addressId) {
+        int applicationId = addressIdDictionary.get(addressId);
+        if (applicationId != 0) {
+            hit();
+            return applicationId;
+        }
+
+        applicationId = loadId(() -> getApplicationCacheDAO().getApplicationIdByAddressId(addressId));
+        addressIdDictionary.put(addressId, applicationId);
+        return applicationId;
+    }
+}
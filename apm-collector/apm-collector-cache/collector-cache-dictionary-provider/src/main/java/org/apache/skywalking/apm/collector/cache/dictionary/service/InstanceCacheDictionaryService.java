@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.skywalking.apm.collector.cache.dictionary.IntIntDictionary;
+import org.apache.skywalking.apm.collector.cache.service.InstanceCacheService;
+import org.apache.skywalking.apm.collector.core.module.ModuleManager;
+import org.apache.skywalking.apm.collector.core.util.BooleanUtils;
+import org.apache.skywalking.apm.collector.core.util.Const;
+import org.apache.skywalking.apm.collector.storage.StorageModule;
+import org.apache.skywalking.apm.collector.storage.dao.cache.IInstanceCacheDAO;
+import org.apache.skywalking.apm.collector.storage.table.register.Instance;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class InstanceCacheDictionaryService extends AbstractDictionaryCacheService implements InstanceCacheService {
+
+    private final IntIntDictionary applicationIdDictionary = new IntIntDictionary(5000);
+    private final Map<String, Integer> agentUUIDDictionary = new ConcurrentHashMap<>();
+    private final Map<String, Integer> addressIdDictionary = new ConcurrentHashMap<>();
+
+    private final ModuleManager moduleManager;
+    private IInstanceCacheDAO instanceCacheDAO;
+
+    public InstanceCacheDictionaryService(ModuleManager moduleManager) {
+        super("instance");
+        this.moduleManager = moduleManager;
+    }
+
+    private IInstanceCacheDAO getInstanceCacheDAO() {
+        if (isNull(instanceCacheDAO)) {
+            this.instanceCacheDAO = moduleManager.find(StorageModule.NAME).getService(IInstanceCacheDAO.class);
+        }
+        return this.instanceCacheDAO;
+    }
+
+    @Override public int preload() {
+        List<Instance> instances = getInstanceCacheDAO().loadAll();
+        instances.forEach(instance -> {
+            applicationIdDictionary.put(instance.getInstanceId(), instance.getApplicationId());
+            if (instance.getIsAddress() == BooleanUtils.TRUE) {
+                addressIdDictionary.put(instance.getApplicationId() + Const.ID_SPLIT + instance.getAddressId(), instance.getInstanceId());
+            } else {
+                agentUUIDDictionary.put(instance.getApplicationId() + Const.ID_SPLIT + instance.getAgentUUID(), instance.getInstanceId());
+            }
+        });
+        preloaded(instances.size());
+        return instances.size();
+    }
+
+    @Override public int getApplicationId(int instanceId) {
+        int applicationId = applicationIdDictionary.get(instanceId);
+        if (applicationId != 0) {
+            hit();
+            return applicationId;
+        }
+
+        applicationId = loadId(() -> getInstanceCacheDAO().getApplicationId(instanceId));
+        applicationIdDictionary.put(instanceId, applicationId);
+        return applicationId;
+    }
+
+    @Override public int getInstanceIdByAgentUUID(int applicationId, String agentUUID) {
+        String key = applicationId + Const.ID_SPLIT + agentUUID;
+        Integer instanceId = agentUUIDDictionary.get(key);
+        if (nonNull(instanceId)) {
+            hit();
+            return instanceId;
+        }
+
+        int id = loadId(() -> getInstanceCacheDAO().getInstanceIdByAgentUUID(applicationId, agentUUID));
+        if (id != 0) {
+            agentUUIDDictionary.put(key, id);
+        }
+        return id;
+    }
+
+    @Override public int getInstanceIdByAddressId(int applicationId, int addressId) {
+        String key = applicationId + Const.ID_SPLIT + addressId;
+        Integer instanceId = addressIdDictionary.get(key);
+        if (nonNull(instanceId)) {
+            hit();
+            return instanceId;
+        }
+
+        int id = loadId(() -> getInstanceCacheDAO().getInstanceIdByAddressId(applicationId, addressId));
+        if (id != 0) {
+            addressIdDictionary.put(key, id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.skywalking.apm.collector.cache.dictionary.IntDictionary;
+import org.apache.skywalking.apm.collector.cache.service.NetworkAddressCacheService;
+import org.apache.skywalking.apm.collector.core.module.ModuleManager;
+import org.apache.skywalking.apm.collector.storage.StorageModule;
+import org.apache.skywalking.apm.collector.storage.dao.cache.INetworkAddressCacheDAO;
+import org.apache.skywalking.apm.collector.storage.table.register.NetworkAddress;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class NetworkAddressCacheDictionaryService extends AbstractDictionaryCacheService implements NetworkAddressCacheService {
+
+    private final Map<String, Integer> addressDictionary = new ConcurrentHashMap<>();
+    private final IntDictionary<NetworkAddress> idDictionary = new IntDictionary<>(5000);
+
+    private final ModuleManager moduleManager;
+    private INetworkAddressCacheDAO networkAddressCacheDAO;
+
+    public NetworkAddressCacheDictionaryService(ModuleManager moduleManager) {
+        super("network address");
+        this.moduleManager = moduleManager;
+    }
+
+    private INetworkAddressCacheDAO getNetworkAddressCacheDAO() {
+        if (isNull(networkAddressCacheDAO)) {
+            this.networkAddressCacheDAO = moduleManager.find(StorageModule.NAME).getService(INetworkAddressCacheDAO.class);
+        }
+        return this.networkAddressCacheDAO;
+    }
+
+    @Override public int preload() {
+        List<NetworkAddress> networkAddresses = getNetworkAddressCacheDAO().loadAll();
+        networkAddresses.forEach(networkAddress -> {
+            addressDictionary.put(networkAddress.getNetworkAddress(), networkAddress.getAddressId());
+            idDictionary.put(networkAddress.getAddressId(), networkAddress);
+        });
+        preloaded(networkAddresses.size());
+        return networkAddresses.size();
+    }
+
+    @Override public int getAddressId(String networkAddress) {
+        Integer addressId = addressDictionary.get(networkAddress);
+        if (nonNull(addressId)) {
+            hit();
+            return addressId;
+        }
+
+        int id = loadId(() -> getNetworkAddressCacheDAO().getAddressId(networkAddress));
+        if (id != 0) {
+            addressDictionary.put(networkAddress, id);
+        }
+        return id;
+    }
+
+    @Override public NetworkAddress getAddress(int addressId) {
+        NetworkAddress networkAddress = idDictionary.get(addressId);
+        if (nonNull(networkAddress)) {
+            hit();
+            return networkAddress;
+        }
+
+        networkAddress = load(() -> getNetworkAddressCacheDAO().getAddressById(addressId));
+        idDictionary.put(addressId, networkAddress);
+        return networkAddress;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.skywalking.apm.collector.cache.service.ServiceIdCacheService;
+import org.apache.skywalking.apm.collector.core.module.ModuleManager;
+import org.apache.skywalking.apm.collector.core.util.Const;
+import org.apache.skywalking.apm.collector.storage.StorageModule;
+import org.apache.skywalking.apm.collector.storage.dao.cache.IServiceNameCacheDAO;
+import org.apache.skywalking.apm.collector.storage.table.register.ServiceName;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class ServiceIdCacheDictionaryService extends AbstractDictionaryCacheService implements ServiceIdCacheService {
+
+    private final Map<String, Integer> serviceIdDictionary = new ConcurrentHashMap<>();
+
+    private final ModuleManager moduleManager;
+    private IServiceNameCacheDAO serviceNameCacheDAO;
+
+    public ServiceIdCacheDictionaryService(ModuleManager moduleManager) {
+        super("service id");
+        this.moduleManager = moduleManager;
+    }
+
+    private IServiceNameCacheDAO getServiceNameCacheDAO() {
+        if (isNull(serviceNameCacheDAO)) {
+            this.serviceNameCacheDAO = moduleManager.find(StorageModule.NAME).getService(IServiceNameCacheDAO.class);
+        }
+        return this.serviceNameCacheDAO;
+    }
+
+    @Override public int preload() {
+        List<ServiceName> serviceNames = getServiceNameCacheDAO().loadAll();
+        serviceNames.forEach(serviceName -> serviceIdDictionary.put(key(serviceName.getApplicationId(), serviceName.getSrcSpanType(), serviceName.getServiceName()), serviceName.getServiceId()));
+        preloaded(serviceNames.size());
+        return serviceNames.size();
+    }
+
+    @Override public int get(int applicationId, int srcSpanType, String serviceName) {
+        String key = key(applicationId, srcSpanType, serviceName);
+        Integer serviceId = serviceIdDictionary.get(key);
+        if (nonNull(serviceId)) {
+            hit();
+            return serviceId;
+        }
+
+        int id = loadId(() -> getServiceNameCacheDAO().getServiceId(applicationId, srcSpanType, serviceName));
+        if (id != 0) {
+            serviceIdDictionary.put(key, id);
+        }
+        return id;
+    }
+
+    private String key(int applicationId, int srcSpanType, String serviceName) {
+        return applicationId + Const.ID_SPLIT + srcSpanType + Const.ID_SPLIT + serviceName;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary.service;
+
+import java.util.List;
+import org.apache.skywalking.apm.collector.cache.dictionary.IntDictionary;
+import org.apache.skywalking.apm.collector.cache.service.ServiceNameCacheService;
+import org.apache.skywalking.apm.collector.core.module.ModuleManager;
+import org.apache.skywalking.apm.collector.storage.StorageModule;
+import org.apache.skywalking.apm.collector.storage.dao.cache.IServiceNameCacheDAO;
+import org.apache.skywalking.apm.collector.storage.table.register.ServiceName;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class ServiceNameCacheDictionaryService extends AbstractDictionaryCacheService implements ServiceNameCacheService {
+
+    private final IntDictionary<ServiceName> serviceDictionary = new IntDictionary<>(10000);
+
+    private final ModuleManager moduleManager;
+    private IServiceNameCacheDAO serviceNameCacheDAO;
+
+    public ServiceNameCacheDictionaryService(ModuleManager moduleManager) {
+        super("service name");
+        this.moduleManager = moduleManager;
+    }
+
+    private IServiceNameCacheDAO getServiceNameCacheDAO() {
+        if (isNull(serviceNameCacheDAO)) {
+            this.serviceNameCacheDAO = moduleManager.find(StorageModule.NAME).getService(IServiceNameCacheDAO.class);
+        }
+        return this.serviceNameCacheDAO;
+    }
+
+    @Override public int preload() {
+        List<ServiceName> serviceNames = getServiceNameCacheDAO().loadAll();
+        serviceNames.forEach(serviceName -> serviceDictionary.put(serviceName.getServiceId(), serviceName));
+        preloaded(serviceNames.size());
+        return serviceNames.size();
+    }
+
+    @Override public ServiceName get(int serviceId) {
+        ServiceName serviceName = serviceDictionary.get(serviceId);
+        if (nonNull(serviceName)) {
+            hit();
+            return serviceName;
+        }
+
+        serviceName = load(() -> getServiceNameCacheDAO().get(serviceId));
+        serviceDictionary.put(serviceId, serviceName);
+        return serviceName;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.cache.dictionary;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntDictionaryTestCase {
+
+    @Test
+    public void testPutAndGet() {
+        IntIntDictionary dictionary = new IntIntDictionary(1);
+        for (int key = -1000; key <= 1000; key++) {
+            dictionary.put(key, key * 10);
+        }
+
+        Assert.assertEquals(2000, dictionary.size());
+        Assert.assertEquals(0, dictionary.get(0));
+        Assert.assertEquals(0, dictionary.get(1001));
+        for (int key = -1000; key <= 1000; key++) {
+            Assert.assertEquals(key * 10, dictionary.get(key));
+        }
+
+        dictionary.put(5, 6);
+        Assert.assertEquals(6, dictionary.get(5));
+        Assert.assertEquals(2000, dictionary.size());
+    }
+
+    @Test
+    public void testObjectPutAndGet() {
+        IntDictionary<String> dictionary = new IntDictionary<>(1);
+        for (int key = 1; key <= 1000; key++) {
+            dictionary.put(key, String.valueOf(key));
+        }
+        dictionary.put(1001, null);
+
+        Assert.assertEquals(1000, dictionary.size());
+        Assert.assertNull(dictionary.get(1001));
+        for (int key = 1; key <= 1000; key++) {
+            Assert.assertEquals(String.valueOf(key), dictionary.get(key));
+        }
+    }
+
+    @Test
+    public void testReadWhileResizing() throws InterruptedException {
+        IntIntDictionary dictionary = new IntIntDictionary(1);
+        AtomicBoolean lost = new AtomicBoolean(false);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Thread reader = new Thread(() -> {
+            int key = 1;
+            while (key <= 100000) {
+                boolean completed = latch.getCount() == 0;
+                int value = dictionary.get(key);
+                if (value == 0) {
+                    if (completed) {
+                        lost.set(true);
+                        return;
+                    }
+                } else if (value != key) {
+                    lost.set(true);
+                    return;
+                } else {
+                    key++;
+                }
+            }
+        });
+        reader.start();
+
+        for (int key = 1; key <= 100000; key++) {
+            dictionary.put(key, key);
+        }
+        latch.countDown();
+        reader.join();
+
+        Assert.assertFalse(lost.get());
+    }
+}
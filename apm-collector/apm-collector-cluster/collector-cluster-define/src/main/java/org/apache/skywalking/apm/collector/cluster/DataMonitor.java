@@ -19,6 +19,7 @@
 
 package org.apache.skywalking.apm.collector.cluster;
 
+import java.util.List;
 import org.apache.skywalking.apm.collector.client.ClientException;
 import org.apache.skywalking.apm.collector.client.Client;
 
@@ -32,7 +33,10 @@ public interface DataMonitor {
 
     void register(String path, ModuleRegistration registration) throws ClientException;
 
-    ClusterModuleListener getListener(String path);
+    /**
+     * @return the listeners of the path, several modules may listen to the same path.
+     */
+    List<ClusterModuleListener> getListeners(String path);
 
     void createPath(String path) throws ClientException;
 
@@ -18,9 +18,12 @@
 
 package org.apache.skywalking.apm.collector.cluster.standalone;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.skywalking.apm.collector.client.Client;
 import org.apache.skywalking.apm.collector.client.ClientException;
 import org.apache.skywalking.apm.collector.client.h2.H2Client;
@@ -40,7 +43,7 @@ public class ClusterStandaloneDataMonitor implements DataMonitor {
 
     private H2Client client;
 
-    private Map<String, ClusterModuleListener> listeners;
+    private Map<String, List<ClusterModuleListener>> listeners;
     private Map<String, ModuleRegistration> registrations;
 
     ClusterStandaloneDataMonitor() {
@@ -56,12 +59,12 @@ public class ClusterStandaloneDataMonitor implements DataMonitor {
     public void addListener(ClusterModuleListener listener) {
         String path = getBaseCatalog() + listener.path();
         logger.info("listener path: {}", path);
-        listeners.put(path, listener);
+        listeners.computeIfAbsent(path, key -> new CopyOnWriteArrayList<>()).add(listener);
     }
 
-    @Override public ClusterModuleListener getListener(String path) {
+    @Override public List<ClusterModuleListener> getListeners(String path) {
         path = getBaseCatalog() + path;
-        return listeners.get(path);
+        return listeners.getOrDefault(path, Collections.emptyList());
     }
 
     @Override public void register(String path, ModuleRegistration registration) {
@@ -74,8 +77,10 @@ public class ClusterStandaloneDataMonitor implements DataMonitor {
 
     @Override public void setData(String path, String value) throws ClientException {
         if (listeners.containsKey(path)) {
-            listeners.get(path).addAddress(value);
-            listeners.get(path).serverJoinNotify(value);
+            for (ClusterModuleListener listener : listeners.get(path)) {
+                listener.addAddress(value);
+                listener.serverJoinNotify(value);
+            }
         }
     }
 
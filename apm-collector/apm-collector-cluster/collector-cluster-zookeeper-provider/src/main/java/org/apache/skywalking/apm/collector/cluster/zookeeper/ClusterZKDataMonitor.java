@@ -18,12 +18,14 @@
 
 package org.apache.skywalking.apm.collector.cluster.zookeeper;
 
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.skywalking.apm.collector.client.Client;
 import org.apache.skywalking.apm.collector.client.ClientException;
 import org.apache.skywalking.apm.collector.client.zookeeper.ZookeeperClient;
@@ -52,7 +54,7 @@ public class ClusterZKDataMonitor implements DataMonitor, Watcher {
 
     private ZookeeperClient client;
 
-    private Map<String, ClusterModuleListener> listeners;
+    private Map<String, List<ClusterModuleListener>> listeners;
     private Map<String, ModuleRegistration> registrations;
     private String namespace;
 
@@ -67,32 +69,18 @@ public class ClusterZKDataMonitor implements DataMonitor, Watcher {
             List<String> paths;
             try {
                 paths = client.getChildren(event.getPath(), true);
-                ClusterModuleListener listener = listeners.get(event.getPath());
-                Set<String> remoteNodes = new HashSet<>();
-                Set<String> notifiedNodes = listener.getAddresses();
+                Set<String> remoteNodes = new LinkedHashSet<>();
                 if (CollectionUtils.isNotEmpty(paths)) {
                     for (String serverPath : paths) {
                         Stat stat = new Stat();
                         byte[] data = client.getData(event.getPath() + "/" + serverPath, true, stat);
                         String dataStr = new String(data);
-                        String addressValue = serverPath + dataStr;
-                        remoteNodes.add(addressValue);
-                        if (!notifiedNodes.contains(addressValue)) {
-                            logger.info("path children has been created, path: {}, data: {}", event.getPath() + "/" + serverPath, dataStr);
-                            listener.addAddress(addressValue);
-                            listener.serverJoinNotify(addressValue);
-                        }
+                        remoteNodes.add(serverPath + dataStr);
                     }
                 }
 
-                String[] notifiedNodeArray = notifiedNodes.toArray(new String[notifiedNodes.size()]);
-                for (int i = notifiedNodeArray.length - 1; i >= 0; i--) {
-                    String address = notifiedNodeArray[i];
-                    if (remoteNodes.isEmpty() || !remoteNodes.contains(address)) {
-                        logger.info("path children has been remove, path and data: {}", event.getPath() + "/" + address);
-                        listener.removeAddress(address);
-                        listener.serverQuitNotify(address);
-                    }
+                for (ClusterModuleListener listener : listeners.get(event.getPath())) {
+                    notify(event.getPath(), listener, remoteNodes);
                 }
             } catch (ZookeeperClientException e) {
                 logger.error(e.getMessage(), e);
@@ -100,6 +88,27 @@ public class ClusterZKDataMonitor implements DataMonitor, Watcher {
         }
     }
 
+    private void notify(String path, ClusterModuleListener listener, Set<String> remoteNodes) {
+        Set<String> notifiedNodes = listener.getAddresses();
+        for (String addressValue : remoteNodes) {
+            if (!notifiedNodes.contains(addressValue)) {
+                logger.info("path children has been created, path and data: {}", path + "/" + addressValue);
+                listener.addAddress(addressValue);
+                listener.serverJoinNotify(addressValue);
+            }
+        }
+
+        String[] notifiedNodeArray = notifiedNodes.toArray(new String[notifiedNodes.size()]);
+        for (int i = notifiedNodeArray.length - 1; i >= 0; i--) {
+            String address = notifiedNodeArray[i];
+            if (remoteNodes.isEmpty() || !remoteNodes.contains(address)) {
+                logger.info("path children has been remove, path and data: {}", path + "/" + address);
+                listener.removeAddress(address);
+                listener.serverQuitNotify(address);
+            }
+        }
+    }
+
     @Override public void setClient(Client client) {
         this.client = (ZookeeperClient)client;
     }
@@ -133,16 +142,16 @@ public class ClusterZKDataMonitor implements DataMonitor, Watcher {
     @Override public void addListener(ClusterModuleListener listener) {
         String path = getBaseCatalog() + listener.path();
         logger.info("listener path: {}", path);
-        listeners.put(path, listener);
+        listeners.computeIfAbsent(path, key -> new CopyOnWriteArrayList<>()).add(listener);
     }
 
     @Override public void register(String path, ModuleRegistration registration) {
         registrations.put(getBaseCatalog() + path, registration);
     }
 
-    @Override public ClusterModuleListener getListener(String path) {
+    @Override public List<ClusterModuleListener> getListeners(String path) {
         path = getBaseCatalog() + path;
-        return listeners.get(path);
+        return listeners.getOrDefault(path, Collections.emptyList());
     }
 
     @Override public void createPath(String path) throws ClientException {
@@ -24,16 +24,21 @@ import org.apache.skywalking.apm.collector.client.NameSpace;
 import org.apache.skywalking.apm.collector.core.data.CommonTable;
 import org.apache.skywalking.apm.collector.core.util.Const;
 import org.apache.skywalking.apm.collector.core.util.StringUtils;
+import org.elasticsearch.action.admin.indices.alias.Alias;
 import org.elasticsearch.action.admin.indices.create.CreateIndexResponse;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexResponse;
 import org.elasticsearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.elasticsearch.action.admin.indices.mapping.get.GetFieldMappingsResponse;
+import org.elasticsearch.action.admin.indices.template.delete.DeleteIndexTemplateResponse;
+import org.elasticsearch.action.admin.indices.template.put.PutIndexTemplateResponse;
 import org.elasticsearch.action.bulk.BulkRequestBuilder;
 import org.elasticsearch.action.delete.DeleteRequestBuilder;
 import org.elasticsearch.action.get.GetRequestBuilder;
 import org.elasticsearch.action.get.MultiGetRequestBuilder;
 import org.elasticsearch.action.index.IndexRequestBuilder;
 import org.elasticsearch.action.search.SearchRequestBuilder;
+import org.elasticsearch.action.search.SearchScrollRequestBuilder;
+import org.elasticsearch.action.support.IndicesOptions;
 import org.elasticsearch.action.update.UpdateRequestBuilder;
 import org.elasticsearch.client.IndicesAdminClient;
 import org.elasticsearch.common.Nullable;
@@ -49,6 +54,7 @@ import org.slf4j.LoggerFactory;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -156,9 +162,69 @@ public class ElasticSearchClient implements Client {
         return response.isExists();
     }
 
-    public SearchRequestBuilder prepareSearch(String indexName) {
-        indexName = formatIndexName(indexName);
-        return client.prepareSearch(indexName);
+    /**
+     * Creates the template of the indices which match the pattern, every index created by the template is added into
+     * the alias.
+     */
+    public boolean putTemplate(String templateName, String indexPattern, String aliasName, String indexType,
+        Settings settings, XContentBuilder mappingBuilder) {
+        templateName = formatIndexName(templateName);
+        IndicesAdminClient adminClient = client.admin().indices();
+        PutIndexTemplateResponse response = adminClient.preparePutTemplate(templateName)
+            .setTemplate(formatIndexName(indexPattern))
+            .setSettings(settings)
+            .addMapping(indexType, mappingBuilder)
+            .addAlias(new Alias(formatIndexName(aliasName)))
+            .get();
+        logger.info("put {} template finished, isAcknowledged: {}", templateName, response.isAcknowledged());
+        return response.isAcknowledged();
+    }
+
+    public boolean deleteTemplate(String templateName) {
+        templateName = formatIndexName(templateName);
+        IndicesAdminClient adminClient = client.admin().indices();
+        DeleteIndexTemplateResponse response = adminClient.prepareDeleteTemplate(templateName).get();
+        logger.info("delete {} template finished, isAcknowledged: {}", templateName, response.isAcknowledged());
+        return response.isAcknowledged();
+    }
+
+    public boolean isExistsTemplate(String templateName) {
+        templateName = formatIndexName(templateName);
+        IndicesAdminClient adminClient = client.admin().indices();
+        return !adminClient.prepareGetTemplates(templateName).get().getIndexTemplates().isEmpty();
+    }
+
+    /**
+     * @return the names of the indices which match the pattern, without the namespace.
+     */
+    public List<String> getIndexNames(String indexPattern) {
+        String prefix = formatIndexName("");
+        String[] indices = client.admin().indices().prepareGetIndex().setIndices(formatIndexName(indexPattern)).get().getIndices();
+
+        List<String> indexNames = new ArrayList<>(indices.length);
+        for (String index : indices) {
+            indexNames.add(index.substring(prefix.length()));
+        }
+        return indexNames;
+    }
+
+    public SearchRequestBuilder prepareSearch(String... indexNames) {
+        String[] formattedIndexNames = new String[indexNames.length];
+        for (int i = 0; i < indexNames.length; i++) {
+            formattedIndexNames[i] = formatIndexName(indexNames[i]);
+        }
+        return client.prepareSearch(formattedIndexNames);
+    }
+
+    /**
+     * Searches the indices, the indices which don't exist are ignored, e.g. the partitions of the days without data.
+     */
+    public SearchRequestBuilder prepareLenientSearch(String... indexNames) {
+        return prepareSearch(indexNames).setIndicesOptions(IndicesOptions.lenientExpandOpen());
+    }
+
+    public SearchScrollRequestBuilder prepareSearchScroll(String scrollId) {
+        return client.prepareSearchScroll(scrollId);
     }
 
     public IndexRequestBuilder prepareIndex(String indexName, String id) {
@@ -36,6 +36,11 @@ class ConfigurationModuleConfig extends ModuleConfig {
     private int thermodynamicResponseTimeStep;
     private int thermodynamicCountOfResponseTimeSteps;
     private int workerCacheMaxSize;
+    private int workerQueueSize;
+    private int workerConsumerThreadNum;
+    private int persistedDataCacheMaxSize;
+    private int persistenceTimerInterval;
+    private int persistenceThreadNum;
     private Boolean emailAlarmEnable = false;
     private String emailHost;
     private String emailUsername;
@@ -133,6 +138,46 @@ class ConfigurationModuleConfig extends ModuleConfig {
         this.workerCacheMaxSize = workerCacheMaxSize;
     }
 
+    public int getWorkerQueueSize() {
+        return workerQueueSize;
+    }
+
+    public void setWorkerQueueSize(int workerQueueSize) {
+        this.workerQueueSize = workerQueueSize;
+    }
+
+    public int getWorkerConsumerThreadNum() {
+        return workerConsumerThreadNum;
+    }
+
+    public void setWorkerConsumerThreadNum(int workerConsumerThreadNum) {
+        this.workerConsumerThreadNum = workerConsumerThreadNum;
+    }
+
+    public int getPersistedDataCacheMaxSize() {
+        return persistedDataCacheMaxSize;
+    }
+
+    public void setPersistedDataCacheMaxSize(int persistedDataCacheMaxSize) {
+        this.persistedDataCacheMaxSize = persistedDataCacheMaxSize;
+    }
+
+    public int getPersistenceTimerInterval() {
+        return persistenceTimerInterval;
+    }
+
+    public void setPersistenceTimerInterval(int persistenceTimerInterval) {
+        this.persistenceTimerInterval = persistenceTimerInterval;
+    }
+
+    public int getPersistenceThreadNum() {
+        return persistenceThreadNum;
+    }
+
+    public void setPersistenceThreadNum(int persistenceThreadNum) {
+        this.persistenceThreadNum = persistenceThreadNum;
+    }
+
     public Boolean getEmailAlarmEnable() {
         return emailAlarmEnable;
     }
@@ -70,6 +70,11 @@ public class ConfigurationModuleProvider extends ModuleProvider {
         int thermodynamicCountOfResponseTimeSteps = config.getThermodynamicCountOfResponseTimeSteps() == 0 ? 40 : config.getThermodynamicCountOfResponseTimeSteps();
 
         int workerCacheMaxSize = config.getWorkerCacheMaxSize() == 0 ? 10000 : config.getWorkerCacheMaxSize();
+        int workerQueueSize = config.getWorkerQueueSize() == 0 ? 10000 : config.getWorkerQueueSize();
+        int workerConsumerThreadNum = config.getWorkerConsumerThreadNum() == 0 ? Runtime.getRuntime().availableProcessors() : config.getWorkerConsumerThreadNum();
+        int persistedDataCacheMaxSize = config.getPersistedDataCacheMaxSize() == 0 ? 10000 : config.getPersistedDataCacheMaxSize();
+        int persistenceTimerInterval = config.getPersistenceTimerInterval() == 0 ? 3 : config.getPersistenceTimerInterval();
+        int persistenceThreadNum = config.getPersistenceThreadNum() == 0 ? 4 : config.getPersistenceThreadNum();
 
         Boolean emailAlarmEnable = config.getEmailAlarmEnable();
         if (emailAlarmEnable) {
@@ -96,6 +101,9 @@ public class ConfigurationModuleProvider extends ModuleProvider {
         this.registerServiceImplementation(IApplicationReferenceAlarmRuleConfig.class, new ApplicationReferenceAlarmRuleConfig(applicationErrorRateThreshold, applicationAverageResponseTimeThreshold));
         this.registerServiceImplementation(IResponseTimeDistributionConfigService.class, new ResponseTimeDistributionConfigService(thermodynamicResponseTimeStep, thermodynamicCountOfResponseTimeSteps));
         this.registerServiceImplementation(IWorkerCacheSizeConfig.class, new WorkerCacheSizeConfigService(workerCacheMaxSize));
+        this.registerServiceImplementation(ILocalAsyncWorkerConfig.class, new LocalAsyncWorkerConfigService(workerQueueSize, workerConsumerThreadNum));
+        this.registerServiceImplementation(IPersistedDataCacheConfig.class, new PersistedDataCacheConfigService(persistedDataCacheMaxSize));
+        this.registerServiceImplementation(IPersistenceTimerConfig.class, new PersistenceTimerConfigService(persistenceTimerInterval, persistenceThreadNum));
     }
 
     @Override
@@ -16,20 +16,20 @@
  *
  */
 
-package org.apache.skywalking.apm.collector.remote.grpc.service.selector;
-
-import java.util.List;
-import org.apache.skywalking.apm.collector.core.data.RemoteData;
-import org.apache.skywalking.apm.collector.remote.service.RemoteClient;
+package org.apache.skywalking.apm.collector.configuration.service;
 
 /**
  * @author peng-yongsheng
  */
-public class HashCodeSelector implements RemoteClientSelector {
+public class PersistedDataCacheConfigService implements IPersistedDataCacheConfig {
+
+    private final int cacheSize;
+
+    public PersistedDataCacheConfigService(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
 
-    @Override public RemoteClient select(List<RemoteClient> clients, RemoteData remoteData) {
-        int size = clients.size();
-        int selectIndex = Math.abs(remoteData.selectKey().hashCode()) % size;
-        return clients.get(selectIndex);
+    @Override public int cacheSize() {
+        return cacheSize;
     }
 }
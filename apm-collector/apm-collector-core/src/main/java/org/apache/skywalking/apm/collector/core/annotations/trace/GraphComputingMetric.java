@@ -35,4 +35,10 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface GraphComputingMetric {
     String name();
+
+    /**
+     * Collect the metrics separately for each class of the traced instance, named by the metric name followed by the
+     * simple class name. Useful when the method is declared in a base class, such as the persistence workers.
+     */
+    boolean byClass() default false;
 }
@@ -28,8 +28,14 @@ public interface Collection<Data> {
 
     boolean isReading();
 
+    /**
+     * Register a writer, {@link #finishWriting()} must be called by the writer after writing.
+     */
     void writing();
 
+    /**
+     * @return true if any writer hasn't finished writing.
+     */
     boolean isWriting();
 
     void clear();
@@ -21,13 +21,22 @@ package org.apache.skywalking.apm.collector.core.cache;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Double buffer of the worker data. Writers always write into the current collection, and the flusher switches the
+ * pointer, then reads the last one.
+ *
+ * A writer registers itself on the collection before writing, then makes sure the pointer hasn't been switched, or
+ * retries on the new current collection. So after the switch, the flusher only waits for the writes already in flight
+ * on the last collection, which are finished in a few spins, instead of sleeping.
+ *
  * @author peng-yongsheng
  */
 public abstract class Window<WINDOW_COLLECTION extends Collection> {
 
+    private static final int MAX_SPINS_BEFORE_YIELD = 100;
+
     private AtomicInteger windowSwitch = new AtomicInteger(0);
 
-    private WINDOW_COLLECTION pointer;
+    private volatile WINDOW_COLLECTION pointer;
 
     private WINDOW_COLLECTION windowDataA;
     private WINDOW_COLLECTION windowDataB;
@@ -48,22 +57,36 @@ public abstract class Window<WINDOW_COLLECTION extends Collection> {
         windowSwitch.addAndGet(-1);
     }
 
+    /**
+     * Switch the pointer, and return after all writes on the last collection finished. Then the last collection is
+     * safe to read.
+     */
     public void switchPointer() {
-        if (pointer == windowDataA) {
+        WINDOW_COLLECTION last = pointer;
+        if (last == windowDataA) {
             pointer = windowDataB;
         } else {
             pointer = windowDataA;
         }
-        getLast().reading();
+        last.reading();
+
+        int spins = 0;
+        while (last.isWriting()) {
+            if (++spins > MAX_SPINS_BEFORE_YIELD) {
+                Thread.yield();
+            }
+        }
     }
 
     protected WINDOW_COLLECTION getCurrentAndWriting() {
-        if (pointer == windowDataA) {
-            windowDataA.writing();
-            return windowDataA;
-        } else {
-            windowDataB.writing();
-            return windowDataB;
+        while (true) {
+            WINDOW_COLLECTION current = pointer;
+            current.writing();
+            if (current == pointer) {
+                return current;
+            }
+            // switched before the writing registered, the flusher may be reading it.
+            current.finishWriting();
         }
     }
 
@@ -23,13 +23,26 @@ import org.apache.skywalking.apm.collector.core.data.column.*;
 import static java.util.Objects.nonNull;
 
 /**
+ * The values of the long, double and integer columns are kept in primitive arrays, null value is stored as 0, which is
+ * also the default value of the getters. The list values are created at the first access.
+ *
  * @author peng-yongsheng
  */
 public abstract class AbstractData implements RemoteData {
+    private static final String[] EMPTY_STRINGS = new String[0];
+    private static final long[] EMPTY_LONGS = new long[0];
+    private static final double[] EMPTY_DOUBLES = new double[0];
+    private static final int[] EMPTY_INTEGERS = new int[0];
+    private static final byte[][] EMPTY_BYTES = new byte[0][];
+    private static final StringLinkedList[] EMPTY_STRING_LISTS = new StringLinkedList[0];
+    private static final LongLinkedList[] EMPTY_LONG_LISTS = new LongLinkedList[0];
+    private static final DoubleLinkedList[] EMPTY_DOUBLE_LISTS = new DoubleLinkedList[0];
+    private static final IntegerLinkedList[] EMPTY_INTEGER_LISTS = new IntegerLinkedList[0];
+
     private final String[] dataStrings;
-    private final Long[] dataLongs;
-    private final Double[] dataDoubles;
-    private final Integer[] dataIntegers;
+    private final long[] dataLongs;
+    private final double[] dataDoubles;
+    private final int[] dataIntegers;
     private final byte[][] dataBytes;
 
     private final StringLinkedList[] dataStringLists;
@@ -65,31 +78,16 @@ public abstract class AbstractData implements RemoteData {
         this.integerListColumns = integerListColumns;
         this.doubleListColumns = doubleListColumns;
 
-        this.dataStrings = new String[stringColumns.length];
-        this.dataLongs = new Long[longColumns.length];
-        this.dataIntegers = new Integer[integerColumns.length];
-        this.dataDoubles = new Double[doubleColumns.length];
-        this.dataBytes = new byte[byteColumns.length][];
-
-        this.dataStringLists = new StringLinkedList[stringListColumns.length];
-        for (int i = 0; i < this.dataStringLists.length; i++) {
-            this.dataStringLists[i] = new StringLinkedList();
-        }
-
-        this.dataLongLists = new LongLinkedList[longListColumns.length];
-        for (int i = 0; i < this.dataLongLists.length; i++) {
-            this.dataLongLists[i] = new LongLinkedList();
-        }
-
-        this.dataIntegerLists = new IntegerLinkedList[integerListColumns.length];
-        for (int i = 0; i < this.dataIntegerLists.length; i++) {
-            this.dataIntegerLists[i] = new IntegerLinkedList();
-        }
+        this.dataStrings = stringColumns.length == 0 ? EMPTY_STRINGS : new String[stringColumns.length];
+        this.dataLongs = longColumns.length == 0 ? EMPTY_LONGS : new long[longColumns.length];
+        this.dataIntegers = integerColumns.length == 0 ? EMPTY_INTEGERS : new int[integerColumns.length];
+        this.dataDoubles = doubleColumns.length == 0 ? EMPTY_DOUBLES : new double[doubleColumns.length];
+        this.dataBytes = byteColumns.length == 0 ? EMPTY_BYTES : new byte[byteColumns.length][];
 
-        this.dataDoubleLists = new DoubleLinkedList[doubleListColumns.length];
-        for (int i = 0; i < this.dataDoubleLists.length; i++) {
-            this.dataDoubleLists[i] = new DoubleLinkedList();
-        }
+        this.dataStringLists = stringListColumns.length == 0 ? EMPTY_STRING_LISTS : new StringLinkedList[stringListColumns.length];
+        this.dataLongLists = longListColumns.length == 0 ? EMPTY_LONG_LISTS : new LongLinkedList[longListColumns.length];
+        this.dataIntegerLists = integerListColumns.length == 0 ? EMPTY_INTEGER_LISTS : new IntegerLinkedList[integerListColumns.length];
+        this.dataDoubleLists = doubleListColumns.length == 0 ? EMPTY_DOUBLE_LISTS : new DoubleLinkedList[doubleListColumns.length];
     }
 
     @Override public final int getDataStringsCount() {
@@ -133,14 +131,26 @@ public abstract class AbstractData implements RemoteData {
     }
 
     @Override public final void setDataLong(int position, Long value) {
+        dataLongs[position] = value == null ? 0L : value;
+    }
+
+    @Override public final void setDataLong(int position, long value) {
         dataLongs[position] = value;
     }
 
     @Override public final void setDataDouble(int position, Double value) {
+        dataDoubles[position] = value == null ? 0D : value;
+    }
+
+    @Override public final void setDataDouble(int position, double value) {
         dataDoubles[position] = value;
     }
 
     @Override public final void setDataInteger(int position, Integer value) {
+        dataIntegers[position] = value == null ? 0 : value;
+    }
+
+    @Override public final void setDataInteger(int position, int value) {
         dataIntegers[position] = value;
     }
 
@@ -152,34 +162,16 @@ public abstract class AbstractData implements RemoteData {
         return dataStrings[position];
     }
 
-    @Override public final Long getDataLong(int position) {
-        if (position + 1 > dataLongs.length) {
-            throw new IndexOutOfBoundsException();
-        } else if (dataLongs[position] == null) {
-            return 0L;
-        } else {
-            return dataLongs[position];
-        }
+    @Override public final long getDataLong(int position) {
+        return dataLongs[position];
     }
 
-    @Override public final Double getDataDouble(int position) {
-        if (position + 1 > dataDoubles.length) {
-            throw new IndexOutOfBoundsException();
-        } else if (dataDoubles[position] == null) {
-            return 0D;
-        } else {
-            return dataDoubles[position];
-        }
+    @Override public final double getDataDouble(int position) {
+        return dataDoubles[position];
     }
 
-    @Override public final Integer getDataInteger(int position) {
-        if (position + 1 > dataIntegers.length) {
-            throw new IndexOutOfBoundsException();
-        } else if (dataIntegers[position] == null) {
-            return 0;
-        } else {
-            return dataIntegers[position];
-        }
+    @Override public final int getDataInteger(int position) {
+        return dataIntegers[position];
     }
 
     @Override public final byte[] getDataBytes(int position) {
@@ -187,34 +179,65 @@ public abstract class AbstractData implements RemoteData {
     }
 
     @Override public StringLinkedList getDataStringList(int position) {
-        if (position + 1 > dataStringLists.length) {
-            throw new IndexOutOfBoundsException();
-        } else {
-            return dataStringLists[position];
+        if (dataStringLists[position] == null) {
+            dataStringLists[position] = new StringLinkedList();
         }
+        return dataStringLists[position];
     }
 
     @Override public LongLinkedList getDataLongList(int position) {
-        if (position + 1 > dataLongLists.length) {
-            throw new IndexOutOfBoundsException();
-        } else {
-            return dataLongLists[position];
+        if (dataLongLists[position] == null) {
+            dataLongLists[position] = new LongLinkedList();
         }
+        return dataLongLists[position];
     }
 
     @Override public DoubleLinkedList getDataDoubleList(int position) {
-        if (position + 1 > dataDoubleLists.length) {
-            throw new IndexOutOfBoundsException();
-        } else {
-            return dataDoubleLists[position];
+        if (dataDoubleLists[position] == null) {
+            dataDoubleLists[position] = new DoubleLinkedList();
         }
+        return dataDoubleLists[position];
     }
 
     @Override public IntegerLinkedList getDataIntegerList(int position) {
-        if (position + 1 > dataIntegerLists.length) {
-            throw new IndexOutOfBoundsException();
-        } else {
-            return dataIntegerLists[position];
+        if (dataIntegerLists[position] == null) {
+            dataIntegerLists[position] = new IntegerLinkedList();
+        }
+        return dataIntegerLists[position];
+    }
+
+    /**
+     * Copy the values of all the columns from the given data into this newly created one, both must be of the same
+     * class. The lists are copied, not shared.
+     *
+     * @param source data to copy from
+     */
+    public final void copyFrom(AbstractData source) {
+        System.arraycopy(source.dataStrings, 0, this.dataStrings, 0, dataStrings.length);
+        System.arraycopy(source.dataLongs, 0, this.dataLongs, 0, dataLongs.length);
+        System.arraycopy(source.dataDoubles, 0, this.dataDoubles, 0, dataDoubles.length);
+        System.arraycopy(source.dataIntegers, 0, this.dataIntegers, 0, dataIntegers.length);
+        System.arraycopy(source.dataBytes, 0, this.dataBytes, 0, dataBytes.length);
+
+        for (int i = 0; i < dataStringLists.length; i++) {
+            if (nonNull(source.dataStringLists[i])) {
+                this.getDataStringList(i).addAll(source.dataStringLists[i]);
+            }
+        }
+        for (int i = 0; i < dataLongLists.length; i++) {
+            if (nonNull(source.dataLongLists[i])) {
+                this.getDataLongList(i).addAll(source.dataLongLists[i]);
+            }
+        }
+        for (int i = 0; i < dataDoubleLists.length; i++) {
+            if (nonNull(source.dataDoubleLists[i])) {
+                this.getDataDoubleList(i).addAll(source.dataDoubleLists[i]);
+            }
+        }
+        for (int i = 0; i < dataIntegerLists.length; i++) {
+            if (nonNull(source.dataIntegerLists[i])) {
+                this.getDataIntegerList(i).addAll(source.dataIntegerLists[i]);
+            }
         }
     }
 
@@ -229,16 +252,13 @@ public abstract class AbstractData implements RemoteData {
             this.dataStrings[i] = stringData;
         }
         for (int i = 0; i < longColumns.length; i++) {
-            Long longData = longColumns[i].getMergeOperation().operate(newData.getDataLong(i), this.getDataLong(i));
-            this.dataLongs[i] = longData;
+            this.dataLongs[i] = longColumns[i].getMergeOperation().operate(newData.dataLongs[i], this.dataLongs[i]);
         }
         for (int i = 0; i < doubleColumns.length; i++) {
-            Double doubleData = doubleColumns[i].getMergeOperation().operate(newData.getDataDouble(i), this.getDataDouble(i));
-            this.dataDoubles[i] = doubleData;
+            this.dataDoubles[i] = doubleColumns[i].getMergeOperation().operate(newData.dataDoubles[i], this.dataDoubles[i]);
         }
         for (int i = 0; i < integerColumns.length; i++) {
-            Integer integerData = integerColumns[i].getMergeOperation().operate(newData.getDataInteger(i), this.getDataInteger(i));
-            this.dataIntegers[i] = integerData;
+            this.dataIntegers[i] = integerColumns[i].getMergeOperation().operate(newData.dataIntegers[i], this.dataIntegers[i]);
         }
         for (int i = 0; i < byteColumns.length; i++) {
             byte[] byteData = byteColumns[i].getMergeOperation().operate(newData.getDataBytes(i), this.getDataBytes(i));
@@ -272,20 +292,17 @@ public abstract class AbstractData implements RemoteData {
         }
         for (int i = 0; i < longColumns.length; i++) {
             if (nonNull(longColumns[i].getFormulaOperation())) {
-                Long longData = (Long)longColumns[i].getFormulaOperation().operate(this);
-                this.dataLongs[i] = longData;
+                setDataLong(i, (Long)longColumns[i].getFormulaOperation().operate(this));
             }
         }
         for (int i = 0; i < doubleColumns.length; i++) {
             if (nonNull(doubleColumns[i].getFormulaOperation())) {
-                Double doubleData = (Double)doubleColumns[i].getFormulaOperation().operate(this);
-                this.dataDoubles[i] = doubleData;
+                setDataDouble(i, (Double)doubleColumns[i].getFormulaOperation().operate(this));
             }
         }
         for (int i = 0; i < integerColumns.length; i++) {
             if (nonNull(integerColumns[i].getFormulaOperation())) {
-                Integer integerData = (Integer)integerColumns[i].getFormulaOperation().operate(this);
-                this.dataIntegers[i] = integerData;
+                setDataInteger(i, (Integer)integerColumns[i].getFormulaOperation().operate(this));
             }
         }
     }
@@ -297,15 +314,15 @@ public abstract class AbstractData implements RemoteData {
             dataStr.append(dataString).append(",");
         }
         dataStr.append("], longs: [");
-        for (Long dataLong : dataLongs) {
+        for (long dataLong : dataLongs) {
             dataStr.append(dataLong).append(",");
         }
         dataStr.append("], double: [");
-        for (Double dataDouble : dataDoubles) {
+        for (double dataDouble : dataDoubles) {
             dataStr.append(dataDouble).append(",");
         }
         dataStr.append("], integer: [");
-        for (Integer dataInteger : dataIntegers) {
+        for (int dataInteger : dataIntegers) {
             dataStr.append(dataInteger).append(",");
         }
         dataStr.append("]");
@@ -42,21 +42,36 @@ public interface Data {
 
     void setDataString(int position, String value);
 
+    /**
+     * Null value is stored as 0.
+     */
     void setDataLong(int position, Long value);
 
+    void setDataLong(int position, long value);
+
+    /**
+     * Null value is stored as 0.
+     */
     void setDataDouble(int position, Double value);
 
+    void setDataDouble(int position, double value);
+
+    /**
+     * Null value is stored as 0.
+     */
     void setDataInteger(int position, Integer value);
 
+    void setDataInteger(int position, int value);
+
     void setDataBytes(int position, byte[] dataBytes);
 
     String getDataString(int position);
 
-    Long getDataLong(int position);
+    long getDataLong(int position);
 
-    Double getDataDouble(int position);
+    double getDataDouble(int position);
 
-    Integer getDataInteger(int position);
+    int getDataInteger(int position);
 
     StringLinkedList getDataStringList(int position);
 
@@ -29,15 +29,15 @@ public class CoverMergeOperation implements MergeOperation {
         return newValue;
     }
 
-    @Override public Long operate(Long newValue, Long oldValue) {
+    @Override public long operate(long newValue, long oldValue) {
         return newValue;
     }
 
-    @Override public Double operate(Double newValue, Double oldValue) {
+    @Override public double operate(double newValue, double oldValue) {
         return newValue;
     }
 
-    @Override public Integer operate(Integer newValue, Integer oldValue) {
+    @Override public int operate(int newValue, int oldValue) {
         return newValue;
     }
 
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.core.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Compare the {@link Window} swap protocol with the legacy one, which flag a single writer and sleep 10ms until the
+ * writing finished after switching.
+ *
+ * Run by {@link #main(String[])}, it is not a part of the unit tests.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WindowBenchmark {
+
+    @State(Scope.Group)
+    public static class WindowState {
+        private final CounterWindow window = new CounterWindow();
+    }
+
+    @State(Scope.Group)
+    public static class LegacyWindowState {
+        private final LegacyCounterWindow window = new LegacyCounterWindow();
+    }
+
+    @Benchmark
+    @Group("window")
+    @GroupThreads(3)
+    public void windowWrite(WindowState state) {
+        CounterCollection collection = state.window.getCurrentAndWriting();
+        try {
+            collection.collection().increment();
+        } finally {
+            collection.finishWriting();
+        }
+    }
+
+    @Benchmark
+    @Group("window")
+    @GroupThreads(1)
+    public long windowFlush(WindowState state) {
+        CounterWindow window = state.window;
+        long sum = 0;
+        try {
+            if (window.trySwitchPointer()) {
+                window.switchPointer();
+                sum = window.getLast().collection().sum();
+                window.finishReadingLast();
+            }
+        } finally {
+            window.trySwitchPointerFinally();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Group("legacyWindow")
+    @GroupThreads(3)
+    public void legacyWindowWrite(LegacyWindowState state) {
+        LegacyCounterCollection collection = state.window.getCurrentAndWriting();
+        try {
+            collection.collection().increment();
+        } finally {
+            collection.finishWriting();
+        }
+    }
+
+    @Benchmark
+    @Group("legacyWindow")
+    @GroupThreads(1)
+    public long legacyWindowFlush(LegacyWindowState state) throws InterruptedException {
+        LegacyCounterWindow window = state.window;
+        long sum = 0;
+        if (window.trySwitchPointer()) {
+            window.switchPointer();
+            while (window.getLast().isWriting()) {
+                Thread.sleep(10);
+            }
+            sum = window.getLast().collection().sum();
+            window.finishReadingLast();
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(WindowBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    static class CounterWindow extends Window<CounterCollection> {
+        @Override public CounterCollection collectionInstance() {
+            return new CounterCollection();
+        }
+
+        @Override protected CounterCollection getCurrentAndWriting() {
+            return super.getCurrentAndWriting();
+        }
+    }
+
+    static class CounterCollection implements Collection<LongAdder> {
+        private final LongAdder data = new LongAdder();
+        private final AtomicInteger writers = new AtomicInteger(0);
+        private volatile boolean reading = false;
+
+        @Override public void reading() {
+            reading = true;
+        }
+
+        @Override public boolean isReading() {
+            return reading;
+        }
+
+        @Override public void writing() {
+            writers.incrementAndGet();
+        }
+
+        @Override public boolean isWriting() {
+            return writers.get() > 0;
+        }
+
+        @Override public void clear() {
+            data.reset();
+        }
+
+        @Override public int size() {
+            return data.intValue();
+        }
+
+        @Override public void finishReading() {
+            reading = false;
+        }
+
+        @Override public void finishWriting() {
+            writers.decrementAndGet();
+        }
+
+        @Override public LongAdder collection() {
+            return data;
+        }
+    }
+
+    /**
+     * The window protocol before the writers registration, switching the pointer doesn't wait for the writing.
+     */
+    static class LegacyCounterWindow {
+        private final AtomicInteger windowSwitch = new AtomicInteger(0);
+        private final LegacyCounterCollection windowDataA = new LegacyCounterCollection();
+        private final LegacyCounterCollection windowDataB = new LegacyCounterCollection();
+        private LegacyCounterCollection pointer = windowDataA;
+
+        boolean trySwitchPointer() {
+            try {
+                return windowSwitch.incrementAndGet() == 1 && !getLast().isReading();
+            } finally {
+                windowSwitch.addAndGet(-1);
+            }
+        }
+
+        void switchPointer() {
+            if (pointer == windowDataA) {
+                pointer = windowDataB;
+            } else {
+                pointer = windowDataA;
+            }
+            getLast().reading();
+        }
+
+        LegacyCounterCollection getCurrentAndWriting() {
+            LegacyCounterCollection current = pointer;
+            current.writing();
+            return current;
+        }
+
+        LegacyCounterCollection getLast() {
+            return pointer == windowDataA ? windowDataB : windowDataA;
+        }
+
+        void finishReadingLast() {
+            getLast().clear();
+            getLast().finishReading();
+        }
+    }
+
+    static class LegacyCounterCollection {
+        private final LongAdder data = new LongAdder();
+        private volatile boolean writing = false;
+        private volatile boolean reading = false;
+
+        void reading() {
+            reading = true;
+        }
+
+        boolean isReading() {
+            return reading;
+        }
+
+        void writing() {
+            writing = true;
+        }
+
+        boolean isWriting() {
+            return writing;
+        }
+
+        void clear() {
+            data.reset();
+        }
+
+        void finishReading() {
+            reading = false;
+        }
+
+        void finishWriting() {
+            writing = false;
+        }
+
+        LongAdder collection() {
+            return data;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.core.cache;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WindowTest {
+
+    private static final int WRITERS = 4;
+    private static final int ITEMS_PER_WRITER = 200000;
+
+    @Test
+    public void testEveryItemFlushedExactlyOnce() throws InterruptedException {
+        QueueWindow window = new QueueWindow();
+        int[] flushed = new int[WRITERS * ITEMS_PER_WRITER];
+        AtomicInteger switches = new AtomicInteger(0);
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] writers = new Thread[WRITERS];
+        for (int i = 0; i < WRITERS; i++) {
+            int writerId = i;
+            writers[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int item = writerId * ITEMS_PER_WRITER; item < (writerId + 1) * ITEMS_PER_WRITER; item++) {
+                    QueueCollection collection = window.getCurrentAndWriting();
+                    try {
+                        if (item % 64 == 0) {
+                            // stay in writing for a while, so the flusher switches in the middle of some writes.
+                            Thread.yield();
+                        }
+                        collection.collection().add(item);
+                    } finally {
+                        collection.finishWriting();
+                    }
+                }
+            }, "WindowWriter-" + i);
+            writers[i].start();
+        }
+
+        start.countDown();
+        while (isAlive(writers)) {
+            if (flush(window, flushed)) {
+                switches.incrementAndGet();
+            }
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        // the data may be in either collection after the writers finished.
+        flush(window, flushed);
+        flush(window, flushed);
+
+        Assert.assertTrue(switches.get() > 1);
+        for (int item = 0; item < flushed.length; item++) {
+            Assert.assertEquals("item " + item, 1, flushed[item]);
+        }
+    }
+
+    private boolean flush(QueueWindow window, int[] flushed) {
+        try {
+            if (window.trySwitchPointer()) {
+                window.switchPointer();
+                for (Integer item : window.getLast().collection()) {
+                    flushed[item]++;
+                }
+                window.finishReadingLast();
+                return true;
+            }
+            return false;
+        } finally {
+            window.trySwitchPointerFinally();
+        }
+    }
+
+    private boolean isAlive(Thread[] threads) {
+        for (Thread thread : threads) {
+            if (thread.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static class QueueWindow extends Window<QueueCollection> {
+        @Override public QueueCollection collectionInstance() {
+            return new QueueCollection();
+        }
+    }
+
+    static class QueueCollection implements Collection<ConcurrentLinkedQueue<Integer>> {
+        private final ConcurrentLinkedQueue<Integer> data = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger writers = new AtomicInteger(0);
+        private volatile boolean reading = false;
+
+        @Override public void reading() {
+            reading = true;
+        }
+
+        @Override public boolean isReading() {
+            return reading;
+        }
+
+        @Override public void writing() {
+            writers.incrementAndGet();
+        }
+
+        @Override public boolean isWriting() {
+            return writers.get() > 0;
+        }
+
+        @Override public void clear() {
+            data.clear();
+        }
+
+        @Override public int size() {
+            return data.size();
+        }
+
+        @Override public void finishReading() {
+            reading = false;
+        }
+
+        @Override public void finishWriting() {
+            writers.decrementAndGet();
+        }
+
+        @Override public ConcurrentLinkedQueue<Integer> collection() {
+            return data;
+        }
+    }
+}
@@ -29,6 +29,8 @@ import org.apache.skywalking.apm.collector.core.annotations.trace.GraphComputing
 public class ServiceMetricTracing {
 
     private volatile ConcurrentHashMap<Method, ServiceMetric> metrics = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<Method, ConcurrentHashMap<Class<?>, ServiceMetric>> byClassMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, GraphComputingMetric> annotations = new ConcurrentHashMap<>();
 
     ServiceMetricTracing() {
     }
@@ -40,15 +42,24 @@ public class ServiceMetricTracing {
         @AllArguments Object[] allArguments,
         @Origin Method method
     ) throws Throwable {
-        ServiceMetric metric = this.metrics.get(method);
-        if (metric == null) {
-            GraphComputingMetric annotation = method.getAnnotation(GraphComputingMetric.class);
-            String metricName = annotation.name();
-            synchronized (inst) {
-                MetricTree.MetricNode metricNode = MetricTree.INSTANCE.lookup(metricName);
-                ServiceMetric serviceMetric = metricNode.getMetric(method);
-                metrics.put(method, serviceMetric);
-                metric = serviceMetric;
+        GraphComputingMetric annotation = annotations.get(method);
+        if (annotation == null) {
+            annotation = method.getAnnotation(GraphComputingMetric.class);
+            annotations.put(method, annotation);
+        }
+        ServiceMetric metric;
+        if (annotation.byClass()) {
+            metric = getByClassMetric(annotation, inst, method);
+        } else {
+            metric = this.metrics.get(method);
+            if (metric == null) {
+                String metricName = annotation.name();
+                synchronized (inst) {
+                    MetricTree.MetricNode metricNode = MetricTree.INSTANCE.lookup(metricName);
+                    ServiceMetric serviceMetric = metricNode.getMetric(method);
+                    metrics.put(method, serviceMetric);
+                    metric = serviceMetric;
+                }
             }
         }
         boolean occurError = false;
@@ -65,4 +76,12 @@ public class ServiceMetricTracing {
             metric.trace(endNanosecond - startNanosecond, occurError, allArguments);
         }
     }
+
+    private ServiceMetric getByClassMetric(GraphComputingMetric annotation, Object inst, Method method) {
+        ConcurrentHashMap<Class<?>, ServiceMetric> classMetrics = byClassMetrics.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        return classMetrics.computeIfAbsent(inst.getClass(), instClass -> {
+            String metricName = annotation.name() + instClass.getSimpleName() + "/";
+            return MetricTree.INSTANCE.lookup(metricName).getMetric(method);
+        });
+    }
 }
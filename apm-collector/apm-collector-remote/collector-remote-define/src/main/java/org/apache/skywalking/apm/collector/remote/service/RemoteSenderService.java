@@ -19,6 +19,7 @@
 package org.apache.skywalking.apm.collector.remote.service;
 
 import org.apache.skywalking.apm.collector.core.data.RemoteData;
+import org.apache.skywalking.apm.collector.core.data.StreamData;
 import org.apache.skywalking.apm.collector.core.module.Service;
 
 /**
@@ -27,6 +28,12 @@ import org.apache.skywalking.apm.collector.core.module.Service;
 public interface RemoteSenderService extends Service {
     Mode send(int graphId, int nodeId, RemoteData remoteData, Selector selector);
 
+    /**
+     * Same as {@link #send}, but the data with the same id which are sent to the same remote collector are merged for
+     * a short window before sending. Only for the data which the next workers merge by id too.
+     */
+    Mode combineAndSend(int graphId, int nodeId, StreamData streamData, Selector selector);
+
     enum Mode {
         Remote, Local
     }
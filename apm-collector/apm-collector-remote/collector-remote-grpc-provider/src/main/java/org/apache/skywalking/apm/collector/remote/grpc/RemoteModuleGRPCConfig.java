@@ -27,6 +27,7 @@ class RemoteModuleGRPCConfig extends GRPCClientConfig {
 
     private int channelSize;
     private int bufferSize;
+    private int combineWindow = 100;
 
     public int getChannelSize() {
         return channelSize;
@@ -43,4 +44,16 @@ class RemoteModuleGRPCConfig extends GRPCClientConfig {
     public void setBufferSize(int bufferSize) {
         this.bufferSize = bufferSize;
     }
+
+    /**
+     * @return milliseconds to merge the metrics with the same id before sending to the other collectors, 0 means
+     * disabled.
+     */
+    public int getCombineWindow() {
+        return combineWindow;
+    }
+
+    public void setCombineWindow(int combineWindow) {
+        this.combineWindow = combineWindow;
+    }
 }
@@ -18,6 +18,8 @@
 
 package org.apache.skywalking.apm.collector.remote.grpc;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.apache.skywalking.apm.collector.cluster.ClusterModule;
 import org.apache.skywalking.apm.collector.cluster.service.ModuleListenerService;
 import org.apache.skywalking.apm.collector.cluster.service.ModuleRegisterService;
@@ -32,12 +34,17 @@ import org.apache.skywalking.apm.collector.remote.service.CommonRemoteDataRegist
 import org.apache.skywalking.apm.collector.remote.service.RemoteDataRegisterService;
 import org.apache.skywalking.apm.collector.remote.service.RemoteSenderService;
 import org.apache.skywalking.apm.collector.server.grpc.GRPCServer;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author peng-yongsheng
  */
 public class RemoteModuleGRPCProvider extends ModuleProvider {
 
+    private static final Logger logger = LoggerFactory.getLogger(RemoteModuleGRPCProvider.class);
+
     private final RemoteModuleGRPCConfig config;
     public static final String NAME = "gRPC";
 
@@ -66,7 +73,7 @@ public class RemoteModuleGRPCProvider extends ModuleProvider {
         Integer bufferSize = config.getBufferSize() == 0 ? 1000 : config.getBufferSize();
 
         remoteDataRegisterService = new CommonRemoteDataRegisterService();
-        remoteSenderService = new GRPCRemoteSenderService(config.getHost(), config.getPort(), channelSize, bufferSize, remoteDataRegisterService);
+        remoteSenderService = new GRPCRemoteSenderService(config.getHost(), config.getPort(), channelSize, bufferSize, config.getCombineWindow(), remoteDataRegisterService, remoteDataRegisterService);
         this.registerServiceImplementation(RemoteSenderService.class, remoteSenderService);
         this.registerServiceImplementation(RemoteDataRegisterService.class, remoteDataRegisterService);
     }
@@ -81,6 +88,16 @@ public class RemoteModuleGRPCProvider extends ModuleProvider {
 
         ModuleListenerService moduleListenerService = getManager().find(ClusterModule.NAME).getService(ModuleListenerService.class);
         moduleListenerService.addListener(remoteSenderService);
+
+        Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "RemoteClientReport")).scheduleAtFixedRate(
+            new RunnableWithExceptionProtection(() -> remoteSenderService.report(60),
+                t -> logger.error("Report remote client metrics failure.", t)), 60, 60, TimeUnit.SECONDS);
+
+        if (config.getCombineWindow() > 0) {
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "RemoteCombineFlush")).scheduleAtFixedRate(
+                new RunnableWithExceptionProtection(remoteSenderService::flushCombined,
+                    t -> logger.error("Flush combined remote data failure.", t)), config.getCombineWindow(), config.getCombineWindow(), TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override public void notifyAfterCompleted() {
@@ -18,15 +18,27 @@
 
 package org.apache.skywalking.apm.collector.remote.grpc.service;
 
-import io.grpc.stub.StreamObserver;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.skywalking.apm.collector.client.grpc.GRPCClient;
+import org.apache.skywalking.apm.collector.core.UnexpectedException;
+import org.apache.skywalking.apm.collector.core.data.RemoteData;
+import org.apache.skywalking.apm.collector.core.data.StreamData;
+import org.apache.skywalking.apm.collector.remote.RemoteException;
 import org.apache.skywalking.apm.collector.remote.grpc.proto.Empty;
 import org.apache.skywalking.apm.collector.remote.grpc.proto.RemoteCommonServiceGrpc;
 import org.apache.skywalking.apm.collector.remote.grpc.proto.RemoteMessage;
 import org.apache.skywalking.apm.collector.remote.service.RemoteClient;
 import org.apache.skywalking.apm.collector.remote.service.RemoteDataIDGetter;
+import org.apache.skywalking.apm.collector.remote.service.RemoteDataInstanceCreatorGetter;
 import org.apache.skywalking.apm.collector.remote.service.RemoteDataMappingIdNotFoundException;
+import org.apache.skywalking.apm.collector.remote.service.Selector;
 import org.apache.skywalking.apm.commons.datacarrier.DataCarrier;
 import org.apache.skywalking.apm.commons.datacarrier.buffer.BufferStrategy;
 import org.apache.skywalking.apm.commons.datacarrier.consumer.IConsumer;
@@ -34,23 +46,41 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Sends the remote data to one collector through a long-lived client stream. The graph threads only put the data into
+ * the carrier, the consumer thread serializes it and writes it into the stream, waits for the stream when the flow
+ * control of the peer is not ready, and opens a new stream with backoff when the stream broke.
+ *
  * @author peng-yongsheng
  */
 public class GRPCRemoteClient implements RemoteClient {
 
     private static final Logger logger = LoggerFactory.getLogger(GRPCRemoteClient.class);
 
+    private static final long READY_TIMEOUT = 10000;
+    private static final long MIN_BACKOFF = 100;
+    private static final long MAX_BACKOFF = 10000;
+    private static final int MAX_COMBINING = 10000;
+
     private final GRPCRemoteSerializeService service;
     private final GRPCClient client;
-    private final DataCarrier<RemoteMessage> carrier;
+    private final DataCarrier<RemoteEntry> carrier;
     private final String address;
     private final RemoteDataIDGetter remoteDataIDGetter;
+    private final RemoteDataInstanceCreatorGetter instanceCreatorGetter;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final LongAdder sentMessages = new LongAdder();
+    private final LongAdder sentBytes = new LongAdder();
+    private final LongAdder droppedMessages = new LongAdder();
+    private final LongAdder combinedMessages = new LongAdder();
+    private final ConcurrentHashMap<CombineKey, RemoteEntry> combining = new ConcurrentHashMap<>();
 
-    GRPCRemoteClient(GRPCClient client, RemoteDataIDGetter remoteDataIDGetter, int channelSize, int bufferSize) {
+    GRPCRemoteClient(GRPCClient client, RemoteDataIDGetter remoteDataIDGetter,
+        RemoteDataInstanceCreatorGetter instanceCreatorGetter, int channelSize, int bufferSize) {
         this.address = client.toString();
         this.client = client;
         this.service = new GRPCRemoteSerializeService();
         this.remoteDataIDGetter = remoteDataIDGetter;
+        this.instanceCreatorGetter = instanceCreatorGetter;
         this.carrier = new DataCarrier<>(channelSize, bufferSize);
         this.carrier.setBufferStrategy(BufferStrategy.BLOCKING);
         this.carrier.consume(new RemoteMessageConsumer(), 1);
@@ -60,103 +90,320 @@ public class GRPCRemoteClient implements RemoteClient {
         return this.address;
     }
 
-    @Override public void push(int graphId, int nodeId, org.apache.skywalking.apm.collector.core.data.RemoteData data) {
-        try {
-            Integer remoteDataId = remoteDataIDGetter.getRemoteDataId(data.getClass());
-            RemoteMessage.Builder builder = RemoteMessage.newBuilder();
-            builder.setGraphId(graphId);
-            builder.setNodeId(nodeId);
-            builder.setRemoteDataId(remoteDataId);
-            builder.setRemoteData(service.serialize(data));
+    @Override public void push(int graphId, int nodeId, RemoteData data) {
+        if (carrier.produce(new RemoteEntry(graphId, nodeId, data))) {
+            queueDepth.incrementAndGet();
+        } else {
+            droppedMessages.increment();
+        }
+    }
 
-            this.carrier.produce(builder.build());
-        } catch (RemoteDataMappingIdNotFoundException e) {
-            logger.error(e.getMessage(), e);
+    /**
+     * Merges the data into the one with the same id which is waiting for {@link #flushCombined()}, by the same {@link
+     * StreamData#mergeAndFormulaCalculateData} as the receiver does. The first data of an id is copied, because the
+     * same object goes on to the other nodes of the graph. When {@link #MAX_COMBINING} ids are already waiting, the
+     * data of a new id is pushed directly, so the combine map never grows without bound.
+     */
+    void combine(int graphId, int nodeId, StreamData data, Selector selector) {
+        CombineKey combineKey = new CombineKey(graphId, nodeId, data.getId());
+        if (combining.size() >= MAX_COMBINING && !combining.containsKey(combineKey)) {
+            push(graphId, nodeId, data);
+            return;
         }
+
+        combining.compute(combineKey, (key, entry) -> {
+            if (entry == null) {
+                return new RemoteEntry(graphId, nodeId, copy(data), selector);
+            }
+            ((StreamData)entry.data).mergeAndFormulaCalculateData(data);
+            combinedMessages.increment();
+            return entry;
+        });
     }
 
-    class RemoteMessageConsumer implements IConsumer<RemoteMessage> {
-        @Override public void init() {
+    private StreamData copy(StreamData data) {
+        try {
+            StreamData copy = (StreamData)instanceCreatorGetter.getInstanceCreator(remoteDataIDGetter.getRemoteDataId(data.getClass())).createInstance();
+            copy.copyFrom(data);
+            return copy;
+        } catch (RemoteException e) {
+            throw new UnexpectedException(e.getMessage());
         }
+    }
 
-        @Override public void consume(List<RemoteMessage> remoteMessages) {
-            StreamObserver<RemoteMessage> streamObserver = createStreamObserver();
-            for (RemoteMessage remoteMessage : remoteMessages) {
-                streamObserver.onNext(remoteMessage);
+    /**
+     * Puts the combined data into the carrier without blocking, called at the end of every combine window. When the
+     * carrier is full, the rest stays in the combine map for the next window, so a stuck peer never blocks the flush
+     * of the other peers.
+     */
+    void flushCombined() {
+        Iterator<CombineKey> keys = combining.keySet().iterator();
+        while (keys.hasNext()) {
+            CombineKey combineKey = keys.next();
+            RemoteEntry entry = combining.remove(combineKey);
+            if (entry == null) {
+                continue;
+            }
+
+            if (carrier.tryProduce(entry)) {
+                queueDepth.incrementAndGet();
+            } else {
+                combining.merge(combineKey, entry, (combinedEntry, unsentEntry) -> {
+                    ((StreamData)combinedEntry.data).mergeAndFormulaCalculateData((StreamData)unsentEntry.data);
+                    return combinedEntry;
+                });
+                return;
             }
-            streamObserver.onCompleted();
         }
+    }
 
-        @Override public void onError(List<RemoteMessage> remoteMessages, Throwable t) {
-            logger.error(t.getMessage(), t);
+    /**
+     * Removes all the data waiting for {@link #flushCombined()}, called when the peer quit, so the data could be sent
+     * to another collector.
+     *
+     * @return the removed data.
+     */
+    List<RemoteEntry> drainCombined() {
+        List<RemoteEntry> entries = new ArrayList<>(combining.size());
+        Iterator<CombineKey> keys = combining.keySet().iterator();
+        while (keys.hasNext()) {
+            RemoteEntry entry = combining.remove(keys.next());
+            if (entry != null) {
+                entries.add(entry);
+            }
         }
+        return entries;
+    }
 
-        @Override public void onExit() {
+    /**
+     * Logs the send queue depth and the throughput since the last report.
+     *
+     * @param seconds since the last report.
+     */
+    void report(long seconds) {
+        long messages = sentMessages.sumThenReset();
+        long bytes = sentBytes.sumThenReset();
+        long dropped = droppedMessages.sumThenReset();
+        long combined = combinedMessages.sumThenReset();
+        logger.info("remote client {}, queue depth: {}, sent: {} messages/s, {} KB/s, combined: {}, dropped: {}", address, queueDepth.get(), messages / seconds, bytes / 1024 / seconds, combined, dropped);
+    }
+
+    static class RemoteEntry {
+        private final int graphId;
+        private final int nodeId;
+        private final RemoteData data;
+        private final Selector selector;
+
+        RemoteEntry(int graphId, int nodeId, RemoteData data) {
+            this(graphId, nodeId, data, null);
+        }
+
+        RemoteEntry(int graphId, int nodeId, RemoteData data, Selector selector) {
+            this.graphId = graphId;
+            this.nodeId = nodeId;
+            this.data = data;
+            this.selector = selector;
+        }
+
+        int getGraphId() {
+            return graphId;
+        }
+
+        int getNodeId() {
+            return nodeId;
+        }
+
+        RemoteData getData() {
+            return data;
+        }
+
+        Selector getSelector() {
+            return selector;
         }
     }
 
-    private StreamObserver<RemoteMessage> createStreamObserver() {
-        RemoteCommonServiceGrpc.RemoteCommonServiceStub stub = RemoteCommonServiceGrpc.newStub(client.getChannel());
+    static class CombineKey {
+        private final int graphId;
+        private final int nodeId;
+        private final String id;
+
+        CombineKey(int graphId, int nodeId, String id) {
+            this.graphId = graphId;
+            this.nodeId = nodeId;
+            this.id = id;
+        }
 
-        StreamStatus status = new StreamStatus(false);
-        return stub.call(new StreamObserver<Empty>() {
-            @Override public void onNext(Empty empty) {
+        @Override public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            CombineKey key = (CombineKey)o;
+            return graphId == key.graphId && nodeId == key.nodeId && id.equals(key.id);
+        }
+
+        @Override public int hashCode() {
+            return 31 * (31 * graphId + nodeId) + id.hashCode();
+        }
+    }
+
+    class RemoteMessageConsumer implements IConsumer<RemoteEntry> {
+
+        private RemoteStream stream;
+        private long backoff = MIN_BACKOFF;
+        private long nextConnectTime;
+
+        @Override public void init() {
+        }
+
+        @Override public void consume(List<RemoteEntry> remoteEntries) {
+            for (int i = 0; i < remoteEntries.size(); i++) {
+                queueDepth.decrementAndGet();
+                RemoteMessage remoteMessage = toMessage(remoteEntries.get(i));
+                if (remoteMessage == null) {
+                    continue;
+                }
+
+                RemoteStream remoteStream = openStream();
+                if (remoteStream != null && remoteStream.send(remoteMessage)) {
+                    sentMessages.increment();
+                    sentBytes.add(remoteMessage.getSerializedSize());
+                    backoff = MIN_BACKOFF;
+                } else {
+                    droppedMessages.increment();
+                }
             }
+        }
 
-            @Override public void onError(Throwable throwable) {
-                logger.error(throwable.getMessage(), throwable);
+        private RemoteMessage toMessage(RemoteEntry entry) {
+            try {
+                RemoteMessage.Builder builder = RemoteMessage.newBuilder();
+                builder.setGraphId(entry.graphId);
+                builder.setNodeId(entry.nodeId);
+                builder.setRemoteDataId(remoteDataIDGetter.getRemoteDataId(entry.data.getClass()));
+                builder.setRemoteData(service.serialize(entry.data));
+                return builder.build();
+            } catch (RemoteDataMappingIdNotFoundException e) {
+                logger.error(e.getMessage(), e);
+                return null;
             }
+        }
 
-            @Override public void onCompleted() {
-                status.finished();
+        /**
+         * @return the opened stream, or null when the stream broke and the backoff is not over.
+         */
+        private RemoteStream openStream() {
+            if (stream != null && !stream.isBroken()) {
+                return stream;
             }
-        });
-    }
 
-    class StreamStatus {
+            long now = System.currentTimeMillis();
+            if (stream != null) {
+                stream = null;
+                nextConnectTime = now + backoff;
+                backoff = Math.min(backoff * 2, MAX_BACKOFF);
+            }
+            if (now < nextConnectTime) {
+                return null;
+            }
+
+            stream = new RemoteStream();
+            return stream;
+        }
+
+        @Override public void onError(List<RemoteEntry> remoteEntries, Throwable t) {
+            logger.error(t.getMessage(), t);
+        }
+
+        @Override public void onExit() {
+            if (stream != null) {
+                stream.complete();
+            }
+        }
+    }
 
-        private final Logger logger = LoggerFactory.getLogger(StreamStatus.class);
+    /**
+     * One client stream to the peer, it's only written by the consumer thread.
+     */
+    class RemoteStream implements ClientResponseObserver<RemoteMessage, Empty> {
 
-        private volatile boolean status;
+        private final Object readyLock = new Object();
+        private ClientCallStreamObserver<RemoteMessage> requestStream;
+        private volatile boolean broken;
 
-        StreamStatus(boolean status) {
-            this.status = status;
+        RemoteStream() {
+            RemoteCommonServiceGrpc.newStub(client.getChannel()).call(this);
         }
 
-        public boolean isFinish() {
-            return status;
+        @Override public void beforeStart(ClientCallStreamObserver<RemoteMessage> requestStream) {
+            this.requestStream = requestStream;
+            requestStream.setOnReadyHandler(this::signal);
         }
 
-        void finished() {
-            this.status = true;
+        boolean isBroken() {
+            return broken;
         }
 
         /**
-         * @param maxTimeout max wait time, milliseconds.
+         * Waits until the flow control of the peer accepts more messages, so the carrier fills up and blocks the
+         * producers instead of the messages being buffered in the channel without limit.
+         *
+         * @return false when the stream broke, or was not ready in {@link #READY_TIMEOUT}.
          */
-        public void wait4Finish(long maxTimeout) {
-            long time = 0;
-            while (!status) {
-                if (time > maxTimeout) {
-                    break;
+        boolean send(RemoteMessage remoteMessage) {
+            long deadline = System.currentTimeMillis() + READY_TIMEOUT;
+            synchronized (readyLock) {
+                while (!broken && !requestStream.isReady()) {
+                    long wait = deadline - System.currentTimeMillis();
+                    if (wait <= 0) {
+                        logger.warn("remote client {} stream is not ready in {} milliseconds, cancel it", address, READY_TIMEOUT);
+                        broken = true;
+                        requestStream.cancel("not ready", null);
+                        return false;
+                    }
+                    try {
+                        readyLock.wait(wait);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
                 }
-                try2Sleep(5);
-                time += 5;
             }
+            if (broken) {
+                return false;
+            }
+
+            requestStream.onNext(remoteMessage);
+            return true;
         }
 
-        /**
-         * Try to sleep, and ignore the {@link InterruptedException}
-         *
-         * @param millis the length of time to sleep in milliseconds
-         */
-        private void try2Sleep(long millis) {
-            try {
-                Thread.sleep(millis);
-            } catch (InterruptedException e) {
-                logger.error(e.getMessage(), e);
+        void complete() {
+            if (!broken) {
+                broken = true;
+                requestStream.onCompleted();
             }
         }
+
+        private void signal() {
+            synchronized (readyLock) {
+                readyLock.notifyAll();
+            }
+        }
+
+        @Override public void onNext(Empty empty) {
+        }
+
+        @Override public void onError(Throwable throwable) {
+            logger.error("remote client {} stream broke: {}", address, throwable.getMessage());
+            broken = true;
+            signal();
+        }
+
+        @Override public void onCompleted() {
+            broken = true;
+            signal();
+        }
     }
 
     @Override public boolean equals(String address) {
@@ -22,6 +22,7 @@ import org.apache.skywalking.apm.collector.client.grpc.GRPCClient;
 import org.apache.skywalking.apm.collector.remote.service.RemoteClient;
 import org.apache.skywalking.apm.collector.remote.service.RemoteClientService;
 import org.apache.skywalking.apm.collector.remote.service.RemoteDataIDGetter;
+import org.apache.skywalking.apm.collector.remote.service.RemoteDataInstanceCreatorGetter;
 
 /**
  * @author peng-yongsheng
@@ -29,14 +30,17 @@ import org.apache.skywalking.apm.collector.remote.service.RemoteDataIDGetter;
 public class GRPCRemoteClientService implements RemoteClientService {
 
     private final RemoteDataIDGetter remoteDataIDGetter;
+    private final RemoteDataInstanceCreatorGetter instanceCreatorGetter;
 
-    GRPCRemoteClientService(RemoteDataIDGetter remoteDataIDGetter) {
+    GRPCRemoteClientService(RemoteDataIDGetter remoteDataIDGetter,
+        RemoteDataInstanceCreatorGetter instanceCreatorGetter) {
         this.remoteDataIDGetter = remoteDataIDGetter;
+        this.instanceCreatorGetter = instanceCreatorGetter;
     }
 
     @Override public RemoteClient create(String host, int port, int channelSize, int bufferSize) {
         GRPCClient client = new GRPCClient(host, port);
         client.initialize();
-        return new GRPCRemoteClient(client, remoteDataIDGetter, channelSize, bufferSize);
+        return new GRPCRemoteClient(client, remoteDataIDGetter, instanceCreatorGetter, channelSize, bufferSize);
     }
 }
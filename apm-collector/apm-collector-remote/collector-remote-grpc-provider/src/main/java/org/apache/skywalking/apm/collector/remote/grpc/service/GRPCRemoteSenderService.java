@@ -25,66 +25,102 @@ import java.util.List;
 import org.apache.skywalking.apm.collector.cluster.ClusterModuleListener;
 import org.apache.skywalking.apm.collector.core.UnexpectedException;
 import org.apache.skywalking.apm.collector.core.data.RemoteData;
+import org.apache.skywalking.apm.collector.core.data.StreamData;
+import org.apache.skywalking.apm.collector.core.graph.GraphManager;
 import org.apache.skywalking.apm.collector.remote.RemoteModule;
 import org.apache.skywalking.apm.collector.remote.grpc.RemoteModuleGRPCProvider;
+import org.apache.skywalking.apm.collector.remote.grpc.service.selector.ConsistentHashSelector;
 import org.apache.skywalking.apm.collector.remote.grpc.service.selector.ForeverFirstSelector;
-import org.apache.skywalking.apm.collector.remote.grpc.service.selector.HashCodeSelector;
 import org.apache.skywalking.apm.collector.remote.grpc.service.selector.RollingSelector;
 import org.apache.skywalking.apm.collector.remote.service.RemoteClient;
 import org.apache.skywalking.apm.collector.remote.service.RemoteDataIDGetter;
+import org.apache.skywalking.apm.collector.remote.service.RemoteDataInstanceCreatorGetter;
 import org.apache.skywalking.apm.collector.remote.service.RemoteSenderService;
 import org.apache.skywalking.apm.collector.remote.service.Selector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author peng-yongsheng
  */
 public class GRPCRemoteSenderService extends ClusterModuleListener implements RemoteSenderService {
 
+    private static final Logger logger = LoggerFactory.getLogger(GRPCRemoteSenderService.class);
+
     private static final String PATH = "/" + RemoteModule.NAME + "/" + RemoteModuleGRPCProvider.NAME;
     private final GRPCRemoteClientService service;
-    private List<RemoteClient> remoteClients;
+    private volatile List<RemoteClient> remoteClients;
     private final String selfAddress;
-    private final HashCodeSelector hashCodeSelector;
+    private final ConsistentHashSelector consistentHashSelector;
     private final ForeverFirstSelector foreverFirstSelector;
     private final RollingSelector rollingSelector;
     private final int channelSize;
     private final int bufferSize;
+    private final int combineWindow;
 
     @Override public Mode send(int graphId, int nodeId, RemoteData remoteData, Selector selector) {
-        RemoteClient remoteClient;
-        switch (selector) {
-            case HashCode:
-                remoteClient = hashCodeSelector.select(remoteClients, remoteData);
-                return sendToRemoteWhenNotSelf(remoteClient, graphId, nodeId, remoteData);
-            case Rolling:
-                remoteClient = rollingSelector.select(remoteClients, remoteData);
-                return sendToRemoteWhenNotSelf(remoteClient, graphId, nodeId, remoteData);
-            case ForeverFirst:
-                remoteClient = foreverFirstSelector.select(remoteClients, remoteData);
-                return sendToRemoteWhenNotSelf(remoteClient, graphId, nodeId, remoteData);
+        RemoteClient remoteClient = select(remoteData, selector);
+        if (remoteClient.equals(selfAddress)) {
+            return Mode.Local;
+        } else {
+            remoteClient.push(graphId, nodeId, remoteData);
+            return Mode.Remote;
         }
-        throw new UnexpectedException("Selector not match, Just support hash, rolling, forever first selector.");
     }
 
-    private Mode sendToRemoteWhenNotSelf(RemoteClient remoteClient, int graphId, int nodeId, RemoteData remoteData) {
+    @Override public Mode combineAndSend(int graphId, int nodeId, StreamData streamData, Selector selector) {
+        if (combineWindow <= 0) {
+            return send(graphId, nodeId, streamData, selector);
+        }
+
+        RemoteClient remoteClient = select(streamData, selector);
         if (remoteClient.equals(selfAddress)) {
             return Mode.Local;
         } else {
-            remoteClient.push(graphId, nodeId, remoteData);
+            ((GRPCRemoteClient)remoteClient).combine(graphId, nodeId, streamData, selector);
             return Mode.Remote;
         }
     }
 
-    public GRPCRemoteSenderService(String host, int port, int channelSize, int bufferSize,
-        RemoteDataIDGetter remoteDataIDGetter) {
-        this.service = new GRPCRemoteClientService(remoteDataIDGetter);
+    private RemoteClient select(RemoteData remoteData, Selector selector) {
+        switch (selector) {
+            case HashCode:
+                return consistentHashSelector.select(remoteClients, remoteData);
+            case Rolling:
+                return rollingSelector.select(remoteClients, remoteData);
+            case ForeverFirst:
+                return foreverFirstSelector.select(remoteClients, remoteData);
+        }
+        throw new UnexpectedException("Selector not match, Just support hash, rolling, forever first selector.");
+    }
+
+    public GRPCRemoteSenderService(String host, int port, int channelSize, int bufferSize, int combineWindow,
+        RemoteDataIDGetter remoteDataIDGetter, RemoteDataInstanceCreatorGetter instanceCreatorGetter) {
+        this.service = new GRPCRemoteClientService(remoteDataIDGetter, instanceCreatorGetter);
         this.remoteClients = new ArrayList<>();
         this.selfAddress = host + ":" + String.valueOf(port);
-        this.hashCodeSelector = new HashCodeSelector();
+        this.consistentHashSelector = new ConsistentHashSelector();
         this.foreverFirstSelector = new ForeverFirstSelector();
         this.rollingSelector = new RollingSelector();
         this.channelSize = channelSize;
         this.bufferSize = bufferSize;
+        this.combineWindow = combineWindow;
+    }
+
+    /**
+     * Sends the data combined in the last window of every remote client.
+     */
+    public void flushCombined() {
+        remoteClients.forEach(remoteClient -> ((GRPCRemoteClient)remoteClient).flushCombined());
+    }
+
+    /**
+     * Reports the send queue depth and throughput of every remote client.
+     *
+     * @param seconds since the last report.
+     */
+    public void report(long seconds) {
+        remoteClients.forEach(remoteClient -> ((GRPCRemoteClient)remoteClient).report(seconds));
     }
 
     @Override public String path() {
@@ -102,6 +138,7 @@ public class GRPCRemoteSenderService extends ClusterModuleListener implements Re
 
         Collections.sort(newRemoteClients);
 
+        this.consistentHashSelector.update(newRemoteClients);
         this.remoteClients = newRemoteClients;
     }
 
@@ -109,13 +146,40 @@ public class GRPCRemoteSenderService extends ClusterModuleListener implements Re
         List<RemoteClient> newRemoteClients = new LinkedList<>();
         newRemoteClients.addAll(remoteClients);
 
+        List<RemoteClient> quitRemoteClients = new LinkedList<>();
         for (int i = newRemoteClients.size() - 1; i >= 0; i--) {
             RemoteClient remoteClient = newRemoteClients.get(i);
             if (remoteClient.equals(serverAddress)) {
-                newRemoteClients.remove(i);
+                quitRemoteClients.add(newRemoteClients.remove(i));
             }
         }
 
+        this.consistentHashSelector.update(newRemoteClients);
         this.remoteClients = newRemoteClients;
+
+        quitRemoteClients.forEach(remoteClient -> reroute((GRPCRemoteClient)remoteClient));
+    }
+
+    /**
+     * Sends the data combined for the quit collector to the one selected from the remaining collectors, or to the next
+     * node of this collector when it selects itself, the same as the receiver does.
+     */
+    private void reroute(GRPCRemoteClient quitRemoteClient) {
+        List<GRPCRemoteClient.RemoteEntry> entries = quitRemoteClient.drainCombined();
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        logger.info("remote client {} quit, reroute {} combined data", quitRemoteClient.getAddress(), entries.size());
+        entries.forEach(entry -> {
+            try {
+                StreamData streamData = (StreamData)entry.getData();
+                if (combineAndSend(entry.getGraphId(), entry.getNodeId(), streamData, entry.getSelector()).equals(Mode.Local)) {
+                    GraphManager.INSTANCE.findGraph(entry.getGraphId()).toFinder().findNext(entry.getNodeId()).execute(streamData);
+                }
+            } catch (Throwable t) {
+                logger.error(t.getMessage(), t);
+            }
+        });
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.remote.grpc.service.selector;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.skywalking.apm.collector.core.data.RemoteData;
+import org.apache.skywalking.apm.collector.remote.service.RemoteClient;
+
+/**
+ * Selects the client by a consistent hash ring of the select key. Every client owns {@link #VIRTUAL_NODES} points of
+ * the ring, so when a collector joins or quits the cluster, only the keys around its points move to the other
+ * clients, the in memory aggregation of the other keys is kept.
+ *
+ * The ring is built again when the clients list changes, the clients list is replaced by a new one on every change
+ * of the cluster.
+ */
+public class ConsistentHashSelector implements RemoteClientSelector {
+
+    static final int VIRTUAL_NODES = 160;
+
+    private volatile Ring ring = new Ring(null, new int[0], new RemoteClient[0]);
+
+    @Override public RemoteClient select(List<RemoteClient> clients, RemoteData remoteData) {
+        return select(clients, remoteData.selectKey());
+    }
+
+    RemoteClient select(List<RemoteClient> clients, String selectKey) {
+        Ring current = ring;
+        if (current.clients != clients) {
+            current = build(clients);
+        }
+        return current.select(hash(selectKey));
+    }
+
+    /**
+     * Builds the ring of the clients list, called when the cluster changes.
+     */
+    public void update(List<RemoteClient> clients) {
+        build(clients);
+    }
+
+    synchronized Ring build(List<RemoteClient> clients) {
+        if (ring.clients == clients) {
+            return ring;
+        }
+
+        long[] points = new long[clients.size() * VIRTUAL_NODES];
+        RemoteClient[] sortedClients = clients.toArray(new RemoteClient[0]);
+        Arrays.sort(sortedClients);
+
+        int index = 0;
+        for (int i = 0; i < sortedClients.length; i++) {
+            for (int j = 0; j < VIRTUAL_NODES; j++) {
+                int hash = hash(sortedClients[i].getAddress() + "#" + j);
+                points[index++] = ((long)hash << 32) | i;
+            }
+        }
+        Arrays.sort(points);
+
+        int[] hashes = new int[points.length];
+        RemoteClient[] owners = new RemoteClient[points.length];
+        for (int i = 0; i < points.length; i++) {
+            hashes[i] = (int)(points[i] >> 32);
+            owners[i] = sortedClients[(int)points[i]];
+        }
+
+        this.ring = new Ring(clients, hashes, owners);
+        return this.ring;
+    }
+
+    /**
+     * The murmur3 hash of the chars, the hash code of the string is not spread enough for the ring.
+     */
+    static int hash(String key) {
+        int hash = 0x9747b28c;
+        for (int i = 0; i < key.length(); i++) {
+            int k = key.charAt(i) * 0xcc9e2d51;
+            k = Integer.rotateLeft(k, 15) * 0x1b873593;
+            hash ^= k;
+            hash = Integer.rotateLeft(hash, 13) * 5 + 0xe6546b64;
+        }
+        hash ^= key.length();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    static class Ring {
+        private final List<RemoteClient> clients;
+        private final int[] hashes;
+        private final RemoteClient[] owners;
+
+        private Ring(List<RemoteClient> clients, int[] hashes, RemoteClient[] owners) {
+            this.clients = clients;
+            this.hashes = hashes;
+            this.owners = owners;
+        }
+
+        /**
+         * @return the owner of the first point clockwise from the hash.
+         * @throws IllegalStateException if there is no client, e.g. all collectors quit the cluster.
+         */
+        private RemoteClient select(int hash) {
+            if (owners.length == 0) {
+                throw new IllegalStateException("No remote client to select, the cluster has no collector.");
+            }
+            int index = Arrays.binarySearch(hashes, hash);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return owners[index == owners.length ? 0 : index];
+        }
+    }
+}
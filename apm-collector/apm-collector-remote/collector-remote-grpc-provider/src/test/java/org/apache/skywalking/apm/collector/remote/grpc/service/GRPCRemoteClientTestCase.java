@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.remote.grpc.service;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.skywalking.apm.collector.client.grpc.GRPCClient;
+import org.apache.skywalking.apm.collector.core.data.ColumnName;
+import org.apache.skywalking.apm.collector.core.data.StreamData;
+import org.apache.skywalking.apm.collector.core.data.column.DoubleColumn;
+import org.apache.skywalking.apm.collector.core.data.column.IntegerColumn;
+import org.apache.skywalking.apm.collector.core.data.column.LongColumn;
+import org.apache.skywalking.apm.collector.core.data.column.StringColumn;
+import org.apache.skywalking.apm.collector.core.data.operator.AddMergeOperation;
+import org.apache.skywalking.apm.collector.core.data.operator.NonMergeOperation;
+import org.apache.skywalking.apm.collector.remote.grpc.proto.Empty;
+import org.apache.skywalking.apm.collector.remote.grpc.proto.RemoteCommonServiceGrpc;
+import org.apache.skywalking.apm.collector.remote.grpc.proto.RemoteMessage;
+import org.apache.skywalking.apm.collector.remote.service.Selector;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GRPCRemoteClientTestCase {
+
+    private final AtomicInteger streams = new AtomicInteger();
+    private final AtomicInteger messages = new AtomicInteger();
+    private final Map<String, Long> values = new ConcurrentHashMap<>();
+    private Server server;
+    private GRPCClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        server = ServerBuilder.forPort(0).addService(new RemoteCommonServiceGrpc.RemoteCommonServiceImplBase() {
+            @Override public StreamObserver<RemoteMessage> call(StreamObserver<Empty> responseObserver) {
+                streams.incrementAndGet();
+                return new StreamObserver<RemoteMessage>() {
+                    @Override public void onNext(RemoteMessage message) {
+                        messages.incrementAndGet();
+                        values.merge(message.getRemoteData().getDataStrings(0), message.getRemoteData().getDataLongs(0), Long::sum);
+                    }
+
+                    @Override public void onError(Throwable throwable) {
+                    }
+
+                    @Override public void onCompleted() {
+                        responseObserver.onNext(Empty.getDefaultInstance());
+                        responseObserver.onCompleted();
+                    }
+                };
+            }
+        }).build().start();
+
+        client = new GRPCClient("127.0.0.1", server.getPort());
+        client.initialize();
+    }
+
+    @After
+    public void tearDown() {
+        client.shutdown();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void testPushThroughOneStream() throws InterruptedException {
+        GRPCRemoteClient remoteClient = new GRPCRemoteClient(client, dataClass -> 1, remoteDataId -> TestData::new, 2, 1000);
+
+        for (int i = 0; i < 20000; i++) {
+            TestData data = new TestData();
+            data.setId(String.valueOf(i));
+            data.setDataLong(0, i);
+            remoteClient.push(1, 1, data);
+        }
+
+        for (int i = 0; i < 500 && messages.get() < 20000; i++) {
+            Thread.sleep(20);
+        }
+
+        Assert.assertEquals(20000, messages.get());
+        Assert.assertEquals(1, streams.get());
+    }
+
+    @Test
+    public void testCombine() throws InterruptedException {
+        GRPCRemoteClient remoteClient = new GRPCRemoteClient(client, dataClass -> 1, remoteDataId -> TestData::new, 2, 1000);
+
+        for (int i = 0; i < 10000; i++) {
+            TestData data = new TestData();
+            data.setId(String.valueOf(i % 10));
+            data.setDataLong(0, 1);
+            remoteClient.combine(1, 1, data, Selector.HashCode);
+        }
+        remoteClient.flushCombined();
+
+        for (int i = 0; i < 500 && messages.get() < 10; i++) {
+            Thread.sleep(20);
+        }
+
+        Assert.assertEquals(10, messages.get());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(1000L, (long)values.get(String.valueOf(i)));
+        }
+    }
+
+    @Test
+    public void testCombineLeavesPushedDataUnchanged() throws InterruptedException {
+        GRPCRemoteClient remoteClient = new GRPCRemoteClient(client, dataClass -> 1, remoteDataId -> TestData::new, 2, 1000);
+
+        TestData first = new TestData();
+        first.setId("a");
+        first.setDataLong(0, 1);
+        TestData second = new TestData();
+        second.setId("a");
+        second.setDataLong(0, 2);
+        remoteClient.combine(1, 1, first, Selector.HashCode);
+        remoteClient.combine(1, 1, second, Selector.HashCode);
+
+        Assert.assertEquals(1L, first.getDataLong(0));
+        Assert.assertEquals(2L, second.getDataLong(0));
+
+        remoteClient.flushCombined();
+        for (int i = 0; i < 500 && messages.get() < 1; i++) {
+            Thread.sleep(20);
+        }
+
+        Assert.assertEquals(1, messages.get());
+        Assert.assertEquals(3L, (long)values.get("a"));
+        Assert.assertEquals(1L, first.getDataLong(0));
+    }
+
+    @Test
+    public void testCombineMapIsCapped() throws InterruptedException {
+        GRPCRemoteClient remoteClient = new GRPCRemoteClient(client, dataClass -> 1, remoteDataId -> TestData::new, 2, 1000);
+
+        for (int i = 0; i < 10010; i++) {
+            TestData data = new TestData();
+            data.setId(String.valueOf(i));
+            data.setDataLong(0, 1);
+            remoteClient.combine(1, 1, data, Selector.HashCode);
+        }
+
+        for (int i = 0; i < 500 && messages.get() < 10; i++) {
+            Thread.sleep(20);
+        }
+
+        Assert.assertEquals(10, messages.get());
+        Assert.assertEquals(10000, remoteClient.drainCombined().size());
+        Assert.assertEquals(0, remoteClient.drainCombined().size());
+    }
+
+    static class TestData extends StreamData {
+        private static final StringColumn[] STRING_COLUMNS = {
+            new StringColumn(new ColumnName("id", "id"), new NonMergeOperation()),
+        };
+
+        private static final LongColumn[] LONG_COLUMNS = {
+            new LongColumn(new ColumnName("value", "v"), new AddMergeOperation()),
+        };
+
+        TestData() {
+            super(STRING_COLUMNS, LONG_COLUMNS, new IntegerColumn[0], new DoubleColumn[0]);
+        }
+
+        @Override public String getId() {
+            return getDataString(0);
+        }
+
+        @Override public void setId(String id) {
+            setDataString(0, id);
+        }
+
+        @Override public String getMetricId() {
+            return getId();
+        }
+
+        @Override public void setMetricId(String metricId) {
+            setId(metricId);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.remote.grpc.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.skywalking.apm.collector.core.graph.Graph;
+import org.apache.skywalking.apm.collector.core.graph.GraphManager;
+import org.apache.skywalking.apm.collector.core.graph.Next;
+import org.apache.skywalking.apm.collector.core.graph.NodeProcessor;
+import org.apache.skywalking.apm.collector.remote.service.RemoteSenderService;
+import org.apache.skywalking.apm.collector.remote.service.Selector;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GRPCRemoteSenderServiceTestCase {
+
+    @After
+    public void tearDown() {
+        GraphManager.INSTANCE.reset();
+    }
+
+    @Test
+    public void testRerouteCombinedDataOfQuitServer() {
+        List<GRPCRemoteClientTestCase.TestData> received = new CopyOnWriteArrayList<>();
+        Graph<GRPCRemoteClientTestCase.TestData> graph = GraphManager.INSTANCE.createIfAbsent(1, GRPCRemoteClientTestCase.TestData.class);
+        graph.addNode(new TestNodeProcessor(1, null)).addNext(new TestNodeProcessor(2, received));
+
+        GRPCRemoteSenderService service = new GRPCRemoteSenderService("127.0.0.2", 2, 1, 100, 100, dataClass -> 1, remoteDataId -> GRPCRemoteClientTestCase.TestData::new);
+        service.serverJoinNotify("127.0.0.1:1");
+        service.serverJoinNotify("127.0.0.2:2");
+
+        for (int i = 0; i < 3; i++) {
+            GRPCRemoteClientTestCase.TestData data = new GRPCRemoteClientTestCase.TestData();
+            data.setId("a");
+            data.setDataLong(0, 1);
+            Assert.assertEquals(RemoteSenderService.Mode.Remote, service.combineAndSend(1, 1, data, Selector.ForeverFirst));
+        }
+
+        service.serverQuitNotify("127.0.0.1:1");
+
+        Assert.assertEquals(1, received.size());
+        Assert.assertEquals("a", received.get(0).getId());
+        Assert.assertEquals(3L, received.get(0).getDataLong(0));
+    }
+
+    private static class TestNodeProcessor implements NodeProcessor<GRPCRemoteClientTestCase.TestData, GRPCRemoteClientTestCase.TestData> {
+        private final int id;
+        private final List<GRPCRemoteClientTestCase.TestData> received;
+
+        private TestNodeProcessor(int id, List<GRPCRemoteClientTestCase.TestData> received) {
+            this.id = id;
+            this.received = received;
+        }
+
+        @Override public int id() {
+            return id;
+        }
+
+        @Override
+        public void process(GRPCRemoteClientTestCase.TestData data, Next<GRPCRemoteClientTestCase.TestData> next) {
+            if (received != null) {
+                received.add(data);
+            }
+            next.execute(data);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.remote.grpc.service.selector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.skywalking.apm.collector.core.data.RemoteData;
+import org.apache.skywalking.apm.collector.remote.service.RemoteClient;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConsistentHashSelectorTestCase {
+
+    private static final int KEYS = 100000;
+
+    @Test
+    public void testJoin() {
+        ConsistentHashSelector selector = new ConsistentHashSelector();
+        List<RemoteClient> clients = clients(10);
+        Map<String, RemoteClient> before = route(selector, clients);
+
+        List<RemoteClient> joined = new ArrayList<>(clients);
+        joined.add(new TestRemoteClient("10.0.0.10:11800"));
+        Map<String, RemoteClient> after = route(selector, joined);
+
+        int moved = 0;
+        for (Map.Entry<String, RemoteClient> entry : before.entrySet()) {
+            RemoteClient owner = after.get(entry.getKey());
+            if (owner != entry.getValue()) {
+                moved++;
+                Assert.assertEquals("10.0.0.10:11800", owner.getAddress());
+            }
+        }
+        Assert.assertTrue("moved " + moved, moved < KEYS * 0.15);
+    }
+
+    @Test
+    public void testQuit() {
+        ConsistentHashSelector selector = new ConsistentHashSelector();
+        List<RemoteClient> clients = clients(10);
+        Map<String, RemoteClient> before = route(selector, clients);
+
+        List<RemoteClient> quit = new ArrayList<>(clients);
+        RemoteClient removed = quit.remove(3);
+        Map<String, RemoteClient> after = route(selector, quit);
+
+        for (Map.Entry<String, RemoteClient> entry : before.entrySet()) {
+            if (entry.getValue() != removed) {
+                Assert.assertSame(entry.getValue(), after.get(entry.getKey()));
+            } else {
+                Assert.assertNotSame(removed, after.get(entry.getKey()));
+            }
+        }
+    }
+
+    @Test
+    public void testBalance() {
+        ConsistentHashSelector selector = new ConsistentHashSelector();
+        List<RemoteClient> clients = clients(10);
+        Map<RemoteClient, Integer> counts = new HashMap<>();
+        for (RemoteClient owner : route(selector, clients).values()) {
+            counts.merge(owner, 1, Integer::sum);
+        }
+
+        Assert.assertEquals(10, counts.size());
+        for (Integer count : counts.values()) {
+            Assert.assertTrue("count " + count, count > KEYS / 10 * 0.7 && count < KEYS / 10 * 1.3);
+        }
+    }
+
+    @Test
+    public void testUpdateIsIdempotent() {
+        ConsistentHashSelector selector = new ConsistentHashSelector();
+        List<RemoteClient> clients = clients(3);
+        Assert.assertSame(selector.build(clients), selector.build(clients));
+        Assert.assertSame(selector.select(clients, "key"), selector.select(new ArrayList<>(clients), "key"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSelectWithoutClients() {
+        ConsistentHashSelector selector = new ConsistentHashSelector();
+        List<RemoteClient> clients = new ArrayList<>();
+        selector.update(clients);
+        selector.select(clients, "key");
+    }
+
+    private Map<String, RemoteClient> route(ConsistentHashSelector selector, List<RemoteClient> clients) {
+        Map<String, RemoteClient> owners = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            String key = "201807011230_" + i + "_" + (i % 17);
+            owners.put(key, selector.select(clients, key));
+        }
+        return owners;
+    }
+
+    private List<RemoteClient> clients(int size) {
+        List<RemoteClient> clients = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            clients.add(new TestRemoteClient("10.0.0." + i + ":11800"));
+        }
+        return clients;
+    }
+
+    private static class TestRemoteClient implements RemoteClient {
+        private final String address;
+
+        private TestRemoteClient(String address) {
+            this.address = address;
+        }
+
+        @Override public String getAddress() {
+            return address;
+        }
+
+        @Override public void push(int graphId, int nodeId, RemoteData data) {
+        }
+
+        @Override public boolean equals(String address) {
+            return this.address.equals(address);
+        }
+
+        @Override public int hashCode() {
+            return address.hashCode();
+        }
+
+        @Override public int compareTo(RemoteClient o) {
+            return address.compareTo(o.getAddress());
+        }
+    }
+}
@@ -20,10 +20,27 @@
 package org.apache.skywalking.apm.collector.storage.base.dao;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author peng-yongsheng
  */
 public interface IBatchDAO extends DAO {
-    void batchPersistence(List<?> batchCollection);
+    /**
+     * @param batchCollection the prepared insert and update requests
+     * @return false if the batch failed to be written. A storage which writes asynchronously returns true once the
+     * batch is accepted.
+     */
+    boolean batchPersistence(List<?> batchCollection);
+
+    /**
+     * Write the batch, and tell whether it is written by the callback. A storage which writes asynchronously calls
+     * back in its own thread after the batch is written.
+     *
+     * @param batchCollection the prepared insert and update requests
+     * @param callback accepts false if any request of the batch failed to be written
+     */
+    default void batchPersistence(List<?> batchCollection, Consumer<Boolean> callback) {
+        callback.accept(batchPersistence(batchCollection));
+    }
 }
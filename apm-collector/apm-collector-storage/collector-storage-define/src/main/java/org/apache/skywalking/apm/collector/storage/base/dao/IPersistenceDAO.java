@@ -19,7 +19,9 @@
 package org.apache.skywalking.apm.collector.storage.base.dao;
 
 import java.io.IOException;
+import java.util.*;
 import org.apache.skywalking.apm.collector.core.data.StreamData;
+import org.apache.skywalking.apm.collector.storage.StorageMultiGetException;
 
 /**
  * @author peng-yongsheng
@@ -28,6 +30,26 @@ public interface IPersistenceDAO<INSERT, UPDATE, STREAM_DATA extends StreamData>
 
     STREAM_DATA get(String id);
 
+    /**
+     * Get the exist rows of the given ids in one round-trip if the storage supports, the ids of the rows which don't
+     * exist are absent in the returned map.
+     *
+     * @param ids of the rows
+     * @return the rows mapped by id
+     * @throws StorageMultiGetException if any of the rows can't be read, so the caller never takes a row which failed
+     * to read as absent.
+     */
+    default Map<String, STREAM_DATA> multiGet(List<String> ids) throws StorageMultiGetException {
+        Map<String, STREAM_DATA> result = new HashMap<>();
+        ids.forEach(id -> {
+            STREAM_DATA streamData = get(id);
+            if (streamData != null) {
+                result.put(id, streamData);
+            }
+        });
+        return result;
+    }
+
     INSERT prepareBatchInsert(STREAM_DATA data) throws IOException;
 
     UPDATE prepareBatchUpdate(STREAM_DATA data) throws IOException;
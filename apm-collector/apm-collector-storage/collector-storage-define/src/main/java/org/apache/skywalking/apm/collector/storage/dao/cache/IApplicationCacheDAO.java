@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.storage.dao.cache;
 
+import java.util.List;
 import org.apache.skywalking.apm.collector.storage.base.dao.DAO;
 import org.apache.skywalking.apm.collector.storage.table.register.Application;
 
@@ -30,4 +31,9 @@ public interface IApplicationCacheDAO extends DAO {
     Application getApplication(int applicationId);
 
     int getApplicationIdByAddressId(int addressId);
+
+    /**
+     * @return all the registered rows, used to preload the dictionary cache.
+     */
+    List<Application> loadAll();
 }
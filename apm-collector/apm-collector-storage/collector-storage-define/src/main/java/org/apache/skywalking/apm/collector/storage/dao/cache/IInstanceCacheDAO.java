@@ -18,7 +18,9 @@
 
 package org.apache.skywalking.apm.collector.storage.dao.cache;
 
+import java.util.List;
 import org.apache.skywalking.apm.collector.storage.base.dao.DAO;
+import org.apache.skywalking.apm.collector.storage.table.register.Instance;
 
 /**
  * @author peng-yongsheng
@@ -29,4 +31,9 @@ public interface IInstanceCacheDAO extends DAO {
     int getInstanceIdByAgentUUID(int applicationId, String agentUUID);
 
     int getInstanceIdByAddressId(int applicationId, int addressId);
+
+    /**
+     * @return all the registered rows, used to preload the dictionary cache.
+     */
+    List<Instance> loadAll();
 }
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.storage.dao.cache;
 
+import java.util.List;
 import org.apache.skywalking.apm.collector.storage.base.dao.DAO;
 import org.apache.skywalking.apm.collector.storage.table.register.NetworkAddress;
 
@@ -28,4 +29,9 @@ public interface INetworkAddressCacheDAO extends DAO {
     int getAddressId(String networkAddress);
 
     NetworkAddress getAddressById(int addressId);
+
+    /**
+     * @return all the registered rows, used to preload the dictionary cache.
+     */
+    List<NetworkAddress> loadAll();
 }
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.storage.dao.cache;
 
+import java.util.List;
 import org.apache.skywalking.apm.collector.storage.base.dao.DAO;
 import org.apache.skywalking.apm.collector.storage.table.register.ServiceName;
 
@@ -28,4 +29,9 @@ public interface IServiceNameCacheDAO extends DAO {
     ServiceName get(int serviceId);
 
     int getServiceId(int applicationId, int srcSpanType, String serviceName);
+
+    /**
+     * @return all the registered rows, used to preload the dictionary cache.
+     */
+    List<ServiceName> loadAll();
 }
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.storage.dao.register;
 
+import java.util.List;
 import org.apache.skywalking.apm.collector.storage.base.dao.DAO;
 import org.apache.skywalking.apm.collector.storage.table.register.Application;
 
@@ -30,4 +31,11 @@ public interface IApplicationRegisterDAO extends DAO {
     int getMinApplicationId();
 
     void save(Application application);
+
+    /**
+     * Saves the new registered rows in one request if the storage supports, one by one by default.
+     */
+    default void batchSave(List<Application> applications) {
+        applications.forEach(this::save);
+    }
 }
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.storage.dao.register;
 
+import java.util.List;
 import org.apache.skywalking.apm.collector.storage.base.dao.DAO;
 import org.apache.skywalking.apm.collector.storage.table.register.Instance;
 
@@ -31,5 +32,12 @@ public interface IInstanceRegisterDAO extends DAO {
 
     void save(Instance instance);
 
+    /**
+     * Saves the new registered rows in one request if the storage supports, one by one by default.
+     */
+    default void batchSave(List<Instance> instances) {
+        instances.forEach(this::save);
+    }
+
     void updateHeartbeatTime(int instanceId, long heartbeatTime);
 }
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.storage.dao.register;
 
+import java.util.List;
 import org.apache.skywalking.apm.collector.storage.base.dao.DAO;
 import org.apache.skywalking.apm.collector.storage.table.register.NetworkAddress;
 
@@ -31,5 +32,12 @@ public interface INetworkAddressRegisterDAO extends DAO {
 
     void save(NetworkAddress networkAddress);
 
+    /**
+     * Saves the new registered rows in one request if the storage supports, one by one by default.
+     */
+    default void batchSave(List<NetworkAddress> networkAddresses) {
+        networkAddresses.forEach(this::save);
+    }
+
     void update(String id, int spanLayer, int serverType);
 }
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.collector.storage.dao.register;
 
+import java.util.List;
 import org.apache.skywalking.apm.collector.storage.base.dao.DAO;
 import org.apache.skywalking.apm.collector.storage.table.register.ServiceName;
 
@@ -30,4 +31,11 @@ public interface IServiceNameRegisterDAO extends DAO {
     int getMinServiceId();
 
     void save(ServiceName serviceName);
+
+    /**
+     * Saves the new registered rows in one request if the storage supports, one by one by default.
+     */
+    default void batchSave(List<ServiceName> serviceNames) {
+        serviceNames.forEach(this::save);
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.skywalking.apm.collector.storage.table.MetricSource;
 import org.apache.skywalking.apm.collector.storage.ui.common.Step;
 import org.apache.skywalking.apm.collector.storage.ui.server.AppServerInfo;
 import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
 
 /**
  * Interface to be implemented for execute database query operation
@@ -64,29 +65,12 @@ public interface IInstanceMetricUIDAO extends DAO {
         int minutesBetween, int topN, MetricSource metricSource);
 
     /**
-     * Server TPS Trend describes the trend of instance throughout in the given duration,
-     * which represents by the DurationPoint list in the `step` Unit.
+     * Server Trend describes the transaction metrics of instance in the given duration,
+     * which represents by the DurationPoint list in the `step` Unit. The response time and
+     * throughput trends are both derived from it, so the rows are only loaded once.
      *
-     * <p>SQL as: select TRANSACTION_CALLS from INSTANCE_METRIC where ID in (durationPoints),
-     * rule of ID generation is "${durationPoint}_${instanceId}_${MetricSource.Callee}".
-     *
-     * <p>The formula is "TRANSACTION_CALLS * durationPoint#minutesBetween"
-     *
-     * <p>Use {@link org.apache.skywalking.apm.collector.storage.utils.TimePyramidTableNameBuilder#build(Step, String)}
-     * to generate table name which mixed with step name.
-     *
-     * @param instanceId which instance should be query
-     * @param step the step which represent time formats
-     * @param durationPoints the time points in the time span
-     * @return every duration points average instance throughput metrics.
-     */
-    List<Integer> getServerThroughputTrend(int instanceId, Step step, List<DurationPoint> durationPoints);
-
-    /**
-     * Response time Trend describes the trend of instance average response time in the given duration,
-     * which represents by the DurationPoint list in the `step` Unit.
-     *
-     * <p>SQL as: select TRANSACTION_DURATION_SUM / TRANSACTION_CALLS from INSTANCE_METRIC where ID in (durationPoints),
+     * <p>SQL as: select TRANSACTION_CALLS, TRANSACTION_ERROR_CALLS, TRANSACTION_DURATION_SUM
+     * from INSTANCE_METRIC where ID in (durationPoints),
      * rule of ID generation is "${durationPoint}_${instanceId}_${MetricSource.Callee}".
      *
      * <p>Use {@link org.apache.skywalking.apm.collector.storage.utils.TimePyramidTableNameBuilder#build(Step, String)}
@@ -95,7 +79,7 @@ public interface IInstanceMetricUIDAO extends DAO {
      * @param instanceId which instance should be query
      * @param step the step which represent time formats
      * @param durationPoints the time points in the time span
-     * @return every duration points average instance response time metrics.
+     * @return every duration points transaction metrics.
      */
-    List<Integer> getResponseTimeTrend(int instanceId, Step step, List<DurationPoint> durationPoints);
+    TransactionTrend getServerTrend(int instanceId, Step step, List<DurationPoint> durationPoints);
 }
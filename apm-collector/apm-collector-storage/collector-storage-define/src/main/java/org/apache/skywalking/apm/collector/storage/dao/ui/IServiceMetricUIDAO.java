@@ -24,6 +24,7 @@ import org.apache.skywalking.apm.collector.storage.table.MetricSource;
 import org.apache.skywalking.apm.collector.storage.ui.common.*;
 import org.apache.skywalking.apm.collector.storage.ui.service.ServiceMetric;
 import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
 
 /**
  * Interface to be implemented for execute database query operation
@@ -36,46 +37,11 @@ import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
 public interface IServiceMetricUIDAO extends DAO {
 
     /**
-     * Service Response Time Trend describes the trend of Service metric in the given duration
-     * , which represents by the DurationPoint list in the `step` Unit.
+     * Service Trend describes the transaction metrics of Service in the given duration
+     * , which represents by the DurationPoint list in the `step` Unit. The response time, throughput
+     * and SLA trends are all derived from it, so the rows are only loaded once.
      *
-     * <p>SQL as: select TRANSACTION_DURATION_SUM / TRANSACTION_CALLS from SERVICE_METRIC
-     * where ID in (${durationPoints})
-     *
-     * <p>rule of ID generation is "${durationPoint}_${serviceId}_${MetricSource.Callee}"
-     * <p>Use {@link org.apache.skywalking.apm.collector.storage.utils.TimePyramidTableNameBuilder#build(Step, String)}
-     * to generate table name which mixed with step name.
-     *
-     * @param serviceId query condition
-     * @param step the step which represent time formats
-     * @param durationPoints the time points in the time span
-     * @return every duration points average response time metrics.
-     */
-    List<Integer> getServiceResponseTimeTrend(int serviceId, Step step, List<DurationPoint> durationPoints);
-
-    /**
-     * Service throughout Trend describes the trend of Service metric in the given duration
-     * , which represents by the DurationPoint list in the `step` Unit.
-     *
-     * <p>SQL as: select TRANSACTION_CALLS / ${durationPoint#minutesBetween} from SERVICE_METRIC
-     * where ID in (${durationPoints})
-     *
-     * <p>rule of ID generation is "${durationPoint}_${serviceId}_${MetricSource.Callee}"
-     * <p>Use {@link org.apache.skywalking.apm.collector.storage.utils.TimePyramidTableNameBuilder#build(Step, String)}
-     * to generate table name which mixed with step name.
-     *
-     * @param serviceId query condition
-     * @param step the step which represent time formats
-     * @param durationPoints the time points in the time span
-     * @return every duration points average throughout metrics.
-     */
-    List<Integer> getServiceThroughputTrend(int serviceId, Step step, List<DurationPoint> durationPoints);
-
-    /**
-     * Service SLA Trend describes the trend of Service SLA metrics in the given duration
-     * , which represents by the DurationPoint list in the `step` Unit.
-     *
-     * <p>SQL as: select (( TRANSACTION_CALLS - TRANSACTION_ERROR_CALLS ) * 10000) / TRANSACTION_CALLS
+     * <p>SQL as: select TRANSACTION_CALLS, TRANSACTION_ERROR_CALLS, TRANSACTION_DURATION_SUM
      * from SERVICE_METRIC where ID in (${durationPoints})
      *
      * <p>rule of ID generation is "${durationPoint}_${serviceId}_${MetricSource.Callee}"
@@ -85,9 +51,9 @@ public interface IServiceMetricUIDAO extends DAO {
      * @param serviceId query condition
      * @param step the step which represent time formats
      * @param durationPoints the time points in the time span
-     * @return every duration points service SLA metrics.
+     * @return every duration points transaction metrics.
      */
-    List<Integer> getServiceSLATrend(int serviceId, Step step, List<DurationPoint> durationPoints);
+    TransactionTrend getServiceTrend(int serviceId, Step step, List<DurationPoint> durationPoints);
 
     /**
      * <p>SQL as: select SERVICE_ID, sum(TRANSACTION_CALLS), sum(TRANSACTION_ERROR_CALLS)
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.storage.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The transaction calls, error calls and duration sum of every duration point, which are loaded once and derived
+ * into the response time, throughput and SLA trends.
+ */
+public class TransactionTrend {
+
+    private static final int FULL_SLA = 10000;
+
+    private final List<DurationPoint> durationPoints;
+    private final boolean[] exists;
+    private final long[] calls;
+    private final long[] errorCalls;
+    private final long[] durationSum;
+
+    public TransactionTrend(List<DurationPoint> durationPoints) {
+        this.durationPoints = durationPoints;
+        this.exists = new boolean[durationPoints.size()];
+        this.calls = new long[durationPoints.size()];
+        this.errorCalls = new long[durationPoints.size()];
+        this.durationSum = new long[durationPoints.size()];
+    }
+
+    /**
+     * @param index the index of the duration point, the points without metric keep the default values.
+     */
+    public void setMetric(int index, long calls, long errorCalls, long durationSum) {
+        this.exists[index] = true;
+        this.calls[index] = calls;
+        this.errorCalls[index] = errorCalls;
+        this.durationSum[index] = durationSum;
+    }
+
+    /**
+     * @return "DURATION_SUM / CALLS" of every duration point, 0 if not found.
+     */
+    public List<Integer> getResponseTimeTrend() {
+        List<Integer> trends = new ArrayList<>(durationPoints.size());
+        for (int i = 0; i < durationPoints.size(); i++) {
+            trends.add(exists[i] && calls[i] > 0 ? (int)(durationSum[i] / calls[i]) : 0);
+        }
+        return trends;
+    }
+
+    /**
+     * @return "CALLS / durationPoint#minutesBetween" of every duration point, 0 if not found.
+     */
+    public List<Integer> getThroughputTrend() {
+        List<Integer> trends = new ArrayList<>(durationPoints.size());
+        for (int i = 0; i < durationPoints.size(); i++) {
+            long minutesBetween = durationPoints.get(i).getMinutesBetween();
+            trends.add(exists[i] && minutesBetween > 0 ? (int)(calls[i] / minutesBetween) : 0);
+        }
+        return trends;
+    }
+
+    /**
+     * @return "((CALLS - ERROR_CALLS) * 10000) / CALLS" of every duration point, 10000 if not found.
+     */
+    public List<Integer> getSLATrend() {
+        List<Integer> trends = new ArrayList<>(durationPoints.size());
+        for (int i = 0; i < durationPoints.size(); i++) {
+            trends.add(exists[i] && calls[i] > 0 ? (int)(((calls[i] - errorCalls[i]) * FULL_SLA) / calls[i]) : FULL_SLA);
+        }
+        return trends;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.storage.table.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Merge throughput of {@link ServiceReferenceMetric}, which is the most frequently merged metric in the collector.
+ *
+ * Run by {@link #main(String[])}, it is not a part of the unit tests.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceReferenceMetricBenchmark {
+
+    private ServiceReferenceMetric storedMetric;
+    private ServiceReferenceMetric newMetric;
+
+    @Setup
+    public void setUp() {
+        storedMetric = newServiceReferenceMetric();
+        newMetric = newServiceReferenceMetric();
+    }
+
+    @Benchmark
+    public ServiceReferenceMetric merge() {
+        storedMetric.mergeAndFormulaCalculateData(newMetric);
+        return storedMetric;
+    }
+
+    @Benchmark
+    public ServiceReferenceMetric createAndMerge() {
+        ServiceReferenceMetric metric = newServiceReferenceMetric();
+        metric.mergeAndFormulaCalculateData(newMetric);
+        return metric;
+    }
+
+    private static ServiceReferenceMetric newServiceReferenceMetric() {
+        ServiceReferenceMetric metric = new ServiceReferenceMetric();
+        metric.setId("201810181459_2_3_0");
+        metric.setMetricId("2_3_0");
+        metric.setSourceValue(0);
+        metric.setFrontServiceId(2);
+        metric.setBehindServiceId(3);
+        metric.setFrontInstanceId(20);
+        metric.setBehindInstanceId(30);
+        metric.setFrontApplicationId(200);
+        metric.setBehindApplicationId(300);
+        metric.setTimeBucket(201810181459L);
+        metric.setTransactionCalls(1000L);
+        metric.setTransactionErrorCalls(10L);
+        metric.setTransactionDurationSum(250000L);
+        metric.setTransactionErrorDurationSum(3000L);
+        metric.setBusinessTransactionCalls(800L);
+        metric.setBusinessTransactionErrorCalls(8L);
+        metric.setBusinessTransactionDurationSum(200000L);
+        metric.setBusinessTransactionErrorDurationSum(2400L);
+        metric.setMqTransactionCalls(200L);
+        metric.setMqTransactionErrorCalls(2L);
+        metric.setMqTransactionDurationSum(50000L);
+        metric.setMqTransactionErrorDurationSum(600L);
+        return metric;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ServiceReferenceMetricBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -37,6 +37,7 @@ public class StorageModuleEsConfig extends ElasticSearchClientConfig {
     private int bulkSize = 20;
     private int flushInterval = 10;
     private int concurrentRequests = 2;
+    private boolean partitionedIndex = false;
 
     int getIndexShardsNumber() {
         return indexShardsNumber;
@@ -133,4 +134,12 @@ public class StorageModuleEsConfig extends ElasticSearchClientConfig {
     public void setConcurrentRequests(int concurrentRequests) {
         this.concurrentRequests = concurrentRequests == 0 ? 2 : concurrentRequests;
     }
+
+    boolean isPartitionedIndex() {
+        return partitionedIndex;
+    }
+
+    void setPartitionedIndex(boolean partitionedIndex) {
+        this.partitionedIndex = partitionedIndex;
+    }
 }
@@ -50,6 +50,7 @@ import org.apache.skywalking.apm.collector.storage.dao.srmp.*;
 import org.apache.skywalking.apm.collector.storage.dao.ui.*;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.BatchProcessEsDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.define.ElasticSearchStorageInstaller;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.es.dao.*;
 import org.apache.skywalking.apm.collector.storage.es.dao.acp.*;
 import org.apache.skywalking.apm.collector.storage.es.dao.alarm.*;
@@ -103,6 +104,9 @@ public class StorageModuleEsProvider extends ModuleProvider {
 
     @Override public void prepare() throws ServiceNotProvidedException {
         elasticSearchClient = new ElasticSearchClient(config.getClusterName(), config.getClusterTransportSniffer(), config.getClusterNodes(), nameSpace);
+        if (config.isPartitionedIndex()) {
+            IndexPartitioner.INSTANCE.enable();
+        }
 
         this.registerServiceImplementation(ITTLConfigService.class, new TTLConfigService(config));
         this.registerServiceImplementation(IBatchDAO.class, new BatchProcessEsDAO(elasticSearchClient, config.getBulkActions(), config.getBulkSize(), config.getFlushInterval(), config.getConcurrentRequests()));
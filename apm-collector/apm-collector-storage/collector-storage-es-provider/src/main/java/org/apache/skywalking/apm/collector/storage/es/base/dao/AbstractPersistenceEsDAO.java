@@ -19,14 +19,17 @@
 package org.apache.skywalking.apm.collector.storage.es.base.dao;
 
 import java.io.IOException;
-import java.util.Map;
+import java.util.*;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
-import org.apache.skywalking.apm.collector.core.data.StreamData;
+import org.apache.skywalking.apm.collector.core.data.*;
+import org.apache.skywalking.apm.collector.storage.StorageMultiGetException;
 import org.apache.skywalking.apm.collector.storage.base.dao.IPersistenceDAO;
-import org.elasticsearch.action.get.GetResponse;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
+import org.elasticsearch.action.get.*;
 import org.elasticsearch.action.index.IndexRequestBuilder;
 import org.elasticsearch.action.update.UpdateRequestBuilder;
 import org.elasticsearch.common.xcontent.XContentBuilder;
+import org.elasticsearch.index.IndexNotFoundException;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.reindex.BulkByScrollResponse;
 import org.slf4j.*;
@@ -46,9 +49,24 @@ public abstract class AbstractPersistenceEsDAO<STREAM_DATA extends StreamData> e
 
     protected abstract String tableName();
 
+    /**
+     * @return the index which the data is written into, the partition of the day if the table is partitioned.
+     */
+    protected String indexName(STREAM_DATA streamData) {
+        return IndexPartitioner.INSTANCE.indexNameOfId(tableName(), streamData.getId());
+    }
+
     @Override
     public STREAM_DATA get(String id) {
-        GetResponse getResponse = getClient().prepareGet(tableName(), id).get();
+        GetResponse getResponse;
+        try {
+            getResponse = getClient().prepareGet(IndexPartitioner.INSTANCE.indexNameOfId(tableName(), id), id).get();
+        } catch (IndexNotFoundException e) {
+            if (IndexPartitioner.INSTANCE.isPartitioned(tableName())) {
+                return null;
+            }
+            throw e;
+        }
         if (getResponse.isExists()) {
             STREAM_DATA streamData = esDataToStreamData(getResponse.getSource());
             streamData.setId(id);
@@ -58,24 +76,66 @@ public abstract class AbstractPersistenceEsDAO<STREAM_DATA extends StreamData> e
         }
     }
 
+    @Override
+    public Map<String, STREAM_DATA> multiGet(List<String> ids) throws StorageMultiGetException {
+        Map<String, STREAM_DATA> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        MultiGetRequestBuilder prepareMultiGet = getClient().prepareMultiGet(ids, new ElasticSearchClient.MultiGetRowHandler<String>() {
+            @Override
+            public void accept(String id) {
+                add(IndexPartitioner.INSTANCE.indexNameOfId(tableName(), id), CommonTable.TABLE_TYPE, id);
+            }
+        });
+
+        MultiGetResponse multiGetResponse = prepareMultiGet.get();
+        for (MultiGetItemResponse itemResponse : multiGetResponse.getResponses()) {
+            if (itemResponse.isFailed() && isPartitionNotCreated(itemResponse)) {
+                continue;
+            } else if (itemResponse.isFailed()) {
+                throw new StorageMultiGetException("Multi get " + itemResponse.getId() + " from " + tableName() + " index failure, message: " + itemResponse.getFailure().getMessage(), itemResponse.getFailure().getFailure());
+            } else if (itemResponse.getResponse().isExists()) {
+                STREAM_DATA streamData = esDataToStreamData(itemResponse.getResponse().getSource());
+                streamData.setId(itemResponse.getId());
+                result.put(itemResponse.getId(), streamData);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The partition of a new day is created by the first insert, so it doesn't exist until then.
+     */
+    private boolean isPartitionNotCreated(MultiGetItemResponse itemResponse) {
+        return IndexPartitioner.INSTANCE.isPartitioned(tableName())
+            && itemResponse.getFailure().getFailure() instanceof IndexNotFoundException;
+    }
+
     protected abstract XContentBuilder esStreamDataToEsData(STREAM_DATA streamData) throws IOException;
 
     @Override
     public final IndexRequestBuilder prepareBatchInsert(STREAM_DATA streamData) throws IOException {
         XContentBuilder source = esStreamDataToEsData(streamData);
-        return getClient().prepareIndex(tableName(), streamData.getId()).setSource(source);
+        return getClient().prepareIndex(indexName(streamData), streamData.getId()).setSource(source);
     }
 
     @Override
     public final UpdateRequestBuilder prepareBatchUpdate(STREAM_DATA streamData) throws IOException {
         XContentBuilder source = esStreamDataToEsData(streamData);
-        return getClient().prepareUpdate(tableName(), streamData.getId()).setDoc(source);
+        return getClient().prepareUpdate(indexName(streamData), streamData.getId()).setDoc(source);
     }
 
     protected abstract String timeBucketColumnNameForDelete();
 
     @Override
     public final void deleteHistory(Long timeBucketBefore) {
+        if (IndexPartitioner.INSTANCE.isPartitioned(tableName())) {
+            dropPartitions(tableName(), timeBucketBefore);
+            return;
+        }
+
         BulkByScrollResponse response = getClient().prepareDelete(
             QueryBuilders.rangeQuery(timeBucketColumnNameForDelete()).lte(timeBucketBefore),
             tableName())
@@ -20,6 +20,8 @@ package org.apache.skywalking.apm.collector.storage.es.base.dao;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
 import org.apache.skywalking.apm.collector.core.UnexpectedException;
 import org.apache.skywalking.apm.collector.core.annotations.trace.GraphComputingMetric;
@@ -39,7 +41,7 @@ public class BatchProcessEsDAO extends EsDAO implements IBatchDAO {
 
     private static final Logger logger = LoggerFactory.getLogger(BatchProcessEsDAO.class);
 
-    private BulkProcessor bulkProcessor;
+    private volatile BulkProcessor bulkProcessor;
     private final int bulkActions;
     private final int bulkSize;
     private final int flushInterval;
@@ -55,9 +57,27 @@ public class BatchProcessEsDAO extends EsDAO implements IBatchDAO {
     }
 
     @GraphComputingMetric(name = "/persistence/batchPersistence/")
-    @Override public void batchPersistence(List<?> batchCollection) {
+    @Override public boolean batchPersistence(List<?> batchCollection) {
+        add(batchCollection, null);
+        return true;
+    }
+
+    @GraphComputingMetric(name = "/persistence/batchPersistence/")
+    @Override public void batchPersistence(List<?> batchCollection, Consumer<Boolean> callback) {
+        if (CollectionUtils.isEmpty(batchCollection)) {
+            callback.accept(true);
+            return;
+        }
+        add(batchCollection, new BatchCallback(batchCollection.size(), callback));
+    }
+
+    private void add(List<?> batchCollection, BatchCallback batchCallback) {
         if (bulkProcessor == null) {
-            this.bulkProcessor = createBulkProcessor();
+            synchronized (this) {
+                if (bulkProcessor == null) {
+                    this.bulkProcessor = createBulkProcessor();
+                }
+            }
         }
 
         if (logger.isDebugEnabled()) {
@@ -67,10 +87,11 @@ public class BatchProcessEsDAO extends EsDAO implements IBatchDAO {
         if (CollectionUtils.isNotEmpty(batchCollection)) {
             batchCollection.forEach(builder -> {
                 if (builder instanceof IndexRequestBuilder) {
-                    this.bulkProcessor.add(((IndexRequestBuilder)builder).request());
-                }
-                if (builder instanceof UpdateRequestBuilder) {
-                    this.bulkProcessor.add(((UpdateRequestBuilder)builder).request());
+                    this.bulkProcessor.add(((IndexRequestBuilder)builder).request(), batchCallback);
+                } else if (builder instanceof UpdateRequestBuilder) {
+                    this.bulkProcessor.add(((UpdateRequestBuilder)builder).request(), batchCallback);
+                } else if (batchCallback != null) {
+                    batchCallback.done(true);
                 }
             });
         }
@@ -101,6 +122,11 @@ public class BatchProcessEsDAO extends EsDAO implements IBatchDAO {
                 public void afterBulk(long executionId,
                     BulkRequest request,
                     BulkResponse response) {
+                    if (response.hasFailures()) {
+                        logger.error("{} data bulk failed, reason: {}", request.numberOfActions(), response.buildFailureMessage());
+                    }
+                    // the items may be reordered by the retries, take the whole bulk as failed.
+                    callBack(request, !response.hasFailures());
                 }
 
                 @Override
@@ -108,6 +134,7 @@ public class BatchProcessEsDAO extends EsDAO implements IBatchDAO {
                     BulkRequest request,
                     Throwable failure) {
                     logger.error("{} data bulk failed, reason: {}", request.numberOfActions(), failure);
+                    callBack(request, false);
                 }
             })
             .setBulkActions(bulkActions)
@@ -117,4 +144,43 @@ public class BatchProcessEsDAO extends EsDAO implements IBatchDAO {
             .setBackoffPolicy(BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(100), 3))
             .build();
     }
+
+    private void callBack(BulkRequest request, boolean success) {
+        List<Object> payloads = request.payloads();
+        if (payloads == null) {
+            return;
+        }
+        payloads.forEach(payload -> {
+            if (payload instanceof BatchCallback) {
+                try {
+                    ((BatchCallback)payload).done(success);
+                } catch (Throwable t) {
+                    logger.error(t.getMessage(), t);
+                }
+            }
+        });
+    }
+
+    /**
+     * Calls back once every request of the batch is done, the requests may be sent in several bulks.
+     */
+    private static class BatchCallback {
+        private final AtomicInteger pendingRequests;
+        private final Consumer<Boolean> callback;
+        private volatile boolean failed;
+
+        private BatchCallback(int requests, Consumer<Boolean> callback) {
+            this.pendingRequests = new AtomicInteger(requests);
+            this.callback = callback;
+        }
+
+        private void done(boolean success) {
+            if (!success) {
+                failed = true;
+            }
+            if (pendingRequests.decrementAndGet() == 0) {
+                callback.accept(!failed);
+            }
+        }
+    }
 }
@@ -18,21 +18,33 @@
 
 package org.apache.skywalking.apm.collector.storage.es.base.dao;
 
+import java.util.function.Consumer;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
+import org.apache.skywalking.apm.collector.core.data.CommonTable;
 import org.apache.skywalking.apm.collector.storage.base.dao.AbstractDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.aggregations.AggregationBuilders;
 import org.elasticsearch.search.aggregations.metrics.max.Max;
 import org.elasticsearch.search.aggregations.metrics.max.MaxAggregationBuilder;
 import org.elasticsearch.search.aggregations.metrics.min.Min;
 import org.elasticsearch.search.aggregations.metrics.min.MinAggregationBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author peng-yongsheng
  */
 public abstract class EsDAO extends AbstractDAO<ElasticSearchClient> {
 
+    private final Logger logger = LoggerFactory.getLogger(EsDAO.class);
+
+    private static final int SCROLL_SIZE = 1000;
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
     public EsDAO(ElasticSearchClient client) {
         super(client);
     }
@@ -74,4 +86,48 @@ public abstract class EsDAO extends AbstractDAO<ElasticSearchClient> {
             return id;
         }
     }
+
+    /**
+     * Scrolls over all the documents of the index, only for the small indexes, e.g. the register indexes.
+     */
+    protected final void scroll(String indexName, Consumer<SearchHit> consumer) {
+        ElasticSearchClient client = getClient();
+        SearchResponse searchResponse = client.prepareSearch(indexName)
+            .setTypes(CommonTable.TABLE_TYPE)
+            .setScroll(SCROLL_KEEP_ALIVE)
+            .setSize(SCROLL_SIZE)
+            .get();
+
+        while (searchResponse.getHits().getHits().length > 0) {
+            for (SearchHit searchHit : searchResponse.getHits().getHits()) {
+                consumer.accept(searchHit);
+            }
+            searchResponse = client.prepareSearchScroll(searchResponse.getScrollId()).setScroll(SCROLL_KEEP_ALIVE).get();
+        }
+    }
+
+    /**
+     * Searches the partitions of the days between the time buckets, or the table itself if it isn't partitioned. The
+     * partitions which don't exist are ignored, even if there is only one.
+     */
+    protected final SearchRequestBuilder prepareSearch(String tableName, long startTimeBucket, long endTimeBucket) {
+        String[] indexNames = IndexPartitioner.INSTANCE.indexNames(tableName, startTimeBucket, endTimeBucket);
+        if (IndexPartitioner.INSTANCE.isPartitioned(tableName)) {
+            return getClient().prepareLenientSearch(indexNames);
+        }
+        return getClient().prepareSearch(indexNames);
+    }
+
+    /**
+     * Drops the partitions of the table which all the rows are before the time bucket.
+     */
+    protected final void dropPartitions(String tableName, long timeBucketBefore) {
+        IndexPartitioner partitioner = IndexPartitioner.INSTANCE;
+        for (String indexName : getClient().getIndexNames(partitioner.partitionPattern(tableName))) {
+            if (partitioner.isPartitionBefore(tableName, indexName, timeBucketBefore)) {
+                getClient().deleteIndex(indexName);
+                logger.info("Drop history partition {} of {} index.", indexName, tableName);
+            }
+        }
+    }
 }
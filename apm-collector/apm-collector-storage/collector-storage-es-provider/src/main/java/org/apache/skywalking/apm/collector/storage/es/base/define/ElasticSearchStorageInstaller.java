@@ -59,6 +59,10 @@ public class ElasticSearchStorageInstaller extends StorageInstaller {
         ElasticSearchClient esClient = (ElasticSearchClient)client;
         ElasticSearchTableDefine esTableDefine = (ElasticSearchTableDefine)tableDefine;
 
+        if (IndexPartitioner.INSTANCE.isPartitioned(esTableDefine.getName())) {
+            return;
+        }
+
         for (ColumnDefine columnDefine : tableDefine.getColumnDefines()) {
             GetFieldMappingsResponse.FieldMappingMetaData metaData = esClient.prepareGetMappings(esTableDefine.getName(), columnDefine.getColumnName().getName());
 
@@ -89,6 +93,14 @@ public class ElasticSearchStorageInstaller extends StorageInstaller {
             logger.error("create {} index mapping builder error", esTableDefine.getName());
         }
 
+        if (IndexPartitioner.INSTANCE.isPartitioned(esTableDefine.getName())) {
+            String tableName = esTableDefine.getName();
+            if (!esClient.putTemplate(tableName, IndexPartitioner.INSTANCE.partitionPattern(tableName), tableName, esTableDefine.type(), settings, mappingBuilder)) {
+                throw new StorageInstallException("put " + tableName + " template failure, ");
+            }
+            return;
+        }
+
         boolean isAcknowledged = esClient.createIndex(esTableDefine.getName(), esTableDefine.type(), settings, mappingBuilder);
         logger.info("create {} index with type of {} finished, isAcknowledged: {}", esTableDefine.getName(), esTableDefine.type(), isAcknowledged);
 
@@ -141,6 +153,13 @@ public class ElasticSearchStorageInstaller extends StorageInstaller {
     @Override protected void deleteTable(Client client, TableDefine tableDefine) throws StorageException {
         ElasticSearchClient esClient = (ElasticSearchClient)client;
 
+        if (IndexPartitioner.INSTANCE.isPartitioned(tableDefine.getName())) {
+            if (!esClient.deleteTemplate(tableDefine.getName())) {
+                throw new StorageInstallException(tableDefine.getName() + " template delete failure.");
+            }
+            return;
+        }
+
         if (!esClient.deleteIndex(tableDefine.getName())) {
             throw new StorageInstallException(tableDefine.getName() + " index delete failure.");
         }
@@ -148,6 +167,9 @@ public class ElasticSearchStorageInstaller extends StorageInstaller {
 
     @Override protected boolean isExists(Client client, TableDefine tableDefine) {
         ElasticSearchClient esClient = (ElasticSearchClient)client;
+        if (IndexPartitioner.INSTANCE.isPartitioned(tableDefine.getName())) {
+            return esClient.isExistsTemplate(tableDefine.getName());
+        }
         return esClient.isExistsIndex(tableDefine.getName());
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.storage.es.base.define;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.skywalking.apm.collector.core.storage.TimePyramid;
+import org.apache.skywalking.apm.collector.core.util.Const;
+import org.apache.skywalking.apm.collector.storage.table.application.ApplicationComponentTable;
+import org.apache.skywalking.apm.collector.storage.table.application.ApplicationMappingTable;
+import org.apache.skywalking.apm.collector.storage.table.application.ApplicationMetricTable;
+import org.apache.skywalking.apm.collector.storage.table.application.ApplicationReferenceMetricTable;
+import org.apache.skywalking.apm.collector.storage.table.global.GlobalTraceTable;
+import org.apache.skywalking.apm.collector.storage.table.global.ResponseTimeDistributionTable;
+import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMappingTable;
+import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMetricTable;
+import org.apache.skywalking.apm.collector.storage.table.instance.InstanceReferenceMetricTable;
+import org.apache.skywalking.apm.collector.storage.table.jvm.CpuMetricTable;
+import org.apache.skywalking.apm.collector.storage.table.jvm.GCMetricTable;
+import org.apache.skywalking.apm.collector.storage.table.jvm.MemoryMetricTable;
+import org.apache.skywalking.apm.collector.storage.table.jvm.MemoryPoolMetricTable;
+import org.apache.skywalking.apm.collector.storage.table.segment.SegmentDurationTable;
+import org.apache.skywalking.apm.collector.storage.table.segment.SegmentTable;
+import org.apache.skywalking.apm.collector.storage.table.service.ServiceMetricTable;
+import org.apache.skywalking.apm.collector.storage.table.service.ServiceReferenceMetricTable;
+import org.joda.time.Days;
+import org.joda.time.LocalDate;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * Names the daily partitions of the minute metric and trace indices. When the partition is enabled, every row is
+ * written into the index of the day of its time bucket, e.g. service_metric_minute-20180701, the table name becomes
+ * the alias of all the partitions, and the expired data is removed by dropping the whole partitions.
+ *
+ * The ids of the minute metrics begin with the time bucket, so they are routed by id, the trace tables are only
+ * inserted and searched, they are routed by the time bucket of the data.
+ */
+public enum IndexPartitioner {
+    INSTANCE;
+
+    private static final String PARTITION_SPLIT = "-";
+    private static final int DAY_LENGTH = 8;
+    private static final int MAX_SEARCH_PARTITIONS = 31;
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormat.forPattern("yyyyMMdd");
+
+    private final Set<String> tables = new HashSet<>();
+    private volatile boolean enabled;
+
+    IndexPartitioner() {
+        tables.add(SegmentTable.TABLE);
+        tables.add(SegmentDurationTable.TABLE);
+        tables.add(GlobalTraceTable.TABLE);
+
+        String[] metricTables = {
+            ApplicationComponentTable.TABLE, ApplicationMappingTable.TABLE, ApplicationMetricTable.TABLE,
+            ApplicationReferenceMetricTable.TABLE, InstanceMappingTable.TABLE, InstanceMetricTable.TABLE,
+            InstanceReferenceMetricTable.TABLE, ServiceMetricTable.TABLE, ServiceReferenceMetricTable.TABLE,
+            ResponseTimeDistributionTable.TABLE, CpuMetricTable.TABLE, GCMetricTable.TABLE, MemoryMetricTable.TABLE,
+            MemoryPoolMetricTable.TABLE
+        };
+        for (String metricTable : metricTables) {
+            tables.add(metricTable + Const.ID_SPLIT + TimePyramid.Minute.getName());
+        }
+    }
+
+    public void enable() {
+        this.enabled = true;
+    }
+
+    public boolean isPartitioned(String tableName) {
+        return enabled && tables.contains(tableName);
+    }
+
+    /**
+     * @param timeBucket minute or second time bucket.
+     * @return the partition of the time bucket, or the table name if the table isn't partitioned.
+     */
+    public String indexName(String tableName, long timeBucket) {
+        if (!isPartitioned(tableName)) {
+            return tableName;
+        }
+        return partitionName(tableName, String.valueOf(timeBucket).substring(0, DAY_LENGTH));
+    }
+
+    /**
+     * @param id begins with the time bucket.
+     * @return the partition of the time bucket, or the table name if the table isn't partitioned.
+     */
+    public String indexNameOfId(String tableName, String id) {
+        if (!isPartitioned(tableName)) {
+            return tableName;
+        }
+        return partitionName(tableName, id.substring(0, DAY_LENGTH));
+    }
+
+    /**
+     * @return the partitions of the days between the time buckets, or the table name which is the alias of all the
+     * partitions if the range is unknown or too long.
+     */
+    public String[] indexNames(String tableName, long startTimeBucket, long endTimeBucket) {
+        if (!isPartitioned(tableName) || startTimeBucket <= 0 || endTimeBucket < startTimeBucket) {
+            return new String[] {tableName};
+        }
+
+        LocalDate startDay = day(startTimeBucket);
+        LocalDate endDay = day(endTimeBucket);
+        int days = Days.daysBetween(startDay, endDay).getDays() + 1;
+        if (days > MAX_SEARCH_PARTITIONS) {
+            return new String[] {tableName};
+        }
+
+        String[] indexNames = new String[days];
+        for (int i = 0; i < days; i++) {
+            indexNames[i] = partitionName(tableName, startDay.plusDays(i).toString(DAY_FORMATTER));
+        }
+        return indexNames;
+    }
+
+    public String partitionPattern(String tableName) {
+        return tableName + PARTITION_SPLIT + "*";
+    }
+
+    /**
+     * @return true if all the rows in the partition are before the time bucket.
+     */
+    public boolean isPartitionBefore(String tableName, String indexName, long timeBucket) {
+        String day = indexName.substring(tableName.length() + PARTITION_SPLIT.length());
+        return day.length() == DAY_LENGTH && day.compareTo(String.valueOf(timeBucket).substring(0, DAY_LENGTH)) < 0;
+    }
+
+    private LocalDate day(long timeBucket) {
+        return DAY_FORMATTER.parseLocalDate(String.valueOf(timeBucket).substring(0, DAY_LENGTH));
+    }
+
+    private String partitionName(String tableName, String day) {
+        return tableName + PARTITION_SPLIT + day;
+    }
+}
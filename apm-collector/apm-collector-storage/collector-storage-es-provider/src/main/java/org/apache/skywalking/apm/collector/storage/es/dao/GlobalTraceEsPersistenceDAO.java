@@ -24,6 +24,7 @@ import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchCli
 import org.apache.skywalking.apm.collector.core.annotations.trace.GraphComputingMetric;
 import org.apache.skywalking.apm.collector.storage.dao.IGlobalTracePersistenceDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.AbstractPersistenceEsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.global.*;
 import org.elasticsearch.action.index.IndexRequestBuilder;
 import org.elasticsearch.action.update.UpdateRequestBuilder;
@@ -42,6 +43,10 @@ public class GlobalTraceEsPersistenceDAO extends AbstractPersistenceEsDAO<Global
         return GlobalTraceTable.TABLE;
     }
 
+    @Override protected String indexName(GlobalTrace streamData) {
+        return IndexPartitioner.INSTANCE.indexName(tableName(), streamData.getTimeBucket());
+    }
+
     @Override protected GlobalTrace esDataToStreamData(Map<String, Object> source) {
         GlobalTrace globalTrace = new GlobalTrace();
         globalTrace.setSegmentId((String)source.get(GlobalTraceTable.SEGMENT_ID.getName()));
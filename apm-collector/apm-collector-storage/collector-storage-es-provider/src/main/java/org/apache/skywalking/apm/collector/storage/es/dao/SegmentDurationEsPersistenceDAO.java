@@ -22,6 +22,7 @@ import java.io.IOException;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
 import org.apache.skywalking.apm.collector.storage.dao.ISegmentDurationPersistenceDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.segment.*;
 import org.elasticsearch.action.index.IndexRequestBuilder;
 import org.elasticsearch.action.update.UpdateRequestBuilder;
@@ -64,10 +65,15 @@ public class SegmentDurationEsPersistenceDAO extends EsDAO implements ISegmentDu
             .field(SegmentDurationTable.TIME_BUCKET.getName(), data.getTimeBucket())
             .endObject();
 
-        return getClient().prepareIndex(SegmentDurationTable.TABLE, data.getId()).setSource(target);
+        return getClient().prepareIndex(IndexPartitioner.INSTANCE.indexName(SegmentDurationTable.TABLE, data.getTimeBucket()), data.getId()).setSource(target);
     }
 
     @Override public void deleteHistory(Long timeBucketBefore) {
+        if (IndexPartitioner.INSTANCE.isPartitioned(SegmentDurationTable.TABLE)) {
+            dropPartitions(SegmentDurationTable.TABLE, timeBucketBefore);
+            return;
+        }
+
         BulkByScrollResponse response = getClient().prepareDelete(
             QueryBuilders.rangeQuery(SegmentDurationTable.TIME_BUCKET.getName()).lte(timeBucketBefore * 100),
             SegmentDurationTable.TABLE)
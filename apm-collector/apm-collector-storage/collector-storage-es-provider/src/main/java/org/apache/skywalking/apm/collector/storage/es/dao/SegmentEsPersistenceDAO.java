@@ -24,6 +24,7 @@ import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchCli
 import org.apache.skywalking.apm.collector.core.annotations.trace.GraphComputingMetric;
 import org.apache.skywalking.apm.collector.storage.dao.ISegmentPersistenceDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.AbstractPersistenceEsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.segment.*;
 import org.elasticsearch.action.index.IndexRequestBuilder;
 import org.elasticsearch.action.update.UpdateRequestBuilder;
@@ -42,6 +43,10 @@ public class SegmentEsPersistenceDAO extends AbstractPersistenceEsDAO<Segment> i
         return SegmentTable.TABLE;
     }
 
+    @Override protected String indexName(Segment streamData) {
+        return IndexPartitioner.INSTANCE.indexName(tableName(), streamData.getTimeBucket());
+    }
+
     @Override protected Segment esDataToStreamData(Map<String, Object> source) {
         Segment segment = new Segment();
         segment.setDataBinary(Base64.getDecoder().decode((String)source.get(SegmentTable.DATA_BINARY.getName())));
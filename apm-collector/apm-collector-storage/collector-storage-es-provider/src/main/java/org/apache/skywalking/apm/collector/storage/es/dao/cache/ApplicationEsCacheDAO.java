@@ -18,6 +18,9 @@
 
 package org.apache.skywalking.apm.collector.storage.es.dao.cache;
 
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
 import org.apache.skywalking.apm.collector.core.util.BooleanUtils;
 import org.apache.skywalking.apm.collector.storage.dao.cache.IApplicationCacheDAO;
@@ -105,4 +108,19 @@ public class ApplicationEsCacheDAO extends EsDAO implements IApplicationCacheDAO
         }
         return 0;
     }
+
+    @Override public List<Application> loadAll() {
+        List<Application> applications = new LinkedList<>();
+        scroll(ApplicationTable.TABLE, searchHit -> {
+            Map<String, Object> source = searchHit.getSource();
+            Application application = new Application();
+            application.setId(searchHit.getId());
+            application.setApplicationId(((Number)source.get(ApplicationTable.APPLICATION_ID.getName())).intValue());
+            application.setApplicationCode((String)source.get(ApplicationTable.APPLICATION_CODE.getName()));
+            application.setAddressId(((Number)source.get(ApplicationTable.ADDRESS_ID.getName())).intValue());
+            application.setIsAddress(((Number)source.get(ApplicationTable.IS_ADDRESS.getName())).intValue());
+            applications.add(application);
+        });
+        return applications;
+    }
 }
@@ -18,6 +18,9 @@
 
 package org.apache.skywalking.apm.collector.storage.es.dao.cache;
 
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
 import org.apache.skywalking.apm.collector.core.util.Const;
 import org.apache.skywalking.apm.collector.storage.dao.cache.INetworkAddressCacheDAO;
@@ -74,4 +77,19 @@ public class NetworkAddressEsCacheDAO extends EsDAO implements INetworkAddressCa
         }
         return null;
     }
+
+    @Override public List<NetworkAddress> loadAll() {
+        List<NetworkAddress> networkAddresses = new LinkedList<>();
+        scroll(NetworkAddressTable.TABLE, searchHit -> {
+            Map<String, Object> source = searchHit.getSource();
+            NetworkAddress networkAddress = new NetworkAddress();
+            networkAddress.setId(searchHit.getId());
+            networkAddress.setAddressId(((Number)source.get(NetworkAddressTable.ADDRESS_ID.getName())).intValue());
+            networkAddress.setNetworkAddress((String)source.get(NetworkAddressTable.NETWORK_ADDRESS.getName()));
+            networkAddress.setSrcSpanLayer(((Number)source.get(NetworkAddressTable.SRC_SPAN_LAYER.getName())).intValue());
+            networkAddress.setServerType(((Number)source.get(NetworkAddressTable.SERVER_TYPE.getName())).intValue());
+            networkAddresses.add(networkAddress);
+        });
+        return networkAddresses;
+    }
 }
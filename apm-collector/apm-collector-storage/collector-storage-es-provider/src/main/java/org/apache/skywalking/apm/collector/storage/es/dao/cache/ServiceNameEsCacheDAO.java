@@ -18,6 +18,9 @@
 
 package org.apache.skywalking.apm.collector.storage.es.dao.cache;
 
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
 import org.apache.skywalking.apm.collector.storage.dao.cache.IServiceNameCacheDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
@@ -75,4 +78,19 @@ public class ServiceNameEsCacheDAO extends EsDAO implements IServiceNameCacheDAO
         }
         return 0;
     }
+
+    @Override public List<ServiceName> loadAll() {
+        List<ServiceName> serviceNames = new LinkedList<>();
+        scroll(ServiceNameTable.TABLE, searchHit -> {
+            Map<String, Object> source = searchHit.getSource();
+            ServiceName serviceName = new ServiceName();
+            serviceName.setId(searchHit.getId());
+            serviceName.setServiceId(((Number)source.get(ServiceNameTable.SERVICE_ID.getName())).intValue());
+            serviceName.setApplicationId(((Number)source.get(ServiceNameTable.APPLICATION_ID.getName())).intValue());
+            serviceName.setServiceName((String)source.get(ServiceNameTable.SERVICE_NAME.getName()));
+            serviceName.setSrcSpanType(((Number)source.get(ServiceNameTable.SRC_SPAN_TYPE.getName())).intValue());
+            serviceNames.add(serviceName);
+        });
+        return serviceNames;
+    }
 }
@@ -19,12 +19,15 @@
 package org.apache.skywalking.apm.collector.storage.es.dao.register;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
 import org.apache.skywalking.apm.collector.storage.dao.register.IApplicationRegisterDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
 import org.apache.skywalking.apm.collector.storage.table.register.Application;
 import org.apache.skywalking.apm.collector.storage.table.register.ApplicationTable;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.support.WriteRequest;
 import org.slf4j.Logger;
@@ -52,13 +55,25 @@ public class ApplicationRegisterEsDAO extends EsDAO implements IApplicationRegis
     @Override public void save(Application application) {
         logger.debug("save application register info, application getApplicationId: {}, application code: {}", application.getId(), application.getApplicationCode());
         ElasticSearchClient client = getClient();
+        IndexResponse response = client.prepareIndex(ApplicationTable.TABLE, application.getId()).setSource(source(application)).setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
+        logger.debug("save application register info, application getApplicationId: {}, application code: {}, status: {}", application.getApplicationId(), application.getApplicationCode(), response.status().name());
+    }
+
+    @Override public void batchSave(List<Application> applications) {
+        BulkRequestBuilder bulkRequest = getClient().prepareBulk();
+        applications.forEach(application -> bulkRequest.add(getClient().prepareIndex(ApplicationTable.TABLE, application.getId()).setSource(source(application))));
+        BulkResponse response = bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
+        if (response.hasFailures()) {
+            logger.error("batch save application register info failure: {}", response.buildFailureMessage());
+        }
+    }
+
+    private Map<String, Object> source(Application application) {
         Map<String, Object> target = new HashMap<>();
         target.put(ApplicationTable.APPLICATION_CODE.getName(), application.getApplicationCode());
         target.put(ApplicationTable.APPLICATION_ID.getName(), application.getApplicationId());
         target.put(ApplicationTable.ADDRESS_ID.getName(), application.getAddressId());
         target.put(ApplicationTable.IS_ADDRESS.getName(), application.getIsAddress());
-
-        IndexResponse response = client.prepareIndex(ApplicationTable.TABLE, application.getId()).setSource(target).setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
-        logger.debug("save application register info, application getApplicationId: {}, application code: {}, status: {}", application.getApplicationId(), application.getApplicationCode(), response.status().name());
+        return target;
     }
 }
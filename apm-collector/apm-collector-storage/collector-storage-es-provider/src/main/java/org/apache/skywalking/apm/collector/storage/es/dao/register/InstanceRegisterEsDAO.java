@@ -19,6 +19,7 @@
 package org.apache.skywalking.apm.collector.storage.es.dao.register;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
 import org.apache.skywalking.apm.collector.core.util.TimeBucketUtils;
@@ -26,6 +27,8 @@ import org.apache.skywalking.apm.collector.storage.dao.register.IInstanceRegiste
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
 import org.apache.skywalking.apm.collector.storage.table.register.Instance;
 import org.apache.skywalking.apm.collector.storage.table.register.InstanceTable;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.action.update.UpdateRequestBuilder;
@@ -57,18 +60,7 @@ public class InstanceRegisterEsDAO extends EsDAO implements IInstanceRegisterDAO
     public void save(Instance instance) {
         logger.debug("save instance register info, application getApplicationId: {}, agentUUID: {}", instance.getApplicationId(), instance.getAgentUUID());
         ElasticSearchClient client = getClient();
-        Map<String, Object> target = new HashMap<>();
-        target.put(InstanceTable.INSTANCE_ID.getName(), instance.getInstanceId());
-        target.put(InstanceTable.APPLICATION_ID.getName(), instance.getApplicationId());
-        target.put(InstanceTable.APPLICATION_CODE.getName(), instance.getApplicationCode());
-        target.put(InstanceTable.AGENT_UUID.getName(), instance.getAgentUUID());
-        target.put(InstanceTable.REGISTER_TIME.getName(), TimeBucketUtils.INSTANCE.getSecondTimeBucket(instance.getRegisterTime()));
-        target.put(InstanceTable.HEARTBEAT_TIME.getName(), TimeBucketUtils.INSTANCE.getSecondTimeBucket(instance.getHeartBeatTime()));
-        target.put(InstanceTable.OS_INFO.getName(), instance.getOsInfo());
-        target.put(InstanceTable.ADDRESS_ID.getName(), instance.getAddressId());
-        target.put(InstanceTable.IS_ADDRESS.getName(), instance.getIsAddress());
-
-        IndexResponse response = client.prepareIndex(InstanceTable.TABLE, instance.getId()).setSource(target).setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
+        IndexResponse response = client.prepareIndex(InstanceTable.TABLE, instance.getId()).setSource(source(instance)).setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
         logger.debug("save instance register info, application getApplicationId: {}, agentUUID: {}, status: {}", instance.getApplicationId(), instance.getAgentUUID(), response.status().name());
     }
 
@@ -82,4 +74,27 @@ public class InstanceRegisterEsDAO extends EsDAO implements IInstanceRegisterDAO
 
         updateRequestBuilder.get();
     }
+
+    @Override public void batchSave(List<Instance> instances) {
+        BulkRequestBuilder bulkRequest = getClient().prepareBulk();
+        instances.forEach(instance -> bulkRequest.add(getClient().prepareIndex(InstanceTable.TABLE, instance.getId()).setSource(source(instance))));
+        BulkResponse response = bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
+        if (response.hasFailures()) {
+            logger.error("batch save instance register info failure: {}", response.buildFailureMessage());
+        }
+    }
+
+    private Map<String, Object> source(Instance instance) {
+        Map<String, Object> target = new HashMap<>();
+        target.put(InstanceTable.INSTANCE_ID.getName(), instance.getInstanceId());
+        target.put(InstanceTable.APPLICATION_ID.getName(), instance.getApplicationId());
+        target.put(InstanceTable.APPLICATION_CODE.getName(), instance.getApplicationCode());
+        target.put(InstanceTable.AGENT_UUID.getName(), instance.getAgentUUID());
+        target.put(InstanceTable.REGISTER_TIME.getName(), TimeBucketUtils.INSTANCE.getSecondTimeBucket(instance.getRegisterTime()));
+        target.put(InstanceTable.HEARTBEAT_TIME.getName(), TimeBucketUtils.INSTANCE.getSecondTimeBucket(instance.getHeartBeatTime()));
+        target.put(InstanceTable.OS_INFO.getName(), instance.getOsInfo());
+        target.put(InstanceTable.ADDRESS_ID.getName(), instance.getAddressId());
+        target.put(InstanceTable.IS_ADDRESS.getName(), instance.getIsAddress());
+        return target;
+    }
 }
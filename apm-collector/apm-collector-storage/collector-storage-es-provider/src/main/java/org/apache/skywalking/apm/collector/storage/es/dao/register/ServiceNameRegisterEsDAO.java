@@ -23,6 +23,8 @@ import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchCli
 import org.apache.skywalking.apm.collector.storage.dao.register.IServiceNameRegisterDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
 import org.apache.skywalking.apm.collector.storage.table.register.*;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.support.WriteRequest;
 import org.slf4j.*;
@@ -49,6 +51,20 @@ public class ServiceNameRegisterEsDAO extends EsDAO implements IServiceNameRegis
     @Override public void save(ServiceName serviceName) {
         logger.debug("save service name register info, application getApplicationId: {}, service name: {}", serviceName.getId(), serviceName.getServiceName());
         ElasticSearchClient client = getClient();
+        IndexResponse response = client.prepareIndex(ServiceNameTable.TABLE, serviceName.getId()).setSource(source(serviceName)).setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
+        logger.debug("save service name register info, application getApplicationId: {}, service name: {}, status: {}", serviceName.getId(), serviceName.getServiceName(), response.status().name());
+    }
+
+    @Override public void batchSave(List<ServiceName> serviceNames) {
+        BulkRequestBuilder bulkRequest = getClient().prepareBulk();
+        serviceNames.forEach(serviceName -> bulkRequest.add(getClient().prepareIndex(ServiceNameTable.TABLE, serviceName.getId()).setSource(source(serviceName))));
+        BulkResponse response = bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
+        if (response.hasFailures()) {
+            logger.error("batch save service name register info failure: {}", response.buildFailureMessage());
+        }
+    }
+
+    private Map<String, Object> source(ServiceName serviceName) {
         Map<String, Object> target = new HashMap<>();
         target.put(ServiceNameTable.SERVICE_ID.getName(), serviceName.getServiceId());
         target.put(ServiceNameTable.APPLICATION_ID.getName(), serviceName.getApplicationId());
@@ -57,8 +73,6 @@ public class ServiceNameRegisterEsDAO extends EsDAO implements IServiceNameRegis
         target.put(ServiceNameTable.SRC_SPAN_TYPE.getName(), serviceName.getSrcSpanType());
         target.put(ServiceNameTable.REGISTER_TIME.getName(), serviceName.getRegisterTime());
         target.put(ServiceNameTable.HEARTBEAT_TIME.getName(), serviceName.getHeartBeatTime());
-
-        IndexResponse response = client.prepareIndex(ServiceNameTable.TABLE, serviceName.getId()).setSource(target).setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
-        logger.debug("save service name register info, application getApplicationId: {}, service name: {}, status: {}", serviceName.getId(), serviceName.getServiceName(), response.status().name());
+        return target;
     }
 }
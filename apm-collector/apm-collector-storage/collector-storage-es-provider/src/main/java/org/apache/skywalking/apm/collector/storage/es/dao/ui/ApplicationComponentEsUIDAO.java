@@ -49,7 +49,7 @@ public class ApplicationComponentEsUIDAO extends EsDAO implements IApplicationCo
     @Override public List<ApplicationComponent> load(Step step, long startTimeBucket, long endTimeBucket) {
         logger.debug("application component load, start time: {}, end time: {}", startTimeBucket, endTimeBucket);
         String tableName = TimePyramidTableNameBuilder.build(step, ApplicationComponentTable.TABLE);
-        SearchRequestBuilder searchRequestBuilder = getClient().prepareSearch(tableName);
+        SearchRequestBuilder searchRequestBuilder = prepareSearch(tableName, startTimeBucket, endTimeBucket);
         searchRequestBuilder.setTypes(ApplicationComponentTable.TABLE_TYPE);
         searchRequestBuilder.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
         searchRequestBuilder.setQuery(QueryBuilders.rangeQuery(ApplicationComponentTable.TIME_BUCKET.getName()).gte(startTimeBucket).lte(endTimeBucket));
@@ -49,7 +49,7 @@ public class ApplicationMappingEsUIDAO extends EsDAO implements IApplicationMapp
     @Override public List<ApplicationMapping> load(Step step, long startTimeBucket, long endTimeBucket) {
         String tableName = TimePyramidTableNameBuilder.build(step, ApplicationMappingTable.TABLE);
 
-        SearchRequestBuilder searchRequestBuilder = getClient().prepareSearch(tableName);
+        SearchRequestBuilder searchRequestBuilder = prepareSearch(tableName, startTimeBucket, endTimeBucket);
         searchRequestBuilder.setTypes(ApplicationMappingTable.TABLE_TYPE);
         searchRequestBuilder.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
         searchRequestBuilder.setQuery(QueryBuilders.rangeQuery(ApplicationMappingTable.TIME_BUCKET.getName()).gte(startTimeBucket).lte(endTimeBucket));
@@ -47,7 +47,7 @@ public class ApplicationMetricEsUIDAO extends EsDAO implements IApplicationMetri
         int minutesBetween, int topN, MetricSource metricSource) {
         String tableName = TimePyramidTableNameBuilder.build(step, ApplicationMetricTable.TABLE);
 
-        SearchRequestBuilder searchRequestBuilder = getClient().prepareSearch(tableName);
+        SearchRequestBuilder searchRequestBuilder = prepareSearch(tableName, startTimeBucket, endTimeBucket);
         searchRequestBuilder.setTypes(ApplicationMetricTable.TABLE_TYPE);
         searchRequestBuilder.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
 
@@ -96,7 +96,7 @@ public class ApplicationMetricEsUIDAO extends EsDAO implements IApplicationMetri
         MetricSource metricSource) {
         String tableName = TimePyramidTableNameBuilder.build(step, ApplicationMetricTable.TABLE);
 
-        SearchRequestBuilder searchRequestBuilder = getClient().prepareSearch(tableName);
+        SearchRequestBuilder searchRequestBuilder = prepareSearch(tableName, startTimeBucket, endTimeBucket);
         searchRequestBuilder.setTypes(ApplicationMetricTable.TABLE_TYPE);
         searchRequestBuilder.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
 
@@ -51,7 +51,7 @@ public class ApplicationReferenceMetricEsUIDAO extends EsDAO implements IApplica
         MetricSource metricSource, Integer... applicationIds) {
         String tableName = TimePyramidTableNameBuilder.build(step, ApplicationReferenceMetricTable.TABLE);
 
-        SearchRequestBuilder searchRequestBuilder = getClient().prepareSearch(tableName);
+        SearchRequestBuilder searchRequestBuilder = prepareSearch(tableName, startTimeBucket, endTimeBucket);
         searchRequestBuilder.setTypes(ApplicationReferenceMetricTable.TABLE_TYPE);
         searchRequestBuilder.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
 
@@ -22,6 +22,7 @@ import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchCli
 import org.apache.skywalking.apm.collector.core.util.Const;
 import org.apache.skywalking.apm.collector.storage.dao.ui.ICpuMetricUIDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.jvm.CpuMetricTable;
 import org.apache.skywalking.apm.collector.storage.ui.common.Step;
 import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
@@ -50,7 +51,7 @@ public class CpuMetricEsUIDAO extends EsDAO implements ICpuMetricUIDAO {
             @Override
             public void accept(DurationPoint durationPoint) {
                 String id = durationPoint.getPoint() + Const.ID_SPLIT + instanceId;
-                this.add(tableName, CpuMetricTable.TABLE_TYPE, id);
+                this.add(IndexPartitioner.INSTANCE.indexNameOfId(tableName, id), CpuMetricTable.TABLE_TYPE, id);
             }
         });
 
@@ -58,7 +59,7 @@ public class CpuMetricEsUIDAO extends EsDAO implements ICpuMetricUIDAO {
         List<Integer> cpuTrends = new LinkedList<>();
         MultiGetResponse multiGetResponse = prepareMultiGet.get();
         for (MultiGetItemResponse response : multiGetResponse.getResponses()) {
-            if (response.getResponse().isExists()) {
+            if (!response.isFailed() && response.getResponse().isExists()) {
                 double cpuUsed = ((Number) response.getResponse().getSource().get(CpuMetricTable.USAGE_PERCENT.getName())).doubleValue();
                 long times = ((Number) response.getResponse().getSource().get(CpuMetricTable.TIMES.getName())).longValue();
                 cpuTrends.add((int) ((cpuUsed / times) * 100));
@@ -23,6 +23,7 @@ import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchCli
 import org.apache.skywalking.apm.collector.core.util.Const;
 import org.apache.skywalking.apm.collector.storage.dao.ui.IGCMetricUIDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.jvm.GCMetricTable;
 import org.apache.skywalking.apm.collector.storage.ui.common.Step;
 import org.apache.skywalking.apm.collector.storage.utils.*;
@@ -55,14 +56,14 @@ public class GCMetricEsUIDAO extends EsDAO implements IGCMetricUIDAO {
             @Override
             public void accept(DurationPoint durationPoint) {
                 String id = durationPoint.getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + gcPhrase;
-                add(tableName, GCMetricTable.TABLE_TYPE, id);
+                add(IndexPartitioner.INSTANCE.indexNameOfId(tableName, id), GCMetricTable.TABLE_TYPE, id);
             }
         });
 
         List<Trend> gcTrends = new LinkedList<>();
         MultiGetResponse multiGetResponse = youngPrepareMultiGet.get();
         for (MultiGetItemResponse itemResponse : multiGetResponse.getResponses()) {
-            if (itemResponse.getResponse().isExists()) {
+            if (!itemResponse.isFailed() && itemResponse.getResponse().isExists()) {
                 long count = ((Number)itemResponse.getResponse().getSource().get(GCMetricTable.COUNT.getName())).longValue();
                 long duration = ((Number)itemResponse.getResponse().getSource().get(GCMetricTable.DURATION.getName())).longValue();
                 long times = ((Number)itemResponse.getResponse().getSource().get(GCMetricTable.TIMES.getName())).intValue();
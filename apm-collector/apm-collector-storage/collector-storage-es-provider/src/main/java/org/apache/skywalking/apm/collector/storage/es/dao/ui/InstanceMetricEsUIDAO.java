@@ -23,6 +23,7 @@ import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchCli
 import org.apache.skywalking.apm.collector.core.util.Const;
 import org.apache.skywalking.apm.collector.storage.dao.ui.IInstanceMetricUIDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.MetricSource;
 import org.apache.skywalking.apm.collector.storage.table.application.ApplicationMetricTable;
 import org.apache.skywalking.apm.collector.storage.table.instance.InstanceMetricTable;
@@ -50,7 +51,7 @@ public class InstanceMetricEsUIDAO extends EsDAO implements IInstanceMetricUIDAO
         long endTimeBucket, int minutesBetween, int topN, MetricSource metricSource) {
         String tableName = TimePyramidTableNameBuilder.build(step, InstanceMetricTable.TABLE);
 
-        SearchRequestBuilder searchRequestBuilder = getClient().prepareSearch(tableName);
+        SearchRequestBuilder searchRequestBuilder = prepareSearch(tableName, startTimeBucket, endTimeBucket);
         searchRequestBuilder.setTypes(InstanceMetricTable.TABLE_TYPE);
         searchRequestBuilder.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
 
@@ -97,54 +98,28 @@ public class InstanceMetricEsUIDAO extends EsDAO implements IInstanceMetricUIDAO
     }
 
     @Override
-    public List<Integer> getServerThroughputTrend(int instanceId, Step step, List<DurationPoint> durationPoints) {
+    public TransactionTrend getServerTrend(int instanceId, Step step, List<DurationPoint> durationPoints) {
         String tableName = TimePyramidTableNameBuilder.build(step, InstanceMetricTable.TABLE);
         MultiGetRequestBuilder prepareMultiGet = getClient().prepareMultiGet(durationPoints, new ElasticSearchClient.MultiGetRowHandler<DurationPoint>() {
             @Override
             public void accept(DurationPoint durationPoint) {
                 String id = durationPoint.getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-                add(tableName, InstanceMetricTable.TABLE_TYPE, id);
+                add(IndexPartitioner.INSTANCE.indexNameOfId(tableName, id), InstanceMetricTable.TABLE_TYPE, id);
             }
         });
 
-        List<Integer> throughputTrend = new LinkedList<>();
-        MultiGetResponse multiGetResponse = prepareMultiGet.get();
-
-        for (int i = 0; i < multiGetResponse.getResponses().length; i++) {
-            MultiGetItemResponse response = multiGetResponse.getResponses()[i];
-            if (response.getResponse().isExists()) {
-                long callTimes = ((Number)response.getResponse().getSource().get(InstanceMetricTable.TRANSACTION_CALLS.getName())).longValue();
-                throughputTrend.add((int)(callTimes / durationPoints.get(i).getMinutesBetween()));
-            } else {
-                throughputTrend.add(0);
-            }
-        }
-        return throughputTrend;
-    }
-
-    @Override
-    public List<Integer> getResponseTimeTrend(int instanceId, Step step, List<DurationPoint> durationPoints) {
-        String tableName = TimePyramidTableNameBuilder.build(step, InstanceMetricTable.TABLE);
-        MultiGetRequestBuilder prepareMultiGet = getClient().prepareMultiGet(durationPoints, new ElasticSearchClient.MultiGetRowHandler<DurationPoint>() {
-            @Override
-            public void accept(DurationPoint durationPoint) {
-                String id = durationPoint.getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-                add(tableName, InstanceMetricTable.TABLE_TYPE, id);
-            }
-
-        });
-
-        List<Integer> responseTimeTrends = new LinkedList<>();
-        MultiGetResponse multiGetResponse = prepareMultiGet.get();
-        for (MultiGetItemResponse response : multiGetResponse.getResponses()) {
-            if (response.getResponse().isExists()) {
-                long callTimes = ((Number)response.getResponse().getSource().get(InstanceMetricTable.TRANSACTION_CALLS.getName())).longValue();
-                long durationSum = ((Number)response.getResponse().getSource().get(InstanceMetricTable.TRANSACTION_DURATION_SUM.getName())).longValue();
-                responseTimeTrends.add((int)(durationSum / callTimes));
-            } else {
-                responseTimeTrends.add(0);
+        TransactionTrend trend = new TransactionTrend(durationPoints);
+        MultiGetItemResponse[] responses = prepareMultiGet.get().getResponses();
+        for (int i = 0; i < responses.length; i++) {
+            MultiGetItemResponse response = responses[i];
+            if (!response.isFailed() && response.getResponse().isExists()) {
+                Map<String, Object> source = response.getResponse().getSource();
+                long calls = ((Number)source.get(InstanceMetricTable.TRANSACTION_CALLS.getName())).longValue();
+                long errorCalls = ((Number)source.get(InstanceMetricTable.TRANSACTION_ERROR_CALLS.getName())).longValue();
+                long durationSum = ((Number)source.get(InstanceMetricTable.TRANSACTION_DURATION_SUM.getName())).longValue();
+                trend.setMetric(i, calls, errorCalls, durationSum);
             }
         }
-        return responseTimeTrends;
+        return trend;
     }
 }
@@ -23,6 +23,7 @@ import org.apache.skywalking.apm.collector.core.util.BooleanUtils;
 import org.apache.skywalking.apm.collector.core.util.Const;
 import org.apache.skywalking.apm.collector.storage.dao.ui.IMemoryMetricUIDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.jvm.MemoryMetricTable;
 import org.apache.skywalking.apm.collector.storage.ui.common.Step;
 import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
@@ -59,7 +60,7 @@ public class MemoryMetricEsUIDAO extends EsDAO implements IMemoryMetricUIDAO {
             @Override
             public void accept(DurationPoint durationPoint) {
                 String id = durationPoint.getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + BooleanUtils.booleanToValue(isHeap);
-                add(tableName, MemoryMetricTable.TABLE_TYPE, id);
+                add(IndexPartitioner.INSTANCE.indexNameOfId(tableName, id), MemoryMetricTable.TABLE_TYPE, id);
             }
 
         });
@@ -67,7 +68,7 @@ public class MemoryMetricEsUIDAO extends EsDAO implements IMemoryMetricUIDAO {
         Trend trend = new Trend();
         MultiGetResponse multiGetResponse = prepareMultiGet.get();
         for (MultiGetItemResponse response : multiGetResponse.getResponses()) {
-            if (response.getResponse().isExists()) {
+            if (!response.isFailed() && response.getResponse().isExists()) {
                 long max = ((Number) response.getResponse().getSource().get(MemoryMetricTable.MAX.getName())).longValue();
                 long used = ((Number) response.getResponse().getSource().get(MemoryMetricTable.USED.getName())).longValue();
                 long times = ((Number) response.getResponse().getSource().get(MemoryMetricTable.TIMES.getName())).longValue();
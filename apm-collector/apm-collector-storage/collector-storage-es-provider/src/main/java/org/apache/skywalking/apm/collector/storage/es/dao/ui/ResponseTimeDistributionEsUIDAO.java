@@ -23,6 +23,7 @@ import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchCli
 import org.apache.skywalking.apm.collector.core.util.Const;
 import org.apache.skywalking.apm.collector.storage.dao.ui.IResponseTimeDistributionUIDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.global.ResponseTimeDistributionTable;
 import org.apache.skywalking.apm.collector.storage.ui.common.Step;
 import org.apache.skywalking.apm.collector.storage.utils.TimePyramidTableNameBuilder;
@@ -47,14 +48,14 @@ public class ResponseTimeDistributionEsUIDAO extends EsDAO implements IResponseT
             @Override
             public void accept(ResponseTimeStep responseTimeStep) {
                 String id = String.valueOf(responseTimeStep.getDurationPoint()) + Const.ID_SPLIT + String.valueOf(responseTimeStep.getStep());
-                this.add(tableName, ResponseTimeDistributionTable.TABLE_TYPE, id);
+                this.add(IndexPartitioner.INSTANCE.indexNameOfId(tableName, id), ResponseTimeDistributionTable.TABLE_TYPE, id);
             }
         });
 
         MultiGetResponse multiGetResponse = prepareMultiGet.get();
         for (int i = 0; i < multiGetResponse.getResponses().length; i++) {
             MultiGetItemResponse response = multiGetResponse.getResponses()[i];
-            if (response.getResponse().isExists()) {
+            if (!response.isFailed() && response.getResponse().isExists()) {
                 long calls = ((Number)response.getResponse().getSource().get(ResponseTimeDistributionTable.CALLS.getName())).longValue();
                 long errorCalls = ((Number)response.getResponse().getSource().get(ResponseTimeDistributionTable.ERROR_CALLS.getName())).longValue();
                 long successCalls = ((Number)response.getResponse().getSource().get(ResponseTimeDistributionTable.SUCCESS_CALLS.getName())).longValue();
@@ -43,7 +43,7 @@ public class SegmentDurationEsUIDAO extends EsDAO implements ISegmentDurationUID
     public TraceBrief loadTop(long startSecondTimeBucket, long endSecondTimeBucket, long minDuration, long maxDuration,
         String operationName, int applicationId, int limit, int from, TraceState traceState, QueryOrder queryOrder,
         String... segmentIds) {
-        SearchRequestBuilder searchRequestBuilder = getClient().prepareSearch(SegmentDurationTable.TABLE);
+        SearchRequestBuilder searchRequestBuilder = prepareSearch(SegmentDurationTable.TABLE, startSecondTimeBucket, endSecondTimeBucket);
         searchRequestBuilder.setTypes(SegmentDurationTable.TABLE_TYPE);
         searchRequestBuilder.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
@@ -25,9 +25,12 @@ import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchCli
 import org.apache.skywalking.apm.collector.core.util.StringUtils;
 import org.apache.skywalking.apm.collector.storage.dao.ui.ISegmentUIDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.segment.SegmentTable;
 import org.apache.skywalking.apm.network.proto.TraceSegmentObject;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.index.query.QueryBuilders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,8 +46,20 @@ public class SegmentEsUIDAO extends EsDAO implements ISegmentUIDAO {
     }
 
     @Override public TraceSegmentObject load(String segmentId) {
-        GetResponse response = getClient().prepareGet(SegmentTable.TABLE, segmentId).get();
-        Map<String, Object> source = response.getSource();
+        Map<String, Object> source;
+        if (IndexPartitioner.INSTANCE.isPartitioned(SegmentTable.TABLE)) {
+            SearchResponse response = getClient().prepareSearch(SegmentTable.TABLE)
+                .setQuery(QueryBuilders.idsQuery().addIds(segmentId))
+                .setSize(1)
+                .get();
+            if (response.getHits().getHits().length == 0) {
+                return null;
+            }
+            source = response.getHits().getHits()[0].getSource();
+        } else {
+            GetResponse response = getClient().prepareGet(SegmentTable.TABLE, segmentId).get();
+            source = response.getSource();
+        }
         String dataBinaryBase64 = (String)source.get(SegmentTable.DATA_BINARY.getName());
         if (StringUtils.isNotEmpty(dataBinaryBase64)) {
             byte[] dataBinary = Base64.getDecoder().decode(dataBinaryBase64);
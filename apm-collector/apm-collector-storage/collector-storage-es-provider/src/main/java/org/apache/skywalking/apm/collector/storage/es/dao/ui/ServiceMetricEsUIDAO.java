@@ -22,11 +22,13 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
 import org.apache.skywalking.apm.collector.core.util.Const;
 import org.apache.skywalking.apm.collector.storage.dao.ui.IServiceMetricUIDAO;
 import org.apache.skywalking.apm.collector.storage.es.base.dao.EsDAO;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
 import org.apache.skywalking.apm.collector.storage.table.MetricSource;
 import org.apache.skywalking.apm.collector.storage.table.service.ServiceMetricTable;
 import org.apache.skywalking.apm.collector.storage.ui.common.Node;
@@ -35,9 +37,9 @@ import org.apache.skywalking.apm.collector.storage.ui.service.ServiceMetric;
 import org.apache.skywalking.apm.collector.storage.ui.service.ServiceNode;
 import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
 import org.apache.skywalking.apm.collector.storage.utils.TimePyramidTableNameBuilder;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
 import org.elasticsearch.action.get.MultiGetItemResponse;
 import org.elasticsearch.action.get.MultiGetRequestBuilder;
-import org.elasticsearch.action.get.MultiGetResponse;
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.search.SearchType;
@@ -61,81 +63,29 @@ public class ServiceMetricEsUIDAO extends EsDAO implements IServiceMetricUIDAO {
     }
 
     @Override
-    public List<Integer> getServiceResponseTimeTrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
+    public TransactionTrend getServiceTrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
         String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
         MultiGetRequestBuilder prepareMultiGet = getClient().prepareMultiGet(durationPoints, new ElasticSearchClient.MultiGetRowHandler<DurationPoint>() {
             @Override
             public void accept(DurationPoint durationPoint) {
                 String id = durationPoint.getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-                add(tableName, ServiceMetricTable.TABLE_TYPE, id);
+                add(IndexPartitioner.INSTANCE.indexNameOfId(tableName, id), ServiceMetricTable.TABLE_TYPE, id);
             }
         });
 
-        List<Integer> trends = new LinkedList<>();
-        MultiGetResponse multiGetResponse = prepareMultiGet.get();
-        for (MultiGetItemResponse response : multiGetResponse.getResponses()) {
-            if (response.getResponse().isExists()) {
-                long calls = ((Number)response.getResponse().getSource().get(ServiceMetricTable.TRANSACTION_CALLS.getName())).longValue();
-                long durationSum = ((Number)response.getResponse().getSource().get(ServiceMetricTable.TRANSACTION_DURATION_SUM.getName())).longValue();
-                trends.add((int)(durationSum / calls));
-            } else {
-                trends.add(0);
+        TransactionTrend trend = new TransactionTrend(durationPoints);
+        MultiGetItemResponse[] responses = prepareMultiGet.get().getResponses();
+        for (int i = 0; i < responses.length; i++) {
+            MultiGetItemResponse response = responses[i];
+            if (!response.isFailed() && response.getResponse().isExists()) {
+                Map<String, Object> source = response.getResponse().getSource();
+                long calls = ((Number)source.get(ServiceMetricTable.TRANSACTION_CALLS.getName())).longValue();
+                long errorCalls = ((Number)source.get(ServiceMetricTable.TRANSACTION_ERROR_CALLS.getName())).longValue();
+                long durationSum = ((Number)source.get(ServiceMetricTable.TRANSACTION_DURATION_SUM.getName())).longValue();
+                trend.setMetric(i, calls, errorCalls, durationSum);
             }
         }
-        return trends;
-    }
-
-    @Override
-    public List<Integer> getServiceThroughputTrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
-        String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
-        MultiGetRequestBuilder prepareMultiGet = getClient().prepareMultiGet(durationPoints, new ElasticSearchClient.MultiGetRowHandler<DurationPoint>() {
-            @Override
-            public void accept(DurationPoint durationPoint) {
-                String id = durationPoint.getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-                add(tableName, ServiceMetricTable.TABLE_TYPE, id);
-            }
-        });
-
-        List<Integer> trends = new LinkedList<>();
-        MultiGetResponse multiGetResponse = prepareMultiGet.get();
-
-        int index = 0;
-        for (MultiGetItemResponse response : multiGetResponse.getResponses()) {
-            if (response.getResponse().isExists()) {
-                long calls = ((Number)response.getResponse().getSource().get(ServiceMetricTable.TRANSACTION_CALLS.getName())).longValue();
-                long minutesBetween = durationPoints.get(index).getMinutesBetween();
-                trends.add((int)(calls / minutesBetween));
-            } else {
-                trends.add(0);
-            }
-            index++;
-        }
-        return trends;
-    }
-
-    @Override
-    public List<Integer> getServiceSLATrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
-        String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
-        MultiGetRequestBuilder prepareMultiGet = getClient().prepareMultiGet(durationPoints, new ElasticSearchClient.MultiGetRowHandler<DurationPoint>() {
-            @Override
-            public void accept(DurationPoint durationPoint) {
-                String id = durationPoint.getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-                add(tableName, ServiceMetricTable.TABLE_TYPE, id);
-            }
-        });
-
-        List<Integer> trends = new LinkedList<>();
-        MultiGetResponse multiGetResponse = prepareMultiGet.get();
-        for (MultiGetItemResponse response : multiGetResponse.getResponses()) {
-            if (response.getResponse().isExists()) {
-                long calls = ((Number)response.getResponse().getSource().get(ServiceMetricTable.TRANSACTION_CALLS.getName())).longValue();
-                long errorCalls = ((Number)response.getResponse().getSource().get(ServiceMetricTable.TRANSACTION_ERROR_CALLS.getName())).longValue();
-                trends.add((int)(((calls - errorCalls) / calls)) * 10000);
-            } else {
-                trends.add(10000);
-            }
-        }
-        return trends;
+        return trend;
     }
 
     @Override
@@ -143,7 +93,7 @@ public class ServiceMetricEsUIDAO extends EsDAO implements IServiceMetricUIDAO {
         Collection<Integer> serviceIds) {
         String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
 
-        SearchRequestBuilder searchRequestBuilder = getClient().prepareSearch(tableName);
+        SearchRequestBuilder searchRequestBuilder = prepareSearch(tableName, startTimeBucket, endTimeBucket);
         searchRequestBuilder.setTypes(ServiceMetricTable.TABLE_TYPE);
         searchRequestBuilder.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
 
@@ -184,7 +134,7 @@ public class ServiceMetricEsUIDAO extends EsDAO implements IServiceMetricUIDAO {
         Integer topN, MetricSource metricSource) {
         String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
 
-        SearchRequestBuilder searchRequestBuilder = getClient().prepareSearch(tableName);
+        SearchRequestBuilder searchRequestBuilder = prepareSearch(tableName, startTimeBucket, endTimeBucket);
         searchRequestBuilder.setTypes(ServiceMetricTable.TABLE_TYPE);
         searchRequestBuilder.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
 
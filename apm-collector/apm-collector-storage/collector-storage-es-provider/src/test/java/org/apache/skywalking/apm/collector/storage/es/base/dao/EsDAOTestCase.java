@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.storage.es.base.dao;
+
+import org.apache.skywalking.apm.collector.client.elasticsearch.ElasticSearchClient;
+import org.apache.skywalking.apm.collector.storage.es.base.define.IndexPartitioner;
+import org.apache.skywalking.apm.collector.storage.table.register.ApplicationTable;
+import org.apache.skywalking.apm.collector.storage.table.service.ServiceMetricTable;
+import org.elasticsearch.action.search.SearchAction;
+import org.elasticsearch.action.search.SearchRequestBuilder;
+import org.elasticsearch.action.support.IndicesOptions;
+import org.elasticsearch.client.Client;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.powermock.reflect.Whitebox;
+
+public class EsDAOTestCase {
+
+    private TestEsDAO dao;
+
+    @Before
+    public void setUp() {
+        IndexPartitioner.INSTANCE.enable();
+
+        Client client = Mockito.mock(Client.class);
+        Mockito.when(client.prepareSearch(Mockito.<String>anyVararg())).thenAnswer(invocation -> new SearchRequestBuilder(client, SearchAction.INSTANCE));
+
+        ElasticSearchClient elasticSearchClient = new ElasticSearchClient("test", false, "");
+        Whitebox.setInternalState(elasticSearchClient, "client", client);
+        dao = new TestEsDAO(elasticSearchClient);
+    }
+
+    @Test
+    public void testSearchOneMissingPartition() {
+        SearchRequestBuilder searchRequestBuilder = dao.prepareSearch(ServiceMetricTable.TABLE + "_minute", 201807010000L, 201807012359L);
+
+        IndicesOptions indicesOptions = searchRequestBuilder.request().indicesOptions();
+        Assert.assertTrue(indicesOptions.ignoreUnavailable());
+        Assert.assertTrue(indicesOptions.allowNoIndices());
+    }
+
+    @Test
+    public void testSearchNotPartitionedTable() {
+        SearchRequestBuilder searchRequestBuilder = dao.prepareSearch(ApplicationTable.TABLE, 201807010000L, 201807012359L);
+
+        Assert.assertFalse(searchRequestBuilder.request().indicesOptions().ignoreUnavailable());
+    }
+
+    private static class TestEsDAO extends EsDAO {
+
+        private TestEsDAO(ElasticSearchClient client) {
+            super(client);
+        }
+    }
+}
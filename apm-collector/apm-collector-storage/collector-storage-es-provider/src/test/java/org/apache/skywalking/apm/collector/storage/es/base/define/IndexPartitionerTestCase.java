@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.storage.es.base.define;
+
+import org.apache.skywalking.apm.collector.storage.table.register.ApplicationTable;
+import org.apache.skywalking.apm.collector.storage.table.segment.SegmentTable;
+import org.apache.skywalking.apm.collector.storage.table.service.ServiceMetricTable;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexPartitionerTestCase {
+
+    private static final String SERVICE_METRIC_MINUTE = ServiceMetricTable.TABLE + "_minute";
+
+    @Before
+    public void setUp() {
+        IndexPartitioner.INSTANCE.enable();
+    }
+
+    @Test
+    public void testIndexName() {
+        IndexPartitioner partitioner = IndexPartitioner.INSTANCE;
+
+        Assert.assertEquals(SegmentTable.TABLE + "-20180701", partitioner.indexName(SegmentTable.TABLE, 201807012359L));
+        Assert.assertEquals(SERVICE_METRIC_MINUTE + "-20180701", partitioner.indexNameOfId(SERVICE_METRIC_MINUTE, "201807012359_2_1"));
+        Assert.assertEquals(ApplicationTable.TABLE, partitioner.indexName(ApplicationTable.TABLE, 201807012359L));
+        Assert.assertEquals(ServiceMetricTable.TABLE + "_hour", partitioner.indexNameOfId(ServiceMetricTable.TABLE + "_hour", "2018070123_2_1"));
+    }
+
+    @Test
+    public void testIndexNames() {
+        IndexPartitioner partitioner = IndexPartitioner.INSTANCE;
+
+        String[] indexNames = partitioner.indexNames(SERVICE_METRIC_MINUTE, 201806302300L, 201807020100L);
+        Assert.assertArrayEquals(new String[] {
+            SERVICE_METRIC_MINUTE + "-20180630", SERVICE_METRIC_MINUTE + "-20180701", SERVICE_METRIC_MINUTE + "-20180702"
+        }, indexNames);
+
+        Assert.assertArrayEquals(new String[] {SERVICE_METRIC_MINUTE}, partitioner.indexNames(SERVICE_METRIC_MINUTE, 0, 201807020100L));
+        Assert.assertArrayEquals(new String[] {SERVICE_METRIC_MINUTE}, partitioner.indexNames(SERVICE_METRIC_MINUTE, 201801010000L, 201807020100L));
+    }
+
+    @Test
+    public void testIsPartitionBefore() {
+        IndexPartitioner partitioner = IndexPartitioner.INSTANCE;
+
+        Assert.assertTrue(partitioner.isPartitionBefore(SegmentTable.TABLE, SegmentTable.TABLE + "-20180630", 201807010030L));
+        Assert.assertFalse(partitioner.isPartitionBefore(SegmentTable.TABLE, SegmentTable.TABLE + "-20180701", 201807010030L));
+        Assert.assertFalse(partitioner.isPartitionBefore(SegmentTable.TABLE, SegmentTable.TABLE + "-duration", 201807010030L));
+    }
+}
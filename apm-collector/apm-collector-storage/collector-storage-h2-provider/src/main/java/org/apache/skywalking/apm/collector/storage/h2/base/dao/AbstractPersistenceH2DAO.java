@@ -21,12 +21,15 @@ package org.apache.skywalking.apm.collector.storage.h2.base.dao;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 import org.apache.skywalking.apm.collector.client.h2.H2Client;
 import org.apache.skywalking.apm.collector.client.h2.H2ClientException;
 import org.apache.skywalking.apm.collector.core.data.CommonTable;
 import org.apache.skywalking.apm.collector.core.data.StreamData;
+import org.apache.skywalking.apm.collector.storage.StorageMultiGetException;
 import org.apache.skywalking.apm.collector.storage.base.dao.IPersistenceDAO;
 import org.apache.skywalking.apm.collector.storage.base.sql.SqlBuilder;
 import org.apache.skywalking.apm.collector.storage.h2.base.define.H2SqlEntity;
@@ -45,6 +48,7 @@ public abstract class AbstractPersistenceH2DAO<STREAM_DATA extends StreamData> e
     }
 
     private static final String GET_SQL = "select * from {0} where {1} = ?";
+    private static final String MULTI_GET_SQL = "select * from {0} where {1} in ({2})";
 
     protected abstract STREAM_DATA h2DataToStreamData(ResultSet resultSet) throws SQLException;
 
@@ -64,6 +68,27 @@ public abstract class AbstractPersistenceH2DAO<STREAM_DATA extends StreamData> e
         return null;
     }
 
+    @Override public final Map<String, STREAM_DATA> multiGet(List<String> ids) throws StorageMultiGetException {
+        Map<String, STREAM_DATA> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        StringJoiner placeholders = new StringJoiner(", ");
+        ids.forEach(id -> placeholders.add("?"));
+        String sql = SqlBuilder.buildSql(MULTI_GET_SQL, tableName(), CommonTable.ID.getName(), placeholders.toString());
+
+        try (ResultSet resultSet = getClient().executeQuery(sql, ids.toArray(new Object[0]))) {
+            while (resultSet.next()) {
+                STREAM_DATA streamData = h2DataToStreamData(resultSet);
+                result.put(streamData.getId(), streamData);
+            }
+        } catch (SQLException | H2ClientException e) {
+            throw new StorageMultiGetException(e.getMessage(), e);
+        }
+        return result;
+    }
+
     protected abstract Map<String, Object> streamDataToH2Data(STREAM_DATA streamData);
 
     @Override public final H2SqlEntity prepareBatchInsert(STREAM_DATA streamData) {
@@ -42,7 +42,8 @@ public class BatchH2DAO extends H2DAO implements IBatchDAO {
     }
 
     @Override
-    public void batchPersistence(List<?> batchCollection) {
+    public boolean batchPersistence(List<?> batchCollection) {
+        boolean success = true;
         if (batchCollection != null && batchCollection.size() > 0) {
             if (logger.isDebugEnabled()) {
                 logger.debug("the batch collection size is {}", batchCollection.size());
@@ -82,9 +83,11 @@ public class BatchH2DAO extends H2DAO implements IBatchDAO {
                 }
             } catch (SQLException e) {
                 logger.error(e.getMessage(), e);
+                success = false;
             }
             batchSqls.clear();
         }
+        return success;
     }
 
     private H2SqlEntity getH2SqlEntity(Object entity) {
@@ -20,12 +20,15 @@ package org.apache.skywalking.apm.collector.storage.h2.dao.cache;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.LinkedList;
+import java.util.List;
 import org.apache.skywalking.apm.collector.client.h2.H2Client;
 import org.apache.skywalking.apm.collector.client.h2.H2ClientException;
 import org.apache.skywalking.apm.collector.core.util.BooleanUtils;
 import org.apache.skywalking.apm.collector.storage.base.sql.SqlBuilder;
 import org.apache.skywalking.apm.collector.storage.dao.cache.IInstanceCacheDAO;
 import org.apache.skywalking.apm.collector.storage.h2.base.dao.H2DAO;
+import org.apache.skywalking.apm.collector.storage.table.register.Instance;
 import org.apache.skywalking.apm.collector.storage.table.register.InstanceTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +42,7 @@ public class InstanceH2CacheDAO extends H2DAO implements IInstanceCacheDAO {
 
     private static final String GET_APPLICATION_ID_SQL = "select {0} from {1} where {2} = ?";
     private static final String GET_INSTANCE_ID_SQL = "select {0} from {1} where {2} = ? and {3} = ? and {4} = ?";
+    private static final String LOAD_ALL_SQL = "select * from {0}";
 
     public InstanceH2CacheDAO(H2Client client) {
         super(client);
@@ -90,4 +94,26 @@ public class InstanceH2CacheDAO extends H2DAO implements IInstanceCacheDAO {
         }
         return 0;
     }
+
+    @Override public List<Instance> loadAll() {
+        H2Client client = getClient();
+        String sql = SqlBuilder.buildSql(LOAD_ALL_SQL, InstanceTable.TABLE);
+
+        List<Instance> instances = new LinkedList<>();
+        try (ResultSet rs = client.executeQuery(sql, null)) {
+            while (rs.next()) {
+                Instance instance = new Instance();
+                instance.setId(rs.getString(InstanceTable.ID.getName()));
+                instance.setInstanceId(rs.getInt(InstanceTable.INSTANCE_ID.getName()));
+                instance.setApplicationId(rs.getInt(InstanceTable.APPLICATION_ID.getName()));
+                instance.setAgentUUID(rs.getString(InstanceTable.AGENT_UUID.getName()));
+                instance.setAddressId(rs.getInt(InstanceTable.ADDRESS_ID.getName()));
+                instance.setIsAddress(rs.getInt(InstanceTable.IS_ADDRESS.getName()));
+                instances.add(instance);
+            }
+        } catch (SQLException | H2ClientException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return instances;
+    }
 }
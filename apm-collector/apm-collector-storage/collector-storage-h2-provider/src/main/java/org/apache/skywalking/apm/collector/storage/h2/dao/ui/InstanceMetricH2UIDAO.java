@@ -38,7 +38,7 @@ import org.slf4j.*;
 public class InstanceMetricH2UIDAO extends H2DAO implements IInstanceMetricUIDAO {
 
     private final Logger logger = LoggerFactory.getLogger(InstanceMetricH2UIDAO.class);
-    private static final String GET_TPS_METRIC_SQL = "select * from {0} where {1} = ?";
+    private static final String GET_TREND_SQL = "select * from {0} where {1} in ({2})";
 
     public InstanceMetricH2UIDAO(H2Client client) {
         super(client);
@@ -51,51 +51,32 @@ public class InstanceMetricH2UIDAO extends H2DAO implements IInstanceMetricUIDAO
     }
 
     @Override
-    public List<Integer> getServerThroughputTrend(int instanceId, Step step, List<DurationPoint> durationPoints) {
-        H2Client client = getClient();
+    public TransactionTrend getServerTrend(int instanceId, Step step, List<DurationPoint> durationPoints) {
         String tableName = TimePyramidTableNameBuilder.build(step, InstanceMetricTable.TABLE);
 
-        String sql = SqlBuilder.buildSql(GET_TPS_METRIC_SQL, tableName, InstanceMetricTable.ID.getName());
-
-        List<Integer> throughputTrend = new LinkedList<>();
-        durationPoints.forEach(durationPoint -> {
-            String id = durationPoint.getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-            try (ResultSet rs = client.executeQuery(sql, new Object[] {id})) {
-                if (rs.next()) {
-                    long callTimes = rs.getLong(InstanceMetricTable.TRANSACTION_CALLS.getName());
-                    throughputTrend.add((int)(callTimes / durationPoint.getMinutesBetween()));
-                } else {
-                    throughputTrend.add(0);
-                }
-            } catch (SQLException | H2ClientException e) {
-                logger.error(e.getMessage(), e);
-            }
-        });
-
-        return throughputTrend;
-    }
-
-    @Override public List<Integer> getResponseTimeTrend(int instanceId, Step step, List<DurationPoint> durationPoints) {
         H2Client client = getClient();
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < durationPoints.size(); i++) {
+            indexes.put(durationPoints.get(i).getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + MetricSource.Callee.getValue(), i);
+        }
+        String sql = SqlBuilder.buildSql(GET_TREND_SQL, tableName, InstanceMetricTable.ID.getName(), String.join(",", Collections.nCopies(indexes.size(), "?")));
 
-        String tableName = TimePyramidTableNameBuilder.build(step, InstanceMetricTable.TABLE);
-        String sql = SqlBuilder.buildSql(GET_TPS_METRIC_SQL, tableName, InstanceMetricTable.ID.getName());
-
-        List<Integer> responseTimeTrends = new LinkedList<>();
-        durationPoints.forEach(durationPoint -> {
-            String id = durationPoint.getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-            try (ResultSet rs = client.executeQuery(sql, new Object[] {id})) {
-                if (rs.next()) {
-                    long callTimes = rs.getLong(InstanceMetricTable.TRANSACTION_CALLS.getName());
-                    long durationSum = rs.getLong(InstanceMetricTable.TRANSACTION_DURATION_SUM.getName());
-                    responseTimeTrends.add((int)(durationSum / callTimes));
-                } else {
-                    responseTimeTrends.add(0);
+        TransactionTrend trend = new TransactionTrend(durationPoints);
+        if (indexes.isEmpty()) {
+            return trend;
+        }
+        try (ResultSet rs = client.executeQuery(sql, indexes.keySet().toArray())) {
+            while (rs.next()) {
+                Integer index = indexes.get(rs.getString(InstanceMetricTable.ID.getName()));
+                if (index != null) {
+                    trend.setMetric(index, rs.getLong(InstanceMetricTable.TRANSACTION_CALLS.getName()),
+                        rs.getLong(InstanceMetricTable.TRANSACTION_ERROR_CALLS.getName()),
+                        rs.getLong(InstanceMetricTable.TRANSACTION_DURATION_SUM.getName()));
                 }
-            } catch (SQLException | H2ClientException e) {
-                logger.error(e.getMessage(), e);
             }
-        });
-        return responseTimeTrends;
+        } catch (SQLException | H2ClientException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return trend;
     }
 }
@@ -38,69 +38,40 @@ import org.slf4j.*;
 public class ServiceMetricH2UIDAO extends H2DAO implements IServiceMetricUIDAO {
 
     private final Logger logger = LoggerFactory.getLogger(ServiceMetricH2UIDAO.class);
+    private static final String GET_TREND_SQL = "select * from {0} where {1} in ({2})";
 
     public ServiceMetricH2UIDAO(H2Client client) {
         super(client);
     }
 
     @Override
-    public List<Integer> getServiceResponseTimeTrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
+    public TransactionTrend getServiceTrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
         String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
 
         H2Client client = getClient();
-        String dynamicSql = "select * from {0} where {1} = ?";
-        String sql = SqlBuilder.buildSql(dynamicSql, tableName, ServiceMetricTable.ID.getName());
-
-        List<Integer> trends = new LinkedList<>();
-        durationPoints.forEach(durationPoint -> {
-            String id = durationPoint.getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-
-            try (ResultSet rs = client.executeQuery(sql, new String[] {id})) {
-                if (rs.next()) {
-                    long calls = rs.getLong(ServiceMetricTable.TRANSACTION_CALLS.getName());
-                    long durationSum = rs.getLong(ServiceMetricTable.TRANSACTION_DURATION_SUM.getName());
-                    trends.add((int)(durationSum / calls));
-                } else {
-                    trends.add(0);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < durationPoints.size(); i++) {
+            indexes.put(durationPoints.get(i).getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue(), i);
+        }
+        String sql = SqlBuilder.buildSql(GET_TREND_SQL, tableName, ServiceMetricTable.ID.getName(), String.join(",", Collections.nCopies(indexes.size(), "?")));
+
+        TransactionTrend trend = new TransactionTrend(durationPoints);
+        if (indexes.isEmpty()) {
+            return trend;
+        }
+        try (ResultSet rs = client.executeQuery(sql, indexes.keySet().toArray())) {
+            while (rs.next()) {
+                Integer index = indexes.get(rs.getString(ServiceMetricTable.ID.getName()));
+                if (index != null) {
+                    trend.setMetric(index, rs.getLong(ServiceMetricTable.TRANSACTION_CALLS.getName()),
+                        rs.getLong(ServiceMetricTable.TRANSACTION_ERROR_CALLS.getName()),
+                        rs.getLong(ServiceMetricTable.TRANSACTION_DURATION_SUM.getName()));
                 }
-            } catch (SQLException | H2ClientException e) {
-                logger.error(e.getMessage(), e);
             }
-        });
-
-        return trends;
-    }
-
-    @Override
-    public List<Integer> getServiceThroughputTrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
-        return null;
-    }
-
-    @Override public List<Integer> getServiceSLATrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
-        String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
-
-        H2Client client = getClient();
-        String dynamicSql = "select * from {0} where {1} = ?";
-        String sql = SqlBuilder.buildSql(dynamicSql, tableName, ServiceMetricTable.ID);
-
-        List<Integer> trends = new LinkedList<>();
-        durationPoints.forEach(durationPoint -> {
-            String id = durationPoint.getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-
-            try (ResultSet rs = client.executeQuery(sql, new String[] {id})) {
-                if (rs.next()) {
-                    long calls = rs.getLong(ServiceMetricTable.TRANSACTION_CALLS.getName());
-                    long errorCalls = rs.getLong(ServiceMetricTable.TRANSACTION_ERROR_CALLS.getName());
-                    trends.add((int)(((calls - errorCalls) / calls)) * 10000);
-                } else {
-                    trends.add(10000);
-                }
-            } catch (SQLException | H2ClientException e) {
-                logger.error(e.getMessage(), e);
-            }
-        });
-
-        return trends;
+        } catch (SQLException | H2ClientException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return trend;
     }
 
     @Override
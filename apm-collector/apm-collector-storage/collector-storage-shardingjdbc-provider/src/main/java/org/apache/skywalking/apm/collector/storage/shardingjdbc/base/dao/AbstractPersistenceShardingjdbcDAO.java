@@ -23,13 +23,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClient;
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClientException;
 import org.apache.skywalking.apm.collector.core.data.CommonTable;
 import org.apache.skywalking.apm.collector.core.data.StreamData;
+import org.apache.skywalking.apm.collector.storage.StorageMultiGetException;
 import org.apache.skywalking.apm.collector.storage.base.dao.IPersistenceDAO;
 import org.apache.skywalking.apm.collector.storage.base.sql.SqlBuilder;
 import org.apache.skywalking.apm.collector.storage.shardingjdbc.base.define.ShardingjdbcSqlEntity;
@@ -48,6 +51,7 @@ public abstract class AbstractPersistenceShardingjdbcDAO<STREAM_DATA extends Str
     }
 
     private static final String GET_SQL = "select * from {0} where {1} = ?";
+    private static final String MULTI_GET_SQL = "select * from {0} where {1} in ({2})";
 
     protected abstract STREAM_DATA shardingjdbcDataToStreamData(ResultSet resultSet) throws SQLException;
 
@@ -71,6 +75,31 @@ public abstract class AbstractPersistenceShardingjdbcDAO<STREAM_DATA extends Str
         return null;
     }
 
+    @Override public Map<String, STREAM_DATA> multiGet(List<String> ids) throws StorageMultiGetException {
+        Map<String, STREAM_DATA> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        StringJoiner placeholders = new StringJoiner(", ");
+        ids.forEach(id -> placeholders.add("?"));
+        String sql = SqlBuilder.buildSql(MULTI_GET_SQL, tableName(), CommonTable.ID.getName(), placeholders.toString());
+
+        try (
+                ResultSet rs = getClient().executeQuery(sql, ids.toArray(new Object[0]));
+                Statement statement = rs.getStatement();
+                Connection conn = statement.getConnection();
+            ) {
+            while (rs.next()) {
+                STREAM_DATA streamData = shardingjdbcDataToStreamData(rs);
+                result.put(streamData.getId(), streamData);
+            }
+        } catch (SQLException | ShardingjdbcClientException e) {
+            throw new StorageMultiGetException(e.getMessage(), e);
+        }
+        return result;
+    }
+
     protected abstract Map<String, Object> streamDataToShardingjdbcData(STREAM_DATA streamData);
 
     @Override public final ShardingjdbcSqlEntity prepareBatchInsert(STREAM_DATA streamData) {
@@ -43,7 +43,8 @@ public class BatchShardingjdbcDAO extends ShardingjdbcDAO implements IBatchDAO {
     }
 
     @Override
-    public void batchPersistence(List<?> batchCollection) {
+    public boolean batchPersistence(List<?> batchCollection) {
+        boolean success = true;
         if (batchCollection != null && batchCollection.size() > 0) {
             logger.debug("the batch collection size is {}", batchCollection.size());
             Connection conn;
@@ -77,9 +78,11 @@ public class BatchShardingjdbcDAO extends ShardingjdbcDAO implements IBatchDAO {
                 }
             } catch (SQLException e) {
                 logger.error(e.getMessage(), e);
+                success = false;
             }
             batchSqls.clear();
         }
+        return success;
     }
 
     private ShardingjdbcSqlEntity getShardingjdbcSqlEntity(Object entity) {
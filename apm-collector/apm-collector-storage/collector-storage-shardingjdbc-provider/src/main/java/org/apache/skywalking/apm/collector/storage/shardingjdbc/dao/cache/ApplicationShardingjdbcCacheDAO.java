@@ -22,6 +22,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.LinkedList;
+import java.util.List;
 
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClient;
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClientException;
@@ -42,6 +44,7 @@ public class ApplicationShardingjdbcCacheDAO extends ShardingjdbcDAO implements
 
     private static final String GET_APPLICATION_ID_SQL = "select {0} from {1} where {2} = ? and {3} = ?";
     private static final String GET_APPLICATION_SQL = "select {0},{1} from {2} where {3} = ?";
+    private static final String LOAD_ALL_SQL = "select * from {0}";
 
     public ApplicationShardingjdbcCacheDAO(ShardingjdbcClient client) {
         super(client);
@@ -110,4 +113,29 @@ public class ApplicationShardingjdbcCacheDAO extends ShardingjdbcDAO implements
         }
         return 0;
     }
+
+    @Override public List<Application> loadAll() {
+        ShardingjdbcClient client = getClient();
+        String sql = SqlBuilder.buildSql(LOAD_ALL_SQL, ApplicationTable.TABLE);
+
+        List<Application> applications = new LinkedList<>();
+        try (
+                ResultSet rs = client.executeQuery(sql, null);
+                Statement statement = rs.getStatement();
+                Connection conn = statement.getConnection();
+            ) {
+            while (rs.next()) {
+                Application application = new Application();
+                application.setId(rs.getString(ApplicationTable.ID.getName()));
+                application.setApplicationId(rs.getInt(ApplicationTable.APPLICATION_ID.getName()));
+                application.setApplicationCode(rs.getString(ApplicationTable.APPLICATION_CODE.getName()));
+                application.setAddressId(rs.getInt(ApplicationTable.ADDRESS_ID.getName()));
+                application.setIsAddress(rs.getInt(ApplicationTable.IS_ADDRESS.getName()));
+                applications.add(application);
+            }
+        } catch (SQLException | ShardingjdbcClientException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return applications;
+    }
 }
@@ -22,6 +22,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.LinkedList;
+import java.util.List;
 
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClient;
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClientException;
@@ -29,6 +31,7 @@ import org.apache.skywalking.apm.collector.core.util.BooleanUtils;
 import org.apache.skywalking.apm.collector.storage.base.sql.SqlBuilder;
 import org.apache.skywalking.apm.collector.storage.dao.cache.IInstanceCacheDAO;
 import org.apache.skywalking.apm.collector.storage.shardingjdbc.base.dao.ShardingjdbcDAO;
+import org.apache.skywalking.apm.collector.storage.table.register.Instance;
 import org.apache.skywalking.apm.collector.storage.table.register.InstanceTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +45,7 @@ public class InstanceShardingjdbcCacheDAO extends ShardingjdbcDAO implements IIn
 
     private static final String GET_APPLICATION_ID_SQL = "select {0} from {1} where {2} = ?";
     private static final String GET_INSTANCE_ID_SQL = "select {0} from {1} where {2} = ? and {3} = ? and {4} = ?";
+    private static final String LOAD_ALL_SQL = "select * from {0}";
 
     public InstanceShardingjdbcCacheDAO(ShardingjdbcClient client) {
         super(client);
@@ -105,4 +109,30 @@ public class InstanceShardingjdbcCacheDAO extends ShardingjdbcDAO implements IIn
         }
         return 0;
     }
+
+    @Override public List<Instance> loadAll() {
+        ShardingjdbcClient client = getClient();
+        String sql = SqlBuilder.buildSql(LOAD_ALL_SQL, InstanceTable.TABLE);
+
+        List<Instance> instances = new LinkedList<>();
+        try (
+                ResultSet rs = client.executeQuery(sql, null);
+                Statement statement = rs.getStatement();
+                Connection conn = statement.getConnection();
+            ) {
+            while (rs.next()) {
+                Instance instance = new Instance();
+                instance.setId(rs.getString(InstanceTable.ID.getName()));
+                instance.setInstanceId(rs.getInt(InstanceTable.INSTANCE_ID.getName()));
+                instance.setApplicationId(rs.getInt(InstanceTable.APPLICATION_ID.getName()));
+                instance.setAgentUUID(rs.getString(InstanceTable.AGENT_UUID.getName()));
+                instance.setAddressId(rs.getInt(InstanceTable.ADDRESS_ID.getName()));
+                instance.setIsAddress(rs.getInt(InstanceTable.IS_ADDRESS.getName()));
+                instances.add(instance);
+            }
+        } catch (SQLException | ShardingjdbcClientException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return instances;
+    }
 }
@@ -22,6 +22,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.LinkedList;
+import java.util.List;
 
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClient;
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClientException;
@@ -42,6 +44,7 @@ public class NetworkAddressShardingjdbcCacheDAO extends ShardingjdbcDAO implemen
     private static final Logger logger = LoggerFactory.getLogger(NetworkAddressShardingjdbcCacheDAO.class);
 
     private static final String GET_ADDRESS_ID_OR_CODE_SQL = "select {0} from {1} where {2} = ?";
+    private static final String LOAD_ALL_SQL = "select * from {0}";
 
     public NetworkAddressShardingjdbcCacheDAO(ShardingjdbcClient client) {
         super(client);
@@ -95,4 +98,29 @@ public class NetworkAddressShardingjdbcCacheDAO extends ShardingjdbcDAO implemen
         }
         return null;
     }
+
+    @Override public List<NetworkAddress> loadAll() {
+        ShardingjdbcClient client = getClient();
+        String sql = SqlBuilder.buildSql(LOAD_ALL_SQL, NetworkAddressTable.TABLE);
+
+        List<NetworkAddress> networkAddresses = new LinkedList<>();
+        try (
+                ResultSet rs = client.executeQuery(sql, null);
+                Statement statement = rs.getStatement();
+                Connection conn = statement.getConnection();
+            ) {
+            while (rs.next()) {
+                NetworkAddress networkAddress = new NetworkAddress();
+                networkAddress.setId(rs.getString(NetworkAddressTable.ID.getName()));
+                networkAddress.setAddressId(rs.getInt(NetworkAddressTable.ADDRESS_ID.getName()));
+                networkAddress.setNetworkAddress(rs.getString(NetworkAddressTable.NETWORK_ADDRESS.getName()));
+                networkAddress.setSrcSpanLayer(rs.getInt(NetworkAddressTable.SRC_SPAN_LAYER.getName()));
+                networkAddress.setServerType(rs.getInt(NetworkAddressTable.SERVER_TYPE.getName()));
+                networkAddresses.add(networkAddress);
+            }
+        } catch (SQLException | ShardingjdbcClientException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return networkAddresses;
+    }
 }
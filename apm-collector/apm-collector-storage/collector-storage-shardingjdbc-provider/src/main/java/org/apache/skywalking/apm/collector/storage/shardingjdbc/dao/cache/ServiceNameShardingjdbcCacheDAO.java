@@ -22,6 +22,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.LinkedList;
+import java.util.List;
 
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClient;
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClientException;
@@ -42,6 +44,7 @@ public class ServiceNameShardingjdbcCacheDAO extends ShardingjdbcDAO implements
 
     private static final String GET_SERVICE_NAME_SQL = "select {0},{1} from {2} where {3} = ?";
     private static final String GET_SERVICE_ID_SQL = "select {0} from {1} where {2} = ? and {3} = ? and {4} = ? limit 1";
+    private static final String LOAD_ALL_SQL = "select * from {0}";
 
     public ServiceNameShardingjdbcCacheDAO(ShardingjdbcClient client) {
         super(client);
@@ -89,4 +92,29 @@ public class ServiceNameShardingjdbcCacheDAO extends ShardingjdbcDAO implements
         }
         return 0;
     }
+
+    @Override public List<ServiceName> loadAll() {
+        ShardingjdbcClient client = getClient();
+        String sql = SqlBuilder.buildSql(LOAD_ALL_SQL, ServiceNameTable.TABLE);
+
+        List<ServiceName> serviceNames = new LinkedList<>();
+        try (
+                ResultSet rs = client.executeQuery(sql, null);
+                Statement statement = rs.getStatement();
+                Connection conn = statement.getConnection();
+            ) {
+            while (rs.next()) {
+                ServiceName serviceName = new ServiceName();
+                serviceName.setId(rs.getString(ServiceNameTable.ID.getName()));
+                serviceName.setServiceId(rs.getInt(ServiceNameTable.SERVICE_ID.getName()));
+                serviceName.setApplicationId(rs.getInt(ServiceNameTable.APPLICATION_ID.getName()));
+                serviceName.setServiceName(rs.getString(ServiceNameTable.SERVICE_NAME.getName()));
+                serviceName.setSrcSpanType(rs.getInt(ServiceNameTable.SRC_SPAN_TYPE.getName()));
+                serviceNames.add(serviceName);
+            }
+        } catch (SQLException | ShardingjdbcClientException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return serviceNames;
+    }
 }
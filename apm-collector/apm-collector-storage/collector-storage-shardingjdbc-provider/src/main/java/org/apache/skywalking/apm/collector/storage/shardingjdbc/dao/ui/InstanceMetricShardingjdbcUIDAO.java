@@ -22,8 +22,11 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClient;
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClientException;
@@ -37,6 +40,7 @@ import org.apache.skywalking.apm.collector.storage.ui.common.Step;
 import org.apache.skywalking.apm.collector.storage.ui.server.AppServerInfo;
 import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
 import org.apache.skywalking.apm.collector.storage.utils.TimePyramidTableNameBuilder;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,7 +51,7 @@ public class InstanceMetricShardingjdbcUIDAO extends ShardingjdbcDAO implements
 
     private static final Logger logger = LoggerFactory.getLogger(InstanceMetricShardingjdbcUIDAO.class);
     private static final String GET_THROUGHPUT_METRIC_SQL = "select {1}, sum({2}) as {2} from {3} where {4} >= ? and {4} <= ? and {5} = ? and {1} = ? group by {0} order by {2} desc limit ?";
-    private static final String GET_TPS_METRIC_SQL = "select * from {0} where {1} = ?";
+    private static final String GET_TREND_SQL = "select * from {0} where {1} in ({2})";
 
     public InstanceMetricShardingjdbcUIDAO(ShardingjdbcClient client) {
         super(client);
@@ -87,59 +91,37 @@ public class InstanceMetricShardingjdbcUIDAO extends ShardingjdbcDAO implements
         return appServerInfos;
     }
 
-    @Override public List<Integer> getServerThroughputTrend(int instanceId, Step step, List<DurationPoint> durationPoints) {
-        ShardingjdbcClient client = getClient();
+    @Override
+    public TransactionTrend getServerTrend(int instanceId, Step step, List<DurationPoint> durationPoints) {
         String tableName = TimePyramidTableNameBuilder.build(step, InstanceMetricTable.TABLE);
 
-        String sql = SqlBuilder.buildSql(GET_TPS_METRIC_SQL, tableName, InstanceMetricTable.ID.getName());
-
-        List<Integer> throughputTrend = new LinkedList<>();
-        durationPoints.forEach(durationPoint -> {
-            String id = durationPoint.getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-            try (
-                    ResultSet rs = client.executeQuery(sql, new Object[] {id});
-                    Statement statement = rs.getStatement();
-                    Connection conn = statement.getConnection();
-                ) {
-                if (rs.next()) {
-                    long callTimes = rs.getLong(InstanceMetricTable.TRANSACTION_CALLS.getName());
-                    throughputTrend.add((int)(callTimes / durationPoint.getSecondsBetween()));
-                } else {
-                    throughputTrend.add(0);
-                }
-            } catch (SQLException | ShardingjdbcClientException e) {
-                logger.error(e.getMessage(), e);
-            }
-        });
-
-        return throughputTrend;
-    }
-
-    @Override public List<Integer> getResponseTimeTrend(int instanceId, Step step, List<DurationPoint> durationPoints) {
         ShardingjdbcClient client = getClient();
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < durationPoints.size(); i++) {
+            indexes.put(durationPoints.get(i).getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + MetricSource.Callee.getValue(), i);
+        }
+        String sql = SqlBuilder.buildSql(GET_TREND_SQL, tableName, InstanceMetricTable.ID.getName(), String.join(",", Collections.nCopies(indexes.size(), "?")));
 
-        String tableName = TimePyramidTableNameBuilder.build(step, InstanceMetricTable.TABLE);
-        String sql = SqlBuilder.buildSql(GET_TPS_METRIC_SQL, tableName, InstanceMetricTable.ID.getName());
-
-        List<Integer> responseTimeTrends = new LinkedList<>();
-        durationPoints.forEach(durationPoint -> {
-            String id = durationPoint.getPoint() + Const.ID_SPLIT + instanceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-            try (
-                    ResultSet rs = client.executeQuery(sql, new Object[] {id});
-                    Statement statement = rs.getStatement();
-                    Connection conn = statement.getConnection();
-                ) {
-                if (rs.next()) {
-                    long callTimes = rs.getLong(InstanceMetricTable.TRANSACTION_CALLS.getName());
-                    long durationSum = rs.getLong(InstanceMetricTable.TRANSACTION_DURATION_SUM.getName());
-                    responseTimeTrends.add((int) (durationSum / callTimes));
-                } else {
-                    responseTimeTrends.add(0);
+        TransactionTrend trend = new TransactionTrend(durationPoints);
+        if (indexes.isEmpty()) {
+            return trend;
+        }
+        try (
+                ResultSet rs = client.executeQuery(sql, indexes.keySet().toArray());
+                Statement statement = rs.getStatement();
+                Connection conn = statement.getConnection();
+            ) {
+            while (rs.next()) {
+                Integer index = indexes.get(rs.getString(InstanceMetricTable.ID.getName()));
+                if (index != null) {
+                    trend.setMetric(index, rs.getLong(InstanceMetricTable.TRANSACTION_CALLS.getName()),
+                        rs.getLong(InstanceMetricTable.TRANSACTION_ERROR_CALLS.getName()),
+                        rs.getLong(InstanceMetricTable.TRANSACTION_DURATION_SUM.getName()));
                 }
-            } catch (SQLException | ShardingjdbcClientException e) {
-                logger.error(e.getMessage(), e);
             }
-        });
-        return responseTimeTrends;
+        } catch (SQLException | ShardingjdbcClientException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return trend;
     }
 }
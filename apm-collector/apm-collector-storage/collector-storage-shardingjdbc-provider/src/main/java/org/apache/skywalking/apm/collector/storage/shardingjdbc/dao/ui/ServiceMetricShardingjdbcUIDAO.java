@@ -23,9 +23,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.skywalking.apm.collector.client.shardingjdbc.ShardingjdbcClient;
@@ -42,6 +45,7 @@ import org.apache.skywalking.apm.collector.storage.ui.service.ServiceMetric;
 import org.apache.skywalking.apm.collector.storage.ui.service.ServiceNode;
 import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
 import org.apache.skywalking.apm.collector.storage.utils.TimePyramidTableNameBuilder;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +56,7 @@ public class ServiceMetricShardingjdbcUIDAO extends ShardingjdbcDAO implements I
 
     private static final Logger logger = LoggerFactory.getLogger(ServiceMetricShardingjdbcUIDAO.class);
     private static final String SERVICE_METRIC_GET_SQL = "select {0}, sum({1}) as {1}, sum({2}) as {2} from {3} where {4} >= ? and {4} <= ? and {5} = ? and {0} in (?) group by {0} limit 100";
+    private static final String GET_TREND_SQL = "select * from {0} where {1} in ({2})";
     private static final String SLOW_SERVICE_GET_SQL = "select {0}, {1}, {2} from {3} where {4} >= ? and {4} <= ? and {5} = ? and {6} = ? order by {2} desc limit ?";
 
     public ServiceMetricShardingjdbcUIDAO(ShardingjdbcClient client) {
@@ -59,97 +64,37 @@ public class ServiceMetricShardingjdbcUIDAO extends ShardingjdbcDAO implements I
     }
 
     @Override
-    public List<Integer> getServiceResponseTimeTrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
+    public TransactionTrend getServiceTrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
         String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
 
         ShardingjdbcClient client = getClient();
-        String dynamicSql = "select * from {0} where {1} = ?";
-        String sql = SqlBuilder.buildSql(dynamicSql, tableName, ServiceMetricTable.ID.getName());
-
-        List<Integer> trends = new LinkedList<>();
-        durationPoints.forEach(durationPoint -> {
-            String id = durationPoint.getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-
-            try (
-                    ResultSet rs = client.executeQuery(sql, new String[] {id});
-                    Statement statement = rs.getStatement();
-                    Connection conn = statement.getConnection();
-                ) {
-                if (rs.next()) {
-                    long calls = rs.getLong(ServiceMetricTable.TRANSACTION_CALLS.getName());
-                    long durationSum = rs.getLong(ServiceMetricTable.TRANSACTION_DURATION_SUM.getName());
-                    trends.add((int) (durationSum / calls));
-                } else {
-                    trends.add(0);
-                }
-            } catch (SQLException | ShardingjdbcClientException e) {
-                logger.error(e.getMessage(), e);
-            }
-        });
-
-        return trends;
-    }
-    
-    @Override public List<Integer> getServiceThroughputTrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
-        String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
-
-        ShardingjdbcClient client = getClient();
-        String dynamicSql = "select * from {0} where {1} = ?";
-        String sql = SqlBuilder.buildSql(dynamicSql, tableName, ServiceMetricTable.ID.getName());
-
-        List<Integer> trends = new LinkedList<>();
-        durationPoints.forEach(durationPoint -> {
-            String id = durationPoint.getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-
-            try (
-                    ResultSet rs = client.executeQuery(sql, new String[] {id});
-                    Statement statement = rs.getStatement();
-                    Connection conn = statement.getConnection();
-                ) {
-                if (rs.next()) {
-                    long calls = rs.getLong(ServiceMetricTable.TRANSACTION_CALLS.getName());
-                    long secondsBetween = durationPoint.getSecondsBetween();
-                    trends.add(secondsBetween == 0 ? 0 : (int) (calls / secondsBetween));
-                } else {
-                    trends.add(0);
-                }
-            } catch (SQLException | ShardingjdbcClientException e) {
-                logger.error(e.getMessage(), e);
-            }
-        });
-
-        return trends;
-    }
-
-    @Override public List<Integer> getServiceSLATrend(int serviceId, Step step, List<DurationPoint> durationPoints) {
-        String tableName = TimePyramidTableNameBuilder.build(step, ServiceMetricTable.TABLE);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < durationPoints.size(); i++) {
+            indexes.put(durationPoints.get(i).getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue(), i);
+        }
+        String sql = SqlBuilder.buildSql(GET_TREND_SQL, tableName, ServiceMetricTable.ID.getName(), String.join(",", Collections.nCopies(indexes.size(), "?")));
 
-        ShardingjdbcClient client = getClient();
-        String dynamicSql = "select * from {0} where {1} = ?";
-        String sql = SqlBuilder.buildSql(dynamicSql, tableName, ServiceMetricTable.ID);
-
-        List<Integer> trends = new LinkedList<>();
-        durationPoints.forEach(durationPoint -> {
-            String id = durationPoint.getPoint() + Const.ID_SPLIT + serviceId + Const.ID_SPLIT + MetricSource.Callee.getValue();
-
-            try (
-                    ResultSet rs = client.executeQuery(sql, new String[] {id});
-                    Statement statement = rs.getStatement();
-                    Connection conn = statement.getConnection();
-                ) {
-                if (rs.next()) {
-                    long calls = rs.getLong(ServiceMetricTable.TRANSACTION_CALLS.getName());
-                    long errorCalls = rs.getLong(ServiceMetricTable.TRANSACTION_ERROR_CALLS.getName());
-                    trends.add((int)(((calls - errorCalls) / calls)) * 10000);
-                } else {
-                    trends.add(10000);
+        TransactionTrend trend = new TransactionTrend(durationPoints);
+        if (indexes.isEmpty()) {
+            return trend;
+        }
+        try (
+                ResultSet rs = client.executeQuery(sql, indexes.keySet().toArray());
+                Statement statement = rs.getStatement();
+                Connection conn = statement.getConnection();
+            ) {
+            while (rs.next()) {
+                Integer index = indexes.get(rs.getString(ServiceMetricTable.ID.getName()));
+                if (index != null) {
+                    trend.setMetric(index, rs.getLong(ServiceMetricTable.TRANSACTION_CALLS.getName()),
+                        rs.getLong(ServiceMetricTable.TRANSACTION_ERROR_CALLS.getName()),
+                        rs.getLong(ServiceMetricTable.TRANSACTION_DURATION_SUM.getName()));
                 }
-            } catch (SQLException | ShardingjdbcClientException e) {
-                logger.error(e.getMessage(), e);
             }
-        });
-
-        return trends;
+        } catch (SQLException | ShardingjdbcClientException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return trend;
     }
 
     @Override public List<Node> getServicesMetric(Step step, long startTimeBucket, long endTimeBucket, MetricSource metricSource,
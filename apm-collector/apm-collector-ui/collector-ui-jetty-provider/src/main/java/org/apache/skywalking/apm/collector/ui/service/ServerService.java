@@ -32,6 +32,7 @@ import org.apache.skywalking.apm.collector.storage.table.register.Instance;
 import org.apache.skywalking.apm.collector.storage.ui.common.*;
 import org.apache.skywalking.apm.collector.storage.ui.server.*;
 import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
 import org.apache.skywalking.apm.collector.ui.utils.DurationUtils;
 
 /**
@@ -48,6 +49,7 @@ public class ServerService {
     private final ApplicationCacheService applicationCacheService;
     private final InstanceCacheService instanceCacheService;
     private final DateBetweenService dateBetweenService;
+    private final TransactionTrendCache trendCache = new TransactionTrendCache();
 
     public ServerService(ModuleManager moduleManager) {
         this.instanceUIDAO = moduleManager.find(StorageModule.NAME).getService(IInstanceUIDAO.class);
@@ -82,9 +84,7 @@ public class ServerService {
     public ResponseTimeTrend getServerResponseTimeTrend(int instanceId, Step step, long startTimeBucket,
         long endTimeBucket) throws ParseException {
         ResponseTimeTrend responseTimeTrend = new ResponseTimeTrend();
-        List<DurationPoint> durationPoints = DurationUtils.INSTANCE.getDurationPoints(step, startTimeBucket, endTimeBucket);
-        List<Integer> trends = instanceMetricUIDAO.getResponseTimeTrend(instanceId, step, durationPoints);
-        responseTimeTrend.setTrendList(trends);
+        responseTimeTrend.setTrendList(getServerTrend(instanceId, step, startTimeBucket, endTimeBucket).getResponseTimeTrend());
         return responseTimeTrend;
     }
 
@@ -108,12 +108,16 @@ public class ServerService {
     public ThroughputTrend getServerThroughputTrend(int instanceId, Step step, long startTimeBucket,
         long endTimeBucket) throws ParseException {
         ThroughputTrend throughputTrend = new ThroughputTrend();
-        List<DurationPoint> durationPoints = DurationUtils.INSTANCE.getDurationPoints(step, startTimeBucket, endTimeBucket);
-        List<Integer> trends = instanceMetricUIDAO.getServerThroughputTrend(instanceId, step, durationPoints);
-        throughputTrend.setTrendList(trends);
+        throughputTrend.setTrendList(getServerTrend(instanceId, step, startTimeBucket, endTimeBucket).getThroughputTrend());
         return throughputTrend;
     }
 
+    private TransactionTrend getServerTrend(int instanceId, Step step, long startTimeBucket,
+        long endTimeBucket) throws ParseException {
+        List<DurationPoint> durationPoints = DurationUtils.INSTANCE.getDurationPoints(step, startTimeBucket, endTimeBucket);
+        return trendCache.get(instanceId, step, startTimeBucket, endTimeBucket, () -> instanceMetricUIDAO.getServerTrend(instanceId, step, durationPoints));
+    }
+
     public CPUTrend getCPUTrend(int instanceId, Step step, long startTimeBucket,
         long endTimeBucket) throws ParseException {
         CPUTrend cpuTrend = new CPUTrend();
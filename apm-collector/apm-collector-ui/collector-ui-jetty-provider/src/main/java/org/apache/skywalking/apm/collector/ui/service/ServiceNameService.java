@@ -32,6 +32,7 @@ import org.apache.skywalking.apm.collector.storage.ttl.ITTLConfigService;
 import org.apache.skywalking.apm.collector.storage.ui.common.*;
 import org.apache.skywalking.apm.collector.storage.ui.service.*;
 import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
 import org.apache.skywalking.apm.collector.ui.utils.DurationUtils;
 import org.slf4j.*;
 
@@ -48,6 +49,7 @@ public class ServiceNameService {
     private final ServiceNameCacheService serviceNameCacheService;
     private final DateBetweenService dateBetweenService;
     private final ITTLConfigService configService;
+    private final TransactionTrendCache trendCache = new TransactionTrendCache();
 
     public ServiceNameService(ModuleManager moduleManager) {
         this.applicationCacheService = moduleManager.find(CacheModule.NAME).getService(ApplicationCacheService.class);
@@ -83,28 +85,30 @@ public class ServiceNameService {
     public ThroughputTrend getServiceThroughputTrend(int serviceId, Step step, long startTimeBucket,
         long endTimeBucket) throws ParseException {
         ThroughputTrend throughputTrend = new ThroughputTrend();
-        List<DurationPoint> durationPoints = DurationUtils.INSTANCE.getDurationPoints(step, startTimeBucket, endTimeBucket);
-        List<Integer> throughputTrends = serviceMetricUIDAO.getServiceThroughputTrend(serviceId, step, durationPoints);
-        throughputTrend.setTrendList(throughputTrends);
+        throughputTrend.setTrendList(getServiceTrend(serviceId, step, startTimeBucket, endTimeBucket).getThroughputTrend());
         return throughputTrend;
     }
 
     public ResponseTimeTrend getServiceResponseTimeTrend(int serviceId, Step step, long startTimeBucket,
         long endTimeBucket) throws ParseException {
         ResponseTimeTrend responseTimeTrend = new ResponseTimeTrend();
-        List<DurationPoint> durationPoints = DurationUtils.INSTANCE.getDurationPoints(step, startTimeBucket, endTimeBucket);
-        responseTimeTrend.setTrendList(serviceMetricUIDAO.getServiceResponseTimeTrend(serviceId, step, durationPoints));
+        responseTimeTrend.setTrendList(getServiceTrend(serviceId, step, startTimeBucket, endTimeBucket).getResponseTimeTrend());
         return responseTimeTrend;
     }
 
     public SLATrend getServiceSLATrend(int serviceId, Step step, long startTimeBucket,
         long endTimeBucket) throws ParseException {
         SLATrend slaTrend = new SLATrend();
-        List<DurationPoint> durationPoints = DurationUtils.INSTANCE.getDurationPoints(step, startTimeBucket, endTimeBucket);
-        slaTrend.setTrendList(serviceMetricUIDAO.getServiceSLATrend(serviceId, step, durationPoints));
+        slaTrend.setTrendList(getServiceTrend(serviceId, step, startTimeBucket, endTimeBucket).getSLATrend());
         return slaTrend;
     }
 
+    private TransactionTrend getServiceTrend(int serviceId, Step step, long startTimeBucket,
+        long endTimeBucket) throws ParseException {
+        List<DurationPoint> durationPoints = DurationUtils.INSTANCE.getDurationPoints(step, startTimeBucket, endTimeBucket);
+        return trendCache.get(serviceId, step, startTimeBucket, endTimeBucket, () -> serviceMetricUIDAO.getServiceTrend(serviceId, step, durationPoints));
+    }
+
     public List<ServiceMetric> getSlowService(Step step, long startTimeBucket, long endTimeBucket,
         long startSecondTimeBucket, long endSecondTimeBucket, Integer topN) {
         List<ServiceMetric> slowServices = serviceMetricUIDAO.getSlowService(0, step, startTimeBucket, endTimeBucket, topN, MetricSource.Callee);
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.collector.ui.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.collector.core.util.Const;
+import org.apache.skywalking.apm.collector.storage.ui.common.Step;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
+
+/**
+ * Keeps the transaction trends for a few seconds, so the response time, throughput and SLA trends of the same
+ * entity and duration, which are queried together by every open dashboard, share a single load.
+ */
+class TransactionTrendCache {
+
+    private static final int EXPIRE_SECONDS = 5;
+    private static final int MAX_SIZE = 1000;
+
+    private final Cache<String, TransactionTrend> trends = CacheBuilder.newBuilder()
+        .expireAfterWrite(EXPIRE_SECONDS, TimeUnit.SECONDS)
+        .maximumSize(MAX_SIZE)
+        .build();
+
+    /**
+     * Concurrent callers with the same key wait for the same load.
+     */
+    TransactionTrend get(int id, Step step, long startTimeBucket, long endTimeBucket,
+        Callable<TransactionTrend> loader) {
+        String key = id + Const.ID_SPLIT + step.name() + Const.ID_SPLIT + startTimeBucket + Const.ID_SPLIT + endTimeBucket;
+        try {
+            return trends.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -26,6 +26,8 @@ import org.apache.skywalking.apm.collector.storage.dao.ui.*;
 import org.apache.skywalking.apm.collector.storage.table.register.*;
 import org.apache.skywalking.apm.collector.storage.ui.common.*;
 import org.apache.skywalking.apm.collector.storage.ui.server.*;
+import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
 import org.apache.skywalking.apm.collector.ui.utils.DurationUtils;
 import org.junit.*;
 import org.mockito.Mockito;
@@ -131,7 +133,7 @@ public class ServerServiceTest {
 
     @Test
     public void getServerResponseTimeTrend() throws ParseException {
-        when(instanceMetricUIDAO.getResponseTimeTrend(anyInt(), anyObject(), anyObject())).then(invocation -> Collections.singletonList(1));
+        when(instanceMetricUIDAO.getServerTrend(anyInt(), anyObject(), anyObject())).then(invocation -> new TransactionTrend(Collections.singletonList(new DurationPoint(201801, 0, 0))));
         ResponseTimeTrend serverResponseTimeTrend = serverService.getServerResponseTimeTrend(1, duration.getStep(), startTimeBucket, endTimeBucket);
         Assert.assertTrue(serverResponseTimeTrend.getTrendList().size() == 1);
     }
@@ -155,6 +157,7 @@ public class ServerServiceTest {
 
     @Test
     public void getServerThroughputTrend() throws ParseException {
+        when(instanceMetricUIDAO.getServerTrend(anyInt(), anyObject(), anyObject())).then(invocation -> new TransactionTrend(Collections.emptyList()));
         ThroughputTrend serverTPSTrend = serverService.getServerThroughputTrend(1, duration.getStep(), startTimeBucket, endTimeBucket);
         Assert.assertNotNull(serverTPSTrend);
     }
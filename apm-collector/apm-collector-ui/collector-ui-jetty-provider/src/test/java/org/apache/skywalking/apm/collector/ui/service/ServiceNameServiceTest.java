@@ -25,6 +25,8 @@ import org.apache.skywalking.apm.collector.storage.dao.ui.*;
 import org.apache.skywalking.apm.collector.storage.table.register.ServiceName;
 import org.apache.skywalking.apm.collector.storage.ui.common.*;
 import org.apache.skywalking.apm.collector.storage.ui.service.*;
+import org.apache.skywalking.apm.collector.storage.utils.DurationPoint;
+import org.apache.skywalking.apm.collector.storage.utils.TransactionTrend;
 import org.apache.skywalking.apm.collector.ui.utils.DurationUtils;
 import org.junit.*;
 import org.mockito.Mockito;
@@ -88,22 +90,49 @@ public class ServiceNameServiceTest {
 
     @Test
     public void getServiceThroughputTrend() throws ParseException {
+        mockServiceTrend();
         ThroughputTrend serviceTPSTrend = serverNameService.getServiceThroughputTrend(1, duration.getStep(), startTimeBucket, endTimeBucket);
         Assert.assertNotNull(serviceTPSTrend);
     }
 
     @Test
     public void getServiceResponseTimeTrend() throws ParseException {
+        mockServiceTrend();
         ResponseTimeTrend serviceResponseTimeTrend = serverNameService.getServiceResponseTimeTrend(1, duration.getStep(), startTimeBucket, endTimeBucket);
         Assert.assertNotNull(serviceResponseTimeTrend);
     }
 
     @Test
     public void getServiceSLATrend() throws ParseException {
+        mockServiceTrend();
         SLATrend serviceSLATrend = serverNameService.getServiceSLATrend(1, duration.getStep(), startTimeBucket, endTimeBucket);
         Assert.assertNotNull(serviceSLATrend);
     }
 
+    @Test
+    public void getServiceTrendsLoadOnce() throws ParseException {
+        when(serviceMetricUIDAO.getServiceTrend(anyInt(), anyObject(), anyObject())).then(invocation -> {
+            List<DurationPoint> durationPoints = invocation.getArgumentAt(2, List.class);
+            TransactionTrend trend = new TransactionTrend(durationPoints);
+            trend.setMetric(0, 100, 10, 2000);
+            return trend;
+        });
+
+        ThroughputTrend throughputTrend = serverNameService.getServiceThroughputTrend(1, duration.getStep(), startTimeBucket, endTimeBucket);
+        ResponseTimeTrend responseTimeTrend = serverNameService.getServiceResponseTimeTrend(1, duration.getStep(), startTimeBucket, endTimeBucket);
+        SLATrend slaTrend = serverNameService.getServiceSLATrend(1, duration.getStep(), startTimeBucket, endTimeBucket);
+
+        Mockito.verify(serviceMetricUIDAO, Mockito.times(1)).getServiceTrend(anyInt(), anyObject(), anyObject());
+        Assert.assertEquals(20, (int)responseTimeTrend.getTrendList().get(0));
+        Assert.assertEquals(9000, (int)slaTrend.getTrendList().get(0));
+        Assert.assertEquals(10000, (int)slaTrend.getTrendList().get(1));
+        Assert.assertEquals(0, (int)throughputTrend.getTrendList().get(1));
+    }
+
+    private void mockServiceTrend() {
+        when(serviceMetricUIDAO.getServiceTrend(anyInt(), anyObject(), anyObject())).then(invocation -> new TransactionTrend(Collections.emptyList()));
+    }
+
     @Test
     public void getSlowService() throws ParseException {
         when(serviceMetricUIDAO.getSlowService(anyInt(), anyObject(), anyLong(), anyLong(), anyInt(), anyObject())).then(invocation -> {
@@ -18,10 +18,18 @@
 
 package org.apache.skywalking.apm.commons.datacarrier;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.skywalking.apm.commons.datacarrier.buffer.BufferStrategy;
+import org.apache.skywalking.apm.commons.datacarrier.buffer.BufferType;
 import org.apache.skywalking.apm.commons.datacarrier.buffer.Channels;
+import org.apache.skywalking.apm.commons.datacarrier.consumer.BulkConsumePool;
 import org.apache.skywalking.apm.commons.datacarrier.consumer.ConsumerPool;
+import org.apache.skywalking.apm.commons.datacarrier.consumer.ConsumerStatistics;
 import org.apache.skywalking.apm.commons.datacarrier.consumer.IConsumer;
+import org.apache.skywalking.apm.commons.datacarrier.consumer.IdleStrategy;
+import org.apache.skywalking.apm.commons.datacarrier.consumer.SleepIdleStrategy;
 import org.apache.skywalking.apm.commons.datacarrier.partition.IDataPartitioner;
 import org.apache.skywalking.apm.commons.datacarrier.partition.SimpleRollingPartitioner;
 
@@ -33,11 +41,20 @@ public class DataCarrier<T> {
     private final int channelSize;
     private Channels<T> channels;
     private ConsumerPool<T> consumerPool;
+    private volatile BulkConsumePool bulkConsumePool;
+    private final AtomicLong overflowCount = new AtomicLong(0);
 
     public DataCarrier(int channelSize, int bufferSize) {
+        this(channelSize, bufferSize, BufferType.ARRAY);
+    }
+
+    /**
+     * @param bufferType implementation of each channel, see {@link BufferType}
+     */
+    public DataCarrier(int channelSize, int bufferSize, BufferType bufferType) {
         this.bufferSize = bufferSize;
         this.channelSize = channelSize;
-        channels = new Channels<T>(channelSize, bufferSize, new SimpleRollingPartitioner<T>(), BufferStrategy.BLOCKING);
+        channels = new Channels<T>(channelSize, bufferSize, new SimpleRollingPartitioner<T>(), BufferStrategy.BLOCKING, bufferType);
     }
 
     /**
@@ -79,9 +96,44 @@ public class DataCarrier<T> {
             }
         }
 
+        BulkConsumePool consumePool = this.bulkConsumePool;
+        if (consumePool != null && consumePool.isConsumerThread(Thread.currentThread())) {
+            // the consumer thread of the pool may be the only one to drain this carrier, never block it, and keep the
+            // data in the overflow queue when the carrier is full.
+            if (this.channels.hasOverflow() || !this.channels.trySave(data)) {
+                this.channels.spill(data);
+                overflowCount.incrementAndGet();
+            }
+            return true;
+        }
+
         return this.channels.save(data);
     }
 
+    /**
+     * produce data to buffer without blocking, whatever the {@link BufferStrategy} is.
+     *
+     * @param data
+     * @return false means the buffer is full or the consumers stopped. The data will not be consumed.
+     */
+    public boolean tryProduce(T data) {
+        if (consumerPool != null) {
+            if (!consumerPool.isRunning()) {
+                return false;
+            }
+        }
+
+        return this.channels.trySave(data);
+    }
+
+    /**
+     * @return the number of data spilled into the overflow queue, because the carrier was full when a consumer thread
+     * of its {@link BulkConsumePool} produced into it.
+     */
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
     /**
      * set consumers to this Carrier. consumer begin to run when {@link DataCarrier#produce} begin to work.
      *
@@ -89,10 +141,21 @@ public class DataCarrier<T> {
      * @param num number of consumer threads
      */
     public DataCarrier consume(Class<? extends IConsumer<T>> consumerClass, int num, long consumeCycle) {
+        return this.consume(consumerClass, num, new SleepIdleStrategy(consumeCycle));
+    }
+
+    /**
+     * set consumers to this Carrier. consumer begin to run when {@link DataCarrier#produce} begin to work.
+     *
+     * @param consumerClass class of consumer
+     * @param num number of consumer threads
+     * @param idleStrategy decide how the consumer threads wait when there is no data.
+     */
+    public DataCarrier consume(Class<? extends IConsumer<T>> consumerClass, int num, IdleStrategy idleStrategy) {
         if (consumerPool != null) {
             consumerPool.close();
         }
-        consumerPool = new ConsumerPool<T>(this.channels, consumerClass, num, consumeCycle);
+        consumerPool = new ConsumerPool<T>(this.channels, consumerClass, num, idleStrategy);
         consumerPool.begin();
         return this;
     }
@@ -116,10 +179,22 @@ public class DataCarrier<T> {
      * @return
      */
     public DataCarrier consume(IConsumer<T> consumer, int num, long consumeCycle) {
+        return this.consume(consumer, num, new SleepIdleStrategy(consumeCycle));
+    }
+
+    /**
+     * set consumers to this Carrier. consumer begin to run when {@link DataCarrier#produce} begin to work.
+     *
+     * @param consumer single instance of consumer, all consumer threads will all use this instance.
+     * @param num number of consumer threads
+     * @param idleStrategy decide how the consumer threads wait when there is no data.
+     * @return
+     */
+    public DataCarrier consume(IConsumer<T> consumer, int num, IdleStrategy idleStrategy) {
         if (consumerPool != null) {
             consumerPool.close();
         }
-        consumerPool = new ConsumerPool<T>(this.channels, consumer, num, consumeCycle);
+        consumerPool = new ConsumerPool<T>(this.channels, consumer, num, idleStrategy);
         consumerPool.begin();
         return this;
     }
@@ -136,6 +211,38 @@ public class DataCarrier<T> {
         return this.consume(consumer, num, 20);
     }
 
+    /**
+     * set consumer to this Carrier, run in one of the threads of the shared {@link BulkConsumePool}. The pool should be
+     * started by the owner.
+     *
+     * @param consumePool shared by several carriers.
+     * @param consumer single instance of consumer.
+     */
+    public DataCarrier consume(BulkConsumePool consumePool, IConsumer<T> consumer) {
+        if (consumerPool != null) {
+            consumerPool.close();
+            consumerPool = null;
+        }
+        consumePool.add(this.channels, consumer);
+        this.bulkConsumePool = consumePool;
+        return this;
+    }
+
+    /**
+     * @return busy and idle cycles of each consumer thread, empty if no consumer. The cycles of the {@link
+     * BulkConsumePool} thread only count whether this carrier got data.
+     */
+    public List<ConsumerStatistics> getConsumerStatistics() {
+        BulkConsumePool consumePool = this.bulkConsumePool;
+        if (consumePool != null) {
+            return consumePool.statistics(channels);
+        }
+        if (consumerPool == null) {
+            return Collections.emptyList();
+        }
+        return consumerPool.statistics();
+    }
+
     /**
      * shutdown all consumer threads, if consumer threads are running. Notice {@link BufferStrategy}: if {@link
      * BufferStrategy} == {@link BufferStrategy#BLOCKING}, shutdown consumers maybe cause blocking when producing.
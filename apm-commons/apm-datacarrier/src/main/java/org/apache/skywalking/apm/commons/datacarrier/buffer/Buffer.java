@@ -26,7 +26,7 @@ import org.apache.skywalking.apm.commons.datacarrier.common.AtomicRangeInteger;
 /**
  * Created by wusheng on 2016/10/25.
  */
-public class Buffer<T> {
+public class Buffer<T> implements QueueBuffer<T> {
     private final Object[] buffer;
     private BufferStrategy strategy;
     private AtomicRangeInteger index;
@@ -39,15 +39,18 @@ public class Buffer<T> {
         callbacks = new LinkedList<QueueBlockingCallback<T>>();
     }
 
-    void setStrategy(BufferStrategy strategy) {
+    @Override
+    public void setStrategy(BufferStrategy strategy) {
         this.strategy = strategy;
     }
 
-    void addCallback(QueueBlockingCallback<T> callback) {
+    @Override
+    public void addCallback(QueueBlockingCallback<T> callback) {
         callbacks.add(callback);
     }
 
-    boolean save(T data) {
+    @Override
+    public boolean save(T data) {
         int i = index.getAndIncrement();
         if (buffer[i] != null) {
             switch (strategy) {
@@ -76,19 +79,39 @@ public class Buffer<T> {
         return true;
     }
 
+    @Override
+    public boolean trySave(T data) {
+        int i = index.getAndIncrement();
+        if (buffer[i] != null) {
+            return false;
+        }
+        buffer[i] = data;
+        return true;
+    }
+
+    @Override
     public int getBufferSize() {
         return buffer.length;
     }
 
+    @Override
+    public void obtain(List<T> consumeList) {
+        this.obtain(consumeList, 0, buffer.length);
+    }
+
     public LinkedList<T> obtain(int start, int end) {
         LinkedList<T> result = new LinkedList<T>();
+        this.obtain(result, start, end);
+        return result;
+    }
+
+    public void obtain(List<T> consumeList, int start, int end) {
         for (int i = start; i < end; i++) {
             if (buffer[i] != null) {
-                result.add((T)buffer[i]);
+                consumeList.add((T)buffer[i]);
                 buffer[i] = null;
             }
         }
-        return result;
     }
 
 }
@@ -18,7 +18,10 @@
 
 package org.apache.skywalking.apm.commons.datacarrier.buffer;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.skywalking.apm.commons.datacarrier.callback.QueueBlockingCallback;
+import org.apache.skywalking.apm.commons.datacarrier.consumer.IdleStrategy;
 import org.apache.skywalking.apm.commons.datacarrier.partition.IDataPartitioner;
 
 /**
@@ -26,16 +29,27 @@ import org.apache.skywalking.apm.commons.datacarrier.partition.IDataPartitioner;
  * is full. The Default is BLOCKING <p> Created by wusheng on 2016/10/25.
  */
 public class Channels<T> {
-    private final Buffer<T>[] bufferChannels;
+    private final QueueBuffer<T>[] bufferChannels;
     private IDataPartitioner<T> dataPartitioner;
     private BufferStrategy strategy;
+    private volatile IdleStrategy consumerIdleStrategy;
+    private final ConcurrentLinkedQueue<T> overflow = new ConcurrentLinkedQueue<T>();
 
     public Channels(int channelSize, int bufferSize, IDataPartitioner<T> partitioner, BufferStrategy strategy) {
+        this(channelSize, bufferSize, partitioner, strategy, BufferType.ARRAY);
+    }
+
+    public Channels(int channelSize, int bufferSize, IDataPartitioner<T> partitioner, BufferStrategy strategy,
+        BufferType bufferType) {
         this.dataPartitioner = partitioner;
         this.strategy = strategy;
-        bufferChannels = new Buffer[channelSize];
+        bufferChannels = new QueueBuffer[channelSize];
         for (int i = 0; i < channelSize; i++) {
-            bufferChannels[i] = new Buffer<T>(bufferSize, strategy);
+            if (BufferType.RING.equals(bufferType)) {
+                bufferChannels[i] = new RingBuffer<T>(bufferSize, strategy);
+            } else {
+                bufferChannels[i] = new Buffer<T>(bufferSize, strategy);
+            }
         }
     }
 
@@ -50,12 +64,76 @@ public class Channels<T> {
         }
         for (; retryCountDown > 0; retryCountDown--) {
             if (bufferChannels[index].save(data)) {
+                IdleStrategy idleStrategy = consumerIdleStrategy;
+                if (idleStrategy != null) {
+                    idleStrategy.wakeUp();
+                }
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * save data without blocking, whatever the strategy is.
+     *
+     * @param data to save
+     * @return false means the selected channel is full, and the data has been abandoned.
+     */
+    public boolean trySave(T data) {
+        int index = dataPartitioner.partition(bufferChannels.length, data);
+        if (bufferChannels[index].trySave(data)) {
+            IdleStrategy idleStrategy = consumerIdleStrategy;
+            if (idleStrategy != null) {
+                idleStrategy.wakeUp();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * save data into the unbounded overflow queue, which is consumed after the buffers. Only for the producers which
+     * must never block or lose data, e.g. a consumer thread which may be the only one to drain these channels.
+     *
+     * @param data to save
+     */
+    public void spill(T data) {
+        overflow.offer(data);
+        IdleStrategy idleStrategy = consumerIdleStrategy;
+        if (idleStrategy != null) {
+            idleStrategy.wakeUp();
+        }
+    }
+
+    /**
+     * @return true if the overflow queue has data, the later spilled data must follow it to keep the order.
+     */
+    public boolean hasOverflow() {
+        return !overflow.isEmpty();
+    }
+
+    /**
+     * move all the data in the overflow queue into the list.
+     *
+     * @param consumeList
+     */
+    public void obtainOverflow(List<T> consumeList) {
+        T data;
+        while ((data = overflow.poll()) != null) {
+            consumeList.add(data);
+        }
+    }
+
+    /**
+     * set the {@link IdleStrategy} of the consumers, producers signal it after data saved.
+     *
+     * @param consumerIdleStrategy
+     */
+    public void setConsumerIdleStrategy(IdleStrategy consumerIdleStrategy) {
+        this.consumerIdleStrategy = consumerIdleStrategy;
+    }
+
     public void setPartitioner(IDataPartitioner<T> dataPartitioner) {
         this.dataPartitioner = dataPartitioner;
     }
@@ -67,7 +145,7 @@ public class Channels<T> {
      * @param strategy
      */
     public void setStrategy(BufferStrategy strategy) {
-        for (Buffer<T> buffer : bufferChannels) {
+        for (QueueBuffer<T> buffer : bufferChannels) {
             buffer.setStrategy(strategy);
         }
     }
@@ -81,12 +159,12 @@ public class Channels<T> {
         return this.bufferChannels.length;
     }
 
-    public Buffer<T> getBuffer(int index) {
+    public QueueBuffer<T> getBuffer(int index) {
         return this.bufferChannels[index];
     }
 
     public void addCallback(QueueBlockingCallback<T> callback) {
-        for (Buffer<T> channel : bufferChannels) {
+        for (QueueBuffer<T> channel : bufferChannels) {
             channel.addCallback(callback);
         }
     }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.buffer;
+
+import java.util.List;
+import org.apache.skywalking.apm.commons.datacarrier.callback.QueueBlockingCallback;
+
+/**
+ * Queue buffer, a channel of {@link Channels}. Producers save data into it, and consumers obtain data from it.
+ */
+public interface QueueBuffer<T> {
+    /**
+     * Save data into the buffer, the {@link BufferStrategy} decides what to do when the buffer is full.
+     *
+     * @param data to save
+     * @return false means the data has been abandoned.
+     */
+    boolean save(T data);
+
+    /**
+     * Save data into the buffer only if there is a free slot, never block, whatever the {@link BufferStrategy} is.
+     *
+     * @param data to save
+     * @return false means the buffer is full, and the data has been abandoned.
+     */
+    boolean trySave(T data);
+
+    /**
+     * override the strategy at runtime.
+     *
+     * @param strategy
+     */
+    void setStrategy(BufferStrategy strategy);
+
+    void addCallback(QueueBlockingCallback<T> callback);
+
+    int getBufferSize();
+
+    /**
+     * Move all available data of the buffer into the given list.
+     *
+     * @param consumeList target list
+     */
+    void obtain(List<T> consumeList);
+}
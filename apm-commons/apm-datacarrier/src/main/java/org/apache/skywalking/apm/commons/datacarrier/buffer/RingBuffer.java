@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.buffer;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.skywalking.apm.commons.datacarrier.callback.QueueBlockingCallback;
+
+/**
+ * Ring buffer with per-slot sequence numbers.
+ *
+ * The capacity is rounded up to a power of two. Every slot keeps a sequence, which tells whether the slot is free for
+ * the producer of the given position, or published for the consumer of the given position. Producers and consumers
+ * claim positions by CAS on their own cursor, so the buffer is safe for multi producers and multi consumers, the
+ * consumers only read published slots, in the producing order.
+ *
+ * When the buffer is full, under {@link BufferStrategy#BLOCKING}, producers park until the consumers release slots.
+ */
+public class RingBuffer<T> implements QueueBuffer<T> {
+    /**
+     * Parked producers are unparked by consumers, this is only the upper bound of one park.
+     */
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong producerCursor;
+    private final AtomicLong consumerCursor;
+    private final ConcurrentLinkedQueue<Thread> parkedProducers;
+    private BufferStrategy strategy;
+    private List<QueueBlockingCallback<T>> callbacks;
+
+    RingBuffer(int bufferSize, BufferStrategy strategy) {
+        int capacity = 1;
+        while (capacity < bufferSize) {
+            capacity <<= 1;
+        }
+        buffer = new Object[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        mask = capacity - 1;
+        producerCursor = new AtomicLong(0);
+        consumerCursor = new AtomicLong(0);
+        parkedProducers = new ConcurrentLinkedQueue<Thread>();
+        this.strategy = strategy;
+        callbacks = new LinkedList<QueueBlockingCallback<T>>();
+    }
+
+    @Override
+    public void setStrategy(BufferStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void addCallback(QueueBlockingCallback<T> callback) {
+        callbacks.add(callback);
+    }
+
+    @Override
+    public boolean save(T data) {
+        boolean isFirstTimeBlocking = true;
+        while (!offer(data)) {
+            switch (strategy) {
+                case BLOCKING:
+                    if (isFirstTimeBlocking) {
+                        isFirstTimeBlocking = false;
+                        for (QueueBlockingCallback<T> callback : callbacks) {
+                            callback.notify(data);
+                        }
+                    }
+                    awaitFreeSlot();
+                    break;
+                case IF_POSSIBLE:
+                    return false;
+                case OVERRIDE:
+                default:
+                    // abandon the oldest one
+                    poll();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean trySave(T data) {
+        return offer(data);
+    }
+
+    @Override
+    public int getBufferSize() {
+        return buffer.length;
+    }
+
+    @Override
+    public void obtain(List<T> consumeList) {
+        int count = 0;
+        T data;
+        while (count < buffer.length && (data = poll()) != null) {
+            consumeList.add(data);
+            count++;
+        }
+        if (count > 0) {
+            for (Thread producer : parkedProducers) {
+                LockSupport.unpark(producer);
+            }
+        }
+    }
+
+    private boolean offer(T data) {
+        while (true) {
+            long position = producerCursor.get();
+            int index = (int)(position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerCursor.compareAndSet(position, position + 1)) {
+                    buffer[index] = data;
+                    // publish, the slot becomes readable for the consumer of this position.
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // the slot of the previous round hasn't been consumed, buffer is full.
+                return false;
+            }
+        }
+    }
+
+    private T poll() {
+        while (true) {
+            long position = consumerCursor.get();
+            int index = (int)(position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (consumerCursor.compareAndSet(position, position + 1)) {
+                    T data = (T)buffer[index];
+                    buffer[index] = null;
+                    // release, the slot becomes writable for the producer of the next round.
+                    sequences.set(index, position + buffer.length);
+                    return data;
+                }
+            } else if (difference < 0) {
+                // empty, or the slot has been claimed but not published yet.
+                return null;
+            }
+        }
+    }
+
+    private void awaitFreeSlot() {
+        Thread current = Thread.currentThread();
+        parkedProducers.offer(current);
+        try {
+            if (producerCursor.get() - consumerCursor.get() >= buffer.length) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+        } finally {
+            parkedProducers.remove(current);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.consumer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Busy spin first, then yield, then park with exponential back-off between min and max park period. A consumer of a
+ * busy buffer gets the new data almost without latency, and an idle one only wakes up once per max park period.
+ */
+public class BackoffIdleStrategy implements IdleStrategy {
+    private final int maxSpins;
+    private final int maxYields;
+    private final long minParkPeriodNanos;
+    private final long maxParkPeriodNanos;
+
+    /**
+     * Spin 10 cycles, yield 20 cycles, and park from 10 micros to 20 millis.
+     */
+    public BackoffIdleStrategy() {
+        this(10, 20, TimeUnit.MICROSECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    public BackoffIdleStrategy(int maxSpins, int maxYields, long minParkPeriodNanos, long maxParkPeriodNanos) {
+        this.maxSpins = maxSpins;
+        this.maxYields = maxYields;
+        this.minParkPeriodNanos = minParkPeriodNanos;
+        this.maxParkPeriodNanos = maxParkPeriodNanos;
+    }
+
+    @Override
+    public void idle(int idleCount) {
+        if (idleCount <= maxSpins) {
+            return;
+        }
+        if (idleCount <= maxSpins + maxYields) {
+            Thread.yield();
+            return;
+        }
+        LockSupport.parkNanos(parkPeriodNanos(idleCount));
+    }
+
+    long parkPeriodNanos(int idleCount) {
+        int backoff = Math.min(idleCount - maxSpins - maxYields - 1, 30);
+        long parkPeriodNanos = minParkPeriodNanos << backoff;
+        if (parkPeriodNanos <= 0 || parkPeriodNanos > maxParkPeriodNanos) {
+            return maxParkPeriodNanos;
+        }
+        return parkPeriodNanos;
+    }
+
+    @Override
+    public void wakeUp() {
+    }
+}
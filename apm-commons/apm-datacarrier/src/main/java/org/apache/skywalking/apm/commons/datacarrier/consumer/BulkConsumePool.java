@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.consumer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.skywalking.apm.commons.datacarrier.buffer.Channels;
+
+/**
+ * Pool of a fixed number of {@link MultipleChannelsConsumer}s, shared by many {@link
+ * org.apache.skywalking.apm.commons.datacarrier.DataCarrier}s. Carriers are assigned to the consumer threads in
+ * round-robin, and each carrier is always consumed by the same thread.
+ *
+ * Prefer {@link org.apache.skywalking.apm.commons.datacarrier.buffer.BufferType#RING} for the carriers, the consumer
+ * threads drain every buffer of every carrier in each cycle.
+ *
+ * A consumer thread never blocks when it produces into a carrier of the same pool, the target carrier may be drained by
+ * this very thread. The data goes into the unbounded overflow queue of the target if it is full, see {@link
+ * org.apache.skywalking.apm.commons.datacarrier.DataCarrier#getOverflowCount()}. The producers out of the pool still
+ * block on the full carriers, so the overflow only holds what the pool threads are processing.
+ */
+public class BulkConsumePool {
+    private boolean running;
+    private final MultipleChannelsConsumer[] consumerThreads;
+    private final IdleStrategy idleStrategy;
+    private int nextThreadIndex;
+    private ReentrantLock lock;
+
+    public BulkConsumePool(String name, int size, IdleStrategy idleStrategy) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size of BulkConsumePool should be greater than 0.");
+        }
+        this.running = false;
+        this.idleStrategy = idleStrategy;
+        this.nextThreadIndex = 0;
+        this.lock = new ReentrantLock();
+        consumerThreads = new MultipleChannelsConsumer[size];
+        for (int i = 0; i < size; i++) {
+            consumerThreads[i] = new MultipleChannelsConsumer("DataCarrier." + name + ".BulkConsumePool." + i + ".Thread", idleStrategy);
+            consumerThreads[i].setDaemon(true);
+        }
+    }
+
+    /**
+     * Consume the channels by the given consumer, in one of the pool threads.
+     */
+    public <T> void add(Channels<T> channels, IConsumer<T> consumer) {
+        try {
+            lock.lock();
+            consumer.init();
+            channels.setConsumerIdleStrategy(idleStrategy);
+            consumerThreads[nextThreadIndex].addNewTarget(channels, consumer);
+            nextThreadIndex = (nextThreadIndex + 1) % consumerThreads.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void begin() {
+        if (running) {
+            return;
+        }
+        try {
+            lock.lock();
+            for (MultipleChannelsConsumer consumerThread : consumerThreads) {
+                consumerThread.start();
+            }
+            running = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true if the given thread is one of the consumer threads of this pool.
+     */
+    public boolean isConsumerThread(Thread thread) {
+        for (MultipleChannelsConsumer consumerThread : consumerThreads) {
+            if (consumerThread == thread) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return busy and idle cycles of each consumer thread.
+     */
+    public List<ConsumerStatistics> statistics() {
+        List<ConsumerStatistics> statistics = new ArrayList<ConsumerStatistics>(consumerThreads.length);
+        for (MultipleChannelsConsumer consumerThread : consumerThreads) {
+            statistics.add(new ConsumerStatistics(consumerThread.getName(), consumerThread.getBusyCycles(), consumerThread.getIdleCycles()));
+        }
+        return statistics;
+    }
+
+    /**
+     * @return the consume cycles of the thread which consumes the given channels, which got their data or not, empty
+     * if they aren't consumed by this pool.
+     */
+    public List<ConsumerStatistics> statistics(Channels<?> channels) {
+        for (MultipleChannelsConsumer consumerThread : consumerThreads) {
+            ConsumerStatistics statistics = consumerThread.statistics(channels);
+            if (statistics != null) {
+                return Collections.singletonList(statistics);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    public void close() {
+        try {
+            lock.lock();
+            this.running = false;
+            for (MultipleChannelsConsumer consumerThread : consumerThreads) {
+                consumerThread.shutdown();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
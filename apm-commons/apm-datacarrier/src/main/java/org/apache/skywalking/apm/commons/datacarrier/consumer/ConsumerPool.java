@@ -19,9 +19,11 @@
 package org.apache.skywalking.apm.commons.datacarrier.consumer;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.skywalking.apm.commons.datacarrier.buffer.Buffer;
 import org.apache.skywalking.apm.commons.datacarrier.buffer.Channels;
+import org.apache.skywalking.apm.commons.datacarrier.buffer.QueueBuffer;
 
 /**
  * Pool of consumers <p> Created by wusheng on 2016/10/25.
@@ -30,29 +32,40 @@ public class ConsumerPool<T> {
     private boolean running;
     private ConsumerThread[] consumerThreads;
     private Channels<T> channels;
+    private IdleStrategy idleStrategy;
     private ReentrantLock lock;
 
     public ConsumerPool(Channels<T> channels, Class<? extends IConsumer<T>> consumerClass, int num, long consumeCycle) {
-        this(channels, num);
+        this(channels, consumerClass, num, new SleepIdleStrategy(consumeCycle));
+    }
+
+    public ConsumerPool(Channels<T> channels, Class<? extends IConsumer<T>> consumerClass, int num,
+        IdleStrategy idleStrategy) {
+        this(channels, num, idleStrategy);
         for (int i = 0; i < num; i++) {
-            consumerThreads[i] = new ConsumerThread("DataCarrier.Consumser." + i + ".Thread", getNewConsumerInstance(consumerClass), consumeCycle);
+            consumerThreads[i] = new ConsumerThread("DataCarrier.Consumser." + i + ".Thread", getNewConsumerInstance(consumerClass), idleStrategy);
             consumerThreads[i].setDaemon(true);
         }
     }
 
     public ConsumerPool(Channels<T> channels, IConsumer<T> prototype, int num, long consumeCycle) {
-        this(channels, num);
+        this(channels, prototype, num, new SleepIdleStrategy(consumeCycle));
+    }
+
+    public ConsumerPool(Channels<T> channels, IConsumer<T> prototype, int num, IdleStrategy idleStrategy) {
+        this(channels, num, idleStrategy);
         prototype.init();
         for (int i = 0; i < num; i++) {
-            consumerThreads[i] = new ConsumerThread("DataCarrier.Consumser." + i + ".Thread", prototype, consumeCycle);
+            consumerThreads[i] = new ConsumerThread("DataCarrier.Consumser." + i + ".Thread", prototype, idleStrategy);
             consumerThreads[i].setDaemon(true);
         }
 
     }
 
-    private ConsumerPool(Channels<T> channels, int num) {
+    private ConsumerPool(Channels<T> channels, int num, IdleStrategy idleStrategy) {
         running = false;
         this.channels = channels;
+        this.idleStrategy = idleStrategy;
         consumerThreads = new ConsumerThread[num];
         lock = new ReentrantLock();
     }
@@ -76,6 +89,7 @@ public class ConsumerPool<T> {
         try {
             lock.lock();
             this.allocateBuffer2Thread();
+            channels.setConsumerIdleStrategy(idleStrategy);
             for (ConsumerThread consumerThread : consumerThreads) {
                 consumerThread.start();
             }
@@ -89,6 +103,17 @@ public class ConsumerPool<T> {
         return running;
     }
 
+    /**
+     * @return busy and idle cycles of each consumer thread.
+     */
+    public List<ConsumerStatistics> statistics() {
+        List<ConsumerStatistics> statistics = new ArrayList<ConsumerStatistics>(consumerThreads.length);
+        for (ConsumerThread consumerThread : consumerThreads) {
+            statistics.add(new ConsumerStatistics(consumerThread.getName(), consumerThread.getBusyCycles(), consumerThread.getIdleCycles()));
+        }
+        return statistics;
+    }
+
     private void allocateBuffer2Thread() {
         int channelSize = this.channels.getChannelSize();
         if (channelSize < consumerThreads.length) {
@@ -107,7 +132,18 @@ public class ConsumerPool<T> {
 
             for (int channelIndex = 0; channelIndex < channelSize; channelIndex++) {
                 ArrayList<Integer> threadAllocationPerChannel = threadAllocation[channelIndex];
-                Buffer<T> channel = this.channels.getBuffer(channelIndex);
+                QueueBuffer<T> queueBuffer = this.channels.getBuffer(channelIndex);
+                if (!(queueBuffer instanceof Buffer)) {
+                    /**
+                     * the slots of other buffers can't be split,
+                     * the consumers claim data from the whole buffer concurrently.
+                     */
+                    for (Integer threadIndex : threadAllocationPerChannel) {
+                        consumerThreads[threadIndex].addDataSource(queueBuffer);
+                    }
+                    continue;
+                }
+                Buffer<T> channel = (Buffer<T>)queueBuffer;
                 int bufferSize = channel.getBufferSize();
                 int step = bufferSize / threadAllocationPerChannel.size();
                 for (int i = 0; i < threadAllocationPerChannel.size(); i++) {
@@ -137,6 +173,7 @@ public class ConsumerPool<T> {
         try {
             lock.lock();
             this.running = false;
+            channels.setConsumerIdleStrategy(null);
             for (ConsumerThread consumerThread : consumerThreads) {
                 consumerThread.shutdown();
             }
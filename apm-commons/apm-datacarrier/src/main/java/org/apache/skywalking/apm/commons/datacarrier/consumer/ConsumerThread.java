@@ -19,9 +19,11 @@
 
 package org.apache.skywalking.apm.commons.datacarrier.consumer;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.skywalking.apm.commons.datacarrier.buffer.Buffer;
+import org.apache.skywalking.apm.commons.datacarrier.buffer.QueueBuffer;
+import org.apache.skywalking.apm.commons.datacarrier.common.DataBatch;
 
 /**
  * Created by wusheng on 2016/10/25.
@@ -29,15 +31,23 @@ import org.apache.skywalking.apm.commons.datacarrier.buffer.Buffer;
 public class ConsumerThread<T> extends Thread {
     private volatile boolean running;
     private IConsumer<T> consumer;
+    private IBatchConsumer<T> batchConsumer;
     private List<DataSource> dataSources;
-    private long consumeCycle;
+    private DataBatch<T> consumeBatch;
+    private IdleStrategy idleStrategy;
+    private volatile long busyCycles;
+    private volatile long idleCycles;
 
-    ConsumerThread(String threadName, IConsumer<T> consumer, long consumeCycle) {
+    ConsumerThread(String threadName, IConsumer<T> consumer, IdleStrategy idleStrategy) {
         super(threadName);
         this.consumer = consumer;
+        if (consumer instanceof IBatchConsumer) {
+            this.batchConsumer = (IBatchConsumer<T>)consumer;
+        }
         running = false;
-        dataSources = new LinkedList<DataSource>();
-        this.consumeCycle = consumeCycle;
+        dataSources = new ArrayList<DataSource>();
+        consumeBatch = new DataBatch<T>(128);
+        this.idleStrategy = idleStrategy;
     }
 
     /**
@@ -48,7 +58,7 @@ public class ConsumerThread<T> extends Thread {
      * @param end
      */
     void addDataSource(Buffer<T> sourceBuffer, int start, int end) {
-        this.dataSources.add(new DataSource(sourceBuffer, start, end));
+        this.dataSources.add(new DataSource(sourceBuffer, sourceBuffer, start, end));
     }
 
     /**
@@ -56,22 +66,27 @@ public class ConsumerThread<T> extends Thread {
      *
      * @param sourceBuffer
      */
-    void addDataSource(Buffer<T> sourceBuffer) {
-        this.dataSources.add(new DataSource(sourceBuffer, 0, sourceBuffer.getBufferSize()));
+    void addDataSource(QueueBuffer<T> sourceBuffer) {
+        this.dataSources.add(new DataSource(sourceBuffer, null, 0, sourceBuffer.getBufferSize()));
     }
 
     @Override
     public void run() {
         running = true;
 
+        int idleCount = 0;
         while (running) {
             boolean hasData = consume();
 
-            if (!hasData) {
-                try {
-                    Thread.sleep(consumeCycle);
-                } catch (InterruptedException e) {
+            if (hasData) {
+                idleCount = 0;
+                busyCycles++;
+            } else {
+                if (idleCount < Integer.MAX_VALUE) {
+                    idleCount++;
                 }
+                idleCycles++;
+                idleStrategy.idle(idleCount);
             }
         }
 
@@ -84,48 +99,85 @@ public class ConsumerThread<T> extends Thread {
 
     private boolean consume() {
         boolean hasData = false;
-        LinkedList<T> consumeList = new LinkedList<T>();
-        for (DataSource dataSource : dataSources) {
-            LinkedList<T> data = dataSource.obtain();
-            if (data.size() == 0) {
-                continue;
-            }
-            for (T element : data) {
-                consumeList.add(element);
+        for (int i = 0; i < dataSources.size(); i++) {
+            if (dataSources.get(i).obtain(consumeBatch)) {
+                hasData = true;
             }
-            hasData = true;
         }
 
-        if (consumeList.size() > 0) {
+        dispatch(consumer, batchConsumer, consumeBatch);
+        return hasData;
+    }
+
+    /**
+     * Hand the batch to the consumer if it isn't empty, and clear it.
+     *
+     * @param batchConsumer same instance as consumer if it is a {@link IBatchConsumer}, or null.
+     */
+    static <T> void dispatch(IConsumer<T> consumer, IBatchConsumer<T> batchConsumer, DataBatch<T> consumeBatch) {
+        if (consumeBatch.size() > 0) {
+            // the batch is reused, only batch consumers know not to hold it.
+            List<T> consumeList = batchConsumer != null ? consumeBatch : new ArrayList<T>(consumeBatch);
             try {
-                consumer.consume(consumeList);
+                if (batchConsumer != null) {
+                    batchConsumer.consume(consumeBatch);
+                } else {
+                    consumer.consume(consumeList);
+                }
             } catch (Throwable t) {
                 consumer.onError(consumeList, t);
+            } finally {
+                consumeBatch.clear();
             }
         }
-        return hasData;
     }
 
     void shutdown() {
         running = false;
+        idleStrategy.wakeUp();
     }
 
     /**
-     * DataSource is a refer to {@link Buffer}.
+     * @return the number of consume cycles which got data.
+     */
+    public long getBusyCycles() {
+        return busyCycles;
+    }
+
+    /**
+     * @return the number of consume cycles which got no data, and went into {@link IdleStrategy}.
+     */
+    public long getIdleCycles() {
+        return idleCycles;
+    }
+
+    /**
+     * DataSource is a refer to {@link QueueBuffer}. Only {@link Buffer} could be consumed partially.
      */
     class DataSource {
-        private Buffer<T> sourceBuffer;
+        private QueueBuffer<T> sourceBuffer;
+        private Buffer<T> partitionedBuffer;
         private int start;
         private int end;
 
-        DataSource(Buffer<T> sourceBuffer, int start, int end) {
+        DataSource(QueueBuffer<T> sourceBuffer, Buffer<T> partitionedBuffer, int start, int end) {
             this.sourceBuffer = sourceBuffer;
+            this.partitionedBuffer = partitionedBuffer;
             this.start = start;
             this.end = end;
         }
 
-        LinkedList<T> obtain() {
-            return sourceBuffer.obtain(start, end);
+        /**
+         * @return true if any data has been obtained.
+         */
+        boolean obtain(List<T> consumeList) {
+            int size = consumeList.size();
+            if (partitionedBuffer != null) {
+                partitionedBuffer.obtain(consumeList, start, end);
+            } else {
+                sourceBuffer.obtain(consumeList);
+            }
+            return consumeList.size() > size;
         }
     }
 }
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.consumer;
+
+/**
+ * Decide how a consumer thread waits, when a consume cycle gets no data. One instance is shared by all consumer
+ * threads of a {@link ConsumerPool}, so the state of a consumer thread, if any, must be kept per thread.
+ */
+public interface IdleStrategy {
+    /**
+     * Called by the consumer thread after a consume cycle got no data.
+     *
+     * @param idleCount how many consume cycles got no data continuously, start from 1.
+     */
+    void idle(int idleCount);
+
+    /**
+     * Called by producers after data saved. Strategies could wake the idle consumer threads up.
+     */
+    void wakeUp();
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.consumer;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.skywalking.apm.commons.datacarrier.buffer.Channels;
+import org.apache.skywalking.apm.commons.datacarrier.common.DataBatch;
+
+/**
+ * Consumer thread of {@link BulkConsumePool}. It consumes the channels of several {@link
+ * org.apache.skywalking.apm.commons.datacarrier.DataCarrier}s, each one by its own consumer. A target is only consumed
+ * by this thread, so the data of one carrier is consumed in the producing order.
+ */
+public class MultipleChannelsConsumer extends Thread {
+    private volatile boolean running;
+    private volatile List<Group> consumeTargets;
+    private final IdleStrategy idleStrategy;
+    private volatile long busyCycles;
+    private volatile long idleCycles;
+
+    MultipleChannelsConsumer(String threadName, IdleStrategy idleStrategy) {
+        super(threadName);
+        this.consumeTargets = new ArrayList<Group>();
+        this.idleStrategy = idleStrategy;
+    }
+
+    /**
+     * Add a new target, it is safe to do it when this thread is running.
+     */
+    synchronized <T> void addNewTarget(Channels<T> channels, IConsumer<T> consumer) {
+        List<Group> newTargets = new ArrayList<Group>(consumeTargets.size() + 1);
+        newTargets.addAll(consumeTargets);
+        newTargets.add(new Group<T>(channels, consumer));
+        consumeTargets = newTargets;
+    }
+
+    /**
+     * @return the number of carriers consumed by this thread.
+     */
+    int size() {
+        return consumeTargets.size();
+    }
+
+    @Override
+    public void run() {
+        running = true;
+
+        int idleCount = 0;
+        while (running) {
+            boolean hasData = consume();
+
+            if (hasData) {
+                idleCount = 0;
+                busyCycles++;
+            } else {
+                if (idleCount < Integer.MAX_VALUE) {
+                    idleCount++;
+                }
+                idleCycles++;
+                idleStrategy.idle(idleCount);
+            }
+        }
+
+        // consumer thread is going to stop
+        // consume the last time
+        consume();
+
+        for (Group target : consumeTargets) {
+            target.consumer.onExit();
+        }
+    }
+
+    private boolean consume() {
+        boolean hasData = false;
+        List<Group> targets = consumeTargets;
+        for (int i = 0; i < targets.size(); i++) {
+            if (targets.get(i).consume()) {
+                hasData = true;
+            }
+        }
+        return hasData;
+    }
+
+    void shutdown() {
+        running = false;
+        idleStrategy.wakeUp();
+    }
+
+    public long getBusyCycles() {
+        return busyCycles;
+    }
+
+    public long getIdleCycles() {
+        return idleCycles;
+    }
+
+    /**
+     * @return the consume cycles of this thread which got data of the given channels or not, null if this thread
+     * doesn't consume them.
+     */
+    ConsumerStatistics statistics(Channels<?> channels) {
+        for (Group target : consumeTargets) {
+            if (target.channels == channels) {
+                return new ConsumerStatistics(getName(), target.busyCycles, target.idleCycles);
+            }
+        }
+        return null;
+    }
+
+    private static class Group<T> {
+        private final Channels<T> channels;
+        private final IConsumer<T> consumer;
+        private final IBatchConsumer<T> batchConsumer;
+        private final DataBatch<T> consumeBatch;
+        private volatile long busyCycles;
+        private volatile long idleCycles;
+
+        private Group(Channels<T> channels, IConsumer<T> consumer) {
+            this.channels = channels;
+            this.consumer = consumer;
+            this.batchConsumer = consumer instanceof IBatchConsumer ? (IBatchConsumer<T>)consumer : null;
+            this.consumeBatch = new DataBatch<T>(128);
+        }
+
+        private boolean consume() {
+            for (int i = 0; i < channels.getChannelSize(); i++) {
+                channels.getBuffer(i).obtain(consumeBatch);
+            }
+            channels.obtainOverflow(consumeBatch);
+            boolean hasData = consumeBatch.size() > 0;
+            if (hasData) {
+                busyCycles++;
+            } else {
+                idleCycles++;
+            }
+            ConsumerThread.dispatch(consumer, batchConsumer, consumeBatch);
+            return hasData;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.consumer;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Idle consumer threads park until the producers signal new data, or the max park period passed. Each consumer thread
+ * has its own signal, which is set by the producers and cleared when the consumer goes back to consume. The producers
+ * only pay volatile reads while every consumer is busy or signaled, and only unpark the consumers which are parked and
+ * not signaled yet.
+ */
+public class SignalIdleStrategy implements IdleStrategy {
+    private final long maxParkPeriodNanos;
+    private final CopyOnWriteArrayList<Waiter> waiters;
+    private final ThreadLocal<Waiter> currentWaiter;
+
+    /**
+     * @param maxParkPeriod the max millis of one park, in case of no data arrived.
+     */
+    public SignalIdleStrategy(long maxParkPeriod) {
+        this.maxParkPeriodNanos = TimeUnit.MILLISECONDS.toNanos(maxParkPeriod);
+        this.waiters = new CopyOnWriteArrayList<Waiter>();
+        this.currentWaiter = new ThreadLocal<Waiter>() {
+            @Override
+            protected Waiter initialValue() {
+                Waiter waiter = new Waiter(Thread.currentThread());
+                waiters.add(waiter);
+                return waiter;
+            }
+        };
+    }
+
+    @Override
+    public void idle(int idleCount) {
+        Waiter waiter = currentWaiter.get();
+        if (!waiter.signaled) {
+            waiter.parked = true;
+            // check again, the producer may have missed the parked flag.
+            if (!waiter.signaled) {
+                LockSupport.parkNanos(this, maxParkPeriodNanos);
+            }
+            waiter.parked = false;
+        }
+        // the data signaled before is going to be consumed by the next cycle.
+        waiter.signaled = false;
+    }
+
+    @Override
+    public void wakeUp() {
+        for (Waiter waiter : waiters) {
+            if (!waiter.signaled) {
+                waiter.signaled = true;
+                if (waiter.parked) {
+                    LockSupport.unpark(waiter.thread);
+                }
+            }
+        }
+    }
+
+    private static class Waiter {
+        private final Thread thread;
+        private volatile boolean signaled;
+        private volatile boolean parked;
+
+        private Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.buffer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.apache.skywalking.apm.commons.datacarrier.SampleData;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RingBufferTest {
+    @Test
+    public void testCapacityIsPowerOfTwo() {
+        Assert.assertEquals(128, new RingBuffer<SampleData>(100, BufferStrategy.BLOCKING).getBufferSize());
+        Assert.assertEquals(64, new RingBuffer<SampleData>(64, BufferStrategy.BLOCKING).getBufferSize());
+    }
+
+    @Test
+    public void testObtainInProducingOrder() {
+        RingBuffer<SampleData> buffer = new RingBuffer<SampleData>(8, BufferStrategy.BLOCKING);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 6; i++) {
+                Assert.assertTrue(buffer.save(new SampleData().setIntValue(i)));
+            }
+            List<SampleData> result = new ArrayList<SampleData>();
+            buffer.obtain(result);
+            Assert.assertEquals(6, result.size());
+            for (int i = 0; i < 6; i++) {
+                Assert.assertEquals(i, result.get(i).getIntValue());
+            }
+        }
+    }
+
+    @Test
+    public void testIfPossibleSave() {
+        RingBuffer<SampleData> buffer = new RingBuffer<SampleData>(4, BufferStrategy.IF_POSSIBLE);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.save(new SampleData().setIntValue(i)));
+        }
+        Assert.assertFalse(buffer.save(new SampleData().setIntValue(4)));
+
+        List<SampleData> result = new ArrayList<SampleData>();
+        buffer.obtain(result);
+        Assert.assertEquals(4, result.size());
+    }
+
+    @Test
+    public void testOverrideSave() {
+        RingBuffer<SampleData> buffer = new RingBuffer<SampleData>(4, BufferStrategy.OVERRIDE);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(buffer.save(new SampleData().setIntValue(i)));
+        }
+
+        List<SampleData> result = new ArrayList<SampleData>();
+        buffer.obtain(result);
+        Assert.assertEquals(4, result.size());
+        Assert.assertEquals(6, result.get(0).getIntValue());
+        Assert.assertEquals(9, result.get(3).getIntValue());
+    }
+
+    @Test
+    public void testBlockingProducerResumesAfterObtain() throws InterruptedException {
+        final RingBuffer<SampleData> buffer = new RingBuffer<SampleData>(4, BufferStrategy.BLOCKING);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.save(new SampleData().setIntValue(i)));
+        }
+
+        final CountDownLatch saved = new CountDownLatch(1);
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                buffer.save(new SampleData().setIntValue(4));
+                saved.countDown();
+            }
+        }).start();
+
+        Thread.sleep(200);
+        Assert.assertEquals(1, saved.getCount());
+
+        List<SampleData> result = new ArrayList<SampleData>();
+        buffer.obtain(result);
+        Assert.assertEquals(4, result.size());
+
+        saved.await();
+        result.clear();
+        buffer.obtain(result);
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals(4, result.get(0).getIntValue());
+    }
+
+    @Test
+    public void testConcurrentProducersLoseNothing() throws InterruptedException {
+        final RingBuffer<SampleData> buffer = new RingBuffer<SampleData>(64, BufferStrategy.BLOCKING);
+        final int producerNum = 4;
+        final int dataPerProducer = 10000;
+        final CountDownLatch finished = new CountDownLatch(producerNum);
+        for (int p = 0; p < producerNum; p++) {
+            final int base = p * dataPerProducer;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < dataPerProducer; i++) {
+                        buffer.save(new SampleData().setIntValue(base + i));
+                    }
+                    finished.countDown();
+                }
+            }).start();
+        }
+
+        HashSet<Integer> values = new HashSet<Integer>();
+        List<SampleData> result = new ArrayList<SampleData>();
+        while (finished.getCount() > 0 || values.size() < producerNum * dataPerProducer) {
+            result.clear();
+            buffer.obtain(result);
+            for (SampleData data : result) {
+                Assert.assertTrue(values.add(data.getIntValue()));
+            }
+        }
+        Assert.assertEquals(producerNum * dataPerProducer, values.size());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DataBatchTest {
+    @Test
+    public void testAddAndClear() {
+        DataBatch<Integer> batch = new DataBatch<Integer>(2);
+        for (int i = 0; i < 5; i++) {
+            batch.add(i);
+        }
+        Assert.assertEquals(5, batch.size());
+        Assert.assertEquals(4, batch.get(4).intValue());
+
+        batch.clear();
+        Assert.assertEquals(0, batch.size());
+        Assert.assertTrue(batch.isEmpty());
+
+        batch.add(10);
+        Assert.assertEquals(1, batch.size());
+        Assert.assertEquals(10, batch.get(0).intValue());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfSize() {
+        DataBatch<Integer> batch = new DataBatch<Integer>(4);
+        batch.add(1);
+        batch.get(1);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.consumer;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.skywalking.apm.commons.datacarrier.DataCarrier;
+import org.apache.skywalking.apm.commons.datacarrier.SampleData;
+import org.apache.skywalking.apm.commons.datacarrier.buffer.BufferType;
+import org.apache.skywalking.apm.commons.datacarrier.common.DataBatch;
+import org.junit.Assert;
+import org.junit.Test;
+import org.powermock.api.support.membermodification.MemberModifier;
+
+public class BulkConsumePoolTest {
+    @Test
+    public void testConsumeInOrder() throws InterruptedException, IllegalAccessException {
+        BulkConsumePool pool = new BulkConsumePool("test", 2, new BackoffIdleStrategy());
+        pool.begin();
+
+        List<DataCarrier<SampleData>> carriers = new ArrayList<DataCarrier<SampleData>>();
+        List<OrderedConsumer> consumers = new ArrayList<OrderedConsumer>();
+        for (int i = 0; i < 5; i++) {
+            DataCarrier<SampleData> carrier = new DataCarrier<SampleData>(1, 64, BufferType.RING);
+            OrderedConsumer consumer = new OrderedConsumer();
+            carrier.consume(pool, consumer);
+            carriers.add(carrier);
+            consumers.add(consumer);
+        }
+
+        MultipleChannelsConsumer[] threads = (MultipleChannelsConsumer[])MemberModifier.field(BulkConsumePool.class, "consumerThreads").get(pool);
+        Assert.assertEquals(3, threads[0].size());
+        Assert.assertEquals(2, threads[1].size());
+
+        for (int i = 0; i < 1000; i++) {
+            for (DataCarrier<SampleData> carrier : carriers) {
+                Assert.assertTrue(carrier.produce(new SampleData().setIntValue(i)));
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        for (OrderedConsumer consumer : consumers) {
+            while (consumer.next < 1000 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(1000, consumer.next);
+            Assert.assertFalse(consumer.outOfOrder);
+        }
+        Assert.assertEquals(2, pool.statistics().size());
+        List<ConsumerStatistics> statistics = carriers.get(1).getConsumerStatistics();
+        Assert.assertEquals(1, statistics.size());
+        Assert.assertEquals(threads[1].getName(), statistics.get(0).getConsumerName());
+        Assert.assertTrue(statistics.get(0).getBusyCycles() > 0);
+
+        pool.close();
+    }
+
+    @Test
+    public void testChainedCarriersNeverBlockPoolThread() throws InterruptedException {
+        BulkConsumePool pool = new BulkConsumePool("chain", 1, new BackoffIdleStrategy());
+        pool.begin();
+
+        final DataCarrier<SampleData> second = new DataCarrier<SampleData>(1, 2, BufferType.RING);
+        final OrderedConsumer secondConsumer = new OrderedConsumer();
+        second.consume(pool, secondConsumer);
+
+        DataCarrier<SampleData> first = new DataCarrier<SampleData>(1, 64, BufferType.RING);
+        final OrderedConsumer firstConsumer = new OrderedConsumer() {
+            @Override
+            public void consume(DataBatch<SampleData> batch) {
+                super.consume(batch);
+                // the same thread drains the second carrier, blocking here would hang the pool.
+                for (int i = 0; i < batch.size(); i++) {
+                    second.produce(batch.get(i));
+                }
+            }
+        };
+        first.consume(pool, firstConsumer);
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(first.produce(new SampleData().setIntValue(i)));
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (secondConsumer.next < 1000 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1000, firstConsumer.next);
+        Assert.assertEquals(1000, secondConsumer.next);
+        Assert.assertFalse(secondConsumer.outOfOrder);
+        Assert.assertTrue(second.getOverflowCount() > 0);
+        Assert.assertEquals(0, first.getOverflowCount());
+
+        pool.close();
+    }
+
+    class OrderedConsumer implements IBatchConsumer<SampleData> {
+        private volatile int next = 0;
+        private volatile boolean outOfOrder = false;
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public void consume(DataBatch<SampleData> batch) {
+            for (int i = 0; i < batch.size(); i++) {
+                if (batch.get(i).getIntValue() != next) {
+                    outOfOrder = true;
+                }
+                next++;
+            }
+        }
+
+        @Override
+        public void consume(List<SampleData> data) {
+        }
+
+        @Override
+        public void onError(List<SampleData> data, Throwable t) {
+        }
+
+        @Override
+        public void onExit() {
+        }
+    }
+}
@@ -20,11 +20,15 @@
 package org.apache.skywalking.apm.commons.datacarrier.consumer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.LinkedBlockingQueue;
 import org.apache.skywalking.apm.commons.datacarrier.DataCarrier;
 import org.apache.skywalking.apm.commons.datacarrier.SampleData;
+import org.apache.skywalking.apm.commons.datacarrier.common.DataBatch;
 import org.junit.Assert;
 import org.junit.Test;
 import org.powermock.api.support.membermodification.MemberModifier;
@@ -100,6 +104,42 @@ public class ConsumerTest {
         Assert.assertTrue(IS_OCCUR_ERROR);
     }
 
+    @Test
+    public void testBatchConsumerReusesBatch() throws InterruptedException {
+        final DataCarrier<SampleData> carrier = new DataCarrier<SampleData>(2, 100);
+
+        SampleBatchConsumer consumer = new SampleBatchConsumer();
+        carrier.consume(consumer, 1);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                Assert.assertTrue(carrier.produce(new SampleData().setName("data" + i)));
+            }
+            Thread.sleep(200);
+        }
+        carrier.shutdownConsumers();
+
+        Assert.assertEquals(300, consumer.count);
+        Assert.assertEquals(1, consumer.batches.size());
+        Assert.assertFalse(consumer.isListConsumed);
+    }
+
+    class SampleBatchConsumer extends SampleConsumer2 implements IBatchConsumer<SampleData> {
+        private int count = 0;
+        private Set<DataBatch<SampleData>> batches = Collections.newSetFromMap(new IdentityHashMap<DataBatch<SampleData>, Boolean>());
+        private boolean isListConsumed = false;
+
+        @Override
+        public void consume(DataBatch<SampleData> batch) {
+            count += batch.size();
+            batches.add(batch);
+        }
+
+        @Override
+        public void consume(List<SampleData> data) {
+            isListConsumed = true;
+        }
+    }
+
     class SampleConsumer2 implements IConsumer<SampleData> {
         public int i = 1;
 
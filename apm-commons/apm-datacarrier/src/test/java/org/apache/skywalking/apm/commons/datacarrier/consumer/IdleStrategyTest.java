@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.commons.datacarrier.consumer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.commons.datacarrier.DataCarrier;
+import org.apache.skywalking.apm.commons.datacarrier.SampleData;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IdleStrategyTest {
+    @Test
+    public void testBackoffParkPeriod() {
+        BackoffIdleStrategy strategy = new BackoffIdleStrategy(2, 3, 1000, 10000);
+        Assert.assertEquals(1000, strategy.parkPeriodNanos(6));
+        Assert.assertEquals(2000, strategy.parkPeriodNanos(7));
+        Assert.assertEquals(8000, strategy.parkPeriodNanos(9));
+        Assert.assertEquals(10000, strategy.parkPeriodNanos(10));
+        Assert.assertEquals(10000, strategy.parkPeriodNanos(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testSignalWakesUpParkedConsumer() throws InterruptedException {
+        DataCarrier<SampleData> carrier = new DataCarrier<SampleData>(1, 100);
+        final CountDownLatch consumed = new CountDownLatch(1);
+        carrier.consume(new SampleConsumer() {
+            @Override
+            public void consume(List<SampleData> data) {
+                consumed.countDown();
+            }
+        }, 1, new SignalIdleStrategy(60 * 1000));
+
+        // let the consumer go idle and park
+        Thread.sleep(200);
+        List<ConsumerStatistics> statistics = carrier.getConsumerStatistics();
+        Assert.assertEquals(1, statistics.size());
+        Assert.assertEquals(0, statistics.get(0).getBusyCycles());
+        Assert.assertTrue(statistics.get(0).getIdleCycles() > 0);
+
+        carrier.produce(new SampleData().setName("signal"));
+        Assert.assertTrue(consumed.await(5, TimeUnit.SECONDS));
+        // the busy cycle is recorded after consume() returns, wait for it rather than reading it right away
+        long deadline = System.currentTimeMillis() + 5000;
+        long busyCycles = carrier.getConsumerStatistics().get(0).getBusyCycles();
+        while (busyCycles < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            busyCycles = carrier.getConsumerStatistics().get(0).getBusyCycles();
+        }
+        Assert.assertTrue(busyCycles >= 1);
+
+        carrier.shutdownConsumers();
+    }
+
+    @Test
+    public void testSignalWakesUpEveryParkedConsumer() throws InterruptedException {
+        BulkConsumePool pool = new BulkConsumePool("signal", 2, new SignalIdleStrategy(60 * 1000));
+        pool.begin();
+        final CountDownLatch consumed = new CountDownLatch(2);
+        List<DataCarrier<SampleData>> carriers = new ArrayList<DataCarrier<SampleData>>();
+        for (int i = 0; i < 2; i++) {
+            DataCarrier<SampleData> carrier = new DataCarrier<SampleData>(1, 100);
+            carrier.consume(pool, new SampleConsumer() {
+                @Override
+                public void consume(List<SampleData> data) {
+                    consumed.countDown();
+                }
+            });
+            carriers.add(carrier);
+        }
+
+        // let both consumers go idle and park, each carrier is consumed by its own thread.
+        Thread.sleep(200);
+        for (DataCarrier<SampleData> carrier : carriers) {
+            carrier.produce(new SampleData().setName("signal"));
+        }
+        Assert.assertTrue(consumed.await(5, TimeUnit.SECONDS));
+
+        pool.close();
+    }
+
+    @Test
+    public void testBackoffConsumer() throws InterruptedException {
+        DataCarrier<SampleData> carrier = new DataCarrier<SampleData>(2, 100);
+        final CountDownLatch consumed = new CountDownLatch(200);
+        carrier.consume(new SampleConsumer() {
+            @Override
+            public void consume(List<SampleData> data) {
+                for (SampleData one : data) {
+                    consumed.countDown();
+                }
+            }
+        }, 1, new BackoffIdleStrategy());
+
+        for (int i = 0; i < 200; i++) {
+            Assert.assertTrue(carrier.produce(new SampleData().setName("data" + i)));
+        }
+        Assert.assertTrue(consumed.await(5, TimeUnit.SECONDS));
+
+        carrier.shutdownConsumers();
+    }
+}
@@ -70,6 +70,17 @@ public class Config {
          * Skywalking team may ask for these files in order to resolve compatible problem.
          */
         public static boolean IS_OPEN_DEBUGGING_CLASS = false;
+
+        /**
+         * The number of threads scanning the plugin and activation jars at startup, 1 means scanning them one by one.
+         */
+        public static int JAR_SCAN_THREADS = 1;
+
+        /**
+         * The file to remember the matched types between the starts, so the matchers are skipped for the known types.
+         * Blank means off, by default.
+         */
+        public static String ENHANCE_CACHE_FILE = "";
     }
 
     public static class Collector {
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.agent.core.context;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import org.apache.skywalking.apm.agent.core.boot.ServiceManager;
@@ -71,11 +72,16 @@ public class TracingContext implements AbstractTracerContext {
     private TraceSegment segment;
 
     /**
-     * Active spans stored in a Stack, usually called 'ActiveSpanStack'. This {@link LinkedList} is the in-memory
-     * storage-structure. <p> I use {@link LinkedList#removeLast()}, {@link LinkedList#addLast(Object)} and {@link
-     * LinkedList#last} instead of {@link #pop()}, {@link #push(AbstractSpan)}, {@link #peek()}
+     * Active spans stored in a Stack, usually called 'ActiveSpanStack'. This array is the in-memory storage-structure,
+     * the top element is at {@link #activeSpanStackSize} - 1, see {@link #pop()}, {@link #push(AbstractSpan)}, {@link
+     * #peek()}. The entry, local and exit spans are rarely nested deeper than 4, the array doubles when they do.
      */
-    private LinkedList<AbstractSpan> activeSpanStack = new LinkedList<AbstractSpan>();
+    private AbstractSpan[] activeSpanStack = new AbstractSpan[4];
+
+    /**
+     * The number of the active spans in {@link #activeSpanStack}.
+     */
+    private int activeSpanStackSize;
 
     /**
      * A counter for the next span.
@@ -417,7 +423,7 @@ public class TracingContext implements AbstractTracerContext {
             throw new IllegalStateException("Stopping the unexpected span = " + span);
         }
 
-        if (activeSpanStack.isEmpty()) {
+        if (activeSpanStackSize == 0) {
             this.finish();
         }
     }
@@ -484,7 +490,9 @@ public class TracingContext implements AbstractTracerContext {
      * @return the top element of 'ActiveSpanStack', and remove it.
      */
     private AbstractSpan pop() {
-        return activeSpanStack.removeLast();
+        AbstractSpan span = activeSpanStack[--activeSpanStackSize];
+        activeSpanStack[activeSpanStackSize] = null;
+        return span;
     }
 
     /**
@@ -493,7 +501,10 @@ public class TracingContext implements AbstractTracerContext {
      * @param span
      */
     private AbstractSpan push(AbstractSpan span) {
-        activeSpanStack.addLast(span);
+        if (activeSpanStackSize == activeSpanStack.length) {
+            activeSpanStack = Arrays.copyOf(activeSpanStack, activeSpanStack.length * 2);
+        }
+        activeSpanStack[activeSpanStackSize++] = span;
         return span;
     }
 
@@ -501,14 +512,14 @@ public class TracingContext implements AbstractTracerContext {
      * @return the top element of 'ActiveSpanStack' only.
      */
     private AbstractSpan peek() {
-        if (activeSpanStack.isEmpty()) {
+        if (activeSpanStackSize == 0) {
             return null;
         }
-        return activeSpanStack.getLast();
+        return activeSpanStack[activeSpanStackSize - 1];
     }
 
     private AbstractSpan first() {
-        return activeSpanStack.getFirst();
+        return activeSpanStack[0];
     }
 
     private boolean isLimitMechanismWorking() {
@@ -18,12 +18,14 @@
 
 package org.apache.skywalking.apm.agent.core.context.trace;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import org.apache.skywalking.apm.agent.core.context.util.KeyValuePair;
 import org.apache.skywalking.apm.agent.core.context.util.ThrowableTransformer;
 import org.apache.skywalking.apm.agent.core.dictionary.DictionaryUtil;
+import org.apache.skywalking.apm.network.proto.KeyWithStringValue;
 import org.apache.skywalking.apm.network.proto.SpanObject;
 import org.apache.skywalking.apm.network.proto.SpanType;
 import org.apache.skywalking.apm.network.trace.component.Component;
@@ -35,9 +37,21 @@ import org.apache.skywalking.apm.network.trace.component.Component;
  * @author wusheng
  */
 public abstract class AbstractTracingSpan implements AbstractSpan {
+    /**
+     * Most of spans carry less than 4 tags, such as url, http.method, db.type, db.instance and db.statement.
+     */
+    private static final int INITIAL_TAGS_CAPACITY = 4;
+
     protected int spanId;
     protected int parentSpanId;
-    protected List<KeyValuePair> tags;
+    /**
+     * The keys and values of the tags are stored in turn, without a {@link KeyValuePair} for each one.
+     */
+    protected String[] tags;
+    /**
+     * The number of the tags in {@link #tags}.
+     */
+    protected int tagsSize;
     protected String operationName;
     protected int operationId;
     protected SpanLayer layer;
@@ -61,7 +75,11 @@ public abstract class AbstractTracingSpan implements AbstractSpan {
     /**
      * Log is a concept from OpenTracing spec. https://github.com/opentracing/specification/blob/master/specification.md#log-structured-data
      */
-    protected List<LogDataEntity> logs;
+    protected LogDataEntity[] logs;
+    /**
+     * The number of the logs in {@link #logs}.
+     */
+    protected int logsSize;
 
     /**
      * The refs of parent trace segments, except the primary one. For most RPC call, {@link #refs} contains only one
@@ -92,9 +110,13 @@ public abstract class AbstractTracingSpan implements AbstractSpan {
     @Override
     public AbstractTracingSpan tag(String key, String value) {
         if (tags == null) {
-            tags = new LinkedList<KeyValuePair>();
+            tags = new String[INITIAL_TAGS_CAPACITY * 2];
+        } else if (tagsSize * 2 == tags.length) {
+            tags = Arrays.copyOf(tags, tags.length * 2);
         }
-        tags.add(new KeyValuePair(key, value));
+        tags[tagsSize * 2] = key;
+        tags[tagsSize * 2 + 1] = value;
+        tagsSize++;
         return this;
     }
 
@@ -124,10 +146,7 @@ public abstract class AbstractTracingSpan implements AbstractSpan {
      */
     @Override
     public AbstractTracingSpan log(Throwable t) {
-        if (logs == null) {
-            logs = new LinkedList<LogDataEntity>();
-        }
-        logs.add(new LogDataEntity.Builder()
+        addLog(new LogDataEntity.Builder()
             .add(new KeyValuePair("event", "error"))
             .add(new KeyValuePair("error.kind", t.getClass().getName()))
             .add(new KeyValuePair("message", t.getMessage()))
@@ -144,17 +163,37 @@ public abstract class AbstractTracingSpan implements AbstractSpan {
      */
     @Override
     public AbstractTracingSpan log(long timestampMicroseconds, Map<String, ?> fields) {
-        if (logs == null) {
-            logs = new LinkedList<LogDataEntity>();
-        }
         LogDataEntity.Builder builder = new LogDataEntity.Builder();
         for (Map.Entry<String, ?> entry : fields.entrySet()) {
             builder.add(new KeyValuePair(entry.getKey(), entry.getValue().toString()));
         }
-        logs.add(builder.build(timestampMicroseconds));
+        addLog(builder.build(timestampMicroseconds));
         return this;
     }
 
+    private void addLog(LogDataEntity log) {
+        if (logs == null) {
+            logs = new LogDataEntity[1];
+        } else if (logsSize == logs.length) {
+            logs = Arrays.copyOf(logs, logs.length * 2);
+        }
+        logs[logsSize++] = log;
+    }
+
+    /**
+     * Drop all the tags and logs, but keep the arrays for the new ones.
+     */
+    protected void clearTagsAndLogs() {
+        if (tags != null) {
+            Arrays.fill(tags, 0, tagsSize * 2, null);
+            tagsSize = 0;
+        }
+        if (logs != null) {
+            Arrays.fill(logs, 0, logsSize, null);
+            logsSize = 0;
+        }
+    }
+
     /**
      * In the scope of this span tracing context, error occurred, in auto-instrumentation mechanism, almost means throw
      * an exception.
@@ -275,15 +314,17 @@ public abstract class AbstractTracingSpan implements AbstractSpan {
             }
         }
         spanBuilder.setIsError(errorOccurred);
-        if (this.tags != null) {
-            for (KeyValuePair tag : this.tags) {
-                spanBuilder.addTags(tag.transform());
+        for (int i = 0; i < tagsSize; i++) {
+            KeyWithStringValue.Builder tagBuilder = KeyWithStringValue.newBuilder();
+            tagBuilder.setKey(tags[i * 2]);
+            String value = tags[i * 2 + 1];
+            if (value != null) {
+                tagBuilder.setValue(value);
             }
+            spanBuilder.addTags(tagBuilder);
         }
-        if (this.logs != null) {
-            for (LogDataEntity log : this.logs) {
-                spanBuilder.addLogs(log.transform());
-            }
+        for (int i = 0; i < logsSize; i++) {
+            spanBuilder.addLogs(logs[i].transform());
         }
         if (this.refs != null) {
             for (TraceSegmentRef ref : this.refs) {
@@ -296,7 +337,7 @@ public abstract class AbstractTracingSpan implements AbstractSpan {
 
     @Override public void ref(TraceSegmentRef ref) {
         if (refs == null) {
-            refs = new LinkedList<TraceSegmentRef>();
+            refs = new ArrayList<TraceSegmentRef>(1);
         }
         if (!refs.contains(ref)) {
             refs.add(ref);
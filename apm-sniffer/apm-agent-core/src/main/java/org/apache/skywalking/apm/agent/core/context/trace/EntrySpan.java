@@ -130,7 +130,6 @@ public class EntrySpan extends StackBasedTracingSpan {
         this.componentId = DictionaryUtil.nullValue();
         this.componentName = null;
         this.layer = null;
-        this.logs = null;
-        this.tags = null;
+        clearTagsAndLogs();
     }
 }
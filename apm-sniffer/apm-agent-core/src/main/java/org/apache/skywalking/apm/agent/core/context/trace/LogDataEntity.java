@@ -19,7 +19,7 @@
 
 package org.apache.skywalking.apm.agent.core.context.trace;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.skywalking.apm.agent.core.context.util.KeyValuePair;
 import org.apache.skywalking.apm.network.proto.LogMessage;
@@ -47,7 +47,7 @@ public class LogDataEntity {
         protected List<KeyValuePair> logs;
 
         public Builder() {
-            logs = new LinkedList<KeyValuePair>();
+            logs = new ArrayList<KeyValuePair>(4);
         }
 
         public Builder add(KeyValuePair... fields) {
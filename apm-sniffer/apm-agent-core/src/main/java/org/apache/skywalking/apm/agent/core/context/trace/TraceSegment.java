@@ -19,8 +19,10 @@
 
 package org.apache.skywalking.apm.agent.core.context.trace;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import org.apache.skywalking.apm.agent.core.conf.Config;
 import org.apache.skywalking.apm.agent.core.conf.RemoteDownstreamConfig;
 import org.apache.skywalking.apm.agent.core.context.ids.DistributedTraceId;
 import org.apache.skywalking.apm.agent.core.context.ids.DistributedTraceIds;
@@ -38,6 +40,12 @@ import org.apache.skywalking.apm.network.proto.UpstreamSegment;
  * @author wusheng
  */
 public class TraceSegment {
+    /**
+     * Most of segments contain a few spans, the array grows by doubling for the others, but never beyond {@link
+     * Config.Agent#SPAN_LIMIT_PER_SEGMENT}.
+     */
+    private static final int INITIAL_SPANS_CAPACITY = 8;
+
     /**
      * The id of this trace segment. Every segment has its unique-global-id.
      */
@@ -56,7 +64,12 @@ public class TraceSegment {
      * The spans belong to this trace segment. They all have finished. All active spans are hold and controlled by
      * "skywalking-api" module.
      */
-    private List<AbstractTracingSpan> spans;
+    private AbstractTracingSpan[] spans;
+
+    /**
+     * The number of the spans in {@link #spans}.
+     */
+    private int spansSize;
 
     /**
      * The <code>relatedGlobalTraces</code> represent a set of all related trace. Most time it contains only one
@@ -77,7 +90,7 @@ public class TraceSegment {
      */
     public TraceSegment() {
         this.traceSegmentId = GlobalIdGenerator.generate();
-        this.spans = new LinkedList<AbstractTracingSpan>();
+        this.spans = new AbstractTracingSpan[INITIAL_SPANS_CAPACITY];
         this.relatedGlobalTraces = new DistributedTraceIds();
         this.relatedGlobalTraces.append(new NewDistributedTraceId());
     }
@@ -89,7 +102,7 @@ public class TraceSegment {
      */
     public void ref(TraceSegmentRef refSegment) {
         if (refs == null) {
-            refs = new LinkedList<TraceSegmentRef>();
+            refs = new ArrayList<TraceSegmentRef>(1);
         }
         if (!refs.contains(refSegment)) {
             refs.add(refSegment);
@@ -110,7 +123,11 @@ public class TraceSegment {
      * @param finishedSpan
      */
     public void archive(AbstractTracingSpan finishedSpan) {
-        spans.add(finishedSpan);
+        if (spansSize == spans.length) {
+            int capacity = Math.max(Math.min(spans.length * 2, Config.Agent.SPAN_LIMIT_PER_SEGMENT), spans.length + 1);
+            spans = Arrays.copyOf(spans, capacity);
+        }
+        spans[spansSize++] = finishedSpan;
     }
 
     /**
@@ -142,7 +159,7 @@ public class TraceSegment {
     }
 
     public boolean isSingleSpanSegment() {
-        return this.spans != null && this.spans.size() == 1;
+        return spansSize == 1;
     }
 
     public boolean isIgnore() {
@@ -171,8 +188,8 @@ public class TraceSegment {
         // Don't serialize TraceSegmentReference
 
         // SpanObject
-        for (AbstractTracingSpan span : this.spans) {
-            traceSegmentBuilder.addSpans(span.transform());
+        for (int i = 0; i < spansSize; i++) {
+            traceSegmentBuilder.addSpans(spans[i].transform());
         }
         traceSegmentBuilder.setApplicationId(RemoteDownstreamConfig.Agent.APPLICATION_ID);
         traceSegmentBuilder.setApplicationInstanceId(RemoteDownstreamConfig.Agent.APPLICATION_INSTANCE_ID);
@@ -187,7 +204,7 @@ public class TraceSegment {
         return "TraceSegment{" +
             "traceSegmentId='" + traceSegmentId + '\'' +
             ", refs=" + refs +
-            ", spans=" + spans +
+            ", spans=" + Arrays.toString(Arrays.copyOf(spans, spansSize)) +
             ", relatedGlobalTraces=" + relatedGlobalTraces +
             '}';
     }
@@ -43,10 +43,12 @@ public class PluginBootstrap {
      * @return plugin definition list.
      */
     public List<AbstractClassEnhancePluginDefine> loadPlugins() throws AgentPackageNotFoundException {
+        long startTime = System.currentTimeMillis();
         AgentClassLoader.initDefaultLoader();
 
         PluginResourcesResolver resolver = new PluginResourcesResolver();
         List<URL> resources = resolver.getResources();
+        long resolveTime = System.currentTimeMillis();
 
         if (resources == null || resources.size() == 0) {
             logger.info("no plugin files (skywalking-plugin.def) found, continue to start application.");
@@ -62,6 +64,7 @@ public class PluginBootstrap {
         }
 
         List<PluginDefine> pluginClassList = PluginCfg.INSTANCE.getPluginClassList();
+        long defineTime = System.currentTimeMillis();
 
         List<AbstractClassEnhancePluginDefine> plugins = new ArrayList<AbstractClassEnhancePluginDefine>();
         for (PluginDefine pluginDefine : pluginClassList) {
@@ -78,8 +81,10 @@ public class PluginBootstrap {
             }
         }
 
+        long endTime = System.currentTimeMillis();
+        logger.info("{} plugins loaded in {} ms: jar scan and resolve {} ms, plugin definitions {} ms, plugin classes {} ms.",
+            plugins.size(), endTime - startTime, resolveTime - startTime, defineTime - resolveTime, endTime - defineTime);
         return plugins;
-
     }
 
 }
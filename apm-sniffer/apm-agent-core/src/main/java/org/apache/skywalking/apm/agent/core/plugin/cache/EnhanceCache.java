@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.plugin.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.agent.core.boot.AgentPackageNotFoundException;
+import org.apache.skywalking.apm.agent.core.boot.AgentPackagePath;
+import org.apache.skywalking.apm.agent.core.boot.DefaultNamedThreadFactory;
+import org.apache.skywalking.apm.agent.core.logging.api.ILog;
+import org.apache.skywalking.apm.agent.core.logging.api.LogManager;
+import org.apache.skywalking.apm.agent.core.plugin.AbstractClassEnhancePluginDefine;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+
+/**
+ * The <code>EnhanceCache</code> remembers whether the types of each jar matched the plugins, so the next start skips
+ * the matchers for the known types. The records of a jar are keyed by its location, and checked by its size and last
+ * modified time.
+ *
+ * The whole cache is dropped when the plugins, the agent jars, the class path, or any recorded jar changed, because
+ * the hierarchy of a type may come from the other jars.
+ */
+public class EnhanceCache {
+    private static final ILog logger = LogManager.getLogger(EnhanceCache.class);
+
+    private static final int VERSION = 1;
+
+    private final File file;
+    private final String fingerprint;
+    private final Map<String, JarRecord> jars = new ConcurrentHashMap<String, JarRecord>();
+    private volatile boolean dirty;
+
+    private EnhanceCache(File file, String fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @return the cache with the records of the last start, or an empty cache if they are out of date.
+     */
+    public static EnhanceCache load(File file, List<AbstractClassEnhancePluginDefine> plugins) {
+        EnhanceCache cache = new EnhanceCache(file, fingerprint(plugins));
+        if (!file.exists()) {
+            return cache;
+        }
+
+        DataInputStream input = null;
+        try {
+            input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (input.readInt() != VERSION || !cache.fingerprint.equals(input.readUTF())) {
+                logger.info("Enhance cache {} is out of date, rebuild it.", file);
+                return cache;
+            }
+
+            Map<String, JarRecord> jars = new ConcurrentHashMap<String, JarRecord>();
+            int jarCount = input.readInt();
+            int typeCount = 0;
+            for (int i = 0; i < jarCount; i++) {
+                JarRecord jar = new JarRecord(input.readUTF(), input.readLong(), input.readLong());
+                JarRecord current = JarRecord.of(jar.location);
+                if (current == null || current.length != jar.length || current.lastModified != jar.lastModified) {
+                    logger.info("{} changed, rebuild the enhance cache.", jar.location);
+                    return cache;
+                }
+                int count = input.readInt();
+                for (int j = 0; j < count; j++) {
+                    jar.types.put(input.readUTF(), input.readBoolean());
+                }
+                typeCount += count;
+                jars.put(jar.location, jar);
+            }
+            cache.jars.putAll(jars);
+            logger.info("Enhance cache loaded, {} types of {} jars.", typeCount, jarCount);
+        } catch (IOException e) {
+            logger.error(e, "Load enhance cache {} failure, rebuild it.", file);
+        } finally {
+            if (input != null)
+                try {
+                    input.close();
+                } catch (IOException ignored) {
+                }
+        }
+        return cache;
+    }
+
+    /**
+     * @return null if the type is unknown, or it isn't loaded from a jar.
+     */
+    Boolean isMatched(String typeName, ProtectionDomain protectionDomain) {
+        String location = location(protectionDomain);
+        if (location == null) {
+            return null;
+        }
+        JarRecord jar = jars.get(location);
+        return jar == null ? null : jar.types.get(typeName);
+    }
+
+    void record(String typeName, ProtectionDomain protectionDomain, boolean matched) {
+        String location = location(protectionDomain);
+        if (location == null) {
+            return;
+        }
+        JarRecord jar = jars.get(location);
+        if (jar == null) {
+            jar = JarRecord.of(location);
+            if (jar == null) {
+                return;
+            }
+            jars.put(location, jar);
+        }
+        jar.types.put(typeName, matched);
+        dirty = true;
+    }
+
+    /**
+     * Saves the new records every minute, most types are loaded in the first minutes after the start.
+     */
+    public void start() {
+        Executors.newSingleThreadScheduledExecutor(new DefaultNamedThreadFactory("EnhanceCache"))
+            .scheduleAtFixedRate(new RunnableWithExceptionProtection(new Runnable() {
+                @Override public void run() {
+                    save();
+                }
+            }, new RunnableWithExceptionProtection.CallbackWhenException() {
+                @Override public void handle(Throwable t) {
+                    logger.error("Save enhance cache failure.", t);
+                }
+            }), 1, 1, TimeUnit.MINUTES);
+    }
+
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+
+        File tempFile = null;
+        DataOutputStream output = null;
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (directory != null && !directory.exists()) {
+                directory.mkdirs();
+            }
+            tempFile = File.createTempFile(file.getName(), ".tmp", directory);
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+            output.writeInt(VERSION);
+            output.writeUTF(fingerprint);
+            List<JarRecord> jars = new ArrayList<JarRecord>(this.jars.values());
+            output.writeInt(jars.size());
+            for (JarRecord jar : jars) {
+                output.writeUTF(jar.location);
+                output.writeLong(jar.length);
+                output.writeLong(jar.lastModified);
+                List<Map.Entry<String, Boolean>> types = new ArrayList<Map.Entry<String, Boolean>>(jar.types.entrySet());
+                output.writeInt(types.size());
+                for (Map.Entry<String, Boolean> type : types) {
+                    output.writeUTF(type.getKey());
+                    output.writeBoolean(type.getValue());
+                }
+            }
+            output.close();
+            output = null;
+
+            if (!replace(tempFile, file)) {
+                dirty = true;
+                logger.warn("Can't replace the enhance cache {} by {}.", file, tempFile);
+            }
+        } catch (IOException e) {
+            dirty = true;
+            logger.error(e, "Save enhance cache {} failure.", file);
+        } finally {
+            if (output != null)
+                try {
+                    output.close();
+                } catch (IOException ignored) {
+                }
+            if (tempFile != null && tempFile.exists() && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * The agent runs on JDK 1.6, so there is no Files.move. The rename replaces the target atomically on the POSIX
+     * file systems, the target is only deleted first where the rename can't replace it, e.g. on Windows, then a
+     * reader may miss the cache once and rebuild it.
+     *
+     * @return false if the target is not replaced.
+     */
+    private static boolean replace(File source, File target) {
+        if (source.renameTo(target)) {
+            return true;
+        }
+        return target.delete() && source.renameTo(target);
+    }
+
+    /**
+     * @return the location of the jar, or null if the type isn't loaded from a jar.
+     */
+    private static String location(ProtectionDomain protectionDomain) {
+        if (protectionDomain == null) {
+            return null;
+        }
+        CodeSource codeSource = protectionDomain.getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return null;
+        }
+        String location = codeSource.getLocation().toString();
+        return location.endsWith(".jar") || location.endsWith("!/") ? location : null;
+    }
+
+    /**
+     * The plugins and the agent jars decide the matchers, the class path decides the hierarchy of the types.
+     */
+    private static String fingerprint(List<AbstractClassEnhancePluginDefine> plugins) {
+        List<String> pluginNames = new ArrayList<String>(plugins.size());
+        for (AbstractClassEnhancePluginDefine plugin : plugins) {
+            pluginNames.add(plugin.getClass().getName());
+        }
+        Collections.sort(pluginNames);
+
+        StringBuilder fingerprint = new StringBuilder();
+        for (String pluginName : pluginNames) {
+            fingerprint.append(pluginName).append(',');
+        }
+        try {
+            File agentPath = AgentPackagePath.getPath();
+            appendJars(fingerprint, agentPath);
+            appendJars(fingerprint, new File(agentPath, "plugins"));
+            appendJars(fingerprint, new File(agentPath, "activations"));
+        } catch (AgentPackageNotFoundException e) {
+            logger.error(e, "Can't locate the agent jars.");
+        }
+        fingerprint.append(System.getProperty("java.class.path"));
+
+        String value = fingerprint.toString();
+        return value.length() > 0xFFFF / 3 ? value.length() + ":" + hash(value) : value;
+    }
+
+    private static void appendJars(StringBuilder fingerprint, File directory) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            if (file.getName().endsWith(".jar")) {
+                fingerprint.append(file.getName()).append(':').append(file.length()).append(':').append(file.lastModified()).append(',');
+            }
+        }
+    }
+
+    private static long hash(String value) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        return hash;
+    }
+
+    private static class JarRecord {
+        private final String location;
+        private final long length;
+        private final long lastModified;
+        private final Map<String, Boolean> types = new ConcurrentHashMap<String, Boolean>();
+
+        private JarRecord(String location, long length, long lastModified) {
+            this.location = location;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * The nested jars, e.g. jar:file:/app.jar!/BOOT-INF/lib/x.jar!/, are checked by the outermost jar file.
+         *
+         * @return null if the jar file doesn't exist.
+         */
+        private static JarRecord of(String location) {
+            String path = location;
+            if (path.startsWith("jar:")) {
+                path = path.substring("jar:".length());
+            }
+            int separator = path.indexOf("!/");
+            if (separator > -1) {
+                path = path.substring(0, separator);
+            }
+            if (!path.startsWith("file:")) {
+                return null;
+            }
+            try {
+                File file = new File(new URL(path).toURI());
+                if (!file.isFile()) {
+                    return null;
+                }
+                return new JarRecord(location, file.length(), file.lastModified());
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
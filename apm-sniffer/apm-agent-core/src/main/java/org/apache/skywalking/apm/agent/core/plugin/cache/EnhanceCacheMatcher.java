@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.plugin.cache;
+
+import java.security.ProtectionDomain;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.utility.JavaModule;
+
+/**
+ * The <code>EnhanceCacheMatcher</code> answers the known types by the {@link EnhanceCache}, and records the results of
+ * the given matcher for the unknown types.
+ */
+public class EnhanceCacheMatcher implements AgentBuilder.RawMatcher {
+    private final ElementMatcher<? super TypeDescription> matcher;
+    private final EnhanceCache cache;
+
+    public EnhanceCacheMatcher(ElementMatcher<? super TypeDescription> matcher, EnhanceCache cache) {
+        this.matcher = matcher;
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean matches(TypeDescription typeDescription, ClassLoader classLoader, JavaModule module,
+        Class<?> classBeingRedefined, ProtectionDomain protectionDomain) {
+        String typeName = typeDescription.getTypeName();
+        Boolean matched = cache.isMatched(typeName, protectionDomain);
+        if (matched != null) {
+            return matched;
+        }
+
+        boolean result = matcher.matches(typeDescription);
+        cache.record(typeName, protectionDomain, result);
+        return result;
+    }
+}
@@ -25,15 +25,26 @@ import java.io.FilenameFilter;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import org.apache.skywalking.apm.agent.core.boot.AgentPackageNotFoundException;
 import org.apache.skywalking.apm.agent.core.boot.AgentPackagePath;
+import org.apache.skywalking.apm.agent.core.conf.Config;
 import org.apache.skywalking.apm.agent.core.logging.api.ILog;
 import org.apache.skywalking.apm.agent.core.logging.api.LogManager;
 import org.apache.skywalking.apm.agent.core.plugin.PluginBootstrap;
@@ -42,6 +53,9 @@ import org.apache.skywalking.apm.agent.core.plugin.PluginBootstrap;
  * The <code>AgentClassLoader</code> represents a classloader,
  * which is in charge of finding plugins and interceptors.
  *
+ * All entries of the plugin and activation jars are indexed when the jars are scanned, so a lookup never probes the
+ * jars one by one.
+ *
  * @author wusheng
  */
 public class AgentClassLoader extends ClassLoader {
@@ -52,7 +66,7 @@ public class AgentClassLoader extends ClassLoader {
     private static AgentClassLoader DEFAULT_LOADER;
 
     private List<File> classpath;
-    private List<Jar> allJars;
+    private volatile Map<String, List<Jar>> jarIndex;
     private ReentrantLock jarScanLock = new ReentrantLock();
 
     public static AgentClassLoader getDefault() {
@@ -86,42 +100,38 @@ public class AgentClassLoader extends ClassLoader {
 
     @Override
     protected Class<?> findClass(String name) throws ClassNotFoundException {
-        List<Jar> allJars = getAllJars();
         String path = name.replace('.', '/').concat(".class");
-        for (Jar jar : allJars) {
-            JarEntry entry = jar.jarFile.getJarEntry(path);
-            if (entry != null) {
+        for (Jar jar : findJars(path)) {
+            try {
+                URL classFileUrl = new URL("jar:file:" + jar.sourceFile.getAbsolutePath() + "!/" + path);
+                byte[] data = null;
+                BufferedInputStream is = null;
+                ByteArrayOutputStream baos = null;
                 try {
-                    URL classFileUrl = new URL("jar:file:" + jar.sourceFile.getAbsolutePath() + "!/" + path);
-                    byte[] data = null;
-                    BufferedInputStream is = null;
-                    ByteArrayOutputStream baos = null;
-                    try {
-                        is = new BufferedInputStream(classFileUrl.openStream());
-                        baos = new ByteArrayOutputStream();
-                        int ch = 0;
-                        while ((ch = is.read()) != -1) {
-                            baos.write(ch);
-                        }
-                        data = baos.toByteArray();
-                    } finally {
-                        if (is != null)
-                            try {
-                                is.close();
-                            } catch (IOException ignored) {
-                            }
-                        if (baos != null)
-                            try {
-                                baos.close();
-                            } catch (IOException ignored) {
-                            }
+                    is = new BufferedInputStream(classFileUrl.openStream());
+                    baos = new ByteArrayOutputStream();
+                    int ch = 0;
+                    while ((ch = is.read()) != -1) {
+                        baos.write(ch);
                     }
-                    return defineClass(name, data, 0, data.length);
-                } catch (MalformedURLException e) {
-                    logger.error(e, "find class fail.");
-                } catch (IOException e) {
-                    logger.error(e, "find class fail.");
+                    data = baos.toByteArray();
+                } finally {
+                    if (is != null)
+                        try {
+                            is.close();
+                        } catch (IOException ignored) {
+                        }
+                    if (baos != null)
+                        try {
+                            baos.close();
+                        } catch (IOException ignored) {
+                        }
                 }
+                return defineClass(name, data, 0, data.length);
+            } catch (MalformedURLException e) {
+                logger.error(e, "find class fail.");
+            } catch (IOException e) {
+                logger.error(e, "find class fail.");
             }
         }
         throw new ClassNotFoundException("Can't find " + name);
@@ -129,15 +139,11 @@ public class AgentClassLoader extends ClassLoader {
 
     @Override
     protected URL findResource(String name) {
-        List<Jar> allJars = getAllJars();
-        for (Jar jar : allJars) {
-            JarEntry entry = jar.jarFile.getJarEntry(name);
-            if (entry != null) {
-                try {
-                    return new URL("jar:file:" + jar.sourceFile.getAbsolutePath() + "!/" + name);
-                } catch (MalformedURLException e) {
-                    continue;
-                }
+        for (Jar jar : findJars(name)) {
+            try {
+                return new URL("jar:file:" + jar.sourceFile.getAbsolutePath() + "!/" + name);
+            } catch (MalformedURLException e) {
+                continue;
             }
         }
         return null;
@@ -146,12 +152,8 @@ public class AgentClassLoader extends ClassLoader {
     @Override
     protected Enumeration<URL> findResources(String name) throws IOException {
         List<URL> allResources = new LinkedList<URL>();
-        List<Jar> allJars = getAllJars();
-        for (Jar jar : allJars) {
-            JarEntry entry = jar.jarFile.getJarEntry(name);
-            if (entry != null) {
-                allResources.add(new URL("jar:file:" + jar.sourceFile.getAbsolutePath() + "!/" + name));
-            }
+        for (Jar jar : findJars(name)) {
+            allResources.add(new URL("jar:file:" + jar.sourceFile.getAbsolutePath() + "!/" + name));
         }
 
         final Iterator<URL> iterator = allResources.iterator();
@@ -168,48 +170,154 @@ public class AgentClassLoader extends ClassLoader {
         };
     }
 
-    private List<Jar> getAllJars() {
-        if (allJars == null) {
+    /**
+     * @return the jars including the entry, in the scanning order. Same as {@link JarFile#getJarEntry(String)}, the
+     * directory entry matches the name without the trailing slash.
+     */
+    private List<Jar> findJars(String name) {
+        Map<String, List<Jar>> jarIndex = getJarIndex();
+        List<Jar> jars = jarIndex.get(name);
+        if (jars == null && !name.endsWith("/")) {
+            jars = jarIndex.get(name + "/");
+        }
+        return jars == null ? Collections.<Jar>emptyList() : jars;
+    }
+
+    private Map<String, List<Jar>> getJarIndex() {
+        if (jarIndex == null) {
             jarScanLock.lock();
             try {
-                if (allJars == null) {
-                    allJars = new LinkedList<Jar>();
-                    for (File path : classpath) {
-                        if (path.exists() && path.isDirectory()) {
-                            String[] jarFileNames = path.list(new FilenameFilter() {
-                                @Override
-                                public boolean accept(File dir, String name) {
-                                    return name.endsWith(".jar");
-                                }
-                            });
-                            for (String fileName : jarFileNames) {
-                                try {
-                                    File file = new File(path, fileName);
-                                    Jar jar = new Jar(new JarFile(file), file);
-                                    allJars.add(jar);
-                                    logger.info("{} loaded.", file.toString());
-                                } catch (IOException e) {
-                                    logger.error(e, "{} jar file can't be resolved", fileName);
-                                }
-                            }
-                        }
-                    }
+                if (jarIndex == null) {
+                    jarIndex = scanJars();
                 }
             } finally {
                 jarScanLock.unlock();
             }
         }
 
+        return jarIndex;
+    }
+
+    private Map<String, List<Jar>> scanJars() {
+        long startTime = System.currentTimeMillis();
+
+        List<File> jarFiles = new ArrayList<File>();
+        for (File path : classpath) {
+            if (path.exists() && path.isDirectory()) {
+                String[] jarFileNames = path.list(new FilenameFilter() {
+                    @Override
+                    public boolean accept(File dir, String name) {
+                        return name.endsWith(".jar");
+                    }
+                });
+                for (String fileName : jarFileNames) {
+                    jarFiles.add(new File(path, fileName));
+                }
+            }
+        }
+
+        List<Jar> allJars = Config.Agent.JAR_SCAN_THREADS > 1 && jarFiles.size() > 1 ? openJarsInParallel(jarFiles) : openJars(jarFiles);
+
+        Map<String, List<Jar>> jarIndex = new HashMap<String, List<Jar>>();
+        int entries = 0;
+        for (Jar jar : allJars) {
+            for (String entryName : jar.entryNames) {
+                List<Jar> jars = jarIndex.get(entryName);
+                if (jars == null) {
+                    jars = new ArrayList<Jar>(1);
+                    jarIndex.put(entryName, jars);
+                }
+                jars.add(jar);
+                entries++;
+            }
+            jar.entryNames = null;
+        }
+
+        logger.info("{} jars with {} entries indexed in {} ms.", allJars.size(), entries, System.currentTimeMillis() - startTime);
+        return jarIndex;
+    }
+
+    private List<Jar> openJars(List<File> jarFiles) {
+        List<Jar> allJars = new ArrayList<Jar>(jarFiles.size());
+        for (File file : jarFiles) {
+            Jar jar = openJar(file);
+            if (jar != null) {
+                allJars.add(jar);
+            }
+        }
         return allJars;
     }
 
+    private List<Jar> openJarsInParallel(List<File> jarFiles) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(Config.Agent.JAR_SCAN_THREADS, jarFiles.size()), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "SkywalkingAgent-JarScan");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<Jar>> futures = new ArrayList<Future<Jar>>(jarFiles.size());
+            for (final File file : jarFiles) {
+                futures.add(executor.submit(new Callable<Jar>() {
+                    @Override
+                    public Jar call() {
+                        return openJar(file);
+                    }
+                }));
+            }
+
+            List<Jar> allJars = new ArrayList<Jar>(jarFiles.size());
+            for (Future<Jar> future : futures) {
+                try {
+                    Jar jar = future.get();
+                    if (jar != null) {
+                        allJars.add(jar);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.error(e, "jar scan interrupted.");
+                } catch (ExecutionException e) {
+                    logger.error(e.getCause(), "jar scan fail.");
+                }
+            }
+            return allJars;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Jar openJar(File file) {
+        JarFile jarFile = null;
+        try {
+            jarFile = new JarFile(file);
+            List<String> entryNames = new ArrayList<String>();
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                entryNames.add(entries.nextElement().getName());
+            }
+            logger.info("{} loaded.", file.toString());
+            return new Jar(file, entryNames);
+        } catch (IOException e) {
+            logger.error(e, "{} jar file can't be resolved", file.getName());
+            return null;
+        } finally {
+            if (jarFile != null)
+                try {
+                    jarFile.close();
+                } catch (IOException ignored) {
+                }
+        }
+    }
+
     private class Jar {
-        private JarFile jarFile;
         private File sourceFile;
+        private List<String> entryNames;
 
-        private Jar(JarFile jarFile, File sourceFile) {
-            this.jarFile = jarFile;
+        private Jar(File sourceFile, List<String> entryNames) {
             this.sourceFile = sourceFile;
+            this.entryNames = entryNames;
         }
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.context;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.agent.core.boot.BootService;
+import org.apache.skywalking.apm.agent.core.boot.ServiceManager;
+import org.apache.skywalking.apm.agent.core.conf.RemoteDownstreamConfig;
+import org.apache.skywalking.apm.agent.core.context.tag.Tags;
+import org.apache.skywalking.apm.agent.core.context.trace.AbstractSpan;
+import org.apache.skywalking.apm.agent.core.context.trace.SpanLayer;
+import org.apache.skywalking.apm.agent.core.dictionary.DictionaryUtil;
+import org.apache.skywalking.apm.agent.core.sampling.SamplingService;
+import org.apache.skywalking.apm.network.trace.component.ComponentsDefine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.powermock.reflect.Whitebox;
+
+/**
+ * Measure the latency and the allocation of creating, tagging and finishing the entry, local and exit spans in a
+ * {@link TracingContext}. The <code>jdbcSegment</code> is a request with 200 JDBC exit spans, reported per span.
+ *
+ * Run by {@link #main(String[])} with the GC profiler, see <code>gc.alloc.rate.norm</code> for the bytes allocated per
+ * operation. It is not a part of the unit tests.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TracingContextBenchmark {
+    private static final int JDBC_SPANS = 200;
+
+    private Map<Class, BootService> bootedServices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RemoteDownstreamConfig.Agent.APPLICATION_ID = 1;
+        RemoteDownstreamConfig.Agent.APPLICATION_INSTANCE_ID = 1;
+        bootedServices = Whitebox.getInternalState(ServiceManager.INSTANCE, "bootedServices");
+        Map<Class, BootService> services = new HashMap<Class, BootService>();
+        services.put(SamplingService.class, new SamplingService());
+        Whitebox.setInternalState(ServiceManager.INSTANCE, "bootedServices", services);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RemoteDownstreamConfig.Agent.APPLICATION_ID = DictionaryUtil.nullValue();
+        RemoteDownstreamConfig.Agent.APPLICATION_INSTANCE_ID = DictionaryUtil.nullValue();
+        Whitebox.setInternalState(ServiceManager.INSTANCE, "bootedServices", bootedServices);
+    }
+
+    @Benchmark
+    public AbstractSpan entrySpan() {
+        TracingContext context = new TracingContext();
+        AbstractSpan entrySpan = entry(context);
+        context.stopSpan(entrySpan);
+        return entrySpan;
+    }
+
+    @Benchmark
+    public AbstractSpan localSpan() {
+        TracingContext context = new TracingContext();
+        AbstractSpan entrySpan = entry(context);
+        AbstractSpan localSpan = context.createLocalSpan("/benchmark/local");
+        context.stopSpan(localSpan);
+        context.stopSpan(entrySpan);
+        return localSpan;
+    }
+
+    @Benchmark
+    public AbstractSpan exitSpan() {
+        TracingContext context = new TracingContext();
+        AbstractSpan entrySpan = entry(context);
+        AbstractSpan exitSpan = exit(context);
+        context.stopSpan(exitSpan);
+        context.stopSpan(entrySpan);
+        return exitSpan;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(JDBC_SPANS)
+    public AbstractSpan jdbcSegment() {
+        TracingContext context = new TracingContext();
+        AbstractSpan entrySpan = entry(context);
+        for (int i = 0; i < JDBC_SPANS; i++) {
+            context.stopSpan(exit(context));
+        }
+        context.stopSpan(entrySpan);
+        return entrySpan;
+    }
+
+    private AbstractSpan entry(TracingContext context) {
+        AbstractSpan span = context.createEntrySpan("/benchmark/entry");
+        span.setComponent(ComponentsDefine.TOMCAT);
+        SpanLayer.asHttp(span);
+        Tags.URL.set(span, "http://localhost:8080/benchmark/entry");
+        Tags.HTTP.METHOD.set(span, "GET");
+        return span;
+    }
+
+    private AbstractSpan exit(TracingContext context) {
+        AbstractSpan span = context.createExitSpan("Mysql/JDBI/PreparedStatement/executeQuery", "localhost:3306");
+        span.setComponent(ComponentsDefine.MYSQL_JDBC_DRIVER);
+        SpanLayer.asDB(span);
+        Tags.DB_TYPE.set(span, "sql");
+        Tags.DB_INSTANCE.set(span, "benchmark");
+        Tags.DB_STATEMENT.set(span, "SELECT id, name FROM benchmark WHERE id = ?");
+        return span;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(TracingContextBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
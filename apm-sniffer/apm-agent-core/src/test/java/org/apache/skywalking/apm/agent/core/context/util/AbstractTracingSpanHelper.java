@@ -19,6 +19,7 @@
 
 package org.apache.skywalking.apm.agent.core.context.util;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.apache.skywalking.apm.agent.core.context.trace.AbstractTracingSpan;
@@ -36,7 +37,10 @@ public class AbstractTracingSpanHelper {
 
     public static List<LogDataEntity> getLogs(AbstractTracingSpan tracingSpan) {
         try {
-            return FieldGetter.get2LevelParentFieldValue(tracingSpan, "logs");
+            LogDataEntity[] logs = FieldGetter.get2LevelParentFieldValue(tracingSpan, "logs");
+            if (logs != null) {
+                return Arrays.asList(logs).subList(0, FieldGetter.<Integer>get2LevelParentFieldValue(tracingSpan, "logsSize"));
+            }
         } catch (Exception e) {
         }
 
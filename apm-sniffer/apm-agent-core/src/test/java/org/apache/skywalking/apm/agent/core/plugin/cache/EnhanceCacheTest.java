@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.plugin.cache;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import org.apache.skywalking.apm.agent.core.plugin.AbstractClassEnhancePluginDefine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class EnhanceCacheTest {
+
+    private File jarFile;
+    private File cacheFile;
+    private ProtectionDomain protectionDomain;
+
+    @Before
+    public void setUp() throws IOException {
+        jarFile = File.createTempFile("enhance", ".jar");
+        write(jarFile, 10);
+        cacheFile = File.createTempFile("enhance", ".cache");
+        cacheFile.delete();
+        protectionDomain = new ProtectionDomain(new CodeSource(jarFile.toURI().toURL(), (Certificate[])null), null);
+    }
+
+    @After
+    public void tearDown() {
+        jarFile.delete();
+        cacheFile.delete();
+    }
+
+    @Test
+    public void testReuseRecords() {
+        EnhanceCache cache = EnhanceCache.load(cacheFile, new ArrayList<AbstractClassEnhancePluginDefine>());
+        assertThat(cache.isMatched("a.A", protectionDomain), nullValue());
+        cache.record("a.A", protectionDomain, false);
+        cache.record("a.B", protectionDomain, true);
+        cache.record("a.C", null, true);
+        cache.save();
+
+        cache = EnhanceCache.load(cacheFile, new ArrayList<AbstractClassEnhancePluginDefine>());
+        assertThat(cache.isMatched("a.A", protectionDomain), is(false));
+        assertThat(cache.isMatched("a.B", protectionDomain), is(true));
+        assertThat(cache.isMatched("a.C", protectionDomain), nullValue());
+        assertThat(cache.isMatched("a.C", null), nullValue());
+    }
+
+    @Test
+    public void testDropRecordsWhenJarChanged() throws IOException {
+        EnhanceCache cache = EnhanceCache.load(cacheFile, new ArrayList<AbstractClassEnhancePluginDefine>());
+        cache.record("a.A", protectionDomain, false);
+        cache.save();
+
+        write(jarFile, 20);
+        cache = EnhanceCache.load(cacheFile, new ArrayList<AbstractClassEnhancePluginDefine>());
+        assertThat(cache.isMatched("a.A", protectionDomain), nullValue());
+    }
+
+    @Test
+    public void testReplaceExistingCache() {
+        EnhanceCache cache = EnhanceCache.load(cacheFile, new ArrayList<AbstractClassEnhancePluginDefine>());
+        cache.record("a.A", protectionDomain, false);
+        cache.save();
+
+        cache = EnhanceCache.load(cacheFile, new ArrayList<AbstractClassEnhancePluginDefine>());
+        cache.record("a.B", protectionDomain, true);
+        cache.save();
+
+        cache = EnhanceCache.load(cacheFile, new ArrayList<AbstractClassEnhancePluginDefine>());
+        assertThat(cache.isMatched("a.A", protectionDomain), is(false));
+        assertThat(cache.isMatched("a.B", protectionDomain), is(true));
+
+        String[] tempFiles = cacheFile.getAbsoluteFile().getParentFile().list(new FilenameFilter() {
+            @Override public boolean accept(File dir, String name) {
+                return name.startsWith(cacheFile.getName()) && name.endsWith(".tmp");
+            }
+        });
+        assertThat(tempFiles.length, is(0));
+    }
+
+    private void write(File file, int length) throws IOException {
+        FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(new byte[length]);
+        } finally {
+            output.close();
+        }
+    }
+}
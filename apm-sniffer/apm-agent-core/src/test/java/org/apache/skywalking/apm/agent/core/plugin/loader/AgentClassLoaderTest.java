@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.plugin.loader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.implementation.FixedValue;
+import org.apache.skywalking.apm.agent.core.conf.Config;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AgentClassLoaderTest {
+
+    private static final String CLASS_NAME = "org.apache.skywalking.apm.agent.test.DuplicatedClass";
+    private static final String CLASS_PATH = CLASS_NAME.replace('.', '/') + ".class";
+
+    private File agentPath;
+    private File pluginsPath;
+    private File activationsPath;
+
+    @Before
+    public void setUp() throws IOException {
+        agentPath = File.createTempFile("agent", "");
+        agentPath.delete();
+        pluginsPath = new File(agentPath, "plugins");
+        activationsPath = new File(agentPath, "activations");
+        pluginsPath.mkdirs();
+        activationsPath.mkdirs();
+
+        Map<String, byte[]> pluginEntries = new HashMap<String, byte[]>();
+        pluginEntries.put(CLASS_PATH, classBytes("plugins"));
+        pluginEntries.put("skywalking-plugin.def", "plugins".getBytes("UTF-8"));
+        pluginEntries.put("META-INF/", new byte[0]);
+        writeJar(new File(pluginsPath, "plugin.jar"), pluginEntries);
+
+        Map<String, byte[]> activationEntries = new HashMap<String, byte[]>();
+        activationEntries.put(CLASS_PATH, classBytes("activations"));
+        activationEntries.put("skywalking-plugin.def", "activations".getBytes("UTF-8"));
+        activationEntries.put("activation.properties", "activations".getBytes("UTF-8"));
+        writeJar(new File(activationsPath, "activation.jar"), activationEntries);
+
+        for (int i = 0; i < 5; i++) {
+            Map<String, byte[]> entries = new HashMap<String, byte[]>();
+            entries.put("plugin" + i + ".properties", new byte[0]);
+            entries.put("skywalking-plugin.def", new byte[0]);
+            writeJar(new File(pluginsPath, "plugin" + i + ".jar"), entries);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        Config.Agent.JAR_SCAN_THREADS = 1;
+        delete(agentPath);
+    }
+
+    @Test
+    public void testFirstJarWinsForDuplicatedClass() throws Exception {
+        AgentClassLoader loader = newLoader();
+
+        Class<?> type = loader.loadClass(CLASS_NAME);
+        assertThat(type.newInstance().toString(), is("plugins"));
+        assertThat(read(loader.getResource("activation.properties")), is("activations"));
+        assertThat(loader.getResource("none.properties"), nullValue());
+    }
+
+    @Test
+    public void testFindResourcesOfEveryJarInOrder() throws Exception {
+        AgentClassLoader loader = newLoader();
+
+        List<String> sources = new ArrayList<String>();
+        List<String> contents = new ArrayList<String>();
+        Enumeration<URL> resources = loader.findResources("skywalking-plugin.def");
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            String location = resource.toString();
+            sources.add(location.substring(location.lastIndexOf('/', location.indexOf("!/") - 1) + 1, location.indexOf("!/")));
+            contents.add(read(resource));
+        }
+
+        assertThat(sources.size(), is(7));
+        assertThat(sources.get(sources.size() - 1), is("activation.jar"));
+        assertThat(contents.get(contents.size() - 1), is("activations"));
+        assertThat(contents.indexOf("plugins") > -1, is(true));
+        assertThat(sources.indexOf("plugin.jar"), is(contents.indexOf("plugins")));
+    }
+
+    @Test
+    public void testFindDirectoryEntry() throws Exception {
+        AgentClassLoader loader = newLoader();
+
+        assertThat(loader.findResource("META-INF/"), notNullValue());
+        assertThat(loader.findResource("META-INF"), notNullValue());
+        assertThat(loader.findResource("META-INF").toString().endsWith("plugin.jar!/META-INF"), is(true));
+    }
+
+    @Test
+    public void testParallelScanSameAsSequential() throws Exception {
+        Config.Agent.JAR_SCAN_THREADS = 1;
+        Map<String, List<String>> sequentialIndex = index(newLoader());
+
+        Config.Agent.JAR_SCAN_THREADS = 4;
+        Map<String, List<String>> parallelIndex = index(newLoader());
+
+        assertThat(sequentialIndex.get(CLASS_PATH).size(), is(2));
+        assertThat(sequentialIndex.get("skywalking-plugin.def").size(), is(7));
+        assertThat(parallelIndex, is(sequentialIndex));
+    }
+
+    private AgentClassLoader newLoader() throws Exception {
+        AgentClassLoader loader = new AgentClassLoader(AgentClassLoaderTest.class.getClassLoader());
+        List<File> classpath = new LinkedList<File>();
+        classpath.add(pluginsPath);
+        classpath.add(activationsPath);
+        Whitebox.setInternalState(loader, "classpath", classpath);
+        return loader;
+    }
+
+    private Map<String, List<String>> index(AgentClassLoader loader) throws Exception {
+        Map<String, List<Object>> jarIndex = Whitebox.invokeMethod(loader, "getJarIndex");
+        Map<String, List<String>> index = new HashMap<String, List<String>>();
+        for (Map.Entry<String, List<Object>> entry : jarIndex.entrySet()) {
+            List<String> jarNames = new ArrayList<String>();
+            for (Object jar : entry.getValue()) {
+                File sourceFile = Whitebox.getInternalState(jar, "sourceFile");
+                jarNames.add(sourceFile.getName());
+            }
+            index.put(entry.getKey(), jarNames);
+        }
+        return index;
+    }
+
+    private byte[] classBytes(String value) {
+        return new ByteBuddy().subclass(Object.class).name(CLASS_NAME)
+            .method(named("toString")).intercept(FixedValue.value(value))
+            .make().getBytes();
+    }
+
+    private void writeJar(File file, Map<String, byte[]> entries) throws IOException {
+        JarOutputStream output = new JarOutputStream(new FileOutputStream(file));
+        try {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                output.putNextEntry(new JarEntry(entry.getKey()));
+                output.write(entry.getValue());
+                output.closeEntry();
+            }
+        } finally {
+            output.close();
+        }
+    }
+
+    private String read(URL resource) throws IOException {
+        InputStream input = resource.openStream();
+        try {
+            StringBuilder content = new StringBuilder();
+            int ch;
+            while ((ch = input.read()) != -1) {
+                content.append((char)ch);
+            }
+            return content.toString();
+        } finally {
+            input.close();
+        }
+    }
+
+    private void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
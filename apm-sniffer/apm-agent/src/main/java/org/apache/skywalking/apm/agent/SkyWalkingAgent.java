@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.agent;
 
+import java.io.File;
 import java.lang.instrument.Instrumentation;
 import java.util.List;
 import net.bytebuddy.ByteBuddy;
@@ -38,6 +39,9 @@ import org.apache.skywalking.apm.agent.core.plugin.EnhanceContext;
 import org.apache.skywalking.apm.agent.core.plugin.PluginBootstrap;
 import org.apache.skywalking.apm.agent.core.plugin.PluginException;
 import org.apache.skywalking.apm.agent.core.plugin.PluginFinder;
+import org.apache.skywalking.apm.agent.core.plugin.cache.EnhanceCache;
+import org.apache.skywalking.apm.agent.core.plugin.cache.EnhanceCacheMatcher;
+import org.apache.skywalking.apm.util.StringUtil;
 
 import static net.bytebuddy.matcher.ElementMatchers.nameContains;
 import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
@@ -59,42 +63,64 @@ public class SkyWalkingAgent {
      * @throws PluginException
      */
     public static void premain(String agentArgs, Instrumentation instrumentation) throws PluginException {
+        long startTime = System.currentTimeMillis();
+        long configTime;
         final PluginFinder pluginFinder;
+        final EnhanceCache enhanceCache;
         try {
             SnifferConfigInitializer.initialize();
+            configTime = System.currentTimeMillis();
 
-            pluginFinder = new PluginFinder(new PluginBootstrap().loadPlugins());
+            List<AbstractClassEnhancePluginDefine> plugins = new PluginBootstrap().loadPlugins();
+            pluginFinder = new PluginFinder(plugins);
+            enhanceCache = StringUtil.isEmpty(Config.Agent.ENHANCE_CACHE_FILE) ? null : EnhanceCache.load(new File(Config.Agent.ENHANCE_CACHE_FILE), plugins);
 
         } catch (Exception e) {
             logger.error(e, "Skywalking agent initialized failure. Shutting down.");
             return;
         }
 
+        long pluginTime = System.currentTimeMillis();
+
         final ByteBuddy byteBuddy = new ByteBuddy()
             .with(TypeValidation.of(Config.Agent.IS_OPEN_DEBUGGING_CLASS));
 
-        new AgentBuilder.Default(byteBuddy)
+        AgentBuilder agentBuilder = new AgentBuilder.Default(byteBuddy)
             .ignore(nameStartsWith("net.bytebuddy."))
             .ignore(nameStartsWith("org.slf4j."))
             .ignore(nameStartsWith("org.apache.logging."))
             .ignore(nameStartsWith("org.groovy."))
             .ignore(nameContains("javassist"))
             .ignore(nameContains(".asm."))
-            .ignore(allSkyWalkingAgentExcludeToolkit())
-            .type(pluginFinder.buildMatch())
-            .transform(new Transformer(pluginFinder))
+            .ignore(allSkyWalkingAgentExcludeToolkit());
+
+        AgentBuilder.Identified.Narrowable narrowable = enhanceCache == null ?
+            agentBuilder.type(pluginFinder.buildMatch()) :
+            agentBuilder.type(new EnhanceCacheMatcher(pluginFinder.buildMatch(), enhanceCache));
+        narrowable.transform(new Transformer(pluginFinder))
             .with(new Listener())
             .installOn(instrumentation);
+        long installTime = System.currentTimeMillis();
 
         try {
             ServiceManager.INSTANCE.boot();
         } catch (Exception e) {
             logger.error(e, "Skywalking agent boot failure.");
         }
+        long endTime = System.currentTimeMillis();
+        logger.info("Skywalking agent premain finished in {} ms: config {} ms, plugins {} ms, agent builder {} ms, services {} ms.",
+            endTime - startTime, configTime - startTime, pluginTime - configTime, installTime - pluginTime, endTime - installTime);
+
+        if (enhanceCache != null) {
+            enhanceCache.start();
+        }
 
         Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
             @Override public void run() {
                 ServiceManager.INSTANCE.shutdown();
+                if (enhanceCache != null) {
+                    enhanceCache.save();
+                }
             }
         }, "skywalking service shutdown thread"));
     }
@@ -19,6 +19,7 @@
 
 package org.apache.skywalking.apm.agent.test.helper;
 
+import java.util.Arrays;
 import java.util.List;
 import org.apache.skywalking.apm.agent.core.context.trace.AbstractTracingSpan;
 import org.apache.skywalking.apm.agent.core.context.trace.TraceSegment;
@@ -27,7 +28,8 @@ public class SegmentHelper {
 
     public static List<AbstractTracingSpan> getSpans(TraceSegment traceSegment) {
         try {
-            return FieldGetter.getValue(traceSegment, "spans");
+            AbstractTracingSpan[] spans = FieldGetter.getValue(traceSegment, "spans");
+            return Arrays.asList(spans).subList(0, FieldGetter.<Integer>getValue(traceSegment, "spansSize"));
         } catch (Exception e) {
         }
 
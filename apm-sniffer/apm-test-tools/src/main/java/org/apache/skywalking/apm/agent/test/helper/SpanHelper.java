@@ -19,6 +19,8 @@
 
 package org.apache.skywalking.apm.agent.test.helper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.apache.skywalking.apm.agent.core.context.trace.SpanLayer;
@@ -43,15 +45,15 @@ public class SpanHelper {
 
     public static List<LogDataEntity> getLogs(AbstractSpan tracingSpan) {
         try {
-            List<LogDataEntity> logs = FieldGetter.get2LevelParentFieldValue(tracingSpan, "logs");
+            LogDataEntity[] logs = FieldGetter.get2LevelParentFieldValue(tracingSpan, "logs");
             if (logs != null) {
-                return logs;
+                return Arrays.asList(logs).subList(0, FieldGetter.<Integer>get2LevelParentFieldValue(tracingSpan, "logsSize"));
             }
         } catch (Exception e) {
             try {
-                List<LogDataEntity> logs = FieldGetter.getParentFieldValue(tracingSpan, "logs");
+                LogDataEntity[] logs = FieldGetter.getParentFieldValue(tracingSpan, "logs");
                 if (logs != null) {
-                    return logs;
+                    return Arrays.asList(logs).subList(0, FieldGetter.<Integer>getParentFieldValue(tracingSpan, "logsSize"));
                 }
             } catch (Exception e1) {
 
@@ -63,15 +65,15 @@ public class SpanHelper {
 
     public static List<KeyValuePair> getTags(AbstractSpan tracingSpan) {
         try {
-            List<KeyValuePair> tags = FieldGetter.get2LevelParentFieldValue(tracingSpan, "tags");
+            String[] tags = FieldGetter.get2LevelParentFieldValue(tracingSpan, "tags");
             if (tags != null) {
-                return tags;
+                return toKeyValuePairs(tags, FieldGetter.<Integer>get2LevelParentFieldValue(tracingSpan, "tagsSize"));
             }
         } catch (Exception e) {
             try {
-                List<KeyValuePair> tags = FieldGetter.getParentFieldValue(tracingSpan, "tags");
+                String[] tags = FieldGetter.getParentFieldValue(tracingSpan, "tags");
                 if (tags != null) {
-                    return tags;
+                    return toKeyValuePairs(tags, FieldGetter.<Integer>getParentFieldValue(tracingSpan, "tagsSize"));
                 }
             } catch (Exception e1) {
 
@@ -136,4 +138,12 @@ public class SpanHelper {
 
         return false;
     }
+
+    private static List<KeyValuePair> toKeyValuePairs(String[] tags, int tagsSize) {
+        List<KeyValuePair> pairs = new ArrayList<KeyValuePair>(tagsSize);
+        for (int i = 0; i < tagsSize; i++) {
+            pairs.add(new KeyValuePair(tags[i * 2], tags[i * 2 + 1]));
+        }
+        return pairs;
+    }
 }